@@ -0,0 +1,103 @@
+package org.ems.bench;
+
+import org.ems.application.service.attendee.AttendeeStatisticsAggregator;
+import org.ems.domain.dto.AttendeeActivitySnapshot;
+import org.ems.domain.model.Attendee;
+import org.ems.domain.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AttendeeStatisticsBenchmark - Attendee statistics aggregation (no database)
+ *
+ * Each attendee has 0-5 event and 0-8 session registrations over 2,000 events. Compares:
+ *  - legacy:   per-registration linear scan over all events (the old implementation)
+ *  - models:   AttendeeStatisticsAggregator.fromModels + aggregate (hash index, single pass)
+ *  - snapshot: aggregate + top-10 over a prebuilt snapshot (what the service runs after SQL)
+ * Setup fails if the aggregation does not match the legacy distribution.
+ *
+ * Usage: mvn -P benchmarks compile exec:exec -Djmh.args=AttendeeStatisticsBenchmark
+ *
+ * @author EMS Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttendeeStatisticsBenchmark {
+
+    private static final int EVENTS = 2_000;
+
+    @Param({"10000", "100000"})
+    public int attendees;
+
+    private List<Event> eventList;
+    private List<Attendee> attendeeList;
+    private AttendeeActivitySnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        eventList = BenchData.events(EVENTS);
+        attendeeList = BenchData.attendees(attendees);
+        Random random = new Random(42L);
+        for (Attendee a : attendeeList) {
+            int regs = random.nextInt(6);
+            for (int r = 0; r < regs; r++) {
+                a.getRegisteredEventIds().add(eventList.get(random.nextInt(EVENTS)).getId());
+            }
+            int sessions = random.nextInt(9);
+            for (int r = 0; r < sessions; r++) {
+                a.getRegisteredSessionIds().add(new UUID(random.nextLong(), random.nextLong()));
+            }
+        }
+
+        snapshot = AttendeeStatisticsAggregator.fromModels(attendeeList, eventList);
+        Map<String, Integer> expected = legacyDistribution(attendeeList, eventList);
+        Map<String, Integer> actual = AttendeeStatisticsAggregator.eventTypeDistribution(snapshot);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Distribution mismatch: expected " + expected + " but got " + actual);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Integer> legacy() {
+        return legacyDistribution(attendeeList, eventList);
+    }
+
+    @Benchmark
+    public Object models() {
+        return AttendeeStatisticsAggregator.aggregate(AttendeeStatisticsAggregator.fromModels(attendeeList, eventList));
+    }
+
+    @Benchmark
+    public Object snapshot() {
+        AttendeeStatisticsAggregator.aggregate(snapshot);
+        return AttendeeStatisticsAggregator.topByEventRegistrations(snapshot, 10);
+    }
+
+    // ============================================================
+    //  Previous implementation (kept for comparison)
+    // ============================================================
+
+    private static Map<String, Integer> legacyDistribution(List<Attendee> attendees, List<Event> events) {
+        Map<String, Integer> distribution = new HashMap<>();
+        for (Attendee attendee : attendees) {
+            if (attendee.getRegisteredEventIds() == null) continue;
+            for (UUID eventId : attendee.getRegisteredEventIds()) {
+                Event event = events.stream()
+                        .filter(e -> e.getId().equals(eventId))
+                        .findFirst()
+                        .orElse(null);
+                if (event != null && event.getType() != null) {
+                    String eventType = event.getType().name();
+                    distribution.put(eventType, distribution.getOrDefault(eventType, 0) + 1);
+                }
+            }
+        }
+        return distribution;
+    }
+}
@@ -0,0 +1,186 @@
+package org.ems.bench;
+
+import org.ems.application.dto.activity.ActivityLogDisplayDTO;
+import org.ems.application.dto.ticket.TicketDisplayDTO;
+import org.ems.domain.model.Attendee;
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Session;
+import org.ems.domain.model.Ticket;
+import org.ems.domain.model.enums.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * BenchData - Deterministic synthetic datasets for the JMH benchmarks
+ * Single Responsibility: Generate reproducible domain objects and in-memory repositories
+ *
+ * Every generator takes a size and uses a fixed seed, so the same size always produces
+ * the same data and results stay comparable between runs.
+ *
+ * @author EMS Team
+ */
+public final class BenchData {
+
+    public static final long SEED = 42L;
+
+    private static final String[] WORDS = {
+            "Java", "Cloud", "Summit", "Data", "Design", "Music", "Festival", "Security", "Robotics",
+            "Startup", "Health", "Finance", "Art", "Gaming", "Mobile", "Web", "AI", "Green", "Energy", "Film"
+    };
+    private static final String[] CITIES = {
+            "Hanoi", "Ho Chi Minh City", "Da Nang", "Singapore", "Bangkok", "Tokyo", "Seoul", "Berlin", "London"
+    };
+    private static final String[] ACTIONS = {"LOGIN", "LOGOUT", "CREATE", "UPDATE", "DELETE", "EXPORT", "VIEW"};
+    private static final String[] RESOURCES = {"Event", "Session", "Ticket", "User", "Report"};
+
+    private BenchData() {
+    }
+
+    // ============================================================
+    //  Domain objects
+    // ============================================================
+
+    public static List<Event> events(int count) {
+        Random random = new Random(SEED);
+        List<Event> events = new ArrayList<>(count);
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < count; i++) {
+            Event e = new Event();
+            e.setId(new UUID(1L, i));
+            e.setName(word(random) + " " + word(random) + " " + (2020 + random.nextInt(6)) + " #" + i);
+            e.setType(EventType.values()[random.nextInt(EventType.values().length)]);
+            e.setLocation(CITIES[random.nextInt(CITIES.length)]);
+            e.setStartDate(base.plusDays(random.nextInt(700)));
+            e.setEndDate(e.getStartDate().plusDays(random.nextInt(4)));
+            e.setStatus(EventStatus.values()[random.nextInt(EventStatus.values().length)]);
+            events.add(e);
+        }
+        return events;
+    }
+
+    public static List<Session> sessions(int count, int eventCount) {
+        Random random = new Random(SEED + 1);
+        List<Session> sessions = new ArrayList<>(count);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (int i = 0; i < count; i++) {
+            Session s = new Session();
+            s.setId(new UUID(2L, i));
+            s.setEventId(new UUID(1L, random.nextInt(Math.max(1, eventCount))));
+            s.setTitle(word(random) + " session " + i);
+            s.setStart(base.plusHours(random.nextInt(10_000)));
+            s.setEnd(s.getStart().plusHours(1 + random.nextInt(3)));
+            s.setVenue("Room " + (1 + random.nextInt(40)));
+            s.setCapacity(20 + random.nextInt(200));
+            sessions.add(s);
+        }
+        return sessions;
+    }
+
+    public static List<Attendee> attendees(int count) {
+        List<Attendee> attendees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Attendee a = new Attendee();
+            a.setId(new UUID(3L, i));
+            a.setFullName("Attendee " + i);
+            a.setEmail("attendee" + i + "@example.com");
+            attendees.add(a);
+        }
+        return attendees;
+    }
+
+    public static List<Ticket> tickets(int count, int eventCount) {
+        Random random = new Random(SEED + 2);
+        List<Ticket> tickets = new ArrayList<>(count);
+        long baseMillis = Timestamp.valueOf("2025-01-01 00:00:00").getTime();
+        for (int i = 0; i < count; i++) {
+            Ticket t = new Ticket();
+            t.setId(new UUID(4L, i));
+            t.setAttendeeId(random.nextInt(5) == 0 ? null : new UUID(3L, random.nextInt(count)));
+            t.setEventId(new UUID(1L, random.nextInt(Math.max(1, eventCount))));
+            t.setType(TicketType.values()[random.nextInt(TicketType.values().length)]);
+            t.setPrice(BigDecimal.valueOf(5 + random.nextInt(200)));
+            t.setPaymentStatus(PaymentStatus.values()[random.nextInt(PaymentStatus.values().length)]);
+            t.setTicketStatus(TicketStatus.values()[random.nextInt(TicketStatus.values().length)]);
+            t.setCreatedAt(new Timestamp(baseMillis + random.nextInt(1_000_000_000)));
+            tickets.add(t);
+        }
+        return tickets;
+    }
+
+    // ============================================================
+    //  Display DTOs
+    // ============================================================
+
+    public static List<TicketDisplayDTO> ticketRows(int count) {
+        Random random = new Random(SEED + 3);
+        List<TicketDisplayDTO> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Roughly one name in ten needs CSV quoting
+            String eventName = word(random) + (random.nextInt(10) == 0 ? ", \"Live\"" : " Live");
+            rows.add(new TicketDisplayDTO(
+                    new UUID(4L, i).toString(),
+                    eventName,
+                    word(random) + " session",
+                    TicketType.values()[random.nextInt(TicketType.values().length)].name(),
+                    "$" + (5 + random.nextInt(200)) + ".00",
+                    TicketStatus.values()[random.nextInt(TicketStatus.values().length)].name(),
+                    "2025-03-" + (10 + random.nextInt(18)),
+                    Base64.getEncoder().encodeToString(("qr-" + i).getBytes())));
+        }
+        return rows;
+    }
+
+    public static List<ActivityLogDisplayDTO> activityRows(int count) {
+        Random random = new Random(SEED + 4);
+        List<ActivityLogDisplayDTO> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String action = ACTIONS[random.nextInt(ACTIONS.length)];
+            String resource = RESOURCES[random.nextInt(RESOURCES.length)];
+            rows.add(new ActivityLogDisplayDTO(
+                    "2025-03-" + (10 + random.nextInt(18)) + " 12:" + (10 + random.nextInt(50)),
+                    "user" + random.nextInt(500),
+                    action,
+                    resource,
+                    action + " " + resource + " " + word(random)));
+        }
+        return rows;
+    }
+
+    // ============================================================
+    //  Helpers
+    // ============================================================
+
+    /**
+     * Repository stub answering findAll from a fixed list; every other method is unsupported
+     */
+    public static <R> R listRepository(Class<R> type, List<?> all) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                return all;
+            }
+            if (method.getName().equals("toString")) {
+                return "Bench" + type.getSimpleName() + "[" + all.size() + "]";
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+        }));
+    }
+
+    /**
+     * Discard the services' progress logging so it does not flood the benchmark output
+     * (the println calls themselves still run and are part of the measurement)
+     */
+    public static void silenceStdout() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,67 @@
+package org.ems.bench;
+
+import org.ems.application.service.event.EventFilterService;
+import org.ems.application.service.event.EventSearchIndex;
+import org.ems.domain.model.Event;
+import org.ems.domain.repository.EventRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventFilterBenchmark - Event listing filters answered by the search index
+ *
+ * Usage: mvn -P benchmarks compile exec:exec -Djmh.args=EventFilterBenchmark
+ *
+ * @author EMS Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int events;
+
+    private EventSearchIndex index;
+    private EventFilterService service;
+
+    @Setup
+    public void setUp() {
+        BenchData.silenceStdout();
+        EventRepository repo = BenchData.listRepository(EventRepository.class, BenchData.events(events));
+        index = new EventSearchIndex(repo);
+        service = new EventFilterService(repo, index);
+        service.getAllEvents();
+    }
+
+    @Benchmark
+    public List<Event> searchTerm() {
+        return service.filterEvents("summit", "ALL");
+    }
+
+    @Benchmark
+    public List<Event> searchTermAndType() {
+        return service.filterEvents("java", "WORKSHOP");
+    }
+
+    @Benchmark
+    public List<Event> typeOnly() {
+        return service.filterEvents("", "CONCERT");
+    }
+
+    @Benchmark
+    public List<Event> allEvents() {
+        return service.getAllEvents();
+    }
+
+    @Benchmark
+    public int rebuildIndex() {
+        index.invalidate();
+        return index.size();
+    }
+}
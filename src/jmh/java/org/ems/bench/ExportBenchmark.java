@@ -0,0 +1,52 @@
+package org.ems.bench;
+
+import org.ems.application.dto.activity.ActivityLogDisplayDTO;
+import org.ems.application.dto.ticket.TicketDisplayDTO;
+import org.ems.application.service.activity.ActivityLogExportServiceImpl;
+import org.ems.application.service.ticket.TicketExportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExportBenchmark - CSV generation for "My Tickets" and activity log exports
+ *
+ * Usage: mvn -P benchmarks compile exec:exec -Djmh.args=ExportBenchmark
+ *
+ * @author EMS Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExportBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private final TicketExportService ticketExport = new TicketExportService();
+    private final ActivityLogExportServiceImpl activityExport = new ActivityLogExportServiceImpl();
+
+    private List<TicketDisplayDTO> tickets;
+    private List<ActivityLogDisplayDTO> logs;
+
+    @Setup
+    public void setUp() {
+        BenchData.silenceStdout();
+        tickets = BenchData.ticketRows(rows);
+        logs = BenchData.activityRows(rows);
+    }
+
+    @Benchmark
+    public String ticketCsv() {
+        return ticketExport.generateCSV(tickets);
+    }
+
+    @Benchmark
+    public String[][] activityLogCsv() {
+        return activityExport.convertToCSVData(logs);
+    }
+}
@@ -0,0 +1,197 @@
+package org.ems.bench;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.*;
+
+/**
+ * FakeJdbc - In-memory JDBC Connection for benchmarking repository row mapping
+ * Single Responsibility: Serve fixed rows to the real Jdbc repositories without a database
+ *
+ * Queries are routed by the table after FROM; every query on a table returns all of its
+ * rows and parameters are ignored. A select list of plain columns (e.g. SELECT event_id, id)
+ * sets the column order for index access; anything else returns the table's own columns.
+ * Only the getters the repositories use are supported.
+ * The objects are dynamic proxies, so absolute numbers include proxy dispatch per getter;
+ * compare runs against each other rather than against a real driver.
+ *
+ * @author EMS Team
+ */
+public final class FakeJdbc {
+
+    /**
+     * Rows of one table; column labels are matched case-insensitively
+     */
+    public static final class Table {
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final String[] labels;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        public Table(String... columnLabels) {
+            this.labels = columnLabels.clone();
+            for (int i = 0; i < columnLabels.length; i++) {
+                columns.put(columnLabels[i].toLowerCase(), i);
+            }
+        }
+
+        public Table add(Object... values) {
+            rows.add(values);
+            return this;
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        int column(String label) throws SQLException {
+            Integer index = columns.get(label.toLowerCase());
+            if (index == null) {
+                throw new SQLException("Unknown column: " + label);
+            }
+            return index;
+        }
+    }
+
+    private FakeJdbc() {
+    }
+
+    public static Connection connection(Map<String, Table> tables) {
+        return proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "createStatement" -> statement(tables, null);
+            case "prepareStatement" -> statement(tables, (String) args[0]);
+            case "createArrayOf" -> array(args[1]);
+            case "getAutoCommit", "isValid" -> true;
+            case "isClosed" -> false;
+            case "close", "setAutoCommit", "commit", "rollback" -> null;
+            case "toString" -> "FakeConnection" + tables.keySet();
+            default -> throw new UnsupportedOperationException("Connection." + method.getName());
+        });
+    }
+
+    private static PreparedStatement statement(Map<String, Table> tables, String preparedSql) {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("executeQuery")) {
+                String sql = args != null ? (String) args[0] : preparedSql;
+                Table table = tableFor(tables, sql);
+                return resultSet(table, projection(table, sql));
+            }
+            if (name.startsWith("set") || name.equals("close") || name.equals("clearParameters")) {
+                return null;
+            }
+            if (name.equals("isClosed")) {
+                return false;
+            }
+            throw new UnsupportedOperationException("Statement." + name);
+        });
+    }
+
+    private static Table tableFor(Map<String, Table> tables, String sql) throws SQLException {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        int from = lower.indexOf(" from ");
+        if (from >= 0) {
+            String rest = lower.substring(from + 6).trim();
+            String table = rest.split("[\\s,;()]+", 2)[0];
+            Table result = tables.get(table);
+            if (result != null) {
+                return result;
+            }
+        }
+        throw new SQLException("No fake table for query: " + sql);
+    }
+
+    /**
+     * Table column per result column: the plain columns of the select list, or all columns
+     */
+    private static int[] projection(Table table, String sql) throws SQLException {
+        String lower = sql.toLowerCase(Locale.ROOT).strip();
+        int from = lower.indexOf(" from ");
+        if (lower.startsWith("select ") && from > 0) {
+            String[] items = lower.substring(7, from).split(",");
+            int[] projection = new int[items.length];
+            boolean plain = true;
+            for (int i = 0; i < items.length && plain; i++) {
+                String item = items[i].strip();
+                item = item.substring(item.indexOf('.') + 1);
+                plain = item.matches("[a-z_]+") && table.columns.containsKey(item);
+                if (plain) {
+                    projection[i] = table.column(item);
+                }
+            }
+            if (plain) {
+                return projection;
+            }
+        }
+        int[] all = new int[table.labels.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    private static ResultSet resultSet(Table table, int[] projection) {
+        int[] cursor = {-1};
+        boolean[] wasNull = {false};
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "getColumnCount" -> projection.length;
+                    case "getColumnLabel", "getColumnName" -> table.labels[projection[(Integer) args[0] - 1]];
+                    default -> throw new UnsupportedOperationException("ResultSetMetaData." + method.getName());
+                });
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            String name = method.getName();
+            switch (name) {
+                case "next":
+                    return ++cursor[0] < table.rows.size();
+                case "close":
+                    return null;
+                case "isClosed":
+                    return false;
+                case "wasNull":
+                    return wasNull[0];
+                case "getMetaData":
+                    return metaData;
+                default:
+                    break;
+            }
+            if (!name.startsWith("get") || args == null) {
+                throw new UnsupportedOperationException("ResultSet." + name);
+            }
+            int column;
+            if (args[0] instanceof String label) {
+                column = table.column(label);
+            } else if (args[0] instanceof Integer index) {
+                column = projection[index - 1];
+            } else {
+                throw new UnsupportedOperationException("ResultSet." + name);
+            }
+            Object value = table.rows.get(cursor[0])[column];
+            wasNull[0] = value == null;
+            return switch (name) {
+                case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                case "getDouble" -> value == null ? 0d : ((Number) value).doubleValue();
+                case "getBoolean" -> value != null && (Boolean) value;
+                case "getString" -> value == null ? null : value.toString();
+                case "getBigDecimal" -> (BigDecimal) value;
+                case "getTimestamp" -> (Timestamp) value;
+                case "getObject" -> value;
+                default -> throw new UnsupportedOperationException("ResultSet." + name);
+            };
+        });
+    }
+
+    private static Array array(Object elements) {
+        return proxy(Array.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getArray" -> elements;
+            case "free" -> null;
+            default -> throw new UnsupportedOperationException("Array." + method.getName());
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,50 @@
+package org.ems.bench;
+
+import org.ems.infrastructure.util.QRCodeUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QRCodeBenchmark - Ticket QR payload generation, validation and PNG rendering
+ *
+ * Usage: mvn -P benchmarks compile exec:exec -Djmh.args=QRCodeBenchmark
+ *
+ * @author EMS Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QRCodeBenchmark {
+
+    private final UUID ticketId = new UUID(4L, 1L);
+    private final UUID attendeeId = new UUID(3L, 1L);
+    private final UUID sessionId = new UUID(2L, 1L);
+
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        BenchData.silenceStdout();
+        payload = QRCodeUtil.generateQRCodeData(ticketId, attendeeId, sessionId);
+    }
+
+    @Benchmark
+    public String payload() {
+        return QRCodeUtil.generateQRCodeData(ticketId, attendeeId, sessionId);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return QRCodeUtil.isValidQRCodeData(payload);
+    }
+
+    @Benchmark
+    public byte[] renderPng() {
+        return QRCodeUtil.generateQRCodeImage(payload);
+    }
+}
@@ -0,0 +1,50 @@
+package org.ems.bench;
+
+import org.ems.application.service.report.ReportingServiceImpl;
+import org.ems.domain.dto.SummaryReport;
+import org.ems.domain.repository.AttendeeRepository;
+import org.ems.domain.repository.EventRepository;
+import org.ems.domain.repository.SessionRepository;
+import org.ems.domain.repository.TicketRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReportingBenchmark - Summary report aggregation over in-memory repositories
+ *
+ * One event per 100 tickets, five sessions per event, one attendee per two tickets.
+ *
+ * Usage: mvn -P benchmarks compile exec:exec -Djmh.args=ReportingBenchmark
+ *
+ * @author EMS Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportingBenchmark {
+
+    @Param({"10000", "100000", "500000"})
+    public int tickets;
+
+    private ReportingServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        BenchData.silenceStdout();
+        int events = Math.max(10, tickets / 100);
+        service = new ReportingServiceImpl(
+                BenchData.listRepository(EventRepository.class, BenchData.events(events)),
+                BenchData.listRepository(SessionRepository.class, BenchData.sessions(events * 5, events)),
+                BenchData.listRepository(AttendeeRepository.class, BenchData.attendees(tickets / 2)),
+                BenchData.listRepository(TicketRepository.class, BenchData.tickets(tickets, events)));
+    }
+
+    @Benchmark
+    public SummaryReport generateSummary() {
+        return service.generateSummary();
+    }
+}
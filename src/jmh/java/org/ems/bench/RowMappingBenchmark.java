@@ -0,0 +1,92 @@
+package org.ems.bench;
+
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Session;
+import org.ems.domain.model.Ticket;
+import org.ems.infrastructure.repository.jdbc.JdbcEventRepository;
+import org.ems.infrastructure.repository.jdbc.JdbcSessionRepository;
+import org.ems.infrastructure.repository.jdbc.JdbcTicketRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RowMappingBenchmark - ResultSet to entity mapping in the Jdbc repositories
+ *
+ * The real repositories run against {@link FakeJdbc}, so only driver-independent work is
+ * measured: column lookups, enum parsing, entity construction and in-memory joins.
+ *
+ * Usage: mvn -P benchmarks compile exec:exec -Djmh.args=RowMappingBenchmark
+ *
+ * @author EMS Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private JdbcEventRepository eventRepo;
+    private JdbcSessionRepository sessionRepo;
+    private JdbcTicketRepository ticketRepo;
+
+    @Setup
+    public void setUp() {
+        BenchData.silenceStdout();
+        int eventCount = Math.max(1, rows / 10);
+
+        FakeJdbc.Table events = new FakeJdbc.Table("id", "name", "type", "location", "start_date", "end_date",
+                "status", "image_path");
+        for (Event e : BenchData.events(eventCount)) {
+            events.add(e.getId(), e.getName(), e.getType().name(), e.getLocation(), e.getStartDate(),
+                    e.getEndDate(), e.getStatus().name(), null);
+        }
+
+        FakeJdbc.Table sessions = new FakeJdbc.Table("id", "event_id", "title", "description", "start_time",
+                "end_time", "venue", "capacity", "material_path");
+        for (Session s : BenchData.sessions(rows, eventCount)) {
+            sessions.add(s.getId(), s.getEventId(), s.getTitle(), null, s.getStart(), s.getEnd(), s.getVenue(),
+                    s.getCapacity(), null);
+        }
+
+        FakeJdbc.Table tickets = new FakeJdbc.Table("id", "attendee_id", "event_id", "type", "price",
+                "payment_status", "status", "qr_code_data", "created_at");
+        for (Ticket t : BenchData.tickets(rows, eventCount)) {
+            tickets.add(t.getId(), t.getAttendeeId(), t.getEventId(), t.getType().name(), t.getPrice(),
+                    t.getPaymentStatus().name(), t.getTicketStatus().name(), null, t.getCreatedAt());
+        }
+
+        Connection connection = FakeJdbc.connection(Map.of(
+                "events", events,
+                "sessions", sessions,
+                "tickets", tickets,
+                "presenter_session", new FakeJdbc.Table("session_id", "presenter_id")));
+        eventRepo = new JdbcEventRepository(connection);
+        sessionRepo = new JdbcSessionRepository(connection);
+        ticketRepo = new JdbcTicketRepository(connection);
+    }
+
+    /** rows / 10 events, joined in memory with their rows sessions */
+    @Benchmark
+    public List<Event> eventsWithSessionIds() {
+        return eventRepo.findAll();
+    }
+
+    @Benchmark
+    public List<Session> sessionsWithPresenters() {
+        return sessionRepo.findAllOptimized();
+    }
+
+    @Benchmark
+    public List<Ticket> tickets() {
+        return ticketRepo.findAll();
+    }
+}
@@ -0,0 +1,602 @@
+package org.ems.bench;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.ems.application.dto.event.EventFilterCriteriaDTO;
+import org.ems.application.dto.page.PagedResult;
+import org.ems.application.dto.event.EventRowDTO;
+import org.ems.application.dto.registration.RegistrationResultDTO;
+import org.ems.application.dto.ticket.TicketPurchaseRequestDTO;
+import org.ems.application.service.attendee.AttendeeRegistrationService;
+import org.ems.application.service.attendee.AttendeeValidationService;
+import org.ems.application.service.event.EventListingService;
+import org.ems.application.service.ticket.TicketPurchaseService;
+import org.ems.application.service.ticket.TicketServiceImpl;
+import org.ems.domain.model.Attendee;
+import org.ems.domain.model.Ticket;
+import org.ems.domain.model.enums.EventType;
+import org.ems.domain.model.enums.TicketStatus;
+import org.ems.domain.repository.*;
+import org.ems.infrastructure.config.DatabaseConfig;
+import org.ems.infrastructure.metrics.LatencyHistogram;
+import org.ems.infrastructure.metrics.PoolMetrics;
+import org.ems.infrastructure.repository.jdbc.*;
+import org.ems.infrastructure.util.ActivityLogger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoadGenerator - Headless load test driving the real services against PostgreSQL
+ *
+ * Simulates conference-opening traffic with --users virtual users, multiplexed over
+ * --threads worker threads. Each user waits an exponential think time (mean --think-ms)
+ * between operations. Attendees run a weighted --mix of:
+ *  - browse:   EventListingService.loadEventPage (random search term, type and page)
+ *  - register: AttendeeRegistrationService.registerForEvent
+ *  - purchase: TicketPurchaseService.loadAvailableTickets + purchaseTicket
+ *              (TicketServiceImpl.issueTicket when the event has no templates)
+ * Staff users (--staff) check tickets in: find a purchased ticket, mark it USED with
+ * TicketServiceImpl.updateTicket. Writes are recorded through ActivityLogger.
+ *
+ * Each operation borrows a connection from the HikariCP pool and builds the repositories
+ * and services on it. Pool waits therefore show up in the latencies, as they would on a
+ * shared backend.
+ *
+ * Report (every --report-every seconds and at the end):
+ *  - throughput, latency percentiles, errors and rejections per operation
+ *  - connection wait percentiles
+ *  - pool saturation (sampled every 100 ms)
+ *
+ * Rejections are business refusals (already registered, ticket already used). Errors are
+ * exceptions and failures reported by the services.
+ *
+ * The run WRITES registrations, tickets and activity logs, so it refuses non-local
+ * databases unless --allow-remote is given. It lives in src/loadtest/java and is only
+ * compiled with the loadtest profile, so it is not part of the application jar.
+ * Seed data first (DataSeeder), then e.g.:
+ *
+ *   mvn -P loadtest compile exec:java -Ddb.url=jdbc:postgresql://localhost:5432/ems \
+ *       -Ddb.username=postgres -Ddb.password=postgres -Dexec.args="--users=2000 --threads=64 --duration=120"
+ *
+ * Usage: LoadGenerator [--users=1000] [--staff=50] [--threads=64] [--duration=60] [--ramp-up=10]
+ *                      [--think-ms=500] [--mix=browse:70,register:15,purchase:15] [--seed=42]
+ *                      [--report-every=10] [--max-error-pct=1] [--allow-remote]
+ *
+ * Exits with status 1 if the error rate exceeds --max-error-pct.
+ *
+ * @author EMS Team
+ */
+public class LoadGenerator {
+
+    private enum Op { BROWSE, REGISTER, PURCHASE, CHECKIN }
+
+    private enum Outcome { OK, REJECTED, ERROR }
+
+    private static final int PAGE_SIZE = 10;
+    private static final int SAMPLE_LIMIT = 20_000;
+    private static final int MAX_PENDING_CHECKINS = 50_000;
+    private static final long POOL_SAMPLE_MS = 100;
+
+    // Configuration
+    private final int users;
+    private final int staff;
+    private final int threads;
+    private final int durationSec;
+    private final int rampUpSec;
+    private final int thinkMs;
+    private final int reportEverySec;
+    private final Map<Op, Integer> mix;
+    private final long seed;
+
+    // Reference data (read-only after setup)
+    private List<UUID> eventIds = List.of();
+    private List<UUID> attendeeIds = List.of();
+    private List<UUID> initialTicketIds = List.of();
+    private List<String> searchTerms = List.of();
+
+    // Tickets purchased during the run, waiting to be checked in
+    private final BlockingQueue<UUID> pendingCheckins = new ArrayBlockingQueue<>(MAX_PENDING_CHECKINS);
+    private final AtomicInteger nextInitialTicket = new AtomicInteger();
+
+    // Results
+    private final Map<Op, OpStats> stats = new EnumMap<>(Op.class);
+    private final LatencyHistogram connectionWait = new LatencyHistogram();
+    private final Map<String, LongAdder> errorMessages = new ConcurrentHashMap<>();
+    private final PoolSampler pool = new PoolSampler();
+
+    private volatile boolean running;
+    private ScheduledExecutorService workers;
+    private PrintStream out;
+
+    /**
+     * Counters of one operation type
+     */
+    private static final class OpStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        long reportedCount;
+    }
+
+    /**
+     * Services of one operation, built on a connection borrowed from the pool
+     */
+    private static final class Services {
+        final EventListingService listing;
+        final AttendeeRegistrationService registration;
+        final TicketPurchaseService purchase;
+        final TicketServiceImpl tickets;
+        final AttendeeRepository attendeeRepo;
+        final TicketRepository ticketRepo;
+        final ActivityLogger activity;
+
+        Services(Connection conn) {
+            EventRepository eventRepo = new JdbcEventRepository(conn);
+            SessionRepository sessionRepo = new JdbcSessionRepository(conn);
+            attendeeRepo = new JdbcAttendeeRepository(conn);
+            ticketRepo = new JdbcTicketRepository(conn);
+            listing = new EventListingService(eventRepo, sessionRepo, Set.of());
+            registration = new AttendeeRegistrationService(attendeeRepo, new AttendeeValidationService(eventRepo, sessionRepo));
+            purchase = new TicketPurchaseService(ticketRepo);
+            tickets = new TicketServiceImpl(ticketRepo, sessionRepo, attendeeRepo, eventRepo, null);
+            activity = new ActivityLogger(new JdbcActivityLogRepository(conn));
+        }
+    }
+
+    private LoadGenerator(String[] args) {
+        users = intArg(args, "--users", 1000);
+        staff = Math.min(users, intArg(args, "--staff", Math.max(1, users / 20)));
+        threads = intArg(args, "--threads", 64);
+        durationSec = intArg(args, "--duration", 60);
+        rampUpSec = intArg(args, "--ramp-up", 10);
+        thinkMs = intArg(args, "--think-ms", 500);
+        reportEverySec = intArg(args, "--report-every", 10);
+        mix = parseMix(stringArg(args, "--mix", "browse:70,register:15,purchase:15"));
+        seed = intArg(args, "--seed", 42);
+        for (Op op : Op.values()) {
+            stats.put(op, new OpStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGenerator generator = new LoadGenerator(args);
+
+        String url = DatabaseConfig.getJdbcUrl();
+        if (!isLocal(url) && !Arrays.asList(args).contains("--allow-remote")) {
+            System.err.println("✗ Refusing to write load-test data to " + url);
+            System.err.println("   Point db.url at a local database (-Ddb.url=jdbc:postgresql://localhost:5432/...) or pass --allow-remote");
+            System.exit(2);
+        }
+
+        generator.setUp();
+        double errorPct = generator.run();
+
+        double maxErrorPct = intArg(args, "--max-error-pct", 1);
+        DatabaseConfig.closePool();
+        if (errorPct > maxErrorPct) {
+            System.err.printf("✗ Error rate %.2f%% exceeds %.2f%%%n", errorPct, maxErrorPct);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // ============================================================
+    //  Setup
+    // ============================================================
+
+    private void setUp() throws SQLException {
+        System.out.println("📊 LoadGenerator: " + users + " users (" + staff + " staff), " + threads + " threads, "
+                + durationSec + " s, think " + thinkMs + " ms, mix " + mix);
+        System.out.println("   Database: " + DatabaseConfig.getJdbcUrl() + " (pool max " + DatabaseConfig.getMaximumPoolSize() + ")");
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            List<String> eventNames = new ArrayList<>();
+            List<UUID> events = new ArrayList<>();
+            try (PreparedStatement ps = conn.prepareStatement("SELECT id, name FROM events LIMIT ?")) {
+                ps.setInt(1, SAMPLE_LIMIT);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        events.add((UUID) rs.getObject("id"));
+                        eventNames.add(rs.getString("name"));
+                    }
+                }
+            }
+            eventIds = events;
+            attendeeIds = loadIds(conn, "SELECT id FROM attendees LIMIT ?");
+            initialTicketIds = loadIds(conn,
+                    "SELECT id FROM tickets WHERE attendee_id IS NOT NULL AND upper(status) = 'ACTIVE' LIMIT ?");
+            searchTerms = searchTermsFrom(eventNames, new Random(seed));
+        }
+
+        if (eventIds.isEmpty() || attendeeIds.isEmpty()) {
+            System.err.println("✗ Found " + eventIds.size() + " events and " + attendeeIds.size()
+                    + " attendees - seed the database first (DataSeeder)");
+            System.exit(2);
+        }
+        System.out.println("   Data: " + eventIds.size() + " events, " + attendeeIds.size() + " attendees, "
+                + initialTicketIds.size() + " active tickets to check in");
+    }
+
+    private static List<UUID> loadIds(Connection conn, String sql) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, SAMPLE_LIMIT);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add((UUID) rs.getObject(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Words taken from real event names (so searches hit), plus "" for unfiltered browsing
+     */
+    private static List<String> searchTermsFrom(List<String> eventNames, Random random) {
+        List<String> terms = new ArrayList<>();
+        terms.add("");
+        for (int i = 0; i < 50 && !eventNames.isEmpty(); i++) {
+            String name = eventNames.get(random.nextInt(eventNames.size()));
+            if (name == null) continue;
+            String[] words = name.trim().split("\\s+");
+            String word = words[random.nextInt(words.length)].toLowerCase();
+            if (word.length() >= 3) {
+                terms.add(word.substring(0, Math.min(word.length(), 6)));
+            }
+        }
+        return terms;
+    }
+
+    // ============================================================
+    //  Run
+    // ============================================================
+
+    /**
+     * @return Error rate in percent
+     */
+    private double run() throws InterruptedException {
+        out = System.out;
+        PrintStream err = System.err;
+        // The services log every call; keep their output out of the report
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(discard);
+        System.setErr(discard);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        workers = Executors.newScheduledThreadPool(threads, r -> {
+            Thread t = new Thread(r, "ems-load-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ems-load-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+
+        long startNanos = System.nanoTime();
+        running = true;
+        monitor.scheduleAtFixedRate(pool::sample, 0, POOL_SAMPLE_MS, TimeUnit.MILLISECONDS);
+        monitor.scheduleAtFixedRate(() -> printProgress(startNanos), reportEverySec, reportEverySec, TimeUnit.SECONDS);
+
+        for (int i = 0; i < users; i++) {
+            boolean isStaff = i < staff;
+            Random random = new Random(seed + i);
+            long startDelay = users > 1 ? rampUpSec * 1000L * i / (users - 1) : 0;
+            workers.schedule(() -> step(isStaff, random), startDelay, TimeUnit.MILLISECONDS);
+        }
+
+        Thread.sleep(durationSec * 1000L);
+        running = false;
+        workers.shutdown();
+        boolean drained = workers.awaitTermination(30, TimeUnit.SECONDS);
+        monitor.shutdownNow();
+        double elapsedSec = (System.nanoTime() - startNanos) / 1e9;
+
+        System.setOut(out);
+        System.setErr(err);
+        if (!drained) {
+            System.err.println("⚠️ Operations still running after 30 s; report excludes them");
+        }
+        return printReport(elapsedSec);
+    }
+
+    /**
+     * One operation of a virtual user, then schedule its next one after the think time
+     */
+    private void step(boolean isStaff, Random random) {
+        if (!running) {
+            return;
+        }
+        Op op = isStaff ? Op.CHECKIN : pick(random);
+        OpStats opStats = stats.get(op);
+        long start = System.nanoTime();
+        Outcome outcome;
+        try (Connection conn = acquire()) {
+            outcome = execute(op, new Services(conn), random);
+        } catch (Throwable t) {
+            outcome = Outcome.ERROR;
+            recordError(op, t);
+        }
+        opStats.latency.record(System.nanoTime() - start);
+        if (outcome == Outcome.ERROR) {
+            opStats.errors.increment();
+        } else if (outcome == Outcome.REJECTED) {
+            opStats.rejected.increment();
+        }
+
+        if (running) {
+            long think = (long) (-Math.log(1 - random.nextDouble()) * thinkMs);
+            try {
+                workers.schedule(() -> step(isStaff, random), think, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Run is over
+            }
+        }
+    }
+
+    private Connection acquire() throws SQLException {
+        long start = System.nanoTime();
+        Connection conn = DatabaseConfig.getConnection();
+        connectionWait.record(System.nanoTime() - start);
+        return conn;
+    }
+
+    private Op pick(Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<Op, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Op.BROWSE;
+    }
+
+    // ============================================================
+    //  Operations
+    // ============================================================
+
+    private Outcome execute(Op op, Services services, Random random) {
+        return switch (op) {
+            case BROWSE -> browse(services, random);
+            case REGISTER -> register(services, random);
+            case PURCHASE -> purchase(services, random);
+            case CHECKIN -> checkIn(services, random);
+        };
+    }
+
+    private Outcome browse(Services services, Random random) {
+        String term = searchTerms.get(random.nextInt(searchTerms.size()));
+        String type = random.nextInt(3) == 0
+                ? EventType.values()[random.nextInt(EventType.values().length)].name()
+                : "ALL";
+        EventFilterCriteriaDTO criteria = new EventFilterCriteriaDTO(term, type, "ALL", random.nextInt(3), PAGE_SIZE);
+        PagedResult<EventRowDTO> page = services.listing.loadEventPage(criteria);
+        // The service turns failures into an empty page; a filter with no matches looks the same
+        return page.getTotalItems() > 0 ? Outcome.OK : Outcome.REJECTED;
+    }
+
+    private Outcome register(Services services, Random random) {
+        UUID attendeeId = attendeeIds.get(random.nextInt(attendeeIds.size()));
+        UUID eventId = eventIds.get(random.nextInt(eventIds.size()));
+        RegistrationResultDTO result = services.registration.registerForEvent(attendeeId, eventId);
+        if (result.isSuccess()) {
+            services.activity.log("REGISTER", "Event", "Load test registration " + eventId);
+            return Outcome.OK;
+        }
+        if ("Operation failed".equals(result.getMessage())) {
+            throw new IllegalStateException(result.getDetailedError());
+        }
+        return Outcome.REJECTED;
+    }
+
+    private Outcome purchase(Services services, Random random) {
+        UUID attendeeId = attendeeIds.get(random.nextInt(attendeeIds.size()));
+        UUID eventId = eventIds.get(random.nextInt(eventIds.size()));
+
+        Ticket ticket;
+        List<Ticket> templates = services.purchase.loadAvailableTickets(eventId);
+        if (templates.isEmpty()) {
+            ticket = services.tickets.issueTicket(attendeeId, eventId);
+        } else {
+            Ticket template = templates.get(random.nextInt(templates.size()));
+            Attendee attendee = new Attendee();
+            attendee.setId(attendeeId);
+            TicketPurchaseRequestDTO request = new TicketPurchaseRequestDTO(eventId, attendeeId, template.getId(),
+                    template.getType() != null ? template.getType().name() : null, template.getPrice());
+            ticket = services.purchase.purchaseTicket(request, attendee);
+        }
+        pendingCheckins.offer(ticket.getId());
+        services.activity.logCreate("Ticket", "Load test purchase " + ticket.getId());
+        return Outcome.OK;
+    }
+
+    private Outcome checkIn(Services services, Random random) {
+        UUID ticketId = pendingCheckins.poll();
+        if (ticketId == null) {
+            int next = nextInitialTicket.getAndIncrement();
+            if (next >= initialTicketIds.size()) {
+                return Outcome.REJECTED;
+            }
+            ticketId = initialTicketIds.get(next);
+        }
+        Ticket ticket = services.ticketRepo.findById(ticketId);
+        if (ticket == null || ticket.getTicketStatus() == TicketStatus.USED) {
+            return Outcome.REJECTED;
+        }
+        ticket.setTicketStatus(TicketStatus.USED);
+        services.tickets.updateTicket(ticket);
+        services.activity.logUpdate("Ticket", "Load test check-in " + ticketId);
+        return Outcome.OK;
+    }
+
+    private void recordError(Op op, Throwable t) {
+        Throwable root = t;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = op + ": " + root.getClass().getSimpleName() + ": " + root.getMessage();
+        if (message.length() > 160) {
+            message = message.substring(0, 160) + "...";
+        }
+        errorMessages.computeIfAbsent(message, k -> new LongAdder()).increment();
+    }
+
+    // ============================================================
+    //  Pool saturation
+    // ============================================================
+
+    private static final class PoolSampler {
+        private long samples;
+        private long saturated;
+        private long withWaiters;
+        private long activeSum;
+        private int maxActive;
+        private int maxWaiting;
+
+        synchronized void sample() {
+            HikariPoolMXBean mxBean = DatabaseConfig.getPoolMXBean();
+            if (mxBean == null) {
+                return;
+            }
+            int active = mxBean.getActiveConnections();
+            int waiting = mxBean.getThreadsAwaitingConnection();
+            samples++;
+            activeSum += active;
+            maxActive = Math.max(maxActive, active);
+            maxWaiting = Math.max(maxWaiting, waiting);
+            if (active >= DatabaseConfig.getMaximumPoolSize()) {
+                saturated++;
+            }
+            if (waiting > 0) {
+                withWaiters++;
+            }
+        }
+
+        synchronized String describe() {
+            if (samples == 0) {
+                return "no samples";
+            }
+            return String.format("max %d, avg active %.1f/%d, max active %d, saturated %.1f%% of samples, " +
+                            "waiters present %.1f%%, max waiting threads %d",
+                    DatabaseConfig.getMaximumPoolSize(), activeSum / (double) samples, DatabaseConfig.getMaximumPoolSize(),
+                    maxActive, saturated * 100.0 / samples, withWaiters * 100.0 / samples, maxWaiting);
+        }
+    }
+
+    // ============================================================
+    //  Reporting
+    // ============================================================
+
+    private void printProgress(long startNanos) {
+        long elapsed = (System.nanoTime() - startNanos) / 1_000_000_000L;
+        StringBuilder line = new StringBuilder(String.format("[%4ds]", elapsed));
+        for (Op op : Op.values()) {
+            OpStats s = stats.get(op);
+            long count = s.latency.getCount();
+            long interval = count - s.reportedCount;
+            s.reportedCount = count;
+            line.append(String.format(" %s %.1f/s p95=%.0fms", op.name().toLowerCase(),
+                    interval / (double) reportEverySec, s.latency.percentileMs(0.95)));
+        }
+        HikariPoolMXBean mxBean = DatabaseConfig.getPoolMXBean();
+        if (mxBean != null) {
+            line.append(String.format(" | pool %d/%d waiting=%d", mxBean.getActiveConnections(),
+                    DatabaseConfig.getMaximumPoolSize(), mxBean.getThreadsAwaitingConnection()));
+        }
+        out.println(line);
+    }
+
+    private double printReport(double elapsedSec) {
+        long totalOps = 0;
+        long totalErrors = 0;
+
+        out.println();
+        out.printf("✓ Load test finished after %.1f s%n", elapsedSec);
+        out.printf("  %-9s %9s %9s %9s %9s %9s %9s %8s %9s%n",
+                "operation", "count", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors", "rejected");
+        for (Op op : Op.values()) {
+            OpStats s = stats.get(op);
+            long count = s.latency.getCount();
+            if (count == 0) continue;
+            totalOps += count;
+            totalErrors += s.errors.sum();
+            out.printf("  %-9s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %8d %9d%n",
+                    op.name().toLowerCase(), count, count / elapsedSec,
+                    s.latency.percentileMs(0.50), s.latency.percentileMs(0.95), s.latency.percentileMs(0.99),
+                    s.latency.getMaxMs(), s.errors.sum(), s.rejected.sum());
+        }
+        double errorPct = totalOps == 0 ? 0 : totalErrors * 100.0 / totalOps;
+        out.printf("  %-9s %9d %9.1f %47s %8d (%.2f%%)%n", "total", totalOps, totalOps / elapsedSec, "",
+                totalErrors, errorPct);
+
+        out.printf("  Connection wait: p50=%.1f p95=%.1f p99=%.1f max=%.1f ms%n",
+                connectionWait.percentileMs(0.50), connectionWait.percentileMs(0.95),
+                connectionWait.percentileMs(0.99), connectionWait.getMaxMs());
+        out.println("  Pool: " + pool.describe());
+        out.println("  " + PoolMetrics.getInstance().getReport());
+
+        if (!errorMessages.isEmpty()) {
+            out.println("  Most frequent errors:");
+            errorMessages.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                    .limit(5)
+                    .forEach(e -> out.printf("    %6d  %s%n", e.getValue().sum(), e.getKey()));
+        }
+        return errorPct;
+    }
+
+    // ============================================================
+    //  Helpers
+    // ============================================================
+
+    private static boolean isLocal(String jdbcUrl) {
+        return jdbcUrl != null && (jdbcUrl.contains("//localhost") || jdbcUrl.contains("//127.0.0.1")
+                || jdbcUrl.contains("//[::1]"));
+    }
+
+    private static Map<Op, Integer> parseMix(String spec) {
+        Map<Op, Integer> weights = new EnumMap<>(Op.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            Op op = Op.valueOf(kv[0].trim().toUpperCase());
+            if (op == Op.CHECKIN) {
+                throw new IllegalArgumentException("Check-ins are run by staff users; use --staff instead");
+            }
+            weights.put(op, Integer.parseInt(kv[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight");
+        }
+        return weights;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return Integer.parseInt(arg.substring(name.length() + 1));
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return arg.substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
+    }
+}
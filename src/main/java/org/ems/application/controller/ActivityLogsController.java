@@ -6,13 +6,15 @@ import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.FileChooser;
 import org.ems.application.service.activity.*;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.ui.stage.FxUtils;
 import org.ems.ui.stage.SceneManager;
 import org.ems.application.dto.activity.ActivityLogDisplayDTO;
+import org.ems.application.dto.page.PagedResult;
+import org.ems.ui.util.PrefetchingPager;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -32,17 +34,15 @@ public class ActivityLogsController {
     @FXML private ComboBox<String> actionFilterCombo;
     @FXML private Label pageLabel;
 
-    private List<ActivityLogDisplayDTO> allLogs = new ArrayList<>();
-    private List<ActivityLogDisplayDTO> currentFilteredLogs = new ArrayList<>();
-    private int currentPage = 0;
-    private int totalPages = 1;
+    private static final int PAGE_SIZE = 20;
+
+    // Filtered pages are loaded from the database; the next page is prefetched
+    private final PrefetchingPager<ActivityLogDisplayDTO> pager = new PrefetchingPager<>("activity-logs", PAGE_SIZE);
+    private long totalLogCount = 0;
 
     // Injected Services
     private ActivityLogDataLoaderService dataLoaderService;
-    private ActivityLogFilterService filterService;
-    private ActivityLogStatisticsService statisticsService;
     private ActivityLogExportService exportService;
-    private ActivityLogPaginationService paginationService;
 
     @FXML
     public void initialize() {
@@ -54,10 +54,7 @@ public class ActivityLogsController {
             // Inject services
             long serviceStart = System.currentTimeMillis();
             dataLoaderService = new ActivityLogDataLoaderServiceImpl(context.activityLogRepo);
-            filterService = new ActivityLogFilterServiceImpl();
-            statisticsService = new ActivityLogStatisticsServiceImpl();
             exportService = new ActivityLogExportServiceImpl();
-            paginationService = new ActivityLogPaginationServiceImpl(20);
             System.out.println("  ✓ Services initialized in " + (System.currentTimeMillis() - serviceStart) + "ms");
 
             // Setup table columns
@@ -120,104 +117,80 @@ public class ActivityLogsController {
     }
 
     /**
-     * Load activity logs asynchronously via ActivityLogDataLoaderService
+     * Load the first page for the current filters, plus the overall statistics
      */
     private void loadActivityLogsAsync() {
-        Task<List<ActivityLogDisplayDTO>> task = new Task<>() {
-            @Override
-            protected List<ActivityLogDisplayDTO> call() {
-                long start = System.currentTimeMillis();
-                System.out.println("    🔄 [Background] Loading activity logs...");
-                try {
-                    // Delegate to service - all loading and conversion logic
-                    return dataLoaderService.loadAllLogs();
-                } catch (ActivityLogDataLoaderService.ActivityLogException e) {
-                    System.err.println("    ✗ Error loading logs: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            }
-        };
-
-        task.setOnSucceeded(evt -> {
-            long uiStart = System.currentTimeMillis();
-            allLogs = task.getValue();
-            displayLogs(allLogs);
-            updateStats();
-            System.out.println("  ✓ UI updated in " + (System.currentTimeMillis() - uiStart) + "ms");
-            System.out.println("✓ Activity logs loaded successfully");
-        });
-
-        task.setOnFailed(evt -> {
-            System.err.println("✗ Failed to load activity logs");
-            showAlert("Error", "Failed to load activity logs");
-        });
-
-        Thread t = new Thread(task, "activity-logs-loader");
-        t.setDaemon(true);
-        t.start();
+        applyFilters();
+        loadStatsAsync();
     }
 
+    /**
+     * Restart paging with the current search term and action filter
+     */
+    private void applyFilters() {
+        String searchTerm = searchField.getText();
+        String action = actionFilterCombo.getValue();
+        pager.setLoader(pageIndex -> dataLoaderService.loadPage(action, searchTerm, pageIndex, PAGE_SIZE));
+        showLogsPage(0);
+    }
 
     /**
-     * Display logs on current page
+     * Display a page (from memory when it was prefetched)
      */
-    private void displayLogs(List<ActivityLogDisplayDTO> logs) {
-        currentFilteredLogs = logs;
-        totalPages = paginationService.getTotalPages(logs.size());
-        currentPage = 0;
-
-        List<ActivityLogDisplayDTO> pageData = paginationService.getPage(logs, currentPage);
-        logsTable.setItems(FXCollections.observableArrayList(pageData));
-        pageLabel.setText(paginationService.getPageLabel(currentPage, totalPages));
+    private void showLogsPage(int pageIndex) {
+        long start = System.currentTimeMillis();
+        pager.showPage(pageIndex, page -> {
+            logsTable.setItems(FXCollections.observableArrayList(page.getItems()));
+            pageLabel.setText(pager.getPageLabel());
+            System.out.println("  ✓ Page " + (pageIndex + 1) + " shown in " + (System.currentTimeMillis() - start) + "ms");
+        }, error -> {
+            System.err.println("✗ Failed to load activity logs: " + error.getMessage());
+            showAlert("Error", "Failed to load activity logs");
+        });
     }
 
     /**
-     * Update statistics via ActivityLogStatisticsService
+     * Total count and latest activity over all logs (unfiltered), from a one-row page
      */
-    private void updateStats() {
-        int totalLogs = statisticsService.getTotalCount(allLogs);
-        String lastActivity = statisticsService.getLastActivityTimestamp(allLogs);
+    private void loadStatsAsync() {
+        Task<PagedResult<ActivityLogDisplayDTO>> task = new Task<>() {
+            @Override
+            protected PagedResult<ActivityLogDisplayDTO> call() throws Exception {
+                return dataLoaderService.loadPage(null, null, 0, 1);
+            }
+        };
+
+        task.setOnSucceeded(evt -> {
+            PagedResult<ActivityLogDisplayDTO> latest = task.getValue();
+            totalLogCount = latest.getTotalItems();
+            totalLogsLabel.setText(String.valueOf(totalLogCount));
+            lastActivityLabel.setText(latest.getItems().isEmpty()
+                    ? "No activity"
+                    : latest.getItems().get(0).getTimestamp());
+        });
+
+        task.setOnFailed(evt -> System.err.println("✗ Failed to load activity statistics: " +
+                task.getException().getMessage()));
 
-        totalLogsLabel.setText(String.valueOf(totalLogs));
-        lastActivityLabel.setText(lastActivity);
+        TaskExecutor.getInstance().screenScope().submit("activity-logs-stats", task);
     }
 
     /**
-     * Handle search filter
-     * Delegates filtering logic to ActivityLogFilterService
+     * Handle search filter (combined with the selected action)
      */
     @FXML
     public void onSearch() {
-        long searchStart = System.currentTimeMillis();
-        System.out.println("🔎 [ActivityLogsController] onSearch() starting...");
-        try {
-            String searchTerm = searchField.getText();
-            List<ActivityLogDisplayDTO> filtered = filterService.filterBySearchTerm(allLogs, searchTerm);
-
-            displayLogs(filtered);
-            System.out.println("  ✓ onSearch() completed in " + (System.currentTimeMillis() - searchStart) + "ms");
-        } catch (Exception e) {
-            showAlert("Error", "Search failed: " + e.getMessage());
-        }
+        System.out.println("🔎 [ActivityLogsController] onSearch(): '" + searchField.getText() + "'");
+        applyFilters();
     }
 
     /**
-     * Handle filter by action
-     * Delegates filtering logic to ActivityLogFilterService
+     * Handle filter by action (combined with the search term)
      */
     @FXML
     public void onFilterByAction() {
-        long filterStart = System.currentTimeMillis();
-        System.out.println("🔎 [ActivityLogsController] onFilterByAction() starting...");
-        try {
-            String selectedAction = actionFilterCombo.getValue();
-            List<ActivityLogDisplayDTO> filtered = filterService.filterByAction(allLogs, selectedAction);
-
-            displayLogs(filtered);
-            System.out.println("  ✓ onFilterByAction() completed in " + (System.currentTimeMillis() - filterStart) + "ms");
-        } catch (Exception e) {
-            showAlert("Error", "Filter failed: " + e.getMessage());
-        }
+        System.out.println("🔎 [ActivityLogsController] onFilterByAction(): " + actionFilterCombo.getValue());
+        applyFilters();
     }
 
     /**
@@ -225,11 +198,8 @@ public class ActivityLogsController {
      */
     @FXML
     public void onPrevPage() {
-        if (paginationService.canGoPreviousPage(currentPage)) {
-            currentPage--;
-            List<ActivityLogDisplayDTO> pageData = paginationService.getPage(currentFilteredLogs, currentPage);
-            logsTable.setItems(FXCollections.observableArrayList(pageData));
-            pageLabel.setText(paginationService.getPageLabel(currentPage, totalPages));
+        if (pager.canGoPrevious()) {
+            showLogsPage(pager.getCurrentPage() - 1);
         }
     }
 
@@ -238,11 +208,8 @@ public class ActivityLogsController {
      */
     @FXML
     public void onNextPage() {
-        if (paginationService.canGoNextPage(currentPage, totalPages)) {
-            currentPage++;
-            List<ActivityLogDisplayDTO> pageData = paginationService.getPage(currentFilteredLogs, currentPage);
-            logsTable.setItems(FXCollections.observableArrayList(pageData));
-            pageLabel.setText(paginationService.getPageLabel(currentPage, totalPages));
+        if (pager.canGoNext()) {
+            showLogsPage(pager.getCurrentPage() + 1);
         }
     }
 
@@ -255,7 +222,7 @@ public class ActivityLogsController {
         long exportStart = System.currentTimeMillis();
         System.out.println("📤 [ActivityLogsController] onExportLogs() starting...");
 
-        if (allLogs.isEmpty()) {
+        if (totalLogCount == 0) {
             showAlert("Info", "No logs to export");
             return;
         }
@@ -274,7 +241,8 @@ public class ActivityLogsController {
                 @Override
                 protected Boolean call() {
                     try {
-                        // Delegate to service for CSV conversion
+                        // Export everything, not just the loaded pages
+                        List<ActivityLogDisplayDTO> allLogs = dataLoaderService.loadAllLogs();
                         String[][] data = exportService.convertToCSVData(allLogs);
                         String[] headers = exportService.getCSVHeaders();
 
@@ -296,9 +264,7 @@ public class ActivityLogsController {
                 System.out.println("  ✓ onExportLogs() completed in " + (System.currentTimeMillis() - exportStart) + "ms");
             });
 
-            Thread t = new Thread(exportTask, "activity-logs-exporter");
-            t.setDaemon(true);
-            t.start();
+            TaskExecutor.getInstance().globalScope().submit("activity-logs-exporter", exportTask);
         }
     }
 
@@ -329,15 +295,11 @@ public class ActivityLogsController {
             };
 
             clearTask.setOnSucceeded(evt -> {
-                allLogs.clear();
-                displayLogs(allLogs);
-                updateStats();
+                loadActivityLogsAsync();
                 showAlert("Success", "All activity logs cleared");
             });
 
-            Thread t = new Thread(clearTask, "activity-logs-clearer");
-            t.setDaemon(true);
-            t.start();
+            TaskExecutor.getInstance().globalScope().submit("activity-logs-clearer", clearTask);
         }
     }
 
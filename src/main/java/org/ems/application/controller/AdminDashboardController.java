@@ -7,13 +7,14 @@ import javafx.scene.control.Button;
 import org.ems.application.service.auth.RoleAuthorizationService;
 import org.ems.domain.model.enums.Role;
 import org.ems.infrastructure.config.AppContext;
-import org.ems.infrastructure.repository.jdbc.JdbcEventRepository;
+import org.ems.ui.stage.ReusableView;
 import org.ems.ui.stage.SceneManager;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-public class AdminDashboardController {
+public class AdminDashboardController implements ReusableView {
 
     @FXML private Label adminInfoLabel;
     @FXML private Label totalUsersLabel;
@@ -47,6 +48,14 @@ public class AdminDashboardController {
         loadStatisticsAsync();
     }
 
+    /**
+     * Cached view shown again: reload the statistics
+     */
+    @Override
+    public void onReshow() {
+        loadStatisticsAsync();
+    }
+
     /**
      * Restrict UI features based on user role
      */
@@ -116,13 +125,8 @@ public class AdminDashboardController {
                         }
                         if (ctx.eventRepo != null) {
                             // Dùng COUNT(*) thay vì findAll().size()
-                            if (ctx.eventRepo instanceof JdbcEventRepository jdbcEventRepo) {
-                                totalEvents = (int) jdbcEventRepo.count();
-                                activeEvents = (int) jdbcEventRepo.countActiveEvents();
-                            } else {
-                                totalEvents = ctx.eventRepo.findAll().size();
-                                activeEvents = 0; // fallback đơn giản
-                            }
+                            totalEvents = (int) ctx.eventRepo.count();
+                            activeEvents = (int) ctx.eventRepo.countActiveEvents();
                         }
                     }
 
@@ -179,9 +183,7 @@ public class AdminDashboardController {
             dbStatusLabel.setStyle("-fx-font-size: 11; -fx-text-fill: #e74c3c; -fx-font-weight: bold;");
         });
 
-        Thread t = new Thread(task, "admin-stats-loader");
-        t.setDaemon(true);
-        t.start();
+        TaskExecutor.getInstance().screenScope().submit("admin-stats-loader", task);
     }
 
     private record StatisticsData(
@@ -274,6 +276,7 @@ public class AdminDashboardController {
 
     @FXML
     public void onLogout() {
+        SceneManager.clearCache();
         SceneManager.switchTo("home.fxml", "Event Manager System - Home");
     }
 
@@ -2,23 +2,25 @@ package org.ems.application.controller;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import org.ems.application.dto.page.PagedResult;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.domain.model.Presenter;
 import org.ems.domain.model.Session;
 import org.ems.domain.repository.SessionRepository;
 import org.ems.ui.stage.SceneManager;
+import org.ems.ui.util.PrefetchingPager;
 
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class AssignedSessionsController {
 
@@ -63,7 +65,9 @@ public class AssignedSessionsController {
     // === Pagination config ===================================================
 
     private static final int PAGE_SIZE = 20;
-    private int currentPage = 0;
+
+    /** Loads pages on demand and prefetches the next one */
+    private final PrefetchingPager<Session> pager = new PrefetchingPager<>("assigned-sessions", PAGE_SIZE);
 
     // === App context + repository + current presenter ========================
 
@@ -122,7 +126,7 @@ public class AssignedSessionsController {
                 + (System.currentTimeMillis() - uiStart) + " ms");
 
         // Load the first page (page 0)
-        loadPageAsync();
+        loadPageAsync(0);
     }
 
     // ========================================================================
@@ -158,25 +162,41 @@ public class AssignedSessionsController {
     // STEP 1.2 — Pagination UI initialization
     // ========================================================================
     private void initPagination() {
+        // Total is counted once with the first page; later pages reuse it
+        final UUID presenterId = presenter.getId();
+        final AtomicLong total = new AtomicLong(-1);
+        pager.setLoader(pageIndex -> {
+            long startDb = System.currentTimeMillis();
+            List<Session> result = sessionRepo.findByPresenter(presenterId, pageIndex * PAGE_SIZE, PAGE_SIZE);
+            if (total.get() < 0) {
+                total.set(sessionRepo.countByPresenter(presenterId));
+            }
+            System.out.println("[AssignedSessions] sessionRepo.findByPresenter(presenterId=" + presenterId
+                    + ", offset=" + (pageIndex * PAGE_SIZE) + ", limit=" + PAGE_SIZE + ") took "
+                    + (System.currentTimeMillis() - startDb) + " ms, result size="
+                    + (result != null ? result.size() : 0));
+            return new PagedResult<>(result != null ? result : List.of(), pageIndex, PAGE_SIZE, total.get());
+        });
+
         prevButton.setOnAction(e -> {
-            if (currentPage > 0) {
-                currentPage--;
-                loadPageAsync();
+            if (pager.canGoPrevious()) {
+                loadPageAsync(pager.getCurrentPage() - 1);
             }
         });
 
         nextButton.setOnAction(e -> {
-            currentPage++;
-            loadPageAsync();
+            if (pager.canGoNext()) {
+                loadPageAsync(pager.getCurrentPage() + 1);
+            }
         });
 
-        updatePaginationUI(false);
+        updatePaginationUI();
     }
 
-    private void updatePaginationUI(boolean hasNextPage) {
-        prevButton.setDisable(currentPage == 0);
-        nextButton.setDisable(!hasNextPage);
-        pageLabel.setText("Page " + (currentPage + 1));
+    private void updatePaginationUI() {
+        prevButton.setDisable(!pager.canGoPrevious());
+        nextButton.setDisable(!pager.canGoNext());
+        pageLabel.setText(pager.getPageLabel());
     }
 
     private void disablePagination() {
@@ -186,9 +206,9 @@ public class AssignedSessionsController {
     }
 
     // ========================================================================
-    // STEP 2 — loadPageAsync(): paginate query, rebuild cache, update ListView
+    // STEP 2 — loadPageAsync(): show page (prefetched or queried), rebuild cache
     // ========================================================================
-    private void loadPageAsync() {
+    private void loadPageAsync(int pageIndex) {
         errorLabel.setText("");
 
         if (presenter == null || sessionRepo == null) {
@@ -198,86 +218,43 @@ public class AssignedSessionsController {
             return;
         }
 
-        final int offset = currentPage * PAGE_SIZE;
-        final String runId = "AssignedSessionsPage-" + currentPage + "-" + System.currentTimeMillis();
         final long asyncStart = System.currentTimeMillis();
 
-        // Database query must run on a background thread (Task)
-        Task<List<Session>> task = new Task<>() {
-            @Override
-            protected List<Session> call() {
-                long startDb = System.currentTimeMillis();
-                List<Session> result = sessionRepo.findByPresenter(
-                        presenter.getId(),
-                        offset,
-                        PAGE_SIZE
-                );
-                long tookDb = System.currentTimeMillis() - startDb;
-                int size = (result != null ? result.size() : 0);
-                System.out.println("[" + runId + "] sessionRepo.findByPresenter(presenterId="
-                        + presenter.getId() + ", offset=" + offset + ", limit=" + PAGE_SIZE
-                        + ") took " + tookDb + " ms, result size=" + size);
-                return result;
-            }
-        };
-
-        task.setOnSucceeded(e -> {
-            List<Session> sessions = task.getValue();
+        pager.showPage(pageIndex, page -> {
+            List<Session> sessions = page.getItems();
             long totalTook = System.currentTimeMillis() - asyncStart;
-            int size = (sessions != null ? sessions.size() : 0);
 
             // Rebuild cache from the current page
             sessionCache.clear();
-            if (sessions != null) {
-                for (Session s : sessions) {
-                    sessionCache.put(s.getId(), s);
-                }
-                // Update ListView for this page
-                pageSessions.setAll(sessions);
-            } else {
-                pageSessions.clear();
+            for (Session s : sessions) {
+                sessionCache.put(s.getId(), s);
             }
+            // Update ListView for this page
+            pageSessions.setAll(sessions);
+            updatePaginationUI();
 
-            // If we got exactly PAGE_SIZE items, there might be a next page
-            boolean hasNextPage = size == PAGE_SIZE;
-            updatePaginationUI(hasNextPage);
-
-            // Case 1: No sessions at all for this presenter (first page empty)
-            if ((sessions == null || sessions.isEmpty()) && currentPage == 0) {
-                pageSessions.clear();
+            // No sessions at all for this presenter
+            if (sessions.isEmpty() && page.getTotalItems() == 0) {
                 clearDetails();
                 errorLabel.setText("No session assigned to you.");
                 disablePagination();
-                System.out.println("[" + runId + "] No sessions assigned for this presenter. Total loadPageAsync took "
+                System.out.println("[AssignedSessions] No sessions assigned for this presenter. Total loadPageAsync took "
                         + totalTook + " ms");
                 return;
             }
 
-            // Case 2: Page index is too large (beyond the last page)
-            if ((sessions == null || sessions.isEmpty()) && currentPage > 0) {
-                currentPage--;
-                updatePaginationUI(false);
-            }
-
-            System.out.println("[" + runId + "] loadPageAsync for page " + currentPage
-                    + " completed in " + totalTook + " ms (display size=" + size + ")");
-        });
-
-        task.setOnFailed(e -> {
+            System.out.println("[AssignedSessions] loadPageAsync for page " + (pager.getCurrentPage() + 1)
+                    + " completed in " + totalTook + " ms (display size=" + sessions.size() + ")");
+        }, ex -> {
             long totalTook = System.currentTimeMillis() - asyncStart;
-            Throwable ex = task.getException();
             errorLabel.setText("Failed to load sessions: "
                     + (ex != null ? ex.getMessage() : "Unknown error"));
-            System.err.println("[" + runId + "] loadPageAsync FAILED in "
+            System.err.println("[AssignedSessions] loadPageAsync FAILED in "
                     + totalTook + " ms: " + (ex != null ? ex.getMessage() : "Unknown error"));
             if (ex != null) {
                 ex.printStackTrace();
             }
         });
-
-        Thread t = new Thread(task, "assigned-sessions-loader-page-" + currentPage);
-        t.setDaemon(true);
-        t.start();
     }
 
     // ========================================================================
@@ -14,6 +14,7 @@ import org.ems.domain.model.Presenter;
 import org.ems.domain.model.Event;
 import org.ems.domain.model.Session;
 import org.ems.domain.model.enums.Role;
+import org.ems.ui.stage.ReusableView;
 import org.ems.ui.stage.SceneManager;
 import org.ems.ui.util.AsyncTaskService;
 import org.ems.ui.util.LoadingDialog;
@@ -23,6 +24,7 @@ import org.ems.application.service.dashboard.DashboardPresenterService;
 import org.ems.application.service.dashboard.DashboardEventAdminService;
 import org.ems.application.service.dashboard.DashboardEventFilteringService;
 import org.ems.application.service.attendee.AttendeeScheduleExportService;
+import org.ems.application.service.attendee.ScheduleCalendarExportService;
 import org.ems.application.dto.dashboard.DashboardAttendeeContentDTO;
 import org.ems.application.dto.dashboard.DashboardPresenterContentDTO;
 import org.ems.application.dto.dashboard.DashboardEventAdminContentDTO;
@@ -40,7 +42,7 @@ import java.io.File;
  * - Clean Architecture: Separated concerns between UI, Services, and Data layers
  * @author <your group number>
  */
-public class DashboardController {
+public class DashboardController implements ReusableView {
 
     @FXML private Label userNameLabel;
     @FXML private Label userRoleLabel;
@@ -98,6 +100,14 @@ public class DashboardController {
         }
     }
 
+    /**
+     * Cached view shown again: reload the role-specific content
+     */
+    @Override
+    public void onReshow() {
+        loadDynamicContentAsync();
+    }
+
     /**
      * Load current user information from AppContext
      */
@@ -508,6 +518,10 @@ public class DashboardController {
                             case "pdf":
                                 filePath = exportService.exportScheduleToPDF(attendee, downloadsPath);
                                 break;
+                            case "icalendar":
+                                filePath = new ScheduleCalendarExportService(appContext.attendeeRepo)
+                                        .exportScheduleToICalendar(attendee, downloadsPath);
+                                break;
                             default:
                                 throw new IllegalArgumentException("Unsupported format: " + exportFormat);
                         }
@@ -742,15 +756,16 @@ public class DashboardController {
     public void onLogout() {
         appContext.currentUser = null;
         appContext.currentUserRole = "VISITOR";
+        SceneManager.clearCache();
         SceneManager.switchTo("home.fxml", "EMS - Home");
     }
 
     /**
-     * Prompt user to select export format (CSV, Excel, PDF)
+     * Prompt user to select export format (CSV, Excel, PDF, iCalendar)
      */
     private String promptForExportFormat() {
         try {
-            List<String> formats = java.util.Arrays.asList("CSV", "Excel", "PDF");
+            List<String> formats = java.util.Arrays.asList("CSV", "Excel", "PDF", "iCalendar");
             javafx.scene.control.ChoiceDialog<String> dialog = new javafx.scene.control.ChoiceDialog<>(formats.get(0), formats);
             dialog.setTitle("Export Schedule");
             dialog.setHeaderText("Select export format");
@@ -260,7 +260,7 @@ public class EventManagerController {
             final LoadingDialog finalDialog = addDialog;
             final File imageToUpload = selectedImageFile;
 
-            AsyncTaskService.runAsync(
+            AsyncTaskService.runWriteAsync(
                     () -> {
                         // Upload image if selected
                         if (imageToUpload != null && imageToUpload.exists()) {
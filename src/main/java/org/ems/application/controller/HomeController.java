@@ -18,8 +18,9 @@ public class HomeController {
     @FXML
     public void initialize() {
         try {
-            AppContext context = AppContext.get();
-            Person currentUser = context.currentUser;
+            // Do not wait for startup: nobody is logged in before the context exists
+            AppContext context = AppContext.getIfReady();
+            Person currentUser = context != null ? context.currentUser : null;
 
             // If user is logged in, show personalized message
             if (currentUser != null) {
@@ -58,6 +59,7 @@ public class HomeController {
         try {
             AppContext context = AppContext.get();
             context.currentUser = null;
+            SceneManager.clearCache();
             SceneManager.switchTo("home.fxml", "Event Manager System - Home");
         } catch (Exception e) {
             System.err.println("Error logging out: " + e.getMessage());
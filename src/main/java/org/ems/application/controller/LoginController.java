@@ -6,6 +6,8 @@ import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextField;
 import org.ems.application.service.identity.IdentityService;
 import org.ems.infrastructure.config.AppContext;
+import org.ems.infrastructure.snapshot.SnapshotStore;
+import org.ems.infrastructure.snapshot.SnapshotSync;
 import org.ems.ui.stage.SceneManager;
 import org.ems.ui.util.AsyncTaskService;
 import org.ems.ui.util.LoadingDialog;
@@ -53,10 +55,13 @@ public class LoginController {
             loadingDialog.show();
         }
 
+        // Offline: only the user saved in the local snapshot can sign in
+        boolean offline = AppContext.get().offline;
+
         // Authenticate on background thread
         AsyncTaskService.runAsync(
                 // Background task: Authenticate user
-                () -> identityService.login(email, pass),
+                () -> offline ? SnapshotStore.getInstance().loginOffline(email, pass) : identityService.login(email, pass),
 
                 // Success callback: Handle successful login
                 user -> {
@@ -65,7 +70,9 @@ public class LoginController {
                     }
 
                     if (user == null) {
-                        errorLabel.setText("✗ Invalid email/username or password.");
+                        errorLabel.setText(offline
+                                ? "✗ Offline: only the last attendee or presenter signed in on this computer can sign in."
+                                : "✗ Invalid email/username or password.");
                         return;
                     }
 
@@ -73,6 +80,10 @@ public class LoginController {
                     AppContext appContext = AppContext.get();
                     appContext.currentUser = user;
                     appContext.currentUserRole = user.getRole().name();
+                    // Keep this user (and their tickets) for offline sign-in
+                    SnapshotSync.rememberUserAsync(appContext, user, pass);
+                    // Views cached for a previous user must not be shown to this one
+                    SceneManager.clearCache();
 
                     // Check user role and redirect accordingly
                     String role = user.getRole().name();
@@ -80,9 +91,13 @@ public class LoginController {
                     if (role.equals("SYSTEM_ADMIN") || role.equals("EVENT_ADMIN")) {
                         System.out.println("✓ Admin login successful: " + user.getUsername());
                         SceneManager.switchTo("admin_dashboard.fxml", "Event Manager System - Admin Dashboard");
+                        SceneManager.preload("ticket_manager.fxml");
                     } else if (role.equals("ATTENDEE") || role.equals("PRESENTER")) {
                         System.out.println("✓ " + role + " login successful: " + user.getUsername());
                         SceneManager.switchTo("dashboard.fxml", "Event Manager System - Dashboard");
+                        if (role.equals("ATTENDEE")) {
+                            SceneManager.preload("my_tickets.fxml");
+                        }
                     } else {
                         errorLabel.setText("✗ Unknown user role.");
                     }
@@ -8,15 +8,19 @@ import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import org.ems.application.dto.event.EventCRUDResultDTO;
 import org.ems.application.dto.event.EventFormDataDTO;
 import org.ems.application.dto.event.EventRowDTO;
+import org.ems.application.dto.page.PagedResult;
+import org.ems.application.service.attendee.ScheduleCalendarExportService;
 import org.ems.application.service.event.*;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.domain.repository.EventRepository;
 import org.ems.domain.repository.SessionRepository;
 import org.ems.ui.stage.SceneManager;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 
 import java.io.File;
 import java.time.LocalDate;
@@ -45,6 +49,11 @@ public class ManageEventsController {
     @FXML private ComboBox<String> typeFilterCombo;
     @FXML private TableView<EventRowDTO> eventsTable;
     @FXML private Label recordCountLabel;
+    @FXML private Label pageLabel;
+    @FXML private Button prevPageButton;
+    @FXML private Button nextPageButton;
+
+    private static final int PAGE_SIZE = 100;
 
     // ===== DEPENDENCY INJECTION - Services =====
     private EventCRUDService crudService;
@@ -54,7 +63,13 @@ public class ManageEventsController {
     private EventDataConverterService converterService;
 
     // ===== STATE =====
-    private List<EventRowDTO> currentDisplayedEvents;
+    // Filters are applied by the search index; one page of rows is shown at a time
+    private String activeSearch = "";
+    private String activeType = "ALL";
+    private int currentPage = 0;
+    private boolean hasNextPage = false;
+    private boolean loading = false;
+    private int loadSequence = 0;
 
     @FXML
     public void initialize() {
@@ -138,67 +153,89 @@ public class ManageEventsController {
     }
 
     /**
-     * Load all events asynchronously
+     * Load the current page of the active filters asynchronously (also after writes)
      */
     private void loadEventsAsync() {
-        System.out.println("📥 [ManageEventsController] loadEventsAsync() starting...");
-
-        Task<List<EventRowDTO>> task = new Task<>() {
+        System.out.println("📥 [ManageEventsController] loadEventsAsync() page " + (currentPage + 1)
+                + ", term='" + activeSearch + "', type=" + activeType);
+        String search = activeSearch;
+        String type = activeType;
+        int page = currentPage;
+        int sequence = ++loadSequence;
+        setLoading(true);
+
+        Task<PagedResult<EventRowDTO>> task = new Task<>() {
             @Override
-            protected List<EventRowDTO> call() {
+            protected PagedResult<EventRowDTO> call() {
                 long start = System.currentTimeMillis();
-                List<org.ems.domain.model.Event> allEvents = filterService.getAllEvents();
-                List<EventRowDTO> rows = converterService.convertEventsToRows(allEvents);
+                PagedResult<org.ems.domain.model.Event> events = filterService.searchPage(search, type, page, PAGE_SIZE);
+                // Only the page is converted (session counts are looked up per shown event)
+                List<EventRowDTO> rows = converterService.convertEventsToRows(events.getItems());
                 System.out.println("✓ loadEventsAsync task completed in " + (System.currentTimeMillis() - start) + " ms");
-                return rows;
+                return new PagedResult<>(rows, events.getPage(), events.getPageSize(), events.getTotalItems());
             }
         };
 
         task.setOnSucceeded(evt -> {
-            currentDisplayedEvents = task.getValue();
-            displayEvents(currentDisplayedEvents);
+            if (sequence != loadSequence) {
+                return; // superseded by a newer search or page
+            }
+            PagedResult<EventRowDTO> result = task.getValue();
+            if (result.getItems().isEmpty() && result.getPage() > 0) {
+                // The page emptied (e.g. after a delete): show the last page instead
+                currentPage = result.getTotalPages() - 1;
+                loadEventsAsync();
+                return;
+            }
+            displayEvents(result);
+            setLoading(false);
         });
 
         task.setOnFailed(evt -> {
+            if (sequence != loadSequence) {
+                return;
+            }
+            setLoading(false);
             System.err.println("✗ Failed to load events: " + task.getException().getMessage());
             showAlert("Error", "Failed to load events: " + task.getException().getMessage());
         });
 
-        new Thread(task, "manage-events-loader").start();
+        TaskExecutor.getInstance().screenScope().submit("manage-events-loader", task);
     }
 
     /**
-     * Display events in table
+     * Display one page of events in the table
      */
-    private void displayEvents(List<EventRowDTO> events) {
-        Platform.runLater(() -> {
-            eventsTable.setItems(FXCollections.observableArrayList(events));
-            recordCountLabel.setText("Total Records: " + events.size());
-        });
+    private void displayEvents(PagedResult<EventRowDTO> page) {
+        List<EventRowDTO> events = page.getItems();
+        eventsTable.setItems(FXCollections.observableArrayList(events));
+        long first = events.isEmpty() ? 0 : (long) page.getPage() * PAGE_SIZE + 1;
+        long last = (long) page.getPage() * PAGE_SIZE + events.size();
+        recordCountLabel.setText("Total Records: " + page.getTotalItems() +
+                (events.isEmpty() ? "" : " (showing " + first + "-" + last + ")"));
+        pageLabel.setText("Page " + (page.getPage() + 1) + " / " + page.getTotalPages());
+        hasNextPage = page.hasNext();
+    }
+
+    /**
+     * Block paging while a page loads
+     */
+    private void setLoading(boolean value) {
+        loading = value;
+        prevPageButton.setDisable(value || currentPage == 0);
+        nextPageButton.setDisable(value || !hasNextPage);
     }
 
     /**
-     * Search and filter events
+     * Search and filter events (from the first page)
      */
     @FXML
     public void onSearch() {
-        String searchTerm = searchField.getText();
-        String typeFilter = typeFilterCombo.getValue();
-
-        System.out.println("[ManageEventsController] onSearch: term='" + searchTerm + "', type=" + typeFilter);
-
-        Task<List<EventRowDTO>> task = new Task<>() {
-            @Override
-            protected List<EventRowDTO> call() {
-                List<org.ems.domain.model.Event> filtered = filterService.filterEvents(searchTerm, typeFilter);
-                return converterService.convertEventsToRows(filtered);
-            }
-        };
-
-        task.setOnSucceeded(evt -> displayEvents(task.getValue()));
-        task.setOnFailed(evt -> showAlert("Error", "Search failed: " + task.getException().getMessage()));
-
-        new Thread(task, "search-filter-task").start();
+        activeSearch = searchField.getText() != null ? searchField.getText() : "";
+        activeType = typeFilterCombo.getValue() != null ? typeFilterCombo.getValue() : "ALL";
+        System.out.println("[ManageEventsController] onSearch: term='" + activeSearch + "', type=" + activeType);
+        currentPage = 0;
+        loadEventsAsync();
     }
 
     /**
@@ -208,9 +245,28 @@ public class ManageEventsController {
     public void onReset() {
         searchField.clear();
         typeFilterCombo.setValue("ALL");
-        if (currentDisplayedEvents != null) {
-            displayEvents(currentDisplayedEvents);
+        activeSearch = "";
+        activeType = "ALL";
+        currentPage = 0;
+        loadEventsAsync();
+    }
+
+    @FXML
+    public void onNextPage() {
+        if (loading || !hasNextPage) {
+            return;
         }
+        currentPage++;
+        loadEventsAsync();
+    }
+
+    @FXML
+    public void onPrevPage() {
+        if (loading || currentPage == 0) {
+            return;
+        }
+        currentPage--;
+        loadEventsAsync();
     }
 
     /**
@@ -284,12 +340,11 @@ public class ManageEventsController {
             EventCRUDResultDTO result = task.getValue();
             showAlert(result.success ? "Success" : "Error", result.message);
             if (result.success) {
-                filterService.invalidateCache();
                 loadEventsAsync();
             }
         });
 
-        new Thread(task, "create-event-task").start();
+        TaskExecutor.getInstance().globalScope().submit("create-event-task", task);
     }
 
     /**
@@ -371,12 +426,11 @@ public class ManageEventsController {
             EventCRUDResultDTO result = task.getValue();
             showAlert(result.success ? "Success" : "Error", result.message);
             if (result.success) {
-                filterService.invalidateCache();
                 loadEventsAsync();
             }
         });
 
-        new Thread(task, "update-event-task").start();
+        TaskExecutor.getInstance().globalScope().submit("update-event-task", task);
     }
 
     /**
@@ -420,13 +474,51 @@ public class ManageEventsController {
                 EventCRUDResultDTO result = task.getValue();
                 showAlert(result.success ? "Success" : "Error", result.message);
                 if (result.success) {
-                    filterService.invalidateCache();
                     loadEventsAsync();
                 }
             });
 
-            new Thread(task, "delete-event-task").start();
+            TaskExecutor.getInstance().globalScope().submit("delete-event-task", task);
+        }
+    }
+
+    /**
+     * Export an .ics calendar for every attendee of the selected event into one zip
+     */
+    @FXML
+    public void onExportCalendars() {
+        EventRowDTO selected = eventsTable.getSelectionModel().getSelectedItem();
+        if (selected == null) {
+            showAlert("Warning", "Please select an event to export calendars for");
+            return;
         }
+
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export Attendee Calendars");
+        fileChooser.setInitialFileName(selected.name.replaceAll("[^A-Za-z0-9._-]", "_") + "_calendars.zip");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Zip archive", "*.zip"));
+        File target = fileChooser.showSaveDialog(eventsTable.getScene().getWindow());
+        if (target == null) {
+            return;
+        }
+        System.out.println("[ManageEventsController] onExportCalendars: " + selected.name + " -> " + target);
+
+        Task<ScheduleCalendarExportService.BulkExportResult> task = new Task<>() {
+            @Override
+            protected ScheduleCalendarExportService.BulkExportResult call() throws Exception {
+                return new ScheduleCalendarExportService(AppContext.get().attendeeRepo)
+                        .exportEventCalendars(selected.eventId, target.toPath());
+            }
+        };
+
+        task.setOnSucceeded(evt -> {
+            ScheduleCalendarExportService.BulkExportResult result = task.getValue();
+            showAlert("Success", "Exported " + result.attendees + " attendee calendars for '" + selected.name
+                    + "'\n\nFile: " + result.file);
+        });
+        task.setOnFailed(evt -> showAlert("Error", "Calendar export failed: " + task.getException().getMessage()));
+
+        TaskExecutor.getInstance().globalScope().submit("export-calendars-task", task);
     }
 
     /**
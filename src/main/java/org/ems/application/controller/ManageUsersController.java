@@ -10,12 +10,13 @@ import javafx.geometry.Insets;
 import org.ems.application.dto.user.UserCreateRequestDTO;
 import org.ems.application.dto.user.UserDisplayRowDTO;
 import org.ems.application.service.user.UserManagementService;
-import org.ems.application.service.user.UserFilteringService;
-import org.ems.application.service.user.UserDataLoaderService;
+import org.ems.domain.repository.UserRepository;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.ui.stage.SceneManager;
 import org.ems.ui.util.AsyncTaskService;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
 /**
@@ -36,13 +37,25 @@ public class ManageUsersController {
     @FXML private VBox loadingPlaceholder;
     @FXML private ProgressBar loadingProgressBar;
     @FXML private Label loadingPercentLabel;
+    @FXML private Label pageLabel;
+    @FXML private Button prevPageButton;
+    @FXML private Button nextPageButton;
+
+    private static final int PAGE_SIZE = 100;
 
     // Injected Services
     private UserManagementService userManagementService;
-    private UserFilteringService userFilteringService;
 
-    // UI State
-    private List<UserDisplayRowDTO> allUsers;
+    // UI State - filters are applied in SQL; keyset cursors per visited page
+    private String activeSearch = "";
+    private String activeRole = "ALL";
+    private String currentCursor = null;
+    private String nextCursor = null;
+    private final Deque<String> previousCursors = new ArrayDeque<>();
+    private long totalMatches = 0;
+    // Paging is ignored while a page loads; only the latest load updates the table
+    private boolean loading = false;
+    private int loadSequence = 0;
 
     @FXML
     public void initialize() {
@@ -54,9 +67,9 @@ public class ManageUsersController {
             AppContext context = AppContext.get();
             userManagementService = new UserManagementService(
                 context.attendeeRepo,
-                context.presenterRepo
+                context.presenterRepo,
+                context.userRepo
             );
-            userFilteringService = new UserFilteringService();
             System.out.println("  ✓ Services initialized in " + (System.currentTimeMillis() - servicesStart) + " ms");
 
             // Setup role filter combo
@@ -81,8 +94,8 @@ public class ManageUsersController {
             System.out.println("  ✓ UI initialized in " + (System.currentTimeMillis() - initStart) + " ms");
             System.out.println("  🔄 Starting async load...");
 
-            // Load all users asynchronously
-            loadAllUsersAsync();
+            // Load first page asynchronously
+            loadFirstPageAsync();
 
         } catch (Exception e) {
             System.err.println("✗ initialize() failed: " + e.getMessage());
@@ -118,42 +131,63 @@ public class ManageUsersController {
     }
 
     /**
-     * Load all users asynchronously via UserManagementService
-     * Delegates complex data loading logic to service layer
-     * Controller only handles UI state and callback coordination
+     * Start over at the first page of the active filters (re-counts matches)
+     */
+    private void loadFirstPageAsync() {
+        currentCursor = null;
+        nextCursor = null;
+        previousCursors.clear();
+        loadPageAsync(true);
+    }
+
+    /**
+     * Load the page starting after currentCursor via UserManagementService
+     * Filtering and paging run in the database; only PAGE_SIZE rows are transferred
      */
-    private void loadAllUsersAsync() {
+    private void loadPageAsync(boolean recount) {
         long asyncStart = System.currentTimeMillis();
+        String role = activeRole;
+        String search = activeSearch;
+        String cursor = currentCursor;
+        int sequence = ++loadSequence;
+        setLoading(true);
 
         showLoadingPlaceholder();
-
-        // Create progress callback to update UI
-        UserDataLoaderService.ProgressCallback progressCallback =
-            percent -> updateProgress(percent);
+        updateProgress(0);
 
         AsyncTaskService.runAsync(
                 () -> {
                     try {
-                        // Delegate to service - clean separation of concerns
-                        return userManagementService.loadAllUsersWithProgress(progressCallback);
+                        long total = recount ? userManagementService.countUsers(role, search) : totalMatches;
+                        updateProgress(50);
+                        UserRepository.UserPage page = userManagementService.loadUserPage(role, search, cursor, PAGE_SIZE);
+                        return new PageLoad(total, page);
                     } catch (UserManagementService.UserManagementException e) {
                         System.err.println("    ✗ Error in background task: " + e.getMessage());
                         throw new RuntimeException(e);
                     }
                 },
                 result -> {
+                    if (sequence != loadSequence) {
+                        return; // superseded by a newer search or filter
+                    }
                     long uiStart = System.currentTimeMillis();
-                    @SuppressWarnings("unchecked")
-                    List<UserDisplayRowDTO> users = (List<UserDisplayRowDTO>) result;
+                    totalMatches = result.total();
+                    UserRepository.UserPage page = result.page();
 
                     updateProgress(100);
-                    allUsers = users;
-                    displayUsers(allUsers);
+                    nextCursor = page.getNextCursor();
+                    displayUsers(page.getRows());
                     System.out.println("  ✓ UI updated in " + (System.currentTimeMillis() - uiStart) + " ms");
-                    System.out.println("✓ ManageUsersController loaded successfully in " + (System.currentTimeMillis() - asyncStart) + " ms");
+                    System.out.println("✓ ManageUsersController page loaded in " + (System.currentTimeMillis() - asyncStart) + " ms");
                     hideLoadingPlaceholder();
+                    setLoading(false);
                 },
                 error -> {
+                    if (sequence != loadSequence) {
+                        return;
+                    }
+                    setLoading(false);
                     System.err.println("✗ Error loading users: " + error.getMessage());
                     showAlert("Error", "Failed to load users: " + error.getMessage());
                     hideLoadingPlaceholder();
@@ -161,6 +195,25 @@ public class ManageUsersController {
         );
     }
 
+    /**
+     * Block paging while a page loads, so a double click cannot push the same cursor twice
+     */
+    private void setLoading(boolean value) {
+        loading = value;
+        if (prevPageButton != null) {
+            prevPageButton.setDisable(value || previousCursors.isEmpty());
+        }
+        if (nextPageButton != null) {
+            nextPageButton.setDisable(value || nextCursor == null);
+        }
+    }
+
+    /**
+     * Background result: match count plus the loaded page
+     */
+    private record PageLoad(long total, UserRepository.UserPage page) {
+    }
+
     /**
      * Update progress bar and label on UI thread
      */
@@ -208,37 +261,33 @@ public class ManageUsersController {
     }
 
     /**
-     * Display users in table
+     * Display the current page in table
      */
     private void displayUsers(List<UserDisplayRowDTO> users) {
         ObservableList<UserDisplayRowDTO> observableList = FXCollections.observableArrayList(users);
         usersTable.setItems(observableList);
-        recordCountLabel.setText("Total Records: " + users.size());
+
+        int pageIndex = previousCursors.size();
+        long first = users.isEmpty() ? 0 : (long) pageIndex * PAGE_SIZE + 1;
+        long last = (long) pageIndex * PAGE_SIZE + users.size();
+        long totalPages = Math.max(1, (totalMatches + PAGE_SIZE - 1) / PAGE_SIZE);
+        recordCountLabel.setText("Total Records: " + totalMatches +
+                (users.isEmpty() ? "" : " (showing " + first + "-" + last + ")"));
+        if (pageLabel != null) {
+            pageLabel.setText("Page " + (pageIndex + 1) + " / " + totalPages);
+        }
     }
 
     /**
      * Handle search filter
-     * Delegates filtering logic to UserFilteringService
+     * Filters are applied by the database query
      */
     @FXML
     public void onSearch() {
-        long searchStart = System.currentTimeMillis();
         System.out.println("🔎 [ManageUsersController] onSearch() starting...");
-        try {
-            String searchTerm = searchField.getText();
-            String roleFilter = roleFilterCombo.getValue();
-
-            // Delegate to service - clean separation of concerns
-            List<UserDisplayRowDTO> filtered = userFilteringService.filterUsers(allUsers, searchTerm, roleFilter);
-
-            displayUsers(filtered);
-            System.out.println("  ✓ onSearch() completed in " + (System.currentTimeMillis() - searchStart) +
-                             " ms, filtered to " + filtered.size());
-
-        } catch (Exception e) {
-            System.err.println("✗ onSearch() failed: " + e.getMessage());
-            showAlert("Error", "Search failed: " + e.getMessage());
-        }
+        activeSearch = searchField.getText() != null ? searchField.getText().trim() : "";
+        activeRole = roleFilterCombo.getValue() != null ? roleFilterCombo.getValue() : "ALL";
+        loadFirstPageAsync();
     }
 
     /**
@@ -246,12 +295,40 @@ public class ManageUsersController {
      */
     @FXML
     public void onReset() {
-        long resetStart = System.currentTimeMillis();
         System.out.println("🔄 [ManageUsersController] onReset() called");
         searchField.clear();
         roleFilterCombo.setValue("ALL");
-        displayUsers(allUsers);
-        System.out.println("  ✓ onReset() completed in " + (System.currentTimeMillis() - resetStart) + " ms");
+        activeSearch = "";
+        activeRole = "ALL";
+        loadFirstPageAsync();
+    }
+
+    /**
+     * Next page (keyset: continue after the last username shown)
+     */
+    @FXML
+    public void onNextPage() {
+        if (loading || nextCursor == null) {
+            return;
+        }
+        previousCursors.push(currentCursor != null ? currentCursor : "");
+        currentCursor = nextCursor;
+        nextCursor = null;
+        loadPageAsync(false);
+    }
+
+    /**
+     * Previous page (cursor remembered when moving forward)
+     */
+    @FXML
+    public void onPrevPage() {
+        if (loading || previousCursors.isEmpty()) {
+            return;
+        }
+        String cursor = previousCursors.pop();
+        currentCursor = cursor.isEmpty() ? null : cursor;
+        nextCursor = null;
+        loadPageAsync(false);
     }
 
     /**
@@ -284,7 +361,7 @@ public class ManageUsersController {
     private void createUserAsync(UserCreateRequestDTO request, long addStart) {
         long saveStart = System.currentTimeMillis();
 
-        AsyncTaskService.runAsync(
+        AsyncTaskService.runWriteAsync(
                 () -> {
                     try {
                         // Delegate to service - clean separation of concerns
@@ -296,7 +373,7 @@ public class ManageUsersController {
                 },
                 success -> {
                     showAlert("Success", "User '" + request.getUsername() + "' created successfully!");
-                    loadAllUsersAsync();
+                    loadPageAsync(true);
                     System.out.println("✓ onAddUser() completed in " + (System.currentTimeMillis() - addStart) + " ms");
                 },
                 error -> {
@@ -364,7 +441,7 @@ public class ManageUsersController {
      * Asynchronously delete user via service
      */
     private void deleteUserAsync(UserDisplayRowDTO user, long deleteStart) {
-        AsyncTaskService.runAsync(
+        AsyncTaskService.runWriteAsync(
                 () -> {
                     try {
                         // Delegate to service - clean separation of concerns
@@ -378,7 +455,7 @@ public class ManageUsersController {
                 },
                 success -> {
                     showAlert("Success", "User '" + user.getUsername() + "' has been deleted successfully!");
-                    loadAllUsersAsync();
+                    loadPageAsync(true);
                     System.out.println("✓ onDeleteUser() completed in " + (System.currentTimeMillis() - deleteStart) + " ms");
                 },
                 error -> {
@@ -471,7 +471,7 @@ public class MyRegistrationsController {
         if (!(appContext.currentUser instanceof Attendee)) return;
         Attendee attendee = (Attendee) appContext.currentUser;
 
-        AsyncTaskService.runAsync(
+        AsyncTaskService.runWriteAsync(
             () -> {
                 try {
                     if (appContext.sessionRepo != null) {
@@ -503,7 +503,7 @@ public class MyRegistrationsController {
         if (!(appContext.currentUser instanceof Attendee)) return;
         Attendee attendee = (Attendee) appContext.currentUser;
 
-        AsyncTaskService.runAsync(
+        AsyncTaskService.runWriteAsync(
             () -> {
                 try {
                     if (appContext.sessionRepo != null) {
@@ -543,7 +543,7 @@ public class MyRegistrationsController {
 
         showLoadingPlaceholder();
 
-        AsyncTaskService.runAsync(
+        AsyncTaskService.runWriteAsync(
             () -> {
                 int successCount = 0;
                 int totalSessions = sessions.size();
@@ -603,7 +603,7 @@ public class MyRegistrationsController {
 
         showLoadingPlaceholder();
 
-        AsyncTaskService.runAsync(
+        AsyncTaskService.runWriteAsync(
             () -> {
                 int successCount = 0;
                 int totalSessions = sessions.size();
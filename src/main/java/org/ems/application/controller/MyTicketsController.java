@@ -10,6 +10,7 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.domain.model.Attendee;
+import org.ems.ui.stage.ReusableView;
 import org.ems.ui.stage.SceneManager;
 import org.ems.ui.util.AsyncTaskService;
 import org.ems.application.dto.ticket.TicketDisplayDTO;
@@ -30,7 +31,7 @@ import java.util.*;
  * - Clean Architecture: Separated concerns between UI, Services, and Data layers
  * @author <your group number>
  */
-public class MyTicketsController {
+public class MyTicketsController implements ReusableView {
 
     @FXML private TextField searchField;
     @FXML private ComboBox<String> statusFilterCombo;
@@ -97,6 +98,14 @@ public class MyTicketsController {
         }
     }
 
+    /**
+     * Cached view shown again: reload tickets (current filters are kept)
+     */
+    @Override
+    public void onReshow() {
+        loadMyTicketsAsync();
+    }
+
     /**
      * Setup table columns with proper binding to TicketDisplayDTO
      */
@@ -5,25 +5,24 @@ import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.DatePicker;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
+import org.ems.application.service.report.PresenterActivityReportService;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 import org.ems.infrastructure.config.AppContext;
-import org.ems.domain.model.Event;
 import org.ems.domain.model.Presenter;
-import org.ems.domain.model.Session;
-import org.ems.domain.repository.EventRepository;
-import org.ems.domain.repository.SessionRepository;
+import org.ems.domain.repository.PresenterRepository.ActivityFilter;
 import org.ems.ui.stage.SceneManager;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
 
 public class PresenterActivityExportController {
 
@@ -42,12 +41,15 @@ public class PresenterActivityExportController {
     @FXML
     private Label progressLabel;
 
+    @FXML
+    private DatePicker fromDatePicker;
+
+    @FXML
+    private DatePicker toDatePicker;
+
     private final AppContext appContext = AppContext.get();
     private Presenter presenter;
-    private SessionRepository sessionRepo;
-    private EventRepository eventRepo;
-
-    private static final int PAGE_SIZE = 100;
+    private PresenterActivityReportService reportService;
 
     @FXML
     public void initialize() {
@@ -60,10 +62,8 @@ public class PresenterActivityExportController {
         }
 
         presenter = (Presenter) appContext.currentUser;
-        sessionRepo = appContext.sessionRepo;
-        eventRepo = appContext.eventRepo;
 
-        if (sessionRepo == null || eventRepo == null) {
+        if (appContext.presenterRepo == null) {
             presenterInfoLabel.setText("Repositories are not available.");
             statusLabel.setText("Please contact system administrator.");
             hideLoadingBox();
@@ -74,6 +74,7 @@ public class PresenterActivityExportController {
                 "Presenter: " + presenter.getFullName() +
                         " (" + presenter.getEmail() + ")"
         );
+        reportService = new PresenterActivityReportService(appContext.presenterRepo);
         statusLabel.setText("Ready to export your activity summary.");
 
         // Ẩn progress khi mới mở màn
@@ -113,10 +114,15 @@ public class PresenterActivityExportController {
     @FXML
     private void onExportSummary() {
 
-        if (presenter == null || sessionRepo == null || eventRepo == null) {
+        if (presenter == null || reportService == null) {
             showError("Export Failed", "Presenter or repositories not available.");
             return;
         }
+        if (fromDatePicker != null && toDatePicker != null && fromDatePicker.getValue() != null
+                && toDatePicker.getValue() != null && toDatePicker.getValue().isBefore(fromDatePicker.getValue())) {
+            showError("Export Failed", "The 'To' date must not be before the 'From' date.");
+            return;
+        }
 
         // select csv
         FileChooser chooser = new FileChooser();
@@ -137,104 +143,25 @@ public class PresenterActivityExportController {
         exportProgressBar.setProgress(0.1);
         progressLabel.setText("Preparing export... 10%");
 
-        final UUID presenterId = presenter.getId();
+        final ActivityFilter filter = new ActivityFilter(presenter.getId(), null,
+                fromDatePicker != null ? fromDatePicker.getValue() : null,
+                toDatePicker != null ? toDatePicker.getValue() : null);
 
-        Task<Void> task = new Task<>() {
+        Task<Long> task = new Task<>() {
             @Override
-            protected Void call() throws Exception {
-
-                // 1) load all sessions
-                updateProgress(0.15, 1.0);
-                updateMessage("Loading sessions... 15%");
-
-                List<Session> allSessions = new ArrayList<>();
-                int pageIndex = 0;
-
-                while (true) {
-                    int offset = pageIndex * PAGE_SIZE;
-                    List<Session> batch =
-                            sessionRepo.findByPresenter(presenterId, offset, PAGE_SIZE);
-
-                    if (batch == null || batch.isEmpty()) break;
-                    allSessions.addAll(batch);
-
-                    if (batch.size() < PAGE_SIZE) break;
-                    pageIndex++;
-                }
-
-                if (allSessions.isEmpty()) {
+            protected Long call() throws Exception {
+                // Rows are streamed from one query, so the total is not known up front
+                updateProgress(-1, 1.0);
+                updateMessage("Writing CSV...");
+
+                try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                        new FileOutputStream(file), StandardCharsets.UTF_8))) {
+                    long rows = reportService.exportCsv(filter, out,
+                            written -> updateMessage("Writing CSV... " + written + " sessions"));
                     updateProgress(1.0, 1.0);
-                    updateMessage("No sessions found. 100%");
-                    return null;
-                }
-
-                // 2) Cache events
-                updateProgress(0.30, 1.0);
-                updateMessage("Loading events... 30%");
-
-                Map<UUID, Event> eventMap = new HashMap<>();
-                for (Event ev : eventRepo.findAll()) {
-                    eventMap.put(ev.getId(), ev);
-                }
-
-                DateTimeFormatter formatter =
-                        DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-
-                // 3) write to csv
-                updateProgress(0.45, 1.0);
-                updateMessage("Writing CSV... 45%");
-
-                int total = allSessions.size();
-                int done = 0;
-
-                try (PrintWriter out = new PrintWriter(
-                        new OutputStreamWriter(
-                                new FileOutputStream(file),
-                                StandardCharsets.UTF_8
-                        )
-                )) {
-                    out.println("Event,Session,Start Time,End Time,Venue,Capacity");
-
-                    for (Session s : allSessions) {
-                        Event ev = s.getEventId() != null
-                                ? eventMap.get(s.getEventId())
-                                : null;
-
-                        String eventName = ev != null ? ev.getName() : "";
-                        String venue = s.getVenue() != null
-                                ? s.getVenue()
-                                : (ev != null ? ev.getLocation() : "");
-                        String start = s.getStart() != null
-                                ? s.getStart().format(formatter)
-                                : "";
-                        String end = s.getEnd() != null
-                                ? s.getEnd().format(formatter)
-                                : "";
-                        String capacity = String.valueOf(s.getCapacity());
-
-                        out.printf("%s,%s,%s,%s,%s,%s%n",
-                                escapeCsv(eventName),
-                                escapeCsv(s.getTitle()),
-                                escapeCsv(start),
-                                escapeCsv(end),
-                                escapeCsv(venue),
-                                escapeCsv(capacity)
-                        );
-
-                        done++;
-                        // track progress
-                        double progress = 0.45 + 0.54 * ((double) done / total);
-                        if (progress > 0.99) progress = 0.99;
-                        updateProgress(progress, 1.0);
-                        updateMessage("Writing CSV... " + (int)(progress * 100) + "%");
-                    }
+                    updateMessage(rows == 0 ? "No sessions found. 100%" : "Export completed. 100%");
+                    return rows;
                 }
-
-
-                updateProgress(1.0, 1.0);
-                updateMessage("Export completed. 100%");
-
-                return null;
             }
         };
 
@@ -252,7 +179,7 @@ public class PresenterActivityExportController {
         });
 
         task.setOnSucceeded(e -> {
-            statusLabel.setText("Export successful: " + file.getName());
+            statusLabel.setText("Export successful: " + file.getName() + " (" + task.getValue() + " sessions)");
             showInfo("Export Successful",
                     "Your presenter activity summary has been exported.");
 
@@ -269,9 +196,7 @@ public class PresenterActivityExportController {
             hideLoadingBox();
         });
 
-        Thread t = new Thread(task, "presenter-activity-export");
-        t.setDaemon(true);
-        t.start();
+        TaskExecutor.getInstance().globalScope().submit("presenter-activity-export", task);
     }
 
     @FXML
@@ -281,15 +206,6 @@ public class PresenterActivityExportController {
 
     // ================== Helpers ==================
 
-    private String escapeCsv(String value) {
-        if (value == null) return "";
-        String result = value.replace("\"", "\"\"");
-        boolean needQuotes = result.contains(",")
-                || result.contains("\"")
-                || result.contains("\n");
-        return needQuotes ? "\"" + result + "\"" : result;
-    }
-
     private void showInfo(String title, String msg) {
         Alert a = new Alert(Alert.AlertType.INFORMATION, msg, ButtonType.OK);
         a.setTitle(title);
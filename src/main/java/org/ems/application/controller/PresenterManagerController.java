@@ -531,8 +531,7 @@ public class PresenterManagerController {
                     }
                 }
 
-                presenter.getSessionIds().clear();
-                presenter.getSessionIds().addAll(selectedSessions);
+                presenter.setSessionIds(selectedSessions);
 
                 if (presenterRepo != null) {
                     presenterRepo.save(presenter);
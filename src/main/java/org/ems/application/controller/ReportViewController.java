@@ -1,30 +1,70 @@
 package org.ems.application.controller;
 
 import javafx.collections.FXCollections;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
+import org.ems.application.service.report.ReportingService;
+import org.ems.domain.dto.SummaryReport;
+import org.ems.domain.repository.TicketRepository.SalesPeriod;
+import org.ems.domain.repository.TicketRepository.SalesRollup;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.ui.stage.SceneManager;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.UUID;
+
+/**
+ * Report View Controller - Summary, sales trend and per-event sales
+ * - Every figure is read from the ticket sales rollups (no ticket is loaded), so a
+ *   multi-year trend is a few hundred rows
+ * - Selecting an event in the table shows that event's trend
+ * - Data is loaded off the FX thread
+ */
 public class ReportViewController {
 
+    private static final String DAILY = "Daily (90 days)";
+    private static final String WEEKLY = "Weekly (2 years)";
+    private static final String MONTHLY = "Monthly";
+    private static final String YEARLY = "Yearly";
+
     @FXML private Label totalEventsLabel;
     @FXML private Label totalAttendeesLabel;
     @FXML private Label totalTicketsSoldLabel;
     @FXML private Label totalRevenueLabel;
-    @FXML private TableView<TicketRow> ticketReportTable;
+    @FXML private ComboBox<String> periodCombo;
+    @FXML private LineChart<String, Number> salesTrendChart;
+    @FXML private TableView<EventSalesRow> ticketReportTable;
+
+    private ReportingService reportingService;
+    private EventSalesRow selectedEvent;
 
     @FXML
     public void initialize() {
         try {
+            reportingService = AppContext.get().reportingService;
             setupTableColumns();
-            loadReportData();
+            ticketReportTable.getSelectionModel().selectedItemProperty().addListener((obs, old, row) -> {
+                if (row != null) {
+                    selectedEvent = row;
+                    loadSalesTrend();
+                }
+            });
+            periodCombo.setItems(FXCollections.observableArrayList(DAILY, WEEKLY, MONTHLY, YEARLY));
+            periodCombo.setValue(MONTHLY);
+            if (reportingService != null) {
+                loadReportData();
+                loadSalesTrend();
+            }
         } catch (Exception e) {
             System.err.println("Error initializing report view: " + e.getMessage());
             e.printStackTrace();
@@ -33,91 +73,150 @@ public class ReportViewController {
 
     private void setupTableColumns() {
         if (ticketReportTable.getColumns().size() >= 5) {
-            ((TableColumn<TicketRow, String>) ticketReportTable.getColumns().get(0))
-                    .setCellValueFactory(new PropertyValueFactory<>("ticketId"));
-            ((TableColumn<TicketRow, String>) ticketReportTable.getColumns().get(1))
-                    .setCellValueFactory(new PropertyValueFactory<>("attendeeName"));
-            ((TableColumn<TicketRow, String>) ticketReportTable.getColumns().get(2))
+            ((TableColumn<EventSalesRow, String>) ticketReportTable.getColumns().get(0))
                     .setCellValueFactory(new PropertyValueFactory<>("eventName"));
-            ((TableColumn<TicketRow, String>) ticketReportTable.getColumns().get(3))
-                    .setCellValueFactory(new PropertyValueFactory<>("ticketType"));
-            ((TableColumn<TicketRow, String>) ticketReportTable.getColumns().get(4))
-                    .setCellValueFactory(new PropertyValueFactory<>("price"));
+            ((TableColumn<EventSalesRow, String>) ticketReportTable.getColumns().get(1))
+                    .setCellValueFactory(new PropertyValueFactory<>("tickets"));
+            ((TableColumn<EventSalesRow, String>) ticketReportTable.getColumns().get(2))
+                    .setCellValueFactory(new PropertyValueFactory<>("used"));
+            ((TableColumn<EventSalesRow, String>) ticketReportTable.getColumns().get(3))
+                    .setCellValueFactory(new PropertyValueFactory<>("paid"));
+            ((TableColumn<EventSalesRow, String>) ticketReportTable.getColumns().get(4))
+                    .setCellValueFactory(new PropertyValueFactory<>("revenue"));
         }
     }
 
+    /**
+     * Summary figures and the per-event table
+     */
     private void loadReportData() {
-        try {
-            AppContext context = AppContext.get();
-            int eventCount = 0;
-            int attendeeCount = 0;
-            int ticketCount = 0;
-            String totalRevenue = "$0";
+        record ReportData(SummaryReport summary, List<SalesRollup> byEvent) {
+        }
+        Task<ReportData> task = new Task<>() {
+            @Override
+            protected ReportData call() {
+                return new ReportData(reportingService.generateSummary(), reportingService.getSalesByEvent());
+            }
+        };
+
+        task.setOnSucceeded(evt -> {
+            SummaryReport summary = task.getValue().summary();
+            totalEventsLabel.setText(String.valueOf(summary.totalEvents));
+            totalAttendeesLabel.setText(String.valueOf(summary.totalAttendees));
+            totalTicketsSoldLabel.setText(String.valueOf(summary.totalTickets));
+            totalRevenueLabel.setText(String.format("$%,.2f", summary.totalRevenue));
+
+            List<EventSalesRow> rows = new ArrayList<>();
+            for (SalesRollup sales : task.getValue().byEvent()) {
+                rows.add(new EventSalesRow(
+                        UUID.fromString(sales.getKey()),
+                        sales.getName() != null ? sales.getName() : sales.getKey().substring(0, 8),
+                        String.valueOf(sales.getTicketCount()),
+                        String.valueOf(sales.getUsedCount()),
+                        String.valueOf(sales.getPaidCount()),
+                        String.format("$%,.2f", sales.getPaidRevenue())
+                ));
+            }
+            ticketReportTable.setItems(FXCollections.observableArrayList(rows));
+        });
 
-            List<TicketRow> rows = new ArrayList<>();
+        task.setOnFailed(evt -> System.err.println("Error loading report data: " + task.getException().getMessage()));
 
-            if (context.eventRepo != null) {
-                eventCount = (int) context.eventRepo.count();
-            }
+        TaskExecutor.getInstance().screenScope().submit("report-summary", task);
+    }
 
-            if (context.attendeeRepo != null) {
-                attendeeCount = (int) context.attendeeRepo.count();
+    /**
+     * Paid revenue per period for the selected granularity
+     */
+    private void loadSalesTrend() {
+        String selected = periodCombo.getValue();
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        SalesPeriod period;
+        LocalDate from = null;
+        switch (selected != null ? selected : MONTHLY) {
+            case DAILY -> {
+                period = SalesPeriod.DAY;
+                from = tomorrow.minusDays(90);
             }
-
-            if (context.ticketRepo != null) {
-                ticketCount = (int) context.ticketRepo.count();
-                var tickets = context.ticketRepo.findAll();
-                for (var ticket : tickets) {
-                    if (ticket.getAttendeeId() != null) {
-                        rows.add(new TicketRow(
-                                ticket.getId().toString().substring(0, 8),
-                                "Attendee",
-                                "Event",
-                                ticket.getType() != null ? ticket.getType().name() : "N/A",
-                                ticket.getPrice() != null ? ticket.getPrice().toString() : "0"
-                        ));
-                    }
-                }
+            case WEEKLY -> {
+                period = SalesPeriod.WEEK;
+                from = tomorrow.minusYears(2);
             }
+            case YEARLY -> period = SalesPeriod.YEAR;
+            default -> period = SalesPeriod.MONTH;
+        }
+        LocalDate since = from;
+        UUID eventId = selectedEvent != null ? selectedEvent.getEventId() : null;
+        String title = selectedEvent != null ? selectedEvent.getEventName() : "All events";
+
+        Task<List<SalesRollup>> task = new Task<>() {
+            @Override
+            protected List<SalesRollup> call() {
+                return reportingService.getSalesTrend(period, eventId, since, null);
+            }
+        };
+
+        task.setOnSucceeded(evt -> {
+            XYChart.Series<String, Number> revenue = new XYChart.Series<>();
+            revenue.setName("Paid revenue");
+            for (SalesRollup sales : task.getValue()) {
+                String label = period == SalesPeriod.MONTH ? sales.getKey().substring(0, 7)
+                        : period == SalesPeriod.YEAR ? sales.getKey().substring(0, 4)
+                        : sales.getKey();
+                revenue.getData().add(new XYChart.Data<>(label, sales.getPaidRevenue()));
+            }
+            salesTrendChart.setTitle(title);
+            salesTrendChart.getData().setAll(List.of(revenue));
+            System.out.println("📈 [ReportViewController] Sales trend: " + task.getValue().size() + " periods");
+        });
 
-            totalEventsLabel.setText(String.valueOf(eventCount));
-            totalAttendeesLabel.setText(String.valueOf(attendeeCount));
-            totalTicketsSoldLabel.setText(String.valueOf(ticketCount));
-            totalRevenueLabel.setText(totalRevenue);
+        task.setOnFailed(evt -> System.err.println("Error loading sales trend: " + task.getException().getMessage()));
 
-            ticketReportTable.setItems(FXCollections.observableArrayList(rows));
+        TaskExecutor.getInstance().screenScope().submit("report-sales-trend", task);
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error loading report data: " + e.getMessage());
-            e.printStackTrace();
+    @FXML
+    public void onPeriodChanged() {
+        if (reportingService != null) {
+            loadSalesTrend();
         }
     }
 
+    @FXML
+    public void onShowAllEvents() {
+        selectedEvent = null;
+        ticketReportTable.getSelectionModel().clearSelection();
+        onPeriodChanged();
+    }
+
     @FXML
     public void onBack() {
         SceneManager.switchTo("admin_dashboard.fxml", "Event Manager System - Admin Dashboard");
     }
 
-    public static class TicketRow {
-        private String ticketId;
-        private String attendeeName;
+    public static class EventSalesRow {
+        private UUID eventId;
         private String eventName;
-        private String ticketType;
-        private String price;
-
-        public TicketRow(String ticketId, String attendeeName, String eventName, String ticketType, String price) {
-            this.ticketId = ticketId;
-            this.attendeeName = attendeeName;
+        private String tickets;
+        private String used;
+        private String paid;
+        private String revenue;
+
+        public EventSalesRow(UUID eventId, String eventName, String tickets, String used, String paid,
+                             String revenue) {
+            this.eventId = eventId;
             this.eventName = eventName;
-            this.ticketType = ticketType;
-            this.price = price;
+            this.tickets = tickets;
+            this.used = used;
+            this.paid = paid;
+            this.revenue = revenue;
         }
 
-        public String getTicketId() { return ticketId; }
-        public String getAttendeeName() { return attendeeName; }
+        public UUID getEventId() { return eventId; }
         public String getEventName() { return eventName; }
-        public String getTicketType() { return ticketType; }
-        public String getPrice() { return price; }
+        public String getTickets() { return tickets; }
+        public String getUsed() { return used; }
+        public String getPaid() { return paid; }
+        public String getRevenue() { return revenue; }
     }
 }
-
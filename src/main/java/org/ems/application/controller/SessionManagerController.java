@@ -1,12 +1,10 @@
 package org.ems.application.controller;
 
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 import org.ems.application.service.image.ImageService;
-import org.ems.application.service.image.ImageServiceImpl;
 import org.ems.application.service.session.SessionCacheManager;
 import org.ems.application.service.session.SessionEventManager;
 import org.ems.application.service.session.SessionManagementService;
@@ -17,6 +15,7 @@ import org.ems.domain.model.Session;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.ui.stage.SceneManager;
 import org.ems.ui.util.*;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 
 import java.util.List;
 import java.util.Optional;
@@ -58,7 +57,11 @@ public class SessionManagerController {
     private SessionCacheManager cacheManager;
     private SessionAsyncLoader asyncLoader;
     private SessionTableManager tableManager;
-    private SessionPaginationManager paginationManager;
+
+    // Sessions are loaded in blocks as the table scrolls; at most MAX_BLOCKS are kept
+    private static final int BLOCK_SIZE = 100;
+    private static final int MAX_BLOCKS = 20;
+    private final LazyTableModel<Session> sessionRows = new LazyTableModel<>("sessions", BLOCK_SIZE, MAX_BLOCKS);
 
     private Session selectedSession;
 
@@ -72,8 +75,10 @@ public class SessionManagerController {
 
         // Setup UI components
         tableManager.setupTableColumns();
-        paginationManager.setPageInfoLabel(pageInfoLabel);
         asyncLoader.setProgressUI(loadingContainer, loadingProgressBar, loadingStatusLabel);
+        sessionRows.setOnLoaded(rows -> updateSessionCount());
+        sessionRows.setOnError(ex -> showError("Error loading sessions", ex.getMessage()));
+        sessionRows.attach(sessionTable);
 
         // Setup table selection listener
         sessionTable.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> {
@@ -83,18 +88,7 @@ public class SessionManagerController {
             }
         });
 
-        // ⚡ OPTIMIZATION: Try to use cached data first for instant display
-        List<Session> cachedSessions = cacheManager.getSessions();
-        if (cachedSessions != null && cacheManager.isSessionsCacheValid()) {
-            System.out.println("⚡ [Init] Using cached sessions for instant display");
-            paginationManager.initializePagination(cachedSessions);
-            displaySessionsPage();
-            if (sessionCountLabel != null) {
-                sessionCountLabel.setText("Total Sessions: " + cachedSessions.size());
-            }
-        }
-
-        // Load data asynchronously (parallel: sessions + events + presenters)
+        // Load data asynchronously (parallel: session count + events + presenters)
         loadSessionsAndEventsParallel();
 
         System.out.println("  ✓ initialize() completed in " + (System.currentTimeMillis() - initStart) + " ms");
@@ -110,34 +104,17 @@ public class SessionManagerController {
         this.presenterManager = new SessionPresenterManager(cacheManager);
         this.asyncLoader = new SessionAsyncLoader(sessionService, eventManager, presenterManager);
         this.tableManager = new SessionTableManager(sessionTable, colId, colTitle, colEvent, colStart, colVenue, colCapacity, eventManager);
-        this.paginationManager = new SessionPaginationManager();
     }
 
     /**
      * ⚡ Load sessions and events in PARALLEL (faster than sequential)
+     * Only the session count is queried up front; rows load as the table shows them.
      */
     private void loadSessionsAndEventsParallel() {
         long mainStart = System.currentTimeMillis();
         System.out.println("⚡ [SessionManager] Loading sessions & events in PARALLEL...");
 
-        // Start both loads at the same time
-        asyncLoader.loadSessionsAsync(sessions -> {
-            // Update cache
-            cacheManager.setSessions(sessions);
-
-            // On success: initialize pagination and display sessions
-            paginationManager.initializePagination(sessions);
-            displaySessionsPage();
-
-            if (sessionCountLabel != null) {
-                sessionCountLabel.setText("Total Sessions: " + sessions.size());
-            }
-
-            System.out.println("✓ Sessions loaded in " + (System.currentTimeMillis() - mainStart) + " ms");
-        }, ex -> {
-            System.err.println("✗ Error loading sessions: " + ex.getMessage());
-            showError("Error loading sessions", ex.getMessage());
-        });
+        reloadSessions();
 
         // Load events at same time (parallel)
         asyncLoader.loadEventsAsync(events -> {
@@ -156,9 +133,9 @@ public class SessionManagerController {
      * ⚡ Lazy load presenters only when needed (on first detail view)
      */
     private void lazyLoadPresentersInBackground() {
-        Thread lazyLoaderThread = new Thread(() -> {
+        // Queued behind the session and event loads submitted just before, so the UI settles first
+        TaskExecutor.getInstance().screenScope().run("lazy-presenter-loader", () -> {
             try {
-                Thread.sleep(500); // Small delay to let UI settle
                 long start = System.currentTimeMillis();
                 presenterManager.getAllPresentersAsMap();
                 System.out.println("✓ Presenters pre-loaded in background: " +
@@ -166,40 +143,35 @@ public class SessionManagerController {
             } catch (Exception e) {
                 System.err.println("⚠️ Background presenter load failed: " + e.getMessage());
             }
-        }, "lazy-presenter-loader");
-        lazyLoaderThread.setDaemon(true);
-        lazyLoaderThread.start();
+        });
     }
 
 
 
     /**
-     * Display current page from pagination manager
+     * Drop loaded session rows and count again (after writes or refresh)
      */
-    private void displaySessionsPage() {
-        long start = System.currentTimeMillis();
-        System.out.println("📄 [SessionManager] Displaying current page...");
-
-        List<Session> pageData = paginationManager.getCurrentPageData();
-        ObservableList<Session> sessions = FXCollections.observableArrayList(pageData);
-        sessionTable.setItems(sessions);
+    private void reloadSessions() {
+        sessionRows.setSource(sessionService::countSessions, sessionService::getSessionsPage);
+    }
 
-        System.out.println("  ✓ Displayed " + pageData.size() + " sessions in " +
-                (System.currentTimeMillis() - start) + " ms");
+    private void updateSessionCount() {
+        if (sessionCountLabel != null) {
+            sessionCountLabel.setText("Total Sessions: " + sessionRows.size());
+        }
+        pageInfoLabel.setText(sessionRows.getVisibleRangeLabel());
     }
 
     @FXML
     public void onPrevPage() {
-        if (paginationManager.previousPage()) {
-            displaySessionsPage();
-        }
+        sessionRows.scrollPage(-1);
+        updateSessionCount();
     }
 
     @FXML
     public void onNextPage() {
-        if (paginationManager.nextPage()) {
-            displaySessionsPage();
-        }
+        sessionRows.scrollPage(1);
+        updateSessionCount();
     }
 
     @FXML
@@ -207,17 +179,13 @@ public class SessionManagerController {
         long refreshStart = System.currentTimeMillis();
         System.out.println("🔄 [onRefresh] Refreshing session data...");
 
-        paginationManager.reset();
-
-        // ⚡ OPTIMIZATION: Use cache check - only reload if cache expired
-        boolean sessionsCacheValid = cacheManager.isSessionsCacheValid();
-        boolean eventsCacheValid = cacheManager.isEventsCacheValid();
+        selectedSession = null;
+        clearDetails();
 
-        if (sessionsCacheValid && eventsCacheValid) {
-            System.out.println("⚡ [Refresh] Cache still valid - skipping database query");
-            List<Session> cachedSessions = cacheManager.getSessions();
-            paginationManager.initializePagination(cachedSessions);
-            displaySessionsPage();
+        // ⚡ OPTIMIZATION: Session rows are cheap blocks; events only reload if their cache expired
+        if (cacheManager.isEventsCacheValid()) {
+            System.out.println("⚡ [Refresh] Event cache still valid - reloading session rows only");
+            reloadSessions();
             System.out.println("✓ Refresh completed in " + (System.currentTimeMillis() - refreshStart) + " ms");
             return;
         }
@@ -228,9 +196,6 @@ public class SessionManagerController {
         presenterManager.clearCache();
         eventManager.clearCache();
         loadSessionsAndEventsParallel();
-
-        selectedSession = null;
-        clearDetails();
         System.out.println("✓ Full refresh completed in " + (System.currentTimeMillis() - refreshStart) + " ms");
     }
 
@@ -302,7 +267,7 @@ public class SessionManagerController {
             try {
                 sessionService.createSession(s);
                 showInfo("Success", "Session created successfully!");
-                loadSessionsAndEventsParallel();
+                reloadSessions();
             } catch (Exception e) {
                 showError("Creation Error", e.getMessage());
             }
@@ -328,7 +293,7 @@ public class SessionManagerController {
             try {
                 sessionService.updateSession(s);
                 showInfo("Success", "Session updated successfully!");
-                loadSessionsAndEventsParallel();
+                reloadSessions();
             } catch (Exception e) {
                 showError("Update Error", e.getMessage());
             }
@@ -351,7 +316,7 @@ public class SessionManagerController {
             try {
                 sessionService.deleteSession(selectedSession.getId());
                 showInfo("Success", "Session deleted successfully!");
-                loadSessionsAndEventsParallel();
+                reloadSessions();
                 clearDetails();
                 selectedSession = null;
             } catch (Exception e) {
@@ -432,7 +397,7 @@ public class SessionManagerController {
         // Step 3: Upload material asynchronously
         final LoadingDialog finalUploadDialog = uploadDialog;
         final String sessionId = selectedSession.getId().toString();
-        AsyncTaskService.runAsync(
+        AsyncTaskService.runWriteAsync(
                 // Background task
                 () -> {
                     long taskStart = System.currentTimeMillis();
@@ -480,8 +445,7 @@ public class SessionManagerController {
      */
     private String uploadSessionMaterial(String sessionId, String filePath) throws Exception {
         // Use ImageService to upload to Cloudflare R2
-        ImageService imageService =
-            new ImageServiceImpl();
+        ImageService imageService = AppContext.get().imageService;
         java.util.UUID sessionUUID = java.util.UUID.fromString(sessionId);
         String materialPath = imageService.uploadSessionMaterial(filePath, sessionUUID);
 
@@ -1,8 +1,10 @@
 package org.ems.application.controller;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.util.Duration;
 import org.ems.application.service.identity.IdentityService;
 import org.ems.infrastructure.config.AppContext;
 import org.ems.domain.model.Attendee;
@@ -150,16 +152,10 @@ public class SignupController {
                 successLabel.setText(" Account created successfully! Redirecting to dashboard...");
 
                 // Redirect to dashboard after 2 seconds
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(2000);
-                        javafx.application.Platform.runLater(() ->
-                            SceneManager.switchTo("dashboard.fxml", "Event Manager System - Dashboard")
-                        );
-                    } catch (InterruptedException e) {
-                        e.printStackTrace(System.err);
-                    }
-                }).start();
+                PauseTransition redirect = new PauseTransition(Duration.seconds(2));
+                redirect.setOnFinished(evt ->
+                        SceneManager.switchTo("dashboard.fxml", "Event Manager System - Dashboard"));
+                redirect.play();
             } else {
                 errorLabel.setText(" Error creating account. Please try again.");
             }
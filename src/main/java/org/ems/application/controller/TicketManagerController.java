@@ -10,17 +10,22 @@ import javafx.concurrent.Task;
 import org.ems.application.dto.template.TemplateRow;
 import org.ems.application.dto.ticket.TicketRow;
 import org.ems.application.service.ticket.TicketManagerFacade;
+import org.ems.application.service.ticket.TicketStatisticsService;
 import org.ems.domain.model.Ticket;
 import org.ems.domain.model.enums.PaymentStatus;
 import org.ems.domain.model.enums.TicketStatus;
 import org.ems.domain.model.enums.TicketType;
+import org.ems.domain.repository.TicketRepository;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 import org.ems.infrastructure.util.ActivityLogger;
+import org.ems.ui.stage.ReusableView;
 import org.ems.ui.stage.SceneManager;
+import org.ems.ui.util.LazyTableModel;
 
 import java.math.BigDecimal;
 import java.util.*;
 
-public class TicketManagerController {
+public class TicketManagerController implements ReusableView {
 
     // ===== FXML BINDINGS - Tab 1: Ticket Templates =====
     @FXML private ComboBox<String> templateEventCombo;
@@ -52,10 +57,12 @@ public class TicketManagerController {
 
     // ===== LOCAL STATE =====
     private List<TemplateRow> currentTemplateRows = new ArrayList<>();
-    private List<TicketRow> currentTicketRows = new ArrayList<>();
     private boolean assignedTabInitialized = false;
 
-    private static final int PAGE_SIZE = 20;
+    // Assigned tickets are loaded in blocks as the table scrolls; at most MAX_BLOCKS are kept
+    private static final int BLOCK_SIZE = 100;
+    private static final int MAX_BLOCKS = 20;
+    private final LazyTableModel<TicketRow> assignedRows = new LazyTableModel<>("assigned-tickets", BLOCK_SIZE, MAX_BLOCKS);
 
     /**
      * Initialize UI - setup all FXML bindings
@@ -77,6 +84,17 @@ public class TicketManagerController {
         Platform.runLater(this::loadDataAsync);
     }
 
+    /**
+     * Cached view shown again: reload templates, and assigned tickets if that tab was opened
+     */
+    @Override
+    public void onReshow() {
+        loadDataAsync();
+        if (assignedTabInitialized) {
+            loadAssignedTickets();
+        }
+    }
+
     /**
      * Setup template type combobox options
      */
@@ -92,7 +110,7 @@ public class TicketManagerController {
      */
     private void setupUILabels() {
         templatesPageLabel.setText("(Keyset Pagination)");
-        assignedPageLabel.setText("(Keyset Pagination)");
+        assignedPageLabel.setText("(Loaded on scroll)");
         templatesCountLabel.setText("Loading...");
         assignedCountLabel.setText("Ready");
     }
@@ -104,6 +122,9 @@ public class TicketManagerController {
         var renderingService = facade.getUiRenderingService();
         renderingService.setupTemplateTableColumns(templatesTable);
         renderingService.setupAssignedTicketTableColumns(assignedTicketsTable);
+        assignedRows.setOnLoaded(rows -> updateAssignedLabels());
+        assignedRows.setOnError(error -> assignedCountLabel.setText("Error loading data"));
+        assignedRows.attach(assignedTicketsTable);
     }
 
     /**
@@ -124,32 +145,20 @@ public class TicketManagerController {
             @Override
             protected List<String> call() {
                 long start = System.currentTimeMillis();
-                List<String> eventList = new ArrayList<>();
-                Map<String, UUID> eventMap = new HashMap<>();
+                Map<String, UUID> eventMap = new LinkedHashMap<>();
 
                 try {
-                    var eventRepo = facade.getEventRepo();
-                    if (eventRepo != null) {
-                        var events = eventRepo.findAll();
-                        for (var evt : events) {
-                            String display = evt.getName() + " (" + evt.getId().toString().substring(0, 8) + ")";
-                            eventList.add(display);
-                            eventMap.put(display, evt.getId());
-                            facade.getCacheManager().addEvent(evt);
-                        }
-                    }
+                    eventMap = loadEventMappings();
                     System.out.println("[TicketManagerController] loadEventsAsync completed in " +
-                            (System.currentTimeMillis() - start) + " ms, loaded " + eventList.size() + " events");
+                            (System.currentTimeMillis() - start) + " ms, loaded " + eventMap.size() + " events");
                 } catch (Exception e) {
                     System.err.println("[TicketManagerController] Error loading events: " + e.getMessage());
                 }
 
                 // Cache the event mappings
-                for (var entry : eventMap.entrySet()) {
-                    facade.getCacheManager().putEventMapping(entry.getKey(), entry.getValue());
-                }
+                facade.getCacheManager().putEventMappings(eventMap);
 
-                return eventList;
+                return new ArrayList<>(eventMap.keySet());
             }
         };
 
@@ -167,7 +176,23 @@ public class TicketManagerController {
             System.err.println("[TicketManagerController] Failed to load events: " + task.getException().getMessage());
         });
 
-        new Thread(task, "events-loader").start();
+        TaskExecutor.getInstance().screenScope().submit("events-loader", task);
+    }
+
+    /**
+     * Event display names (as shown in templateEventCombo) to ids, in repository order
+     */
+    private Map<String, UUID> loadEventMappings() {
+        Map<String, UUID> eventMap = new LinkedHashMap<>();
+        var eventRepo = facade.getEventRepo();
+        if (eventRepo != null) {
+            for (var evt : eventRepo.findAll()) {
+                String display = evt.getName() + " (" + evt.getId().toString().substring(0, 8) + ")";
+                eventMap.put(display, evt.getId());
+                facade.getCacheManager().addEvent(evt);
+            }
+        }
+        return eventMap;
     }
 
     /**
@@ -194,10 +219,13 @@ public class TicketManagerController {
                         }
 
                         var converterService = facade.getDataConverterService();
+                        var assignedCounts = facade.getStatisticsService().getTemplateAssignedCounts();
 
                         for (var template : templates) {
                             // Convert to UI DTO (events are now cached)
-                            var row = converterService.convertToTemplateRow(template, 0);
+                            long assigned = assignedCounts.getOrDefault(TicketStatisticsService.templateKey(
+                                    template.getEventId(), template.getType(), template.getPrice()), 0L);
+                            var row = converterService.convertToTemplateRow(template, assigned);
                             if (row != null) {
                                 rows.add(row);
                             }
@@ -223,7 +251,7 @@ public class TicketManagerController {
             templatesCountLabel.setText("Error loading templates");
         });
 
-        new Thread(task, "ticket-templates-loader").start();
+        TaskExecutor.getInstance().screenScope().submit("ticket-templates-loader", task);
     }
 
     /**
@@ -252,7 +280,7 @@ public class TicketManagerController {
             String typeStr = templateTypeCombo.getValue();
 
             // Map display name to UUID via cache
-            UUID eventId = facade.getCacheManager().getEventMap().get(eventDisplay);
+            UUID eventId = facade.getCacheManager().resolveEventId(eventDisplay, this::loadEventMappings);
             if (eventId == null) {
                 showAlert("Error", "Invalid event selected");
                 return;
@@ -296,31 +324,20 @@ public class TicketManagerController {
             @Override
             protected List<String> call() {
                 long start = System.currentTimeMillis();
-                List<String> attendeeList = new ArrayList<>();
-                Map<String, UUID> attendeeMap = new HashMap<>();
+                Map<String, UUID> attendeeMap = new LinkedHashMap<>();
 
                 try {
-                    var attendeeRepo = facade.getAttendeeRepo();
-                    if (attendeeRepo != null) {
-                        List<org.ems.domain.model.Attendee> attendees = attendeeRepo.findAll();
-                        for (var att : attendees) {
-                            String display = att.getFullName() + " (" + att.getId().toString().substring(0, 8) + ")";
-                            attendeeList.add(display);
-                            attendeeMap.put(display, att.getId());
-                        }
-                    }
+                    attendeeMap = loadAttendeeMappings();
                     System.out.println("[TicketManagerController] loadAttendeesAsync completed in " +
-                            (System.currentTimeMillis() - start) + " ms, loaded " + attendeeList.size() + " attendees");
+                            (System.currentTimeMillis() - start) + " ms, loaded " + attendeeMap.size() + " attendees");
                 } catch (Exception e) {
                     System.err.println("[TicketManagerController] Error loading attendees: " + e.getMessage());
                 }
 
                 // Cache attendee mappings
-                for (var entry : attendeeMap.entrySet()) {
-                    facade.getCacheManager().putAttendeeMapping(entry.getKey(), entry.getValue());
-                }
+                facade.getCacheManager().putAttendeeMappings(attendeeMap);
 
-                return attendeeList;
+                return new ArrayList<>(attendeeMap.keySet());
             }
         };
 
@@ -334,7 +351,22 @@ public class TicketManagerController {
             });
         });
 
-        new Thread(task, "async-attendees-loader").start();
+        TaskExecutor.getInstance().screenScope().submit("async-attendees-loader", task);
+    }
+
+    /**
+     * Attendee display names (as shown in assignAttendeeCombo) to ids, in repository order
+     */
+    private Map<String, UUID> loadAttendeeMappings() {
+        Map<String, UUID> attendeeMap = new LinkedHashMap<>();
+        var attendeeRepo = facade.getAttendeeRepo();
+        if (attendeeRepo != null) {
+            for (var att : attendeeRepo.findAll()) {
+                String display = att.getFullName() + " (" + att.getId().toString().substring(0, 8) + ")";
+                attendeeMap.put(display, att.getId());
+            }
+        }
+        return attendeeMap;
     }
 
     /**
@@ -345,42 +377,20 @@ public class TicketManagerController {
             @Override
             protected List<String> call() {
                 long start = System.currentTimeMillis();
-                List<String> templateList = new ArrayList<>();
-                Map<String, UUID> templateMap = new HashMap<>();
+                Map<String, UUID> templateMap = new LinkedHashMap<>();
 
                 try {
-                    var ticketRepo = facade.getTicketRepo();
-                    List<Ticket> templates = ticketRepo != null ? ticketRepo.findTemplates() : Collections.emptyList();
-
-                    for (Ticket ticket : templates) {
-                        UUID eventId = ticket.getEventId();
-
-                        String eventName = "Unknown";
-                        var evt = facade.getCacheManager().getEventFromCache(eventId);
-                        if (evt != null) {
-                            eventName = evt.getName();
-                        }
-
-                        String typeName = ticket.getType() != null ? ticket.getType().name() : "N/A";
-                        String priceStr = ticket.getPrice() != null ? ticket.getPrice().toString() : "0";
-                        String display = eventName + " (" + typeName + ": $" + priceStr + ")";
-
-                        templateList.add(display);
-                        templateMap.put(display, ticket.getId());
-                    }
-
+                    templateMap = loadTemplateMappings();
                     System.out.println("[TicketManagerController] loadTemplatesForAssignAsync completed in " +
-                            (System.currentTimeMillis() - start) + " ms, loaded " + templateList.size() + " templates");
+                            (System.currentTimeMillis() - start) + " ms, loaded " + templateMap.size() + " templates");
                 } catch (Exception e) {
                     System.err.println("[TicketManagerController] Error loading templates for assign: " + e.getMessage());
                 }
 
                 // Cache template mappings
-                for (var entry : templateMap.entrySet()) {
-                    facade.getCacheManager().putTemplateMapping(entry.getKey(), entry.getValue());
-                }
+                facade.getCacheManager().putTemplateMappings(templateMap);
 
-                return templateList;
+                return new ArrayList<>(templateMap.keySet());
             }
         };
 
@@ -394,68 +404,91 @@ public class TicketManagerController {
             });
         });
 
-        new Thread(task, "async-templates-loader").start();
+        TaskExecutor.getInstance().screenScope().submit("async-templates-loader", task);
     }
 
     /**
-     * Load assigned tickets with pagination
+     * Template display names (as shown in assignTemplateCombo) to ids, in repository order
      */
-    private void loadAssignedTickets() {
-        assignedCountLabel.setText("Loading...");
-
-        Task<List<TicketRow>> task = new Task<>() {
-            @Override
-            protected List<TicketRow> call() {
-                long start = System.currentTimeMillis();
-                List<TicketRow> rows = new ArrayList<>();
+    private Map<String, UUID> loadTemplateMappings() {
+        Map<String, UUID> templateMap = new LinkedHashMap<>();
+        var ticketRepo = facade.getTicketRepo();
+        List<Ticket> templates = ticketRepo != null ? ticketRepo.findTemplates() : Collections.emptyList();
+
+        for (Ticket ticket : templates) {
+            String eventName = "Unknown";
+            var evt = facade.getCacheManager().getEventFromCache(ticket.getEventId());
+            if (evt != null) {
+                eventName = evt.getName();
+            }
 
-                try {
-                    var ticketRepo = facade.getTicketRepo();
+            String typeName = ticket.getType() != null ? ticket.getType().name() : "N/A";
+            String priceStr = ticket.getPrice() != null ? ticket.getPrice().toString() : "0";
+            String display = eventName + " (" + typeName + ": $" + priceStr + ")";
 
-                    if (ticketRepo != null) {
-                        var tickets = ticketRepo.findAssigned();
+            templateMap.put(display, ticket.getId());
+        }
+        return templateMap;
+    }
 
-                        // Preload all events and attendees BEFORE converting
-                        if (!tickets.isEmpty()) {
-                            facade.getEntityLoaderService().preloadAllEntitiesForTickets(tickets);
-                        }
+    /**
+     * Load assigned tickets (after open, refresh or assignment). Only the count is queried
+     * up front; blocks of rows are loaded as the table scrolls to them.
+     */
+    private void loadAssignedTickets() {
+        assignedCountLabel.setText("Loading...");
+        facade.getPaginationService().resetAssignedPagination();
+        var ticketRepo = facade.getTicketRepo();
+        if (ticketRepo != null) {
+            assignedRows.setSource(ticketRepo::countAssigned, this::loadAssignedBlock);
+        }
+        loadAssignedStatisticsAsync();
 
-                        var converterService = facade.getDataConverterService();
+        // Load attendees and templates in background
+        loadAttendeesAsync();
+        loadTemplatesForAssignAsync();
+    }
 
-                        for (var ticket : tickets) {
-                            // Convert to UI DTO (events & attendees now cached)
-                            var row = converterService.convertToTicketRow(ticket);
-                            if (row != null) {
-                                rows.add(row);
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("[TicketManagerController] Error loading assigned tickets: " + e.getMessage());
-                }
+    /**
+     * Load one block of assigned tickets (runs on a worker thread)
+     */
+    private List<TicketRow> loadAssignedBlock(int offset, int limit) {
+        long start = System.currentTimeMillis();
+        List<TicketRow> rows = new ArrayList<>();
+        var ticketRepo = facade.getTicketRepo();
+        var pagination = facade.getPaginationService();
+
+        // Keyset when the block before was loaded (scrolling down); offset after a jump
+        int blockIndex = offset / limit;
+        List<Ticket> tickets;
+        var cursor = pagination.getAssignedPageStart(blockIndex);
+        if (blockIndex == 0) {
+            tickets = ticketRepo.findAssignedByCursor(null, null, limit);
+        } else if (cursor != null) {
+            tickets = ticketRepo.findAssignedByCursor(cursor.createdAt(), cursor.id(), limit);
+        } else {
+            tickets = ticketRepo.findAssignedPage(offset, limit);
+        }
+        if (!tickets.isEmpty()) {
+            Ticket last = tickets.get(tickets.size() - 1);
+            pagination.rememberAssignedPageEnd(blockIndex, last.getCreatedAt(), last.getId());
+        }
 
-                System.out.println("[TicketManagerController] loadAssignedTickets took " +
-                        (System.currentTimeMillis() - start) + " ms, rows=" + rows.size());
-                return rows;
+        // Preload events and attendees of this block BEFORE converting
+        if (!tickets.isEmpty()) {
+            facade.getEntityLoaderService().preloadAllEntitiesForTickets(tickets);
+        }
+        var converterService = facade.getDataConverterService();
+        for (var ticket : tickets) {
+            var row = converterService.convertToTicketRow(ticket);
+            if (row != null) {
+                rows.add(row);
             }
-        };
-
-        task.setOnSucceeded(evt -> {
-            currentTicketRows = task.getValue();
-            displayAssignedTickets(currentTicketRows);
-            calculateStatistics();
-
-            // Load attendees and templates in background
-            loadAttendeesAsync();
-            loadTemplatesForAssignAsync();
-        });
-
-        task.setOnFailed(evt -> {
-            System.err.println("[TicketManagerController] Failed to load assigned tickets: " + task.getException().getMessage());
-            assignedCountLabel.setText("Error loading data");
-        });
+        }
 
-        new Thread(task, "assigned-tickets-loader").start();
+        System.out.println("[TicketManagerController] loadAssignedBlock(" + offset + ") took " +
+                (System.currentTimeMillis() - start) + " ms, rows=" + rows.size());
+        return rows;
     }
 
     /**
@@ -478,29 +511,41 @@ public class TicketManagerController {
     }
 
     /**
-     * Display assigned tickets in table
+     * Update count and visible range labels of the assigned tickets table
      */
-    private void displayAssignedTickets(List<TicketRow> tickets) {
-        ObservableList<TicketRow> obs = FXCollections.observableArrayList(tickets);
-        assignedTicketsTable.setItems(obs);
-        assignedCountLabel.setText("Total Assigned: " + tickets.size());
+    private void updateAssignedLabels() {
+        assignedCountLabel.setText("Total Assigned: " + assignedRows.size());
+        assignedPageInfoLabel.setText(assignedRows.getVisibleRangeLabel());
+        assignedPrevButton.setDisable(assignedRows.isEmpty());
+        assignedNextButton.setDisable(assignedRows.isEmpty());
     }
 
     /**
-     * Calculate and display statistics
+     * Calculate and display statistics over all assigned tickets (one aggregate query)
      */
-    private void calculateStatistics() {
-        try {
-            var statsService = facade.getUiStatisticsService();
-            var stats = statsService.calculateStatistics(currentTicketRows);
+    private void loadAssignedStatisticsAsync() {
+        var ticketRepo = facade.getTicketRepo();
+        if (ticketRepo == null) {
+            return;
+        }
+        Task<TicketRepository.AssignedSummary> task = new Task<>() {
+            @Override
+            protected TicketRepository.AssignedSummary call() {
+                return ticketRepo.summarizeAssigned();
+            }
+        };
 
+        task.setOnSucceeded(evt -> {
+            var stats = facade.getUiStatisticsService().fromSummary(task.getValue());
             totalAssignedLabel.setText(String.valueOf(stats.total));
             activeAssignedLabel.setText(String.valueOf(stats.active));
             totalRevenueLabel.setText("$" + stats.revenue);
+        });
 
-        } catch (Exception e) {
-            System.err.println("Error calculating statistics: " + e.getMessage());
-        }
+        task.setOnFailed(evt ->
+                System.err.println("Error calculating statistics: " + task.getException().getMessage()));
+
+        TaskExecutor.getInstance().screenScope().submit("assigned-tickets-stats", task);
     }
 
     /**
@@ -521,15 +566,16 @@ public class TicketManagerController {
                 return;
             }
 
-            UUID attendeeId = facade.getCacheManager().getAttendeeMap().get(assignAttendeeCombo.getValue());
+            UUID attendeeId = facade.getCacheManager().resolveAttendeeId(
+                    assignAttendeeCombo.getValue(), this::loadAttendeeMappings);
             if (attendeeId == null) {
                 showAlert("Error", "Invalid attendee selected");
                 return;
             }
 
-            // Get template ID from cached map
+            // Get template ID from cached map (reloaded if the mappings were dropped)
             String selectedTemplate = assignTemplateCombo.getValue();
-            UUID templateId = facade.getCacheManager().getTemplateMap().get(selectedTemplate);
+            UUID templateId = facade.getCacheManager().resolveTemplateId(selectedTemplate, this::loadTemplateMappings);
 
             if (templateId == null) {
                 showAlert("Error", "Template ticket not found");
@@ -600,18 +646,20 @@ public class TicketManagerController {
     }
 
     /**
-     * Load next page of assigned tickets
+     * Scroll assigned tickets down by one screen (rows load as they come into view)
      */
     @FXML
     public void onAssignedNextPage() {
-        // Placeholder for pagination - can be enhanced later
+        assignedRows.scrollPage(1);
+        updateAssignedLabels();
     }
 
     /**
-     * Load previous page of assigned tickets
+     * Scroll assigned tickets up by one screen
      */
     @FXML
     public void onAssignedPrevPage() {
-        // Placeholder for pagination - can be enhanced later
+        assignedRows.scrollPage(-1);
+        updateAssignedLabels();
     }
 }
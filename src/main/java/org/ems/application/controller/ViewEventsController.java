@@ -26,6 +26,7 @@ import org.ems.domain.model.Ticket;
 import org.ems.domain.repository.*;
 import org.ems.ui.stage.SceneManager;
 import org.ems.ui.util.AsyncTaskService;
+import org.ems.ui.util.PrefetchingPager;
 
 import java.util.*;
 
@@ -70,8 +71,8 @@ public class ViewEventsController {
     private PresenterRepository presenterRepo;
     private AppContext appContext;
     private Set<UUID> userRegisteredEvents = new HashSet<>();
-    private int currentPage = 0;
     private static final int ITEMS_PER_PAGE = 10;
+    private final PrefetchingPager<EventRowDTO> pager = new PrefetchingPager<>("view-events", ITEMS_PER_PAGE);
 
     @FXML
     public void initialize() {
@@ -288,44 +289,53 @@ public class ViewEventsController {
      * Load events page with current filters
      */
     private void loadEventsPage() {
-        currentPage = 0;
-        Platform.runLater(this::loadEventsPageAsync);
+        // Capture the filters now; prefetched pages must use the same ones
+        String search = searchField.getText();
+        String type = typeFilterCombo.getValue();
+        String status = statusFilterCombo.getValue();
+        pager.setLoader(pageIndex -> listingService.loadEventPage(
+                new EventFilterCriteriaDTO(search, type, status, pageIndex, ITEMS_PER_PAGE)));
+        showEventsPage(0);
     }
 
     /**
-     * Load events asynchronously
+     * Show a page of the current filters (from memory if it was prefetched)
      */
-    private void loadEventsPageAsync() {
+    private void showEventsPage(int pageIndex) {
         long start = System.currentTimeMillis();
-        System.out.println("📄 [ViewEventsController] loadEventsPageAsync() starting...");
+        System.out.println("📄 [ViewEventsController] showEventsPage(" + (pageIndex + 1) + ") starting...");
 
-        showLoadingPlaceholder();
-        updateProgress(0);
+        if (!pager.isLoaded(pageIndex)) {
+            showLoadingPlaceholder();
+            updateProgress(0);
+        }
 
-        AsyncTaskService.runAsync(
-                () -> {
-                    EventFilterCriteriaDTO criteria = new EventFilterCriteriaDTO(
-                            searchField.getText(),
-                            typeFilterCombo.getValue(),
-                            statusFilterCombo.getValue(),
-                            currentPage,
-                            ITEMS_PER_PAGE
-                    );
-                    return listingService.loadEventPage(criteria);
-                },
+        pager.showPage(pageIndex,
                 pagedResult -> {
-                    updateProgress(100);
-                    eventsTable.setItems(FXCollections.observableArrayList(pagedResult.getItems()));
-                    updatePaginationInfo(pagedResult);
-                    showTable();
-                    System.out.println("✓ loadEventsPageAsync completed in " + (System.currentTimeMillis() - start) + " ms");
+                    displayEventsPage(pagedResult);
+                    System.out.println("✓ showEventsPage completed in " + (System.currentTimeMillis() - start) + " ms");
                 },
-                error -> {
-                    System.err.println("✗ Error loading events: " + error.getMessage());
-                    showTable();
-                    showAlert("Error", "Failed to load events: " + error.getMessage());
-                }
-        );
+                this::onEventsPageError);
+    }
+
+    /**
+     * Reload the current page after a change (e.g. ticket purchased)
+     */
+    private void refreshEventsPage() {
+        pager.refresh(this::displayEventsPage, this::onEventsPageError);
+    }
+
+    private void displayEventsPage(PagedResult<EventRowDTO> pagedResult) {
+        updateProgress(100);
+        eventsTable.setItems(FXCollections.observableArrayList(pagedResult.getItems()));
+        updatePaginationInfo(pagedResult);
+        showTable();
+    }
+
+    private void onEventsPageError(Throwable error) {
+        System.err.println("✗ Error loading events: " + error.getMessage());
+        showTable();
+        showAlert("Error", "Failed to load events: " + error.getMessage());
     }
 
     /**
@@ -597,7 +607,7 @@ public class ViewEventsController {
             Ticket selectedTemplate = ticketMap.get(selectedDisplay);
 
             if (selectedTemplate != null && appContext.currentUser instanceof Attendee attendee) {
-                AsyncTaskService.runAsync(
+                AsyncTaskService.runWriteAsync(
                         () -> {
                             TicketPurchaseRequestDTO request = new TicketPurchaseRequestDTO(
                                     selectedTemplate.getEventId(),
@@ -610,7 +620,7 @@ public class ViewEventsController {
                         },
                         newTicket -> {
                             showQRCodeDialog(newTicket, event.name);
-                            loadEventsPageAsync();
+                            refreshEventsPage();
                         },
                         error -> showAlert("Error", "Failed to save ticket: " + error.getMessage())
                 );
@@ -692,15 +702,15 @@ public class ViewEventsController {
 
     @FXML
     public void onNextPage() {
-        currentPage++;
-        loadEventsPageAsync();
+        if (pager.canGoNext()) {
+            showEventsPage(pager.getCurrentPage() + 1);
+        }
     }
 
     @FXML
     public void onPreviousPage() {
-        if (currentPage > 0) {
-            currentPage--;
-            loadEventsPageAsync();
+        if (pager.canGoPrevious()) {
+            showEventsPage(pager.getCurrentPage() - 1);
         }
     }
 
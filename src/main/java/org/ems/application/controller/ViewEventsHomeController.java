@@ -11,6 +11,8 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Priority;
 import org.ems.infrastructure.config.AppContext;
+import org.ems.infrastructure.snapshot.LocalSnapshot;
+import org.ems.infrastructure.snapshot.SnapshotStore;
 import org.ems.domain.model.Event;
 import org.ems.domain.repository.EventRepository;
 import org.ems.ui.stage.SceneManager;
@@ -36,7 +38,6 @@ public class ViewEventsHomeController {
     @FXML private FlowPane eventsFlowPane;
     @FXML private Label resultCountLabel;
 
-    private EventRepository eventRepo;
     private List<Event> allEvents;
     private LoadingDialog loadingDialog;
 
@@ -46,11 +47,6 @@ public class ViewEventsHomeController {
         System.out.println("🎬 [ViewEventsHome] initialize() starting...");
 
         try {
-            long appContextStart = System.currentTimeMillis();
-            AppContext context = AppContext.get();
-            eventRepo = context.eventRepo;
-            System.out.println("  ✓ AppContext loaded in " + (System.currentTimeMillis() - appContextStart) + "ms");
-
             // Setup combo boxes
             long comboStart = System.currentTimeMillis();
             typeFilterCombo.setItems(FXCollections.observableArrayList(
@@ -68,6 +64,16 @@ public class ViewEventsHomeController {
             typeFilterCombo.setOnAction(e -> applyFilters());
             statusFilterCombo.setOnAction(e -> applyFilters());
 
+            // Show the local snapshot at once; the database load below replaces it
+            LocalSnapshot snapshot = SnapshotStore.getInstance().current();
+            if (snapshot != null) {
+                long snapshotStart = System.currentTimeMillis();
+                allEvents = snapshot.events();
+                applyFilters();
+                System.out.println("  ✓ Rendered " + allEvents.size() + " events from local snapshot in "
+                        + (System.currentTimeMillis() - snapshotStart) + "ms");
+            }
+
             // Load events on background thread
             loadAllEventsAsync();
 
@@ -96,7 +102,8 @@ public class ViewEventsHomeController {
             System.err.println("⚠️ Warning: Could not get stage for loading dialog");
         }
 
-        if (primaryStage != null) {
+        // No dialog when snapshot events are already on screen
+        if (primaryStage != null && allEvents == null) {
             loadingDialog = new LoadingDialog(primaryStage, "Loading events...");
             loadingDialog.show();
         }
@@ -104,6 +111,11 @@ public class ViewEventsHomeController {
         AsyncTaskService.runAsync(
                 // Background task
                 () -> {
+                    // Waits for startup here rather than on the FX thread
+                    long appContextStart = System.currentTimeMillis();
+                    EventRepository eventRepo = AppContext.get().eventRepo;
+                    System.out.println("  ✓ AppContext loaded in " + (System.currentTimeMillis() - appContextStart) + "ms");
+
                     long dbStart = System.currentTimeMillis();
                     List<Event> events = new ArrayList<>();
                     if (eventRepo != null) {
@@ -6,19 +6,46 @@ package org.ems.application.dto.event;
  * @author EMS Team
  */
 public class EventFilterCriteriaDTO {
+
+    /**
+     * Sortable grid columns (mapped to SQL by the repository, never concatenated from input)
+     */
+    public enum SortField {
+        START_DATE, NAME, TYPE, LOCATION, STATUS
+    }
+
     public String searchTerm;
     public String typeFilter;
     public String statusFilter;
     public int pageNumber;
     public int pageSize;
+    public SortField sortField;
+    public boolean sortAscending;
 
+    /**
+     * Default order: newest start date first
+     */
     public EventFilterCriteriaDTO(String searchTerm, String typeFilter, String statusFilter,
                                    int pageNumber, int pageSize) {
+        this(searchTerm, typeFilter, statusFilter, pageNumber, pageSize, SortField.START_DATE, false);
+    }
+
+    public EventFilterCriteriaDTO(String searchTerm, String typeFilter, String statusFilter,
+                                   int pageNumber, int pageSize, SortField sortField, boolean sortAscending) {
         this.searchTerm = searchTerm != null ? searchTerm.toLowerCase() : "";
         this.typeFilter = typeFilter != null ? typeFilter : "ALL";
         this.statusFilter = statusFilter != null ? statusFilter : "ALL";
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
+        this.sortField = sortField != null ? sortField : SortField.START_DATE;
+        this.sortAscending = sortAscending;
+    }
+
+    /**
+     * Identifies the filtered result set regardless of page and sort
+     */
+    public String filterKey() {
+        return typeFilter + "|" + statusFilter + "|" + searchTerm;
     }
 
     @Override
@@ -29,6 +56,7 @@ public class EventFilterCriteriaDTO {
                 ", statusFilter='" + statusFilter + '\'' +
                 ", pageNumber=" + pageNumber +
                 ", pageSize=" + pageSize +
+                ", sort=" + sortField + (sortAscending ? " ASC" : " DESC") +
                 '}';
     }
 }
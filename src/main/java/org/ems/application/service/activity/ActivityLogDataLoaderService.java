@@ -1,6 +1,7 @@
 package org.ems.application.service.activity;
 
 import org.ems.application.dto.activity.ActivityLogDisplayDTO;
+import org.ems.application.dto.page.PagedResult;
 
 import java.util.List;
 
@@ -18,6 +19,18 @@ public interface ActivityLogDataLoaderService {
      */
     List<ActivityLogDisplayDTO> loadAllLogs() throws ActivityLogException;
 
+    /**
+     * Load one page of logs matching the filters (filtering and paging run in the database)
+     * @param action Exact action, or null / "All Actions" for all
+     * @param searchTerm Text to search for, or null/empty for all
+     * @param pageIndex Page number (0-based)
+     * @param pageSize Rows per page
+     * @return Page of display DTOs with the total number of matching logs
+     * @throws ActivityLogException if loading fails
+     */
+    PagedResult<ActivityLogDisplayDTO> loadPage(String action, String searchTerm, int pageIndex, int pageSize)
+            throws ActivityLogException;
+
     /**
      * Custom exception for activity log loading
      */
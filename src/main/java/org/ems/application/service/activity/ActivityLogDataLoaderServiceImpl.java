@@ -1,6 +1,7 @@
 package org.ems.application.service.activity;
 
 import org.ems.application.dto.activity.ActivityLogDisplayDTO;
+import org.ems.application.dto.page.PagedResult;
 import org.ems.domain.model.ActivityLog;
 import org.ems.domain.repository.ActivityLogRepository;
 
@@ -58,6 +59,34 @@ public class ActivityLogDataLoaderServiceImpl implements ActivityLogDataLoaderSe
         }
     }
 
+    /**
+     * Load one filtered page of activity logs plus the total number of matches
+     */
+    @Override
+    public PagedResult<ActivityLogDisplayDTO> loadPage(String action, String searchTerm, int pageIndex, int pageSize)
+            throws ActivityLogDataLoaderService.ActivityLogException {
+        if (this.activityLogRepo == null) {
+            throw new ActivityLogDataLoaderService.ActivityLogException("ActivityLogRepository not available");
+        }
+        String actionFilter = action == null || "All Actions".equals(action) ? null : action;
+
+        try {
+            List<ActivityLog> logs = this.activityLogRepo.findPage(actionFilter, searchTerm, pageIndex * pageSize, pageSize);
+            long total = this.activityLogRepo.count(actionFilter, searchTerm);
+
+            List<ActivityLogDisplayDTO> displayLogs = new ArrayList<>(logs.size());
+            for (ActivityLog log : logs) {
+                displayLogs.add(convertToDTO(log));
+            }
+            return new PagedResult<>(displayLogs, pageIndex, pageSize, total);
+
+        } catch (Exception e) {
+            String message = "Failed to load activity logs page: " + e.getMessage();
+            System.err.println("✗ " + message);
+            throw new ActivityLogDataLoaderService.ActivityLogException(message, e);
+        }
+    }
+
     /**
      * Convert ActivityLog to ActivityLogDisplayDTO
      */
@@ -1,5 +1,6 @@
 package org.ems.application.service.attendee;
 
+import org.ems.domain.dto.AttendeeActivitySnapshot;
 import org.ems.domain.model.Attendee;
 import org.ems.domain.model.Event;
 import org.ems.domain.model.Session;
@@ -62,6 +63,19 @@ public class AttendeeLoaderService {
         return attendees;
     }
 
+    /**
+     * Load compact per-attendee activity counts (grouped queries, no attendee objects)
+     *
+     * @return Snapshot of registration and ticket counts
+     */
+    public AttendeeActivitySnapshot loadActivitySnapshot() {
+        long start = System.currentTimeMillis();
+        AttendeeActivitySnapshot snapshot = attendeeRepo.loadActivitySnapshot();
+        System.out.println("📥 [AttendeeLoaderService] Activity snapshot for " + snapshot.attendeeCount() +
+                " attendees loaded in " + (System.currentTimeMillis() - start) + " ms");
+        return snapshot;
+    }
+
     /**
      * Load attendees by IDs with batch optimization
      * O(1) map lookup instead of individual queries
@@ -0,0 +1,165 @@
+package org.ems.application.service.attendee;
+
+import org.ems.domain.dto.AttendeeActivitySnapshot;
+import org.ems.domain.model.Attendee;
+import org.ems.domain.model.Event;
+import org.ems.domain.model.enums.EventType;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * AttendeeStatisticsAggregator - Single-pass aggregation over an AttendeeActivitySnapshot
+ * Single Responsibility: Pure computation, no I/O (benchmarked by AttendeeStatisticsBenchmark)
+ *
+ * Every statistic is produced in one pass over the per-attendee arrays. Inputs at or above
+ * {@link #PARALLEL_THRESHOLD} attendees are split across the common fork-join pool and the
+ * partial results merged.
+ *
+ * @author EMS Team
+ */
+public final class AttendeeStatisticsAggregator {
+
+    public static final int PARALLEL_THRESHOLD = 20_000;
+
+    private AttendeeStatisticsAggregator() {
+    }
+
+    // ============================================================
+    //  Totals
+    // ============================================================
+
+    /**
+     * Mutable accumulator for one pass (one instance per worker when parallel)
+     */
+    public static final class Totals {
+        public int attendees;
+        public int activeAttendees;
+        public long eventRegistrations;
+        public long sessionRegistrations;
+        public long tickets;
+
+        void accept(AttendeeActivitySnapshot s, int i) {
+            int events = s.eventRegistrations[i];
+            attendees++;
+            if (events > 0) activeAttendees++;
+            eventRegistrations += events;
+            sessionRegistrations += s.sessionRegistrations[i];
+            tickets += s.tickets[i];
+        }
+
+        void merge(Totals other) {
+            attendees += other.attendees;
+            activeAttendees += other.activeAttendees;
+            eventRegistrations += other.eventRegistrations;
+            sessionRegistrations += other.sessionRegistrations;
+            tickets += other.tickets;
+        }
+    }
+
+    public static Totals aggregate(AttendeeActivitySnapshot snapshot) {
+        return range(snapshot.attendeeCount())
+                .collect(Totals::new, (t, i) -> t.accept(snapshot, i), Totals::merge);
+    }
+
+    /**
+     * Registrations per event type name (types with no registrations are omitted)
+     */
+    public static Map<String, Integer> eventTypeDistribution(AttendeeActivitySnapshot snapshot) {
+        Map<String, Integer> distribution = new HashMap<>();
+        EventType[] types = EventType.values();
+        for (int t = 0; t < types.length; t++) {
+            long count = snapshot.registrationsByEventType[t];
+            if (count > 0) {
+                distribution.put(types[t].name(), (int) Math.min(Integer.MAX_VALUE, count));
+            }
+        }
+        return distribution;
+    }
+
+    // ============================================================
+    //  Top-N
+    // ============================================================
+
+    /**
+     * Indices of the attendees with the most event registrations, highest first.
+     * Each worker keeps a bounded min-heap of size limit; heaps are merged at the end.
+     */
+    public static int[] topByEventRegistrations(AttendeeActivitySnapshot snapshot, int limit) {
+        if (limit <= 0 || snapshot.attendeeCount() == 0) {
+            return new int[0];
+        }
+        int[] counts = snapshot.eventRegistrations;
+        Comparator<Integer> byCount = Comparator.<Integer>comparingInt(i -> counts[i])
+                .thenComparing(Comparator.<Integer>reverseOrder());
+
+        PriorityQueue<Integer> top = range(snapshot.attendeeCount()).collect(
+                () -> new PriorityQueue<>(byCount),
+                (heap, i) -> offer(heap, i, limit),
+                (heap, other) -> other.forEach(i -> offer(heap, i, limit)));
+
+        int[] result = new int[top.size()];
+        for (int k = result.length - 1; k >= 0; k--) {
+            result[k] = top.poll();
+        }
+        return result;
+    }
+
+    private static void offer(PriorityQueue<Integer> heap, int index, int limit) {
+        heap.offer(index);
+        if (heap.size() > limit) {
+            heap.poll();
+        }
+    }
+
+    // ============================================================
+    //  Snapshot from loaded models
+    // ============================================================
+
+    /**
+     * Build a snapshot from already-loaded models using a hash index of event types,
+     * so each registration costs one map lookup instead of a scan over all events.
+     * Models do not carry tickets, so ticket counts are zero.
+     */
+    public static AttendeeActivitySnapshot fromModels(List<Attendee> attendees, List<Event> events) {
+        Map<UUID, EventType> typeById = new HashMap<>(Math.max(16, events.size() * 2));
+        for (Event e : events) {
+            if (e.getId() != null && e.getType() != null) {
+                typeById.put(e.getId(), e.getType());
+            }
+        }
+
+        int n = attendees.size();
+        UUID[] ids = new UUID[n];
+        int[] eventRegs = new int[n];
+        int[] sessionRegs = new int[n];
+        int[] tickets = new int[n];
+        int typeCount = EventType.values().length;
+
+        long[] byType = range(n).collect(
+                () -> new long[typeCount],
+                (acc, i) -> {
+                    Attendee a = attendees.get(i);
+                    ids[i] = a.getId();
+                    List<UUID> registered = a.getRegisteredEventIds();
+                    eventRegs[i] = registered != null ? registered.size() : 0;
+                    sessionRegs[i] = a.getRegisteredSessionIds() != null ? a.getRegisteredSessionIds().size() : 0;
+                    if (registered != null) {
+                        for (UUID eventId : registered) {
+                            EventType type = typeById.get(eventId);
+                            if (type != null) acc[type.ordinal()]++;
+                        }
+                    }
+                },
+                (acc, other) -> {
+                    for (int t = 0; t < typeCount; t++) acc[t] += other[t];
+                });
+
+        return new AttendeeActivitySnapshot(ids, eventRegs, sessionRegs, tickets, byType);
+    }
+
+    private static IntStream range(int n) {
+        IntStream stream = IntStream.range(0, n);
+        return n >= PARALLEL_THRESHOLD ? stream.parallel() : stream;
+    }
+}
@@ -1,15 +1,14 @@
 package org.ems.application.service.attendee;
 
 import org.ems.application.dto.attendee.AttendeeStatisticsDTO;
+import org.ems.domain.dto.AttendeeActivitySnapshot;
 import org.ems.domain.model.Attendee;
-import org.ems.domain.model.Event;
 import org.ems.domain.model.Ticket;
 import org.ems.domain.repository.EventRepository;
 import org.ems.domain.repository.TicketRepository;
 
 import java.text.SimpleDateFormat;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service for generating attendee statistics and analytics
@@ -35,6 +34,7 @@ public class AttendeeStatisticsService {
 
     /**
      * Generate comprehensive attendee statistics
+     * Loads a compact activity snapshot (grouped SQL) and aggregates it in a single pass
      *
      * @return AttendeeStatisticsDTO with aggregated data
      */
@@ -43,59 +43,40 @@ public class AttendeeStatisticsService {
 
         long startTime = System.currentTimeMillis();
 
-        // Load all attendees
-        List<Attendee> allAttendees = loaderService.loadAllAttendees();
-        int totalAttendees = allAttendees.size();
+        AttendeeActivitySnapshot snapshot = loaderService.loadActivitySnapshot();
 
-        // Count active attendees (with registrations)
-        int activeAttendees = (int) allAttendees.stream()
-                .filter(a -> a.getRegisteredEventIds() != null && !a.getRegisteredEventIds().isEmpty())
-                .count();
+        long aggregateStart = System.currentTimeMillis();
+        AttendeeStatisticsAggregator.Totals totals = AttendeeStatisticsAggregator.aggregate(snapshot);
+        Map<String, Integer> eventTypeDistribution = AttendeeStatisticsAggregator.eventTypeDistribution(snapshot);
+        System.out.println("    ✓ Aggregated " + totals.attendees + " attendees in " +
+                (System.currentTimeMillis() - aggregateStart) + " ms" +
+                (totals.attendees >= AttendeeStatisticsAggregator.PARALLEL_THRESHOLD ? " (parallel)" : ""));
+        System.out.println("    ✓ Event type distribution generated: " + eventTypeDistribution);
 
-        // Calculate total registrations
-        int totalRegistrations = allAttendees.stream()
-                .mapToInt(a -> a.getRegisteredEventIds() != null ? a.getRegisteredEventIds().size() : 0)
-                .sum();
-
-        // Load all events for distribution analysis
-        List<Event> allEvents = eventRepo.findAll();
-        if (allEvents == null) {
-            allEvents = new ArrayList<>();
-        }
-
-        // Generate event type distribution
-        Map<String, Integer> eventTypeDistribution = generateEventTypeDistribution(allAttendees, allEvents);
-
-        // Calculate ticket statistics
-        int totalTickets = countTotalTickets(allAttendees);
+        int totalAttendees = totals.attendees;
 
         // Calculate averages
         double avgEventsPerAttendee = totalAttendees > 0 ?
-                (double) totalRegistrations / totalAttendees : 0;
-
-        int totalSessionRegistrations = allAttendees.stream()
-                .mapToInt(a -> a.getRegisteredSessionIds() != null ? a.getRegisteredSessionIds().size() : 0)
-                .sum();
-
+                (double) totals.eventRegistrations / totalAttendees : 0;
         double avgSessionsPerAttendee = totalAttendees > 0 ?
-                (double) totalSessionRegistrations / totalAttendees : 0;
+                (double) totals.sessionRegistrations / totalAttendees : 0;
 
         // Generate registration trend
-        Map<String, Integer> registrationTrend = generateRegistrationTrend(allAttendees);
+        Map<String, Integer> registrationTrend = generateRegistrationTrend(totalAttendees);
 
         long duration = System.currentTimeMillis() - startTime;
         String reportDate = formatDate(new Date());
 
         System.out.println("  ✓ Statistics generated in " + duration + "ms");
         System.out.println("    - Total Attendees: " + totalAttendees);
-        System.out.println("    - Active Attendees: " + activeAttendees);
-        System.out.println("    - Total Registrations: " + totalRegistrations);
+        System.out.println("    - Active Attendees: " + totals.activeAttendees);
+        System.out.println("    - Total Registrations: " + totals.eventRegistrations);
 
         return new AttendeeStatisticsDTO(
                 totalAttendees,
-                activeAttendees,
-                totalRegistrations,
-                totalTickets,
+                totals.activeAttendees,
+                (int) Math.min(Integer.MAX_VALUE, totals.eventRegistrations),
+                (int) Math.min(Integer.MAX_VALUE, totals.tickets),
                 avgEventsPerAttendee,
                 avgSessionsPerAttendee,
                 eventTypeDistribution,
@@ -104,47 +85,12 @@ public class AttendeeStatisticsService {
         );
     }
 
-    /**
-     * Get attendee registration statistics by event type
-     *
-     * @return Map of event type to count
-     */
-    private Map<String, Integer> generateEventTypeDistribution(List<Attendee> attendees,
-                                                               List<Event> events) {
-        Map<String, Integer> distribution = new HashMap<>();
-
-        if (events == null || events.isEmpty()) {
-            return distribution;
-        }
-
-        for (Attendee attendee : attendees) {
-            if (attendee.getRegisteredEventIds() == null) {
-                continue;
-            }
-
-            for (UUID eventId : attendee.getRegisteredEventIds()) {
-                Event event = events.stream()
-                        .filter(e -> e.getId().equals(eventId))
-                        .findFirst()
-                        .orElse(null);
-
-                if (event != null && event.getType() != null) {
-                    String eventType = event.getType().name();
-                    distribution.put(eventType, distribution.getOrDefault(eventType, 0) + 1);
-                }
-            }
-        }
-
-        System.out.println("    ✓ Event type distribution generated: " + distribution);
-        return distribution;
-    }
-
     /**
      * Generate registration trend over months
      *
      * @return Map of month to registration count
      */
-    private Map<String, Integer> generateRegistrationTrend(List<Attendee> attendees) {
+    private Map<String, Integer> generateRegistrationTrend(int attendeeCount) {
         Map<String, Integer> trend = new LinkedHashMap<>();
 
         // Initialize last 12 months
@@ -156,38 +102,16 @@ public class AttendeeStatisticsService {
         }
 
         // TODO: Implement actual registration date tracking
-        // For now, distribute registrations evenly across recent months
-        if (!attendees.isEmpty()) {
-            int perMonth = Math.max(1, attendees.size() / 12);
-            trend.values().forEach(v -> trend.put(
-                    trend.keySet().iterator().next(),
-                    perMonth
-            ));
+        // For now, report the per-month average on the first month
+        if (attendeeCount > 0) {
+            int perMonth = Math.max(1, attendeeCount / 12);
+            trend.put(trend.keySet().iterator().next(), perMonth);
         }
 
         System.out.println("    ✓ Registration trend calculated");
         return trend;
     }
 
-    /**
-     * Count total tickets for all attendees
-     *
-     * @param attendees List of attendees
-     * @return Total ticket count
-     */
-    private int countTotalTickets(List<Attendee> attendees) {
-        int totalTickets = 0;
-
-        for (Attendee attendee : attendees) {
-            List<Ticket> tickets = ticketRepo.findByAttendee(attendee.getId());
-            if (tickets != null) {
-                totalTickets += tickets.size();
-            }
-        }
-
-        return totalTickets;
-    }
-
     /**
      * Get statistics for single attendee
      *
@@ -229,22 +153,22 @@ public class AttendeeStatisticsService {
     public List<Map<String, Object>> getTopAttendees(int limit) {
         System.out.println("🏆 [AttendeeStatisticsService] Getting top " + limit + " attendees...");
 
-        List<Attendee> allAttendees = loaderService.loadAllAttendees();
+        AttendeeActivitySnapshot snapshot = loaderService.loadActivitySnapshot();
+        int[] top = AttendeeStatisticsAggregator.topByEventRegistrations(snapshot, limit);
 
-        return allAttendees.stream()
-                .map(a -> {
-                    Map<String, Object> data = new HashMap<>();
-                    data.put("attendee", a);
-                    data.put("registrationCount", a.getRegisteredEventIds() != null ?
-                            a.getRegisteredEventIds().size() : 0);
-                    return data;
-                })
-                .sorted((a, b) -> Integer.compare(
-                        (int) b.get("registrationCount"),
-                        (int) a.get("registrationCount")
-                ))
-                .limit(limit)
-                .collect(Collectors.toList());
+        // Only the winners are loaded as full attendees
+        List<Map<String, Object>> result = new ArrayList<>(top.length);
+        for (int index : top) {
+            Attendee attendee = loaderService.loadAttendeeById(snapshot.attendeeIds[index]);
+            if (attendee == null) {
+                continue;
+            }
+            Map<String, Object> data = new HashMap<>();
+            data.put("attendee", attendee);
+            data.put("registrationCount", snapshot.eventRegistrations[index]);
+            result.add(data);
+        }
+        return result;
     }
 
     /**
@@ -0,0 +1,170 @@
+package org.ems.application.service.attendee;
+
+import org.ems.domain.dto.ScheduleEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ICalendarWriter - Renders one attendee's schedule as an iCalendar (.ics) file
+ * Single Responsibility: Format schedule entries per RFC 5545
+ *
+ * Each event becomes an all-day VEVENT (DTEND is exclusive, so the day after end_date) and
+ * each registered session a timed VEVENT. Session times are written as floating local times,
+ * the same wall-clock times the application shows. UIDs are derived from the database ids,
+ * so re-importing an updated file replaces entries instead of duplicating them.
+ * Stateless: one instance can render on several threads.
+ *
+ * @author EMS Team
+ */
+public final class ICalendarWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String UID_DOMAIN = "@ems";
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter LOCAL_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    /**
+     * Render the entries of one attendee (rows of findSchedule or one attendee's rows of
+     * loadEventSchedules; an event repeated once per session is written once)
+     *
+     * @return The calendar as UTF-8 bytes
+     */
+    public byte[] write(List<ScheduleEntry> entries, Instant stamp) {
+        StringBuilder out = new StringBuilder(512 + entries.size() * 384);
+        String dtstamp = UTC_TIME.format(stamp);
+
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//EMS//Event Manager//EN");
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "METHOD:PUBLISH");
+        if (!entries.isEmpty()) {
+            line(out, "X-WR-CALNAME:" + escape("EMS schedule - " + entries.get(0).attendeeName));
+        }
+
+        Set<UUID> written = new HashSet<>();
+        for (ScheduleEntry entry : entries) {
+            if (written.add(entry.eventId)) {
+                writeEvent(out, entry, dtstamp);
+            }
+            if (entry.hasSession() && written.add(entry.sessionId)) {
+                writeSession(out, entry, dtstamp);
+            }
+        }
+
+        line(out, "END:VCALENDAR");
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * File name for an attendee's calendar, safe on every platform
+     */
+    public static String fileName(ScheduleEntry entry) {
+        String name = entry.attendeeUsername != null ? entry.attendeeUsername : entry.attendeeId.toString();
+        return name.replaceAll("[^A-Za-z0-9._-]", "_") + "_schedule.ics";
+    }
+
+    // ============================================================
+    //  Components
+    // ============================================================
+
+    private void writeEvent(StringBuilder out, ScheduleEntry entry, String dtstamp) {
+        LocalDate start = entry.eventStart;
+        LocalDate end = entry.eventEnd != null && !entry.eventEnd.isBefore(start) ? entry.eventEnd : start;
+
+        line(out, "BEGIN:VEVENT");
+        line(out, "UID:" + entry.eventId + UID_DOMAIN);
+        line(out, "DTSTAMP:" + dtstamp);
+        line(out, "DTSTART;VALUE=DATE:" + DATE.format(start));
+        line(out, "DTEND;VALUE=DATE:" + DATE.format(end.plusDays(1)));
+        line(out, "SUMMARY:" + escape(entry.eventName));
+        optional(out, "LOCATION:", entry.eventLocation);
+        line(out, "TRANSP:TRANSPARENT");
+        line(out, "END:VEVENT");
+    }
+
+    private void writeSession(StringBuilder out, ScheduleEntry entry, String dtstamp) {
+        LocalDateTime start = entry.sessionStart;
+        LocalDateTime end = entry.sessionEnd != null && entry.sessionEnd.isAfter(start) ? entry.sessionEnd : start;
+
+        line(out, "BEGIN:VEVENT");
+        line(out, "UID:" + entry.sessionId + UID_DOMAIN);
+        line(out, "DTSTAMP:" + dtstamp);
+        line(out, "DTSTART:" + LOCAL_TIME.format(start));
+        line(out, "DTEND:" + LOCAL_TIME.format(end));
+        line(out, "SUMMARY:" + escape(entry.sessionTitle));
+        optional(out, "DESCRIPTION:", entry.sessionDescription);
+        optional(out, "LOCATION:", entry.sessionVenue != null ? entry.sessionVenue : entry.eventLocation);
+        line(out, "CATEGORIES:" + escape(entry.eventName));
+        line(out, "END:VEVENT");
+    }
+
+    private void optional(StringBuilder out, String name, String value) {
+        if (value != null && !value.isBlank()) {
+            line(out, name + escape(value));
+        }
+    }
+
+    // ============================================================
+    //  Content lines
+    // ============================================================
+
+    /**
+     * TEXT value escaping (RFC 5545, 3.3.11)
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> {
+                    // CRLF counts as one line break
+                    if (i + 1 >= value.length() || value.charAt(i + 1) != '\n') {
+                        sb.append("\\n");
+                    }
+                }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Append a content line, folded at 75 octets without splitting a UTF-8 sequence (3.1)
+     */
+    private static void line(StringBuilder out, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int cp = content.codePointAt(i);
+            int size = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.appendCodePoint(cp);
+            octets += size;
+            i += Character.charCount(cp);
+        }
+        out.append(CRLF);
+    }
+}
@@ -0,0 +1,280 @@
+package org.ems.application.service.attendee;
+
+import org.ems.application.service.attendee.AttendeeScheduleExportService.ScheduleExportException;
+import org.ems.domain.dto.ScheduleEntry;
+import org.ems.domain.model.Attendee;
+import org.ems.domain.repository.AttendeeRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * ScheduleCalendarExportService - Exports attendee schedules as iCalendar files
+ * Single Responsibility: Produce .ics files for one attendee or every attendee of an event
+ *
+ * Both modes read the schedule with one joined query (AttendeeRepository.findSchedule /
+ * loadEventSchedules) instead of loading tickets, events and sessions separately.
+ * The bulk mode streams the event's rows in attendee order: each attendee's rows are handed
+ * to the render pool (shared by all exports, threads exit when idle) for rendering as soon
+ * as the next attendee starts, and the rendered files
+ * are written to the zip in the same order by the streaming thread. At most WINDOW_PER_WORKER
+ * calendars per worker are in flight, so memory does not grow with the number of attendees.
+ * File names are sanitized usernames, so two attendees can map to the same name (josé and
+ * jos_); later ones get a counter (jos__schedule-2.ics) to keep zip entries unique.
+ *
+ * @author EMS Team
+ */
+public class ScheduleCalendarExportService {
+
+    private static final int WINDOW_PER_WORKER = 4;
+    private static final int MAX_WORKERS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /** Render threads shared by every export */
+    private static final ExecutorService RENDER_POOL = createRenderPool();
+
+    private final AttendeeRepository attendeeRepo;
+    private final ICalendarWriter writer = new ICalendarWriter();
+    private final int workers;
+
+    public ScheduleCalendarExportService(AttendeeRepository attendeeRepo) {
+        this(attendeeRepo, MAX_WORKERS);
+    }
+
+    /**
+     * @param workers calendars rendered in parallel by one export (at most the render pool size)
+     */
+    public ScheduleCalendarExportService(AttendeeRepository attendeeRepo, int workers) {
+        this.attendeeRepo = attendeeRepo;
+        this.workers = Math.max(1, Math.min(MAX_WORKERS, workers));
+    }
+
+    private static ExecutorService createRenderPool() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(MAX_WORKERS, MAX_WORKERS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "ems-ics-render-" + threadNumber.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Result of a bulk export
+     */
+    public static final class BulkExportResult {
+        public final Path file;
+        public final int attendees;
+        public final long rows;
+        public final long bytes;
+        public final long millis;
+
+        BulkExportResult(Path file, int attendees, long rows, long bytes, long millis) {
+            this.file = file;
+            this.attendees = attendees;
+            this.rows = rows;
+            this.bytes = bytes;
+            this.millis = millis;
+        }
+
+        @Override
+        public String toString() {
+            return attendees + " calendars (" + rows + " rows, " + bytes / 1024 + " KB) in " + millis + "ms";
+        }
+    }
+
+    // ============================================================
+    //  Single attendee
+    // ============================================================
+
+    /**
+     * Export one attendee's schedule to an .ics file in the output directory
+     *
+     * @return The exported file path
+     * @throws ScheduleExportException if export fails
+     */
+    public String exportScheduleToICalendar(Attendee attendee, String outputPath) throws ScheduleExportException {
+        long start = System.currentTimeMillis();
+        System.out.println("📅 [ScheduleCalendarExportService] Exporting iCalendar for " + attendee.getFullName());
+
+        try {
+            List<ScheduleEntry> entries = attendeeRepo.findSchedule(attendee.getId());
+            System.out.println("  ✓ Loaded " + entries.size() + " schedule rows in " + (System.currentTimeMillis() - start) + "ms");
+
+            File outputDir = new File(outputPath);
+            if (!outputDir.exists() && !outputDir.mkdirs() && !outputDir.exists()) {
+                throw new IOException("Failed to create output directory: " + outputPath);
+            }
+            String fileName = entries.isEmpty()
+                    ? attendee.getUsername().replaceAll("[^A-Za-z0-9._-]", "_") + "_schedule.ics"
+                    : ICalendarWriter.fileName(entries.get(0));
+            Path file = outputDir.toPath().resolve(fileName);
+            Files.write(file, writer.write(entries, Instant.now()));
+
+            System.out.println("✓ iCalendar exported to " + file + " in " + (System.currentTimeMillis() - start) + "ms");
+            return file.toString();
+
+        } catch (IOException | RuntimeException e) {
+            String errorMsg = "Failed to export schedule to iCalendar: " + e.getMessage();
+            System.err.println("✗ " + errorMsg);
+            throw new ScheduleExportException(errorMsg, e);
+        }
+    }
+
+    // ============================================================
+    //  Every attendee of an event
+    // ============================================================
+
+    /**
+     * Write one .ics per attendee of the event into a zip file
+     *
+     * @throws ScheduleExportException if export fails (the partial zip is deleted)
+     */
+    public BulkExportResult exportEventCalendars(UUID eventId, Path zipFile) throws ScheduleExportException {
+        long start = System.currentTimeMillis();
+        System.out.println("📅 [ScheduleCalendarExportService] Exporting calendars of event " + eventId
+                + " with " + workers + " workers");
+
+        ZipSink sink = null;
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(zipFile));
+             ZipOutputStream zip = new ZipOutputStream(file)) {
+            sink = new ZipSink(zip, RENDER_POOL, workers * WINDOW_PER_WORKER, Instant.now());
+            long rows = attendeeRepo.loadEventSchedules(eventId, sink::accept);
+            sink.finish();
+
+            BulkExportResult result = new BulkExportResult(zipFile, sink.written, rows, sink.bytes,
+                    System.currentTimeMillis() - start);
+            System.out.println("✓ Exported " + result + " to " + zipFile);
+            return result;
+
+        } catch (IOException | RuntimeException | InterruptedException | ExecutionException e) {
+            if (sink != null) {
+                sink.cancel();
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e instanceof ExecutionException || e instanceof UncheckedIOException ? e.getCause() : e;
+            String errorMsg = "Failed to export event calendars: " + cause.getMessage();
+            System.err.println("✗ " + errorMsg);
+            try {
+                Files.deleteIfExists(zipFile);
+            } catch (IOException ignored) {
+                // Leave the partial file; the error is reported either way
+            }
+            throw new ScheduleExportException(errorMsg, cause);
+        }
+    }
+
+    /**
+     * Groups streamed rows per attendee, renders groups on the pool and writes them in order
+     */
+    private final class ZipSink {
+        private final ZipOutputStream zip;
+        private final ExecutorService pool;
+        private final int window;
+        private final Instant stamp;
+        private final Deque<Future<Rendered>> inFlight = new ArrayDeque<>();
+        private final Set<String> names = new HashSet<>();
+
+        private List<ScheduleEntry> current = new ArrayList<>();
+        private int written;
+        private long bytes;
+
+        ZipSink(ZipOutputStream zip, ExecutorService pool, int window, Instant stamp) {
+            this.zip = zip;
+            this.pool = pool;
+            this.window = window;
+            this.stamp = stamp;
+        }
+
+        void accept(ScheduleEntry entry) {
+            if (!current.isEmpty() && !current.get(0).attendeeId.equals(entry.attendeeId)) {
+                submit();
+            }
+            current.add(entry);
+        }
+
+        void finish() throws IOException, InterruptedException, ExecutionException {
+            if (!current.isEmpty()) {
+                submit();
+            }
+            while (!inFlight.isEmpty()) {
+                writeNext();
+            }
+        }
+
+        /**
+         * Drop calendars still rendering after a failure (the pool is shared)
+         */
+        void cancel() {
+            inFlight.forEach(f -> f.cancel(true));
+            inFlight.clear();
+        }
+
+        private void submit() {
+            List<ScheduleEntry> group = current;
+            current = new ArrayList<>();
+            inFlight.add(pool.submit(() -> new Rendered(ICalendarWriter.fileName(group.get(0)), writer.write(group, stamp))));
+            if (inFlight.size() >= window) {
+                try {
+                    writeNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Export interrupted", e);
+                } catch (ExecutionException e) {
+                    throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+                }
+            }
+        }
+
+        private void writeNext() throws IOException, InterruptedException, ExecutionException {
+            Rendered rendered = inFlight.removeFirst().get();
+            zip.putNextEntry(new ZipEntry(uniqueName(rendered.name)));
+            zip.write(rendered.content);
+            zip.closeEntry();
+            written++;
+            bytes += rendered.content.length;
+        }
+
+        /**
+         * The name itself, or name-2.ics, name-3.ics... when an earlier entry already took it
+         */
+        private String uniqueName(String name) {
+            String unique = name;
+            int dot = name.lastIndexOf('.');
+            for (int n = 2; !names.add(unique); n++) {
+                unique = name.substring(0, dot) + "-" + n + name.substring(dot);
+            }
+            return unique;
+        }
+    }
+
+    private record Rendered(String name, byte[] content) {
+    }
+}
@@ -5,7 +5,7 @@ import org.ems.domain.model.Presenter;
 import org.ems.domain.model.Session;
 import org.ems.domain.repository.SessionRepository;
 import org.ems.application.service.image.ImageService;
-import org.ems.application.service.image.ImageServiceImpl;
+import org.ems.infrastructure.config.AppContext;
 
 /**
  * Service for loading presenter-specific dashboard content
@@ -63,7 +63,7 @@ public class DashboardPresenterService {
     public String uploadSessionMaterial(String sessionId, String filePath) throws DashboardPresenterException {
         try {
             // Upload material lên R2 Cloudflare
-            ImageService imageService = new ImageServiceImpl();
+            ImageService imageService = AppContext.get().imageService;
             java.util.UUID sessionUUID = java.util.UUID.fromString(sessionId);
             String materialPath = imageService.uploadSessionMaterial(filePath, sessionUUID);
             if (materialPath == null) {
@@ -1,11 +1,9 @@
 package org.ems.application.service.event;
 
+import org.ems.application.dto.page.PagedResult;
 import org.ems.domain.model.Event;
 import org.ems.domain.repository.EventRepository;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import org.ems.infrastructure.config.AppContext;
 
 /**
  * EventFilterService - Handles event filtering and searching
@@ -16,54 +14,37 @@ import java.util.stream.Collectors;
 public class EventFilterService {
 
     private final EventRepository eventRepo;
-    private List<Event> cachedAllEvents = null;
-
-    public EventFilterService(EventRepository eventRepo) {
-        this.eventRepo = eventRepo;
-    }
+    private final EventSearchIndex searchIndex;
 
     /**
-     * Load all events (cached)
+     * Convenience constructor using the shared search index from AppContext
      */
-    private List<Event> loadAllEvents() {
-        if (cachedAllEvents == null) {
-            long start = System.currentTimeMillis();
-            cachedAllEvents = eventRepo.findAll();
-            System.out.println("[EventFilterService] Loaded " + cachedAllEvents.size() +
-                    " events in " + (System.currentTimeMillis() - start) + " ms");
-        }
-        return cachedAllEvents;
+    public EventFilterService(EventRepository eventRepo) {
+        this(eventRepo, AppContext.get().eventSearchIndex);
     }
 
-    /**
-     * Filter events by type and search term
-     */
-    public List<Event> filterEvents(String searchTerm, String typeFilter) {
-        List<Event> all = loadAllEvents();
-        String search = searchTerm != null ? searchTerm.toLowerCase() : "";
-        String type = typeFilter != null ? typeFilter : "ALL";
-
-        return all.stream()
-                .filter(e -> "ALL".equals(type) ||
-                           (e.getType() != null && e.getType().name().equals(type)))
-                .filter(e -> search.isEmpty() ||
-                           (e.getName() != null && e.getName().toLowerCase().contains(search)) ||
-                           (e.getLocation() != null && e.getLocation().toLowerCase().contains(search)))
-                .collect(Collectors.toList());
+    public EventFilterService(EventRepository eventRepo, EventSearchIndex searchIndex) {
+        this.eventRepo = eventRepo;
+        this.searchIndex = searchIndex;
     }
 
     /**
-     * Get all events (reload cache if needed)
+     * One page of the events matching the search term and type (answered by the search
+     * index; only the requested page is materialized)
+     *
+     * @param page zero-based page index
      */
-    public List<Event> getAllEvents() {
-        return new ArrayList<>(loadAllEvents());
+    public PagedResult<Event> searchPage(String searchTerm, String typeFilter, int page, int pageSize) {
+        EventSearchIndex.SearchHits hits = searchIndex.search(searchTerm, typeFilter, "ALL");
+        return new PagedResult<>(hits.page(page * pageSize, pageSize), page, pageSize, hits.count());
     }
 
     /**
-     * Invalidate cache when events change
+     * Force a full index rebuild. Saves and deletes made through the repositories are
+     * applied incrementally, so this is only needed after out-of-band changes.
      */
     public void invalidateCache() {
-        cachedAllEvents = null;
+        searchIndex.invalidate();
         System.out.println("[EventFilterService] Cache invalidated");
     }
 }
@@ -3,24 +3,28 @@ package org.ems.application.service.event;
 import org.ems.application.dto.event.EventFilterCriteriaDTO;
 import org.ems.application.dto.event.EventRowDTO;
 import org.ems.application.dto.page.PagedResult;
-import org.ems.domain.model.Event;
 import org.ems.domain.repository.EventRepository;
 import org.ems.domain.repository.SessionRepository;
+import org.ems.infrastructure.cache.CacheRegion;
+import org.ems.infrastructure.cache.CacheRegions;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * EventListingService - Handles event listing, filtering, and pagination
  * Single Responsibility: Event filtering + pagination logic
  *
+ * Filtering, sorting and paging run in SQL ({@link EventRepository#findRowPage}); only the
+ * visible page is loaded. The filtered total is counted once per filter combination and
+ * reused for page turns until an event is written.
+ *
  * @author EMS Team
  */
 public class EventListingService {
 
     private final EventRepository eventRepo;
     private final SessionRepository sessionRepo;
-    private List<Event> cachedAllEvents = null;
+    private final CacheRegion<String, Long> totalsCache = CacheRegions.eventListCounts();
     private final Set<UUID> userRegisteredEvents;
     private static final int DEFAULT_PAGE_SIZE = 10;
 
@@ -39,113 +43,72 @@ public class EventListingService {
         System.out.println("[EventListingService] loadEventPage(" + criteria + ") starting...");
 
         try {
-            // Load all events once and cache (OPTIMIZED)
-            if (cachedAllEvents == null) {
-                long allStart = System.currentTimeMillis();
-                System.out.println("  Loading all events (first time)...");
-                cachedAllEvents = eventRepo.findAll();
-                System.out.println("  ✓ Loaded " + cachedAllEvents.size() + " events in " +
-                        (System.currentTimeMillis() - allStart) + " ms");
-            }
-
-            // Filter in-memory (fast)
-            long filterStart = System.currentTimeMillis();
-            List<Event> filtered = filterEvents(cachedAllEvents, criteria);
-            System.out.println("  ✓ Filtered to " + filtered.size() + " events in " +
-                    (System.currentTimeMillis() - filterStart) + " ms");
-
-            // Paginate
-            int totalItems = filtered.size();
             int pageSize = criteria.pageSize > 0 ? criteria.pageSize : DEFAULT_PAGE_SIZE;
-            int totalPages = totalItems == 0 ? 0 : (int) Math.ceil((double) totalItems / pageSize);
-            int safePage = Math.max(0, Math.min(criteria.pageNumber, totalPages - 1));
+            criteria.pageSize = pageSize;
+            String filterKey = criteria.filterKey();
+
+            // Clamp to the last page when the total is already known
+            Long knownTotal = totalsCache.get(filterKey);
+            if (knownTotal != null) {
+                int lastPage = Math.max(0, (int) Math.ceil((double) knownTotal / pageSize) - 1);
+                criteria.pageNumber = Math.max(0, Math.min(criteria.pageNumber, lastPage));
+            }
 
-            int offset = safePage * pageSize;
-            int end = Math.min(offset + pageSize, filtered.size());
-            List<Event> pageEvents = filtered.subList(offset, end);
+            long queryStart = System.currentTimeMillis();
+            EventRepository.EventRowPage page = eventRepo.findRowPage(criteria, knownTotal == null);
 
-            System.out.println("  ✓ Paginated: page " + (safePage + 1) + "/" + totalPages +
-                    ", offset " + offset + ", showing " + pageEvents.size() + " items");
+            // Past the end (e.g. rows deleted since the total was cached): restart from the first page
+            if (page.getRows().isEmpty() && criteria.pageNumber > 0) {
+                totalsCache.invalidate(filterKey);
+                criteria.pageNumber = 0;
+                page = eventRepo.findRowPage(criteria, true);
+                knownTotal = null;
+            }
+            System.out.println("  ✓ Page query returned " + page.getRows().size() + " rows in " +
+                    (System.currentTimeMillis() - queryStart) + " ms" +
+                    (knownTotal != null ? " (cached total)" : ""));
 
-            // Load session counts for page events
-            long sessionStart = System.currentTimeMillis();
-            Map<UUID, Integer> sessionCounts = loadSessionCounts(pageEvents);
-            System.out.println("  ✓ Session counts loaded in " +
-                    (System.currentTimeMillis() - sessionStart) + " ms");
+            long totalItems = resolveTotal(criteria, page, knownTotal);
+            totalsCache.put(filterKey, totalItems);
 
-            // Convert to DTOs
-            List<EventRowDTO> rows = pageEvents.stream()
-                    .map(e -> convertToDTO(e, sessionCounts.getOrDefault(e.getId(), 0)))
-                    .collect(Collectors.toList());
+            List<EventRowDTO> rows = page.getRows();
+            for (EventRowDTO row : rows) {
+                row.isRegistered = userRegisteredEvents.contains(row.eventId);
+            }
 
+            int totalPages = totalItems == 0 ? 0 : (int) Math.ceil((double) totalItems / pageSize);
+            System.out.println("  ✓ Paginated: page " + (criteria.pageNumber + 1) + "/" + totalPages +
+                    ", showing " + rows.size() + " of " + totalItems + " items");
             System.out.println("✓ loadEventPage completed in " + (System.currentTimeMillis() - start) + " ms");
 
-            return new PagedResult<>(rows, safePage + 1, totalPages, (long) totalItems);
+            return new PagedResult<>(rows, criteria.pageNumber + 1, pageSize, totalItems);
 
         } catch (Exception e) {
             System.err.println("✗ Error loading events: " + e.getMessage());
             e.printStackTrace();
-            return new PagedResult<>(Collections.emptyList(), 1, 0, 0L);
+            return new PagedResult<>(Collections.emptyList(), 1, DEFAULT_PAGE_SIZE, 0L);
         }
     }
 
     /**
-     * Filter events by criteria
+     * Total from the query if computed; a short page pins it exactly; otherwise the cached value
      */
-    private List<Event> filterEvents(List<Event> events, EventFilterCriteriaDTO criteria) {
-        return events.stream()
-                .filter(e -> "ALL".equals(criteria.typeFilter) ||
-                           e.getType() != null && e.getType().name().equals(criteria.typeFilter))
-                .filter(e -> "ALL".equals(criteria.statusFilter) ||
-                           e.getStatus() != null && e.getStatus().name().equals(criteria.statusFilter))
-                .filter(e -> criteria.searchTerm.isEmpty() ||
-                           e.getName() != null && e.getName().toLowerCase().contains(criteria.searchTerm) ||
-                           e.getLocation() != null && e.getLocation().toLowerCase().contains(criteria.searchTerm))
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Load session counts for events (batch query)
-     */
-    private Map<UUID, Integer> loadSessionCounts(List<Event> events) {
-        if (events.isEmpty() || sessionRepo == null) {
-            return new HashMap<>();
+    private long resolveTotal(EventFilterCriteriaDTO criteria, EventRepository.EventRowPage page, Long knownTotal) {
+        if (page.hasTotalCount()) {
+            return page.getTotalCount();
         }
-
-        try {
-            List<UUID> eventIds = events.stream()
-                    .map(Event::getId)
-                    .collect(Collectors.toList());
-            return sessionRepo.countByEventIds(eventIds);
-        } catch (Exception e) {
-            System.err.println("Warning: Could not load session counts: " + e.getMessage());
-            return new HashMap<>();
+        long offset = (long) criteria.pageNumber * criteria.pageSize;
+        if (page.getRows().size() < criteria.pageSize) {
+            return offset + page.getRows().size();
         }
+        return knownTotal != null ? Math.max(knownTotal, offset + page.getRows().size()) : offset + page.getRows().size();
     }
 
     /**
-     * Convert Event model to EventRowDTO
-     */
-    private EventRowDTO convertToDTO(Event event, int sessionCount) {
-        return new EventRowDTO(
-                event.getId(),
-                event.getName(),
-                event.getType() != null ? event.getType().name() : "N/A",
-                event.getLocation(),
-                event.getStartDate() != null ? event.getStartDate().toString() : "N/A",
-                event.getEndDate() != null ? event.getEndDate().toString() : "N/A",
-                event.getStatus() != null ? event.getStatus().name() : "N/A",
-                sessionCount,
-                userRegisteredEvents.contains(event.getId()),
-                event.getImagePath()
-        );
-    }
-
-    /**
-     * Invalidate cache (call when events change)
+     * Invalidate cached totals (call when events change outside the repositories)
      */
     public void invalidateCache() {
-        cachedAllEvents = null;
+        totalsCache.invalidateAll();
         System.out.println("[EventListingService] Cache invalidated");
     }
 
@@ -153,10 +116,9 @@ public class EventListingService {
      * Get total event count
      */
     public long getTotalEventCount() {
-        if (cachedAllEvents == null && eventRepo != null) {
-            cachedAllEvents = eventRepo.findAll();
+        if (eventRepo == null) {
+            return 0L;
         }
-        return cachedAllEvents != null ? cachedAllEvents.size() : 0L;
+        return eventRepo.count();
     }
 }
-
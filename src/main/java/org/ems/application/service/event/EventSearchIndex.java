@@ -0,0 +1,407 @@
+package org.ems.application.service.event;
+
+import org.ems.domain.model.Event;
+import org.ems.domain.model.enums.EventStatus;
+import org.ems.domain.model.enums.EventType;
+import org.ems.domain.repository.EventRepository;
+import org.ems.infrastructure.cache.CacheRegions;
+import org.ems.infrastructure.cache.CacheRegistry;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * EventSearchIndex - In-memory inverted index over events for the listing screens
+ * Single Responsibility: Answer type/status/search-term filters without scanning every event
+ *
+ * Every event gets a dense slot number. The index keeps:
+ *  - trigram postings (sorted slot lists) over lowercased name and location
+ *  - one bitset per EventType and per EventStatus
+ *  - a bitset of live slots
+ *
+ * Updates are append-only: a saved event gets a new slot and its old slot is cleared
+ * from the live bitset, so postings stay sorted. The index compacts itself once too many
+ * dead slots accumulate. Writes arrive through {@link CacheRegistry} change notifications
+ * (local and from other clients) and are applied lazily on the next search.
+ *
+ * @author EMS Team
+ */
+public class EventSearchIndex implements CacheRegistry.ChangeListener {
+
+    private static final int GRAM = 3;
+    private static final int MIN_COMPACT_SLOTS = 1024;
+
+    private final EventRepository eventRepo;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Slot storage (guarded by lock)
+    private Event[] docs = new Event[0];
+    private String[] names = new String[0];
+    private String[] locations = new String[0];
+    private int slotCount = 0;
+    private final BitSet live = new BitSet();
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<EventType, BitSet> byType = new EnumMap<>(EventType.class);
+    private final Map<EventStatus, BitSet> byStatus = new EnumMap<>(EventStatus.class);
+
+    // Pending changes (written by notification threads)
+    private final Set<UUID> staleIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuildRequired = true;
+
+    public EventSearchIndex(EventRepository eventRepo) {
+        this.eventRepo = eventRepo;
+    }
+
+    // ============================================================
+    //  Queries
+    // ============================================================
+
+    /**
+     * Find events matching all filters
+     *
+     * @param searchTerm   substring of name or location (case-insensitive), empty for any
+     * @param typeFilter   EventType name or "ALL"
+     * @param statusFilter EventStatus name or "ALL"
+     */
+    public SearchHits search(String searchTerm, String typeFilter, String statusFilter) {
+        refresh();
+
+        String term = searchTerm != null ? searchTerm.trim().toLowerCase() : "";
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) live.clone();
+            if (!intersectEnum(candidates, byType, typeFilter, EventType.class)
+                    || !intersectEnum(candidates, byStatus, statusFilter, EventStatus.class)) {
+                return new SearchHits(docs, new BitSet());
+            }
+
+            if (!term.isEmpty()) {
+                candidates = term.length() < GRAM
+                        ? verify(candidates, term)
+                        : matchGrams(candidates, term);
+            }
+            return new SearchHits(docs, candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed events
+     */
+    public int size() {
+        refresh();
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Force a full rebuild on the next search
+     */
+    public void invalidate() {
+        rebuildRequired = true;
+    }
+
+    /**
+     * AND the candidates with the bitset for the filter value.
+     * Returns false when the value is valid but no event has it.
+     */
+    private static <E extends Enum<E>> boolean intersectEnum(BitSet candidates, Map<E, BitSet> sets,
+                                                             String filter, Class<E> type) {
+        if (filter == null || filter.isEmpty() || "ALL".equals(filter)) {
+            return true;
+        }
+        E value;
+        try {
+            value = Enum.valueOf(type, filter);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        BitSet set = sets.get(value);
+        if (set == null) {
+            return false;
+        }
+        candidates.and(set);
+        return true;
+    }
+
+    /**
+     * Walk the rarest trigram's postings, probe the others, then confirm the substring
+     * (trigrams alone can match out of order)
+     */
+    private BitSet matchGrams(BitSet candidates, String term) {
+        Set<String> grams = grams(term);
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Postings p = postings.get(gram);
+            if (p == null) {
+                return new BitSet();
+            }
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(p -> p.size));
+
+        Postings rarest = lists.get(0);
+        BitSet result = new BitSet();
+        for (int i = 0; i < rarest.size; i++) {
+            int slot = rarest.slots[i];
+            if (!candidates.get(slot)) continue;
+
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(slot);
+            }
+            if (inAll && matches(slot, term)) {
+                result.set(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Terms shorter than a trigram: substring check over the filtered candidates only
+     */
+    private BitSet verify(BitSet candidates, String term) {
+        BitSet result = new BitSet();
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (matches(slot, term)) {
+                result.set(slot);
+            }
+        }
+        return result;
+    }
+
+    private boolean matches(int slot, String term) {
+        return names[slot] != null && names[slot].contains(term)
+                || locations[slot] != null && locations[slot].contains(term);
+    }
+
+    // ============================================================
+    //  Maintenance
+    // ============================================================
+
+    @Override
+    public void onTableChanged(String table, Object id) {
+        if (!CacheRegions.TABLE_EVENTS.equals(table)) return;
+        if (id instanceof UUID) {
+            staleIds.add((UUID) id);
+        } else {
+            rebuildRequired = true;
+        }
+    }
+
+    @Override
+    public void onReset() {
+        rebuildRequired = true;
+    }
+
+    /**
+     * Apply pending changes before answering a query
+     */
+    private void refresh() {
+        if (rebuildRequired) {
+            rebuild();
+        } else if (!staleIds.isEmpty()) {
+            applyStale();
+        }
+    }
+
+    private void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (!rebuildRequired) return;
+            // Clear first so writes during the load are re-applied afterwards
+            rebuildRequired = false;
+            staleIds.clear();
+
+            long start = System.currentTimeMillis();
+            List<Event> events = eventRepo.findAll();
+            reset(events.size());
+            for (Event e : events) {
+                add(e);
+            }
+            System.out.println("[EventSearchIndex] Indexed " + events.size() + " events (" +
+                    postings.size() + " trigrams) in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (RuntimeException e) {
+            rebuildRequired = true;
+            throw e;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyStale() {
+        // Load outside the lock so readers are not blocked on the database
+        Map<UUID, Event> reloaded = new HashMap<>();
+        for (UUID id : new ArrayList<>(staleIds)) {
+            staleIds.remove(id);
+            reloaded.put(id, eventRepo.findById(id));
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<UUID, Event> entry : reloaded.entrySet()) {
+                remove(entry.getKey());
+                if (entry.getValue() != null) {
+                    add(entry.getValue());
+                }
+            }
+            if (slotCount >= MIN_COMPACT_SLOTS && live.cardinality() * 4 < slotCount * 3) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-slot the live events once more than a quarter of the slots are dead
+     */
+    private void compact() {
+        List<Event> current = new ArrayList<>(live.cardinality());
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            current.add(docs[slot]);
+        }
+        reset(current.size());
+        for (Event e : current) {
+            add(e);
+        }
+    }
+
+    private void reset(int capacity) {
+        // New arrays: SearchHits handed out earlier keep reading the old ones
+        docs = new Event[Math.max(16, capacity)];
+        names = new String[docs.length];
+        locations = new String[docs.length];
+        slotCount = 0;
+        live.clear();
+        slotById.clear();
+        postings.clear();
+        byType.clear();
+        byStatus.clear();
+    }
+
+    private void add(Event event) {
+        if (event == null || event.getId() == null) return;
+        remove(event.getId());
+
+        if (slotCount == docs.length) {
+            int newLength = docs.length * 2;
+            docs = Arrays.copyOf(docs, newLength);
+            names = Arrays.copyOf(names, newLength);
+            locations = Arrays.copyOf(locations, newLength);
+        }
+        int slot = slotCount++;
+        String name = event.getName() != null ? event.getName().toLowerCase() : null;
+        String location = event.getLocation() != null ? event.getLocation().toLowerCase() : null;
+        docs[slot] = event;
+        names[slot] = name;
+        locations[slot] = location;
+        live.set(slot);
+        slotById.put(event.getId(), slot);
+
+        Set<String> grams = new HashSet<>();
+        if (name != null) grams.addAll(grams(name));
+        if (location != null) grams.addAll(grams(location));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(slot);
+        }
+
+        if (event.getType() != null) {
+            byType.computeIfAbsent(event.getType(), t -> new BitSet()).set(slot);
+        }
+        if (event.getStatus() != null) {
+            byStatus.computeIfAbsent(event.getStatus(), s -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Only the live bit is cleared; postings keep the dead slot until the next compaction
+     */
+    private void remove(UUID id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) return;
+        live.clear(slot);
+        for (BitSet set : byType.values()) set.clear(slot);
+        for (BitSet set : byStatus.values()) set.clear(slot);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // ============================================================
+    //  Postings / results
+    // ============================================================
+
+    /**
+     * Append-only sorted list of slots
+     */
+    private static final class Postings {
+        int[] slots = new int[4];
+        int size = 0;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+    }
+
+    /**
+     * Matching slots of one search. Pages are read straight from the index arrays,
+     * so only the returned page is materialized.
+     */
+    public static final class SearchHits {
+        private final Event[] docs;
+        private final BitSet slots;
+        private final int count;
+
+        SearchHits(Event[] docs, BitSet slots) {
+            this.docs = docs;
+            this.slots = slots;
+            this.count = slots.cardinality();
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Events at positions [offset, offset + limit) of the result
+         */
+        public List<Event> page(int offset, int limit) {
+            if (offset >= count || limit <= 0) {
+                return Collections.emptyList();
+            }
+            List<Event> page = new ArrayList<>(Math.min(limit, count - offset));
+            int skipped = 0;
+            for (int slot = slots.nextSetBit(0); slot >= 0 && page.size() < limit;
+                 slot = slots.nextSetBit(slot + 1)) {
+                if (skipped++ < offset) continue;
+                page.add(docs[slot]);
+            }
+            return page;
+        }
+
+        public List<Event> toList() {
+            return page(0, count);
+        }
+    }
+}
@@ -21,6 +21,8 @@ public interface EventService {
     Session updateSession(Session s);
     Session getSession(UUID id);
     List<Session> getSessions();
+    long countSessions();
+    List<Session> getSessionsPage(int offset, int limit);
     List<Session> getSessionsByDate(LocalDate date);
     boolean deleteSession(UUID id);
 
@@ -95,6 +95,16 @@ public class EventServiceImpl implements EventService {
         return sessionRepo.findAllOptimized();
     }
 
+    @Override
+    public long countSessions() {
+        return sessionRepo.count();
+    }
+
+    @Override
+    public List<Session> getSessionsPage(int offset, int limit) {
+        return sessionRepo.findPage(offset, limit);
+    }
+
     @Override
     public List<Session> getSessionsByDate(LocalDate date) {
         return sessionRepo.findByDate(date);
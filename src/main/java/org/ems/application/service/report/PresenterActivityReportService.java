@@ -0,0 +1,99 @@
+package org.ems.application.service.report;
+
+import org.ems.domain.dto.PresenterActivityRow;
+import org.ems.domain.repository.PresenterRepository;
+import org.ems.domain.repository.PresenterRepository.ActivityFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * PresenterActivityReportService - Presenter activity (sessions and their events) for export
+ * Single Responsibility: Stream presenter activity rows and write them as CSV
+ *
+ * The rows come from one joined query over presenters, presenter_session, sessions and
+ * events (PresenterRepository.loadActivity), streamed straight to the writer, so the export
+ * holds no more than one row whatever the number of sessions.
+ *
+ * @author EMS Team
+ */
+public class PresenterActivityReportService {
+
+    /** Rows between two progress callbacks */
+    private static final int PROGRESS_EVERY = 200;
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final PresenterRepository presenterRepo;
+
+    public PresenterActivityReportService(PresenterRepository presenterRepo) {
+        this.presenterRepo = presenterRepo;
+    }
+
+    /**
+     * Hand the matching rows to the handler, ordered by presenter and session start
+     *
+     * @return Number of rows
+     */
+    public long stream(ActivityFilter filter, Consumer<PresenterActivityRow> handler) {
+        return presenterRepo.loadActivity(filter, handler);
+    }
+
+    /**
+     * Write the matching rows as CSV. A filter on one presenter gives that presenter's
+     * summary (Event, Session, Start Time, End Time, Venue, Capacity); otherwise each row
+     * starts with the presenter's name and email.
+     *
+     * @param progress called with the number of rows written so far, every few hundred rows
+     * @return Number of rows written
+     */
+    public long exportCsv(ActivityFilter filter, Writer writer, LongConsumer progress) throws IOException {
+        long start = System.currentTimeMillis();
+        boolean withPresenter = filter.getPresenterId() == null;
+        PrintWriter out = new PrintWriter(writer);
+
+        out.println((withPresenter ? "Presenter,Email," : "") + "Event,Session,Start Time,End Time,Venue,Capacity");
+        long[] written = {0};
+        long rows = stream(filter, row -> {
+            if (withPresenter) {
+                out.print(escapeCsv(row.presenterName) + "," + escapeCsv(row.presenterEmail) + ",");
+            }
+            out.println(String.join(",",
+                    escapeCsv(row.eventName != null ? row.eventName : ""),
+                    escapeCsv(row.sessionTitle),
+                    escapeCsv(row.sessionStart != null ? row.sessionStart.format(FORMATTER) : ""),
+                    escapeCsv(row.sessionEnd != null ? row.sessionEnd.format(FORMATTER) : ""),
+                    escapeCsv(row.venueOrLocation() != null ? row.venueOrLocation() : ""),
+                    String.valueOf(row.capacity)));
+            if (++written[0] % PROGRESS_EVERY == 0) {
+                if (out.checkError()) {
+                    throw new UncheckedIOException(new IOException("Failed to write presenter activity"));
+                }
+                progress.accept(written[0]);
+            }
+        });
+        out.flush();
+        if (out.checkError()) {
+            throw new IOException("Failed to write presenter activity");
+        }
+        progress.accept(rows);
+
+        System.out.println("📊 [PresenterActivityReportService] Exported " + rows + " rows (" + filter + ") in "
+                + (System.currentTimeMillis() - start) + "ms");
+        return rows;
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) return "";
+        String result = value.replace("\"", "\"\"");
+        boolean needQuotes = result.contains(",")
+                || result.contains("\"")
+                || result.contains("\n");
+        return needQuotes ? "\"" + result + "\"" : result;
+    }
+}
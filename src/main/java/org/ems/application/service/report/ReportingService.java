@@ -1,7 +1,25 @@
 package org.ems.application.service.report;
 
 import org.ems.domain.dto.SummaryReport;
+import org.ems.domain.repository.TicketRepository.SalesPeriod;
+import org.ems.domain.repository.TicketRepository.SalesRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 public interface ReportingService {
     SummaryReport generateSummary();
+
+    /**
+     * Ticket sales per period in [from, to), oldest first (null bounds are open)
+     *
+     * @param eventId Only this event's tickets (null: all events)
+     */
+    List<SalesRollup> getSalesTrend(SalesPeriod period, UUID eventId, LocalDate from, LocalDate to);
+
+    /**
+     * Ticket sales per event, most tickets first
+     */
+    List<SalesRollup> getSalesByEvent();
 }
@@ -1,12 +1,11 @@
 package org.ems.application.service.report;
 
 import org.ems.domain.dto.SummaryReport;
-import org.ems.domain.model.enums.PaymentStatus;
-import org.ems.domain.model.enums.TicketStatus;
-import org.ems.domain.model.Event;
-import org.ems.domain.model.Ticket;
 import org.ems.domain.repository.*;
+import org.ems.domain.repository.TicketRepository.SalesPeriod;
+import org.ems.domain.repository.TicketRepository.SalesRollup;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -34,64 +33,62 @@ public class ReportingServiceImpl implements ReportingService {
 
         SummaryReport r = new SummaryReport();
 
-        List<Event> events = eventRepo.findAll();
-        List<Ticket> tickets = ticketRepo.findAll();
+        // Ticket figures come from the per-event sales rollup (one row per event and type),
+        // so no ticket is loaded
+        List<SalesRollup> byType = ticketRepo.findSalesByType();
+        List<SalesRollup> byEvent = ticketRepo.findSalesByEvent();
 
         // BASIC COUNTS
-        r.totalEvents = events.size();
-        r.totalSessions = sessionRepo.findAll().size();
-        r.totalAttendees = attendeeRepo.findAll().size();
-        r.totalTickets = tickets.size();
-
-        // TOTAL REVENUE
-        r.totalRevenue = tickets.stream()
-                .filter(t -> t.getPaymentStatus() == PaymentStatus.PAID)
-                .mapToDouble(t -> t.getPrice().doubleValue())
+        r.totalEvents = (int) eventRepo.count();
+        r.totalSessions = (int) sessionRepo.count();
+        r.totalAttendees = (int) attendeeRepo.count();
+        r.totalTickets = (int) byType.stream().mapToLong(SalesRollup::getTicketCount).sum();
+
+        // TOTAL REVENUE (paid tickets)
+        r.totalRevenue = byType.stream()
+                .mapToDouble(s -> s.getPaidRevenue().doubleValue())
                 .sum();
 
-        // REVENUE BY EVENT
-        r.revenueByEvent = tickets.stream()
-                .filter(t -> t.getPaymentStatus() == PaymentStatus.PAID)
-                .filter(t -> t.getEventId() != null)
-                .collect(Collectors.groupingBy(
-                        t -> t.getEventId().toString(),
-                        Collectors.summingDouble(t -> t.getPrice().doubleValue())
+        // REVENUE BY EVENT (events with paid tickets)
+        r.revenueByEvent = byEvent.stream()
+                .filter(s -> s.getPaidCount() > 0)
+                .collect(Collectors.toMap(
+                        SalesRollup::getKey,
+                        s -> s.getPaidRevenue().doubleValue()
                 ));
 
-        // REVENUE BY TYPE
-        r.revenueByType = tickets.stream()
-                .collect(Collectors.groupingBy(
-                        t -> t.getType().name(),
-                        Collectors.summingDouble(t -> t.getPrice().doubleValue())
+        // REVENUE BY TYPE (all tickets)
+        r.revenueByType = byType.stream()
+                .collect(Collectors.toMap(
+                        SalesRollup::getKey,
+                        s -> s.getGrossAmount().doubleValue()
                 ));
 
         // TICKET USAGE PERCENTAGE
-        long used = tickets.stream()
-                .filter(t -> t.getTicketStatus() == TicketStatus.USED)
-                .count();
-
-        r.ticketUsedPercent = tickets.isEmpty() ? 0 : (used * 100.0 / tickets.size());
-
-        // TOP EVENTS BY TICKET COUNT
-        Map<String, Long> top = tickets.stream()
-                .filter(t -> t.getEventId() != null)
-                .collect(Collectors.groupingBy(
-                        t -> t.getEventId().toString(),
-                        Collectors.counting()
-                ))
-                .entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        long used = byType.stream().mapToLong(SalesRollup::getUsedCount).sum();
+
+        r.ticketUsedPercent = r.totalTickets == 0 ? 0 : (used * 100.0 / r.totalTickets);
+
+        // TOP EVENTS BY TICKET COUNT (byEvent is sorted by ticket count)
+        r.topEvents = byEvent.stream()
                 .limit(5)
                 .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
+                        SalesRollup::getKey,
+                        SalesRollup::getTicketCount,
                         (a, b) -> a,
                         LinkedHashMap::new
                 ));
 
-        r.topEvents = top;
-
         return r;
     }
-}
 
+    @Override
+    public List<SalesRollup> getSalesTrend(SalesPeriod period, UUID eventId, LocalDate from, LocalDate to) {
+        return ticketRepo.findSalesTrend(period, eventId, from, to);
+    }
+
+    @Override
+    public List<SalesRollup> getSalesByEvent() {
+        return ticketRepo.findSalesByEvent();
+    }
+}
@@ -3,221 +3,139 @@ package org.ems.application.service.session;
 import org.ems.domain.model.Event;
 import org.ems.domain.model.Presenter;
 import org.ems.domain.model.Session;
+import org.ems.infrastructure.cache.CacheRegion;
+import org.ems.infrastructure.cache.CacheRegions;
 
 import java.util.*;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * SessionCacheManager - Thread-safe centralized cache management
- * Manages caches for sessions, events, and presenters
+ * SessionCacheManager - Session manager view over the shared cache regions
+ * Whole-list caches for sessions, events, and presenters are backed by {@link CacheRegions},
+ * so they survive screen changes and are invalidated by repository writes
+ *
+ * Cached lists and maps are read-only snapshots; copy them before modifying.
  *
  * @author EMS Team
  */
 public class SessionCacheManager {
 
-    private List<Session> sessionsCache;
-    private List<Event> eventsCache;
-    private Map<UUID, Presenter> presentersCache;
-
-    private final ReadWriteLock sessionsLock = new ReentrantReadWriteLock();
-    private final ReadWriteLock eventsLock = new ReentrantReadWriteLock();
-    private final ReadWriteLock presentersLock = new ReentrantReadWriteLock();
-
-    // Cache validity tracking
-    private long sessionsCacheTime = 0;
-    private long eventsCacheTime = 0;
-    private long presentersCacheTime = 0;
-    private static final long CACHE_VALIDITY_MS = 5 * 60 * 1000; // 5 minutes
+    private final CacheRegion<String, List<Session>> sessionsCache = CacheRegions.allSessions();
+    private final CacheRegion<String, List<Event>> eventsCache = CacheRegions.allEvents();
+    private final CacheRegion<String, Map<UUID, Presenter>> presentersCache = CacheRegions.allPresenters();
 
     /**
      * Get cached sessions (thread-safe)
      */
     public List<Session> getSessions() {
-        sessionsLock.readLock().lock();
-        try {
-            return sessionsCache != null ? new ArrayList<>(sessionsCache) : null;
-        } finally {
-            sessionsLock.readLock().unlock();
-        }
+        return sessionsCache.get(CacheRegions.ALL_KEY);
     }
 
     /**
      * Set sessions cache (thread-safe)
      */
     public void setSessions(List<Session> sessions) {
-        sessionsLock.writeLock().lock();
-        try {
-            this.sessionsCache = sessions != null ? new ArrayList<>(sessions) : null;
-            this.sessionsCacheTime = System.currentTimeMillis();
-        } finally {
-            sessionsLock.writeLock().unlock();
+        if (sessions == null) {
+            clearSessions();
+            return;
         }
+        sessionsCache.put(CacheRegions.ALL_KEY, Collections.unmodifiableList(new ArrayList<>(sessions)));
     }
 
     /**
      * Clear sessions cache
      */
     public void clearSessions() {
-        sessionsLock.writeLock().lock();
-        try {
-            this.sessionsCache = null;
-            this.sessionsCacheTime = 0;
-        } finally {
-            sessionsLock.writeLock().unlock();
-        }
+        sessionsCache.invalidateAll();
     }
 
     /**
      * Check if sessions cache is valid
      */
     public boolean isSessionsCacheValid() {
-        sessionsLock.readLock().lock();
-        try {
-            return sessionsCache != null &&
-                   (System.currentTimeMillis() - sessionsCacheTime) < CACHE_VALIDITY_MS;
-        } finally {
-            sessionsLock.readLock().unlock();
-        }
+        return sessionsCache.contains(CacheRegions.ALL_KEY);
     }
 
     /**
      * Get cached events (thread-safe)
      */
     public List<Event> getEvents() {
-        eventsLock.readLock().lock();
-        try {
-            return eventsCache != null ? new ArrayList<>(eventsCache) : null;
-        } finally {
-            eventsLock.readLock().unlock();
-        }
+        return eventsCache.get(CacheRegions.ALL_KEY);
     }
 
     /**
      * Set events cache (thread-safe)
      */
     public void setEvents(List<Event> events) {
-        eventsLock.writeLock().lock();
-        try {
-            this.eventsCache = events != null ? new ArrayList<>(events) : null;
-            this.eventsCacheTime = System.currentTimeMillis();
-        } finally {
-            eventsLock.writeLock().unlock();
+        if (events == null) {
+            clearEvents();
+            return;
         }
+        eventsCache.put(CacheRegions.ALL_KEY, Collections.unmodifiableList(new ArrayList<>(events)));
     }
 
     /**
      * Clear events cache
      */
     public void clearEvents() {
-        eventsLock.writeLock().lock();
-        try {
-            this.eventsCache = null;
-            this.eventsCacheTime = 0;
-        } finally {
-            eventsLock.writeLock().unlock();
-        }
+        eventsCache.invalidateAll();
     }
 
     /**
      * Check if events cache is valid
      */
     public boolean isEventsCacheValid() {
-        eventsLock.readLock().lock();
-        try {
-            return eventsCache != null &&
-                   (System.currentTimeMillis() - eventsCacheTime) < CACHE_VALIDITY_MS;
-        } finally {
-            eventsLock.readLock().unlock();
-        }
+        return eventsCache.contains(CacheRegions.ALL_KEY);
     }
 
     /**
      * Get cached presenters (thread-safe)
      */
     public Map<UUID, Presenter> getPresenters() {
-        presentersLock.readLock().lock();
-        try {
-            return presentersCache != null ? new HashMap<>(presentersCache) : null;
-        } finally {
-            presentersLock.readLock().unlock();
-        }
+        return presentersCache.get(CacheRegions.ALL_KEY);
     }
 
     /**
      * Set presenters cache (thread-safe)
      */
     public void setPresenters(Map<UUID, Presenter> presenters) {
-        presentersLock.writeLock().lock();
-        try {
-            this.presentersCache = presenters != null ? new HashMap<>(presenters) : null;
-            this.presentersCacheTime = System.currentTimeMillis();
-        } finally {
-            presentersLock.writeLock().unlock();
+        if (presenters == null) {
+            clearPresenters();
+            return;
         }
+        presentersCache.put(CacheRegions.ALL_KEY, Collections.unmodifiableMap(new HashMap<>(presenters)));
     }
 
     /**
-     * Add or update single presenter in cache
+     * Add or update single presenter in cache (copy-on-write)
      */
     public void addPresenterToCache(Presenter presenter) {
-        presentersLock.writeLock().lock();
-        try {
-            if (presentersCache == null) {
-                presentersCache = new HashMap<>();
-            }
-            presentersCache.put(presenter.getId(), presenter);
-            this.presentersCacheTime = System.currentTimeMillis();
-        } finally {
-            presentersLock.writeLock().unlock();
-        }
+        Map<UUID, Presenter> current = presentersCache.get(CacheRegions.ALL_KEY);
+        Map<UUID, Presenter> updated = current != null ? new HashMap<>(current) : new HashMap<>();
+        updated.put(presenter.getId(), presenter);
+        presentersCache.put(CacheRegions.ALL_KEY, Collections.unmodifiableMap(updated));
     }
 
     /**
      * Clear presenters cache
      */
     public void clearPresenters() {
-        presentersLock.writeLock().lock();
-        try {
-            this.presentersCache = null;
-            this.presentersCacheTime = 0;
-        } finally {
-            presentersLock.writeLock().unlock();
-        }
+        presentersCache.invalidateAll();
     }
 
     /**
      * Check if presenters cache is valid
      */
     public boolean isPresentersCacheValid() {
-        presentersLock.readLock().lock();
-        try {
-            return presentersCache != null && !presentersCache.isEmpty() &&
-                   (System.currentTimeMillis() - presentersCacheTime) < CACHE_VALIDITY_MS;
-        } finally {
-            presentersLock.readLock().unlock();
-        }
+        Map<UUID, Presenter> presenters = presentersCache.get(CacheRegions.ALL_KEY);
+        return presenters != null && !presenters.isEmpty();
     }
 
     /**
      * Clear all caches
      */
     public void clearAll() {
-        sessionsLock.writeLock().lock();
-        eventsLock.writeLock().lock();
-        presentersLock.writeLock().lock();
-        try {
-            this.sessionsCache = null;
-            this.eventsCache = null;
-            this.presentersCache = null;
-            this.sessionsCacheTime = 0;
-            this.eventsCacheTime = 0;
-            this.presentersCacheTime = 0;
-        } finally {
-            presentersLock.writeLock().unlock();
-            eventsLock.writeLock().unlock();
-            sessionsLock.writeLock().unlock();
-        }
+        sessionsCache.invalidateAll();
+        eventsCache.invalidateAll();
+        presentersCache.invalidateAll();
     }
 }
-
@@ -50,6 +50,22 @@ public class SessionManagementService {
         }
     }
 
+    /**
+     * Count all sessions (for the lazy session table)
+     */
+    public long countSessions() {
+        return eventService.countSessions();
+    }
+
+    /**
+     * Retrieve one block of sessions, newest first
+     * @param offset Index of the first session
+     * @param limit Maximum number of sessions
+     */
+    public List<Session> getSessionsPage(int offset, int limit) {
+        return eventService.getSessionsPage(offset, limit);
+    }
+
     /**
      * Create a new session
      * @param session The session to create
@@ -4,257 +4,191 @@ import org.ems.application.dto.template.TemplateKey;
 import org.ems.domain.model.Attendee;
 import org.ems.domain.model.Event;
 import org.ems.domain.model.Session;
+import org.ems.infrastructure.cache.CacheRegion;
+import org.ems.infrastructure.cache.CacheRegions;
 
 import java.util.*;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 /**
- * TicketCacheManager - Manages all caches for ticket manager
- * Thread-safe cache management for events, sessions, attendees, and statistics
+ * TicketCacheManager - Ticket manager view over the shared cache regions
+ * Entity caches, name mappings and statistics are backed by {@link CacheRegions},
+ * so they are bounded, expire by TTL and are invalidated by repository writes.
+ * Name mappings are cached as complete sets and dropped whole; a miss means "not cached",
+ * so lookups go through the resolve methods, which reload the set before giving up
  *
  * @author EMS Team
  */
 public class TicketCacheManager {
 
     // Entity caches
-    private final Map<UUID, Event> eventCacheById = new HashMap<>();
-    private final Map<UUID, Session> sessionCacheById = new HashMap<>();
-    private final Map<UUID, Attendee> attendeeCacheById = new HashMap<>();
+    private final CacheRegion<UUID, Event> eventCacheById = CacheRegions.eventsById();
+    private final CacheRegion<UUID, Session> sessionCacheById = CacheRegions.sessionsById();
+    private final CacheRegion<UUID, Attendee> attendeeCacheById = CacheRegions.attendeesById();
 
     // Name mapping caches
-    private final Map<String, UUID> eventMap = new HashMap<>();
-    private final Map<String, UUID> sessionMap = new HashMap<>();
-    private final Map<String, UUID> attendeeMap = new HashMap<>();
-    private final Map<String, UUID> templateMap = new HashMap<>();
+    private final CacheRegion<String, UUID> eventMap = CacheRegions.eventNameLookup();
+    private final CacheRegion<String, UUID> sessionMap = CacheRegions.sessionNameLookup();
+    private final CacheRegion<String, UUID> attendeeMap = CacheRegions.attendeeNameLookup();
+    private final CacheRegion<String, UUID> templateMap = CacheRegions.templateNameLookup();
 
     // Statistics cache
-    private Map<TemplateKey, Long> templateAssignedCountCache = null;
-
-    // Thread safety
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
-    private long lastStatsCacheTime = 0;
-    private static final long CACHE_VALIDITY_MS = TicketManagerConfig.CACHE_VALIDITY_MS;
+    private final CacheRegion<String, Map<TemplateKey, Long>> templateAssignedCountCache =
+            CacheRegions.templateAssignedCounts();
 
     /**
      * Clear all caches
      */
     public void clearAll() {
-        lock.writeLock().lock();
-        try {
-            eventCacheById.clear();
-            sessionCacheById.clear();
-            attendeeCacheById.clear();
-            eventMap.clear();
-            sessionMap.clear();
-            attendeeMap.clear();
-            templateMap.clear();
-            templateAssignedCountCache = null;
-            lastStatsCacheTime = 0;
-            System.out.println("🧹 [TicketCacheManager] All caches cleared");
-        } finally {
-            lock.writeLock().unlock();
-        }
+        eventCacheById.invalidateAll();
+        sessionCacheById.invalidateAll();
+        attendeeCacheById.invalidateAll();
+        eventMap.invalidateAll();
+        sessionMap.invalidateAll();
+        attendeeMap.invalidateAll();
+        templateMap.invalidateAll();
+        templateAssignedCountCache.invalidateAll();
+        System.out.println("🧹 [TicketCacheManager] All caches cleared");
     }
 
     /**
      * Clear event caches
      */
     public void clearEvents() {
-        lock.writeLock().lock();
-        try {
-            eventCacheById.clear();
-            eventMap.clear();
-            System.out.println("🧹 [TicketCacheManager] Event caches cleared");
-        } finally {
-            lock.writeLock().unlock();
-        }
+        eventCacheById.invalidateAll();
+        eventMap.invalidateAll();
+        System.out.println("🧹 [TicketCacheManager] Event caches cleared");
     }
 
     /**
      * Clear session caches
      */
     public void clearSessions() {
-        lock.writeLock().lock();
-        try {
-            sessionCacheById.clear();
-            sessionMap.clear();
-            System.out.println("🧹 [TicketCacheManager] Session caches cleared");
-        } finally {
-            lock.writeLock().unlock();
-        }
+        sessionCacheById.invalidateAll();
+        sessionMap.invalidateAll();
+        System.out.println("🧹 [TicketCacheManager] Session caches cleared");
     }
 
     /**
      * Clear attendee caches
      */
     public void clearAttendees() {
-        lock.writeLock().lock();
-        try {
-            attendeeCacheById.clear();
-            attendeeMap.clear();
-            System.out.println("🧹 [TicketCacheManager] Attendee caches cleared");
-        } finally {
-            lock.writeLock().unlock();
-        }
+        attendeeCacheById.invalidateAll();
+        attendeeMap.invalidateAll();
+        System.out.println("🧹 [TicketCacheManager] Attendee caches cleared");
     }
 
     /**
      * Clear statistics cache
      */
     public void clearStatistics() {
-        lock.writeLock().lock();
-        try {
-            templateAssignedCountCache = null;
-            lastStatsCacheTime = 0;
-            System.out.println("🧹 [TicketCacheManager] Statistics cache cleared");
-        } finally {
-            lock.writeLock().unlock();
-        }
+        templateAssignedCountCache.invalidateAll();
+        System.out.println("🧹 [TicketCacheManager] Statistics cache cleared");
     }
 
     // Event cache methods
     public void addEvent(Event event) {
-        lock.writeLock().lock();
-        try {
-            eventCacheById.put(event.getId(), event);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        eventCacheById.put(event.getId(), event);
     }
 
     public Event getEvent(UUID eventId) {
-        lock.readLock().lock();
-        try {
-            return eventCacheById.get(eventId);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return eventCacheById.get(eventId);
     }
 
     public Map<String, UUID> getEventMap() {
-        lock.readLock().lock();
-        try {
-            return new HashMap<>(eventMap);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return eventMap.asMap();
     }
 
-    public void putEventMapping(String display, UUID eventId) {
-        lock.writeLock().lock();
-        try {
-            eventMap.put(display, eventId);
-        } finally {
-            lock.writeLock().unlock();
-        }
+    public void putEventMappings(Map<String, UUID> mappings) {
+        eventMap.putAll(mappings);
+    }
+
+    /**
+     * Event id for a display name, reloading all event mappings on a miss (null if unknown)
+     */
+    public UUID resolveEventId(String display, Supplier<Map<String, UUID>> loader) {
+        return resolve(eventMap, display, loader);
     }
 
     // Session cache methods
     public void addSession(Session session) {
-        lock.writeLock().lock();
-        try {
-            sessionCacheById.put(session.getId(), session);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        sessionCacheById.put(session.getId(), session);
     }
 
     public Session getSession(UUID sessionId) {
-        lock.readLock().lock();
-        try {
-            return sessionCacheById.get(sessionId);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return sessionCacheById.get(sessionId);
     }
 
     public Map<UUID, Session> getSessionCacheById() {
-        lock.readLock().lock();
-        try {
-            return new HashMap<>(sessionCacheById);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return sessionCacheById.asMap();
     }
 
     // Attendee cache methods
     public void addAttendee(Attendee attendee) {
-        lock.writeLock().lock();
-        try {
-            attendeeCacheById.put(attendee.getId(), attendee);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        attendeeCacheById.put(attendee.getId(), attendee);
     }
 
     public Attendee getAttendee(UUID attendeeId) {
-        lock.readLock().lock();
-        try {
-            return attendeeCacheById.get(attendeeId);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return attendeeCacheById.get(attendeeId);
     }
 
     public Map<String, UUID> getAttendeeMap() {
-        lock.readLock().lock();
-        try {
-            return new HashMap<>(attendeeMap);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return attendeeMap.asMap();
     }
 
-    public void putAttendeeMapping(String display, UUID attendeeId) {
-        lock.writeLock().lock();
-        try {
-            attendeeMap.put(display, attendeeId);
-        } finally {
-            lock.writeLock().unlock();
-        }
+    public void putAttendeeMappings(Map<String, UUID> mappings) {
+        attendeeMap.putAll(mappings);
+    }
+
+    /**
+     * Attendee id for a display name, reloading all attendee mappings on a miss (null if unknown)
+     */
+    public UUID resolveAttendeeId(String display, Supplier<Map<String, UUID>> loader) {
+        return resolve(attendeeMap, display, loader);
     }
 
     // Statistics cache methods
+    /**
+     * Get template assigned counts, or null when not cached or expired.
+     * The returned map is read-only and shared; do not modify it.
+     */
     public Map<TemplateKey, Long> getTemplateAssignedCountCache() {
-        lock.readLock().lock();
-        try {
-            if (templateAssignedCountCache != null &&
-                (System.currentTimeMillis() - lastStatsCacheTime) < CACHE_VALIDITY_MS) {
-                return new HashMap<>(templateAssignedCountCache);
-            }
-            return null;
-        } finally {
-            lock.readLock().unlock();
-        }
+        return templateAssignedCountCache.get(CacheRegions.ALL_KEY);
     }
 
     public void setTemplateAssignedCountCache(Map<TemplateKey, Long> cache) {
-        lock.writeLock().lock();
-        try {
-            this.templateAssignedCountCache = cache != null ? new HashMap<>(cache) : null;
-            this.lastStatsCacheTime = System.currentTimeMillis();
-        } finally {
-            lock.writeLock().unlock();
+        if (cache == null) {
+            templateAssignedCountCache.invalidateAll();
+            return;
         }
+        templateAssignedCountCache.put(CacheRegions.ALL_KEY, Collections.unmodifiableMap(new HashMap<>(cache)));
     }
 
     public Map<String, UUID> getTemplateMap() {
-        lock.readLock().lock();
-        try {
-            return new HashMap<>(templateMap);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return templateMap.asMap();
     }
 
-    public void putTemplateMapping(String display, UUID templateId) {
-        lock.writeLock().lock();
-        try {
-            templateMap.put(display, templateId);
-        } finally {
-            lock.writeLock().unlock();
-        }
+    public void putTemplateMappings(Map<String, UUID> mappings) {
+        templateMap.putAll(mappings);
+    }
+
+    /**
+     * Template id for a display name, reloading all template mappings on a miss (null if unknown)
+     */
+    public UUID resolveTemplateId(String display, Supplier<Map<String, UUID>> loader) {
+        return resolve(templateMap, display, loader);
+    }
+
+    private static UUID resolve(CacheRegion<String, UUID> region, String display,
+                                Supplier<Map<String, UUID>> loader) {
+        if (display == null) return null;
+        UUID id = region.get(display);
+        if (id != null) return id;
+
+        // Region was evicted, expired or invalidated: reload the whole set
+        Map<String, UUID> mappings = loader.get();
+        region.putAll(mappings);
+        return mappings.get(display);
     }
 
     // Accessor methods for UI components
@@ -284,14 +218,11 @@ public class TicketCacheManager {
      */
     public void cacheAllEvents(List<Event> events) {
         if (events == null) return;
-        lock.writeLock().lock();
-        try {
-            for (Event evt : events) {
-                eventCacheById.put(evt.getId(), evt);
-            }
-        } finally {
-            lock.writeLock().unlock();
+        Map<UUID, Event> byId = new HashMap<>();
+        for (Event evt : events) {
+            byId.put(evt.getId(), evt);
         }
+        eventCacheById.putAll(byId);
     }
 
     /**
@@ -299,14 +230,11 @@ public class TicketCacheManager {
      */
     public void cacheAllAttendees(List<Attendee> attendees) {
         if (attendees == null) return;
-        lock.writeLock().lock();
-        try {
-            for (Attendee att : attendees) {
-                attendeeCacheById.put(att.getId(), att);
-            }
-        } finally {
-            lock.writeLock().unlock();
+        Map<UUID, Attendee> byId = new HashMap<>();
+        for (Attendee att : attendees) {
+            byId.put(att.getId(), att);
         }
+        attendeeCacheById.putAll(byId);
     }
 
     /**
@@ -314,14 +242,10 @@ public class TicketCacheManager {
      */
     public void cacheAllSessions(List<Session> sessions) {
         if (sessions == null) return;
-        lock.writeLock().lock();
-        try {
-            for (Session sess : sessions) {
-                sessionCacheById.put(sess.getId(), sess);
-            }
-        } finally {
-            lock.writeLock().unlock();
+        Map<UUID, Session> byId = new HashMap<>();
+        for (Session sess : sessions) {
+            byId.put(sess.getId(), sess);
         }
+        sessionCacheById.putAll(byId);
     }
 }
-
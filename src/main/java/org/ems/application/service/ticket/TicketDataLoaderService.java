@@ -4,6 +4,7 @@ import javafx.concurrent.Task;
 import org.ems.domain.repository.EventRepository;
 import org.ems.domain.repository.SessionRepository;
 import org.ems.domain.repository.AttendeeRepository;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -60,9 +61,7 @@ public class TicketDataLoaderService {
             onError.accept(ex);
         });
 
-        Thread t = new Thread(task, "ticket-events-loader");
-        t.setDaemon(true);
-        t.start();
+        TaskExecutor.getInstance().screenScope().submit("ticket-events-loader", task);
     }
 
     /**
@@ -96,9 +95,7 @@ public class TicketDataLoaderService {
             onError.accept(ex);
         });
 
-        Thread t = new Thread(task, "ticket-attendees-loader");
-        t.setDaemon(true);
-        t.start();
+        TaskExecutor.getInstance().screenScope().submit("ticket-attendees-loader", task);
     }
 }
 
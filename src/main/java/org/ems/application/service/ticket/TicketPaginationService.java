@@ -1,7 +1,9 @@
 package org.ems.application.service.ticket;
 
 import java.sql.Timestamp;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TicketPaginationService - Manages pagination state for ticket lists
@@ -24,6 +26,16 @@ public class TicketPaginationService {
     private long totalAssignedCount = 0;
     private int totalAssignedPages = 1;
 
+    // Keyset cursor that starts each visited assigned page (last row of the page before).
+    // Pages are loaded on worker threads (including prefetch), hence the concurrent map.
+    private final Map<Integer, Keyset> assignedPageStarts = new ConcurrentHashMap<>();
+
+    /**
+     * (created_at, id) position in the assigned tickets ordering
+     */
+    public record Keyset(Timestamp createdAt, UUID id) {
+    }
+
     // ====== Template Pagination ======
 
     public void resetTemplatePagination() {
@@ -49,6 +61,7 @@ public class TicketPaginationService {
         this.currentAssignedPage = 1;
         this.totalAssignedCount = 0;
         this.totalAssignedPages = 1;
+        this.assignedPageStarts.clear();
         System.out.println("📄 [TicketPaginationService] Assigned pagination reset");
     }
 
@@ -57,6 +70,23 @@ public class TicketPaginationService {
         this.lastAssignedId = id;
     }
 
+    /**
+     * Remember where the page after pageIndex starts (call with the last row of pageIndex)
+     */
+    public void rememberAssignedPageEnd(int pageIndex, Timestamp createdAt, UUID id) {
+        if (createdAt != null && id != null) {
+            assignedPageStarts.put(pageIndex + 1, new Keyset(createdAt, id));
+        }
+    }
+
+    /**
+     * Cursor for loading pageIndex (0-based), or null if unknown (first page, or a page
+     * not reached by paging forward; callers fall back to offset paging)
+     */
+    public Keyset getAssignedPageStart(int pageIndex) {
+        return assignedPageStarts.get(pageIndex);
+    }
+
     public Timestamp getLastAssignedCreatedAt() { return lastAssignedCreatedAt; }
     public UUID getLastAssignedId() { return lastAssignedId; }
 
@@ -2,11 +2,15 @@ package org.ems.application.service.ticket;
 
 import org.ems.application.dto.template.TemplateKey;
 import org.ems.domain.model.Ticket;
+import org.ems.domain.model.enums.TicketType;
 import org.ems.domain.repository.TicketRepository;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * TicketStatisticsService - Calculates ticket statistics
@@ -28,40 +32,47 @@ public class TicketStatisticsService {
      * Get assigned count for a template (with caching)
      */
     public long getTemplateAssignedCount(TemplateKey templateKey) {
-        long start = System.currentTimeMillis();
+        return getTemplateAssignedCounts().getOrDefault(templateKey(templateKey.getEventId(),
+                templateKey.getType(), templateKey.getPrice()), 0L);
+    }
 
-        // Check cache first
+    /**
+     * Assigned counts of all templates (with caching). One row per template is read from
+     * the trigger-maintained counters, so the cost does not grow with the number of tickets.
+     * Keys have no session (tickets are event-level); build them with {@link #templateKey}.
+     */
+    public Map<TemplateKey, Long> getTemplateAssignedCounts() {
         Map<TemplateKey, Long> cache = cacheManager.getTemplateAssignedCountCache();
-        if (cache != null && cache.containsKey(templateKey)) {
-            System.out.println("  ℹ Template count found in cache");
-            return cache.get(templateKey);
+        if (cache != null) {
+            return cache;
         }
 
-        // Load from DB
-        System.out.println("📊 [TicketStatisticsService] Loading template assigned count...");
+        long start = System.currentTimeMillis();
+        System.out.println("📊 [TicketStatisticsService] Loading template assigned counts...");
         try {
-            // Use findAssignedStatsForTemplates() to get aggregate data
-            List<TicketRepository.TemplateAssignmentStats> stats = ticketRepo.findAssignedStatsForTemplates();
-
-            long count = 0;
-            for (TicketRepository.TemplateAssignmentStats stat : stats) {
-                if (stat.getEventId().equals(templateKey.getEventId()) &&
-                    stat.getSessionId().equals(templateKey.getSessionId()) &&
-                    stat.getType().equals(templateKey.getType()) &&
-                    stat.getPrice().equals(templateKey.getPrice())) {
-                    count = stat.getAssignedCount();
-                    break;
-                }
+            Map<TemplateKey, Long> counts = new HashMap<>();
+            for (TicketRepository.TemplateAssignmentStats stat : ticketRepo.findAssignedStatsForTemplates()) {
+                counts.put(templateKey(stat.getEventId(), stat.getType(), stat.getPrice()), stat.getAssignedCount());
             }
+            cacheManager.setTemplateAssignedCountCache(counts);
 
-            System.out.println("  ✓ Count loaded in " + (System.currentTimeMillis() - start) + " ms: " + count);
-            return count;
+            System.out.println("  ✓ " + counts.size() + " template counts loaded in "
+                    + (System.currentTimeMillis() - start) + " ms");
+            return counts;
         } catch (Exception e) {
-            System.err.println("✗ Error loading template count: " + e.getMessage());
-            return 0;
+            System.err.println("✗ Error loading template counts: " + e.getMessage());
+            return Map.of();
         }
     }
 
+    /**
+     * Template key as used by {@link #getTemplateAssignedCounts()} (price compared at 2 decimals)
+     */
+    public static TemplateKey templateKey(UUID eventId, TicketType type, BigDecimal price) {
+        return new TemplateKey(eventId, null, type,
+                price != null ? price.setScale(2, RoundingMode.HALF_UP) : null);
+    }
+
     /**
      * Get total assigned count
      */
@@ -6,6 +6,8 @@ import javafx.beans.property.SimpleStringProperty;
 import org.ems.application.dto.template.TemplateRow;
 import org.ems.application.dto.ticket.TicketRow;
 
+import java.util.function.Function;
+
 /**
  * TicketUIRenderingService - Handles UI rendering of tables and data display
  * Single Responsibility: Table column setup and row formatting
@@ -38,7 +40,8 @@ public class TicketUIRenderingService {
     }
 
     /**
-     * Setup column value factories for assigned tickets table
+     * Setup column value factories for assigned tickets table.
+     * Rows are null while the lazy table model is still loading their block.
      */
     public void setupAssignedTicketTableColumns(TableView<TicketRow> table) {
         if (table == null || table.getColumns() == null) {
@@ -48,20 +51,24 @@ public class TicketUIRenderingService {
         var cols = table.getColumns();
         if (cols.size() >= 7) {
             ((TableColumn<TicketRow, String>) cols.get(0))
-                    .setCellValueFactory(cd -> new SimpleStringProperty(cd.getValue().getId()));
+                    .setCellValueFactory(cd -> text(cd.getValue(), TicketRow::getId));
             ((TableColumn<TicketRow, String>) cols.get(1))
-                    .setCellValueFactory(cd -> new SimpleStringProperty(cd.getValue().getAttendee()));
+                    .setCellValueFactory(cd -> text(cd.getValue(), TicketRow::getAttendee));
             ((TableColumn<TicketRow, String>) cols.get(2))
-                    .setCellValueFactory(cd -> new SimpleStringProperty(cd.getValue().getEvent()));
+                    .setCellValueFactory(cd -> text(cd.getValue(), TicketRow::getEvent));
             ((TableColumn<TicketRow, String>) cols.get(3))
-                    .setCellValueFactory(cd -> new SimpleStringProperty(cd.getValue().getSession()));
+                    .setCellValueFactory(cd -> text(cd.getValue(), TicketRow::getSession));
             ((TableColumn<TicketRow, String>) cols.get(4))
-                    .setCellValueFactory(cd -> new SimpleStringProperty(cd.getValue().getType()));
+                    .setCellValueFactory(cd -> text(cd.getValue(), TicketRow::getType));
             ((TableColumn<TicketRow, String>) cols.get(5))
-                    .setCellValueFactory(cd -> new SimpleStringProperty(cd.getValue().getPrice()));
+                    .setCellValueFactory(cd -> text(cd.getValue(), TicketRow::getPrice));
             ((TableColumn<TicketRow, String>) cols.get(6))
-                    .setCellValueFactory(cd -> new SimpleStringProperty(cd.getValue().getStatus()));
+                    .setCellValueFactory(cd -> text(cd.getValue(), TicketRow::getStatus));
         }
     }
+
+    private static <R> SimpleStringProperty text(R row, Function<R, String> getter) {
+        return new SimpleStringProperty(row == null ? "" : getter.apply(row));
+    }
 }
 
@@ -1,6 +1,7 @@
 package org.ems.application.service.ticket;
 
 import org.ems.application.dto.ticket.TicketRow;
+import org.ems.domain.repository.TicketRepository;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -51,6 +52,17 @@ public class TicketUIStatisticsService {
         return new Statistics(total, active, revenue);
     }
 
+    /**
+     * Statistics from a database aggregate (used when only one page of rows is loaded)
+     */
+    public Statistics fromSummary(TicketRepository.AssignedSummary summary) {
+        if (summary == null) {
+            return new Statistics(0, 0, BigDecimal.ZERO);
+        }
+        return new Statistics((int) summary.getTotal(), (int) summary.getActive(),
+                summary.getRevenue() != null ? summary.getRevenue() : BigDecimal.ZERO);
+    }
+
     /**
      * Statistics result class
      */
@@ -6,9 +6,9 @@ import org.ems.domain.model.Attendee;
 import org.ems.domain.model.Presenter;
 import org.ems.domain.repository.AttendeeRepository;
 import org.ems.domain.repository.PresenterRepository;
+import org.ems.domain.repository.UserRepository;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,30 +21,39 @@ public class UserManagementService {
 
     private final AttendeeRepository attendeeRepo;
     private final PresenterRepository presenterRepo;
-    private final UserDataLoaderService dataLoaderService;
+    private final UserRepository userRepo;
     private final UserValidationService validationService;
 
-    public UserManagementService(AttendeeRepository attendeeRepo, PresenterRepository presenterRepo) {
+    public UserManagementService(AttendeeRepository attendeeRepo, PresenterRepository presenterRepo,
+                                 UserRepository userRepo) {
         this.attendeeRepo = attendeeRepo;
         this.presenterRepo = presenterRepo;
-        this.dataLoaderService = new UserDataLoaderService(attendeeRepo, presenterRepo);
+        this.userRepo = userRepo;
         this.validationService = new UserValidationService();
     }
 
     /**
-     * Load all users from all sources
-     * @return List of all users
+     * Load one page of the user directory (filtered and paged in SQL)
+     * @param roleFilter Role name or "ALL"
+     * @param searchTerm Matched against name, username and email
+     * @param afterUsername Cursor from the previous page, null for the first page
+     * @param pageSize Number of rows per page
+     * @return The page with the cursor for the next one
      * @throws UserManagementException if loading fails
      */
-    public List<UserDisplayRowDTO> loadAllUsers() throws UserManagementException {
+    public UserRepository.UserPage loadUserPage(String roleFilter, String searchTerm,
+                                                String afterUsername, int pageSize)
+            throws UserManagementException {
         long start = System.currentTimeMillis();
-        System.out.println("📋 [UserManagementService] loadAllUsers() starting...");
+        requireUserRepo();
 
         try {
-            List<UserDisplayRowDTO> users = dataLoaderService.loadAllUsers();
-            System.out.println("✓ loadAllUsers() completed in " + (System.currentTimeMillis() - start) + " ms");
-            return users;
-        } catch (UserDataLoaderService.UserDataLoadException e) {
+            UserRepository.UserPage page = userRepo.findDirectoryPage(roleFilter, searchTerm, afterUsername, pageSize);
+            System.out.println("📋 [UserManagementService] loadUserPage(role=" + roleFilter + ", search='" +
+                    searchTerm + "', after=" + afterUsername + ") -> " + page.getRows().size() +
+                    " rows in " + (System.currentTimeMillis() - start) + " ms");
+            return page;
+        } catch (Exception e) {
             String message = "Failed to load users: " + e.getMessage();
             System.err.println("✗ " + message);
             throw new UserManagementException(message, e);
@@ -52,28 +61,26 @@ public class UserManagementService {
     }
 
     /**
-     * Load all users with progress callback
-     * @param progressCallback Callback to track loading progress
-     * @return List of all users
-     * @throws UserManagementException if loading fails
+     * Count users matching the directory filters (call once per filter change, not per page)
+     * @throws UserManagementException if counting fails
      */
-    public List<UserDisplayRowDTO> loadAllUsersWithProgress(UserDataLoaderService.ProgressCallback progressCallback)
-            throws UserManagementException {
-        long start = System.currentTimeMillis();
-        System.out.println("📋 [UserManagementService] loadAllUsersWithProgress() starting...");
-
+    public long countUsers(String roleFilter, String searchTerm) throws UserManagementException {
+        requireUserRepo();
         try {
-            dataLoaderService.setProgressCallback(progressCallback);
-            List<UserDisplayRowDTO> users = dataLoaderService.loadAllUsers();
-            System.out.println("✓ loadAllUsersWithProgress() completed in " + (System.currentTimeMillis() - start) + " ms");
-            return users;
-        } catch (UserDataLoaderService.UserDataLoadException e) {
-            String message = "Failed to load users: " + e.getMessage();
+            return userRepo.countDirectory(roleFilter, searchTerm);
+        } catch (Exception e) {
+            String message = "Failed to count users: " + e.getMessage();
             System.err.println("✗ " + message);
             throw new UserManagementException(message, e);
         }
     }
 
+    private void requireUserRepo() throws UserManagementException {
+        if (userRepo == null) {
+            throw new UserManagementException("UserRepository is not available");
+        }
+    }
+
     /**
      * Create a new user (Attendee or Presenter)
      * @param request The user creation request
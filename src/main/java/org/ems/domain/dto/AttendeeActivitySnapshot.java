@@ -0,0 +1,40 @@
+package org.ems.domain.dto;
+
+import org.ems.domain.model.enums.EventType;
+
+import java.util.UUID;
+
+/**
+ * AttendeeActivitySnapshot - Compact, column-oriented view of attendee activity
+ *
+ * Attendees are addressed by index: index i of every per-attendee array describes
+ * attendeeIds[i]. Event registrations are also counted per event type (indexed by
+ * EventType ordinal). No Attendee/Event objects are materialized.
+ *
+ * @author EMS Team
+ */
+public final class AttendeeActivitySnapshot {
+
+    public final UUID[] attendeeIds;
+    public final int[] eventRegistrations;
+    public final int[] sessionRegistrations;
+    public final int[] tickets;
+    public final long[] registrationsByEventType;
+
+    public AttendeeActivitySnapshot(UUID[] attendeeIds, int[] eventRegistrations,
+                                    int[] sessionRegistrations, int[] tickets,
+                                    long[] registrationsByEventType) {
+        if (registrationsByEventType.length != EventType.values().length) {
+            throw new IllegalArgumentException("registrationsByEventType must have one slot per EventType");
+        }
+        this.attendeeIds = attendeeIds;
+        this.eventRegistrations = eventRegistrations;
+        this.sessionRegistrations = sessionRegistrations;
+        this.tickets = tickets;
+        this.registrationsByEventType = registrationsByEventType;
+    }
+
+    public int attendeeCount() {
+        return attendeeIds.length;
+    }
+}
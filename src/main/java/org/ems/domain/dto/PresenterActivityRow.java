@@ -0,0 +1,56 @@
+package org.ems.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * PresenterActivityRow - One session assignment of a presenter, with its event
+ * Single Responsibility: Carry a row of the presenter activity export
+ *
+ * Produced by PresenterRepository.loadActivity from one joined query over presenters,
+ * presenter_session, sessions and events. Event columns are null for a session without event.
+ *
+ * @author EMS Team
+ */
+public final class PresenterActivityRow {
+
+    public final UUID presenterId;
+    public final String presenterName;
+    public final String presenterEmail;
+
+    public final UUID eventId;
+    public final String eventName;
+    public final String eventLocation;
+
+    public final UUID sessionId;
+    public final String sessionTitle;
+    public final String sessionVenue;
+    public final LocalDateTime sessionStart;
+    public final LocalDateTime sessionEnd;
+    public final int capacity;
+
+    public PresenterActivityRow(UUID presenterId, String presenterName, String presenterEmail,
+                                UUID eventId, String eventName, String eventLocation,
+                                UUID sessionId, String sessionTitle, String sessionVenue,
+                                LocalDateTime sessionStart, LocalDateTime sessionEnd, int capacity) {
+        this.presenterId = presenterId;
+        this.presenterName = presenterName;
+        this.presenterEmail = presenterEmail;
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.eventLocation = eventLocation;
+        this.sessionId = sessionId;
+        this.sessionTitle = sessionTitle;
+        this.sessionVenue = sessionVenue;
+        this.sessionStart = sessionStart;
+        this.sessionEnd = sessionEnd;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Session venue, or the event location when the session has none
+     */
+    public String venueOrLocation() {
+        return sessionVenue != null ? sessionVenue : eventLocation;
+    }
+}
@@ -0,0 +1,60 @@
+package org.ems.domain.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ScheduleEntry - One line of an attendee's personal schedule
+ *
+ * An attendee, an event they attend and one session of it they registered for. An
+ * attendee with no sessions in the event has a single entry without a session
+ * (sessionId null). Built from one joined row; no Attendee/Event/Session objects.
+ *
+ * @author EMS Team
+ */
+public final class ScheduleEntry {
+
+    public final UUID attendeeId;
+    public final String attendeeName;
+    public final String attendeeEmail;
+    public final String attendeeUsername;
+
+    public final UUID eventId;
+    public final String eventName;
+    public final String eventLocation;
+    public final LocalDate eventStart;
+    public final LocalDate eventEnd;
+
+    public final UUID sessionId;
+    public final String sessionTitle;
+    public final String sessionDescription;
+    public final String sessionVenue;
+    public final LocalDateTime sessionStart;
+    public final LocalDateTime sessionEnd;
+
+    public ScheduleEntry(UUID attendeeId, String attendeeName, String attendeeEmail, String attendeeUsername,
+                         UUID eventId, String eventName, String eventLocation, LocalDate eventStart, LocalDate eventEnd,
+                         UUID sessionId, String sessionTitle, String sessionDescription, String sessionVenue,
+                         LocalDateTime sessionStart, LocalDateTime sessionEnd) {
+        this.attendeeId = attendeeId;
+        this.attendeeName = attendeeName;
+        this.attendeeEmail = attendeeEmail;
+        this.attendeeUsername = attendeeUsername;
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.eventLocation = eventLocation;
+        this.eventStart = eventStart;
+        this.eventEnd = eventEnd;
+        this.sessionId = sessionId;
+        this.sessionTitle = sessionTitle;
+        this.sessionDescription = sessionDescription;
+        this.sessionVenue = sessionVenue;
+        this.sessionStart = sessionStart;
+        this.sessionEnd = sessionEnd;
+    }
+
+    public boolean hasSession() {
+        return sessionId != null;
+    }
+}
@@ -3,7 +3,7 @@ package org.ems.domain.model;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public class ActivityLog {
+public class ActivityLog implements Copyable<ActivityLog> {
 
     private UUID id;
     private String userId;
@@ -51,6 +51,16 @@ public class ActivityLog {
     public String getUserAgent() { return userAgent; }
     public void setUserAgent(String userAgent) { this.userAgent = userAgent; }
 
+    @Override
+    public ActivityLog copy() {
+        ActivityLog copy = new ActivityLog(userId, action, resource, description);
+        copy.id = id;
+        copy.timestamp = timestamp;
+        copy.ipAddress = ipAddress;
+        copy.userAgent = userAgent;
+        return copy;
+    }
+
     @Override
     public String toString() {
         return "ActivityLog{" +
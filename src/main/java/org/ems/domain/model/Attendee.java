@@ -42,4 +42,14 @@ public class Attendee extends Person {
     public List<String> getActivityHistory() {
         return activityHistory;
     }
+
+    @Override
+    public Attendee copy() {
+        Attendee copy = new Attendee();
+        copy.registeredEventIds = new ArrayList<>(registeredEventIds);
+        copy.registeredSessionIds = new ArrayList<>(registeredSessionIds);
+        copy.ticketIds = new ArrayList<>(ticketIds);
+        copy.activityHistory = new ArrayList<>(activityHistory);
+        return copyInto(copy);
+    }
 }
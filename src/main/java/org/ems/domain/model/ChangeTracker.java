@@ -0,0 +1,74 @@
+package org.ems.domain.model;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ChangeTracker - Remembers which fields of an entity changed since it was loaded or saved
+ * Single Responsibility: Dirty tracking for partial updates
+ *
+ * Setters report every assignment; a value equal to the current one is not a change.
+ * Repositories call markPersisted() after mapping a row and after a save, and write only
+ * the changed fields of persisted entities. New entities are always written in full.
+ * Like the entities themselves, a tracker is not thread-safe.
+ *
+ * @author EMS Team
+ */
+public final class ChangeTracker {
+
+    private final Set<String> changed = new HashSet<>();
+    private boolean persisted;
+
+    /**
+     * Record an assignment of a field
+     */
+    public void set(String field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changed.add(field);
+        }
+    }
+
+    /**
+     * Record a change the setter cannot compare (e.g. an element added to a list)
+     */
+    public void mark(String field) {
+        changed.add(field);
+    }
+
+    /**
+     * @return true once the entity was read from or written to the database
+     */
+    public boolean isPersisted() {
+        return persisted;
+    }
+
+    public boolean hasChanges() {
+        return !changed.isEmpty();
+    }
+
+    public boolean isChanged(String field) {
+        return changed.contains(field);
+    }
+
+    public Set<String> getChangedFields() {
+        return Set.copyOf(changed);
+    }
+
+    /**
+     * Take over another tracker's state (for entity copies)
+     */
+    public void copyFrom(ChangeTracker source) {
+        changed.clear();
+        changed.addAll(source.changed);
+        persisted = source.persisted;
+    }
+
+    /**
+     * The entity now matches its database row
+     */
+    public void markPersisted() {
+        persisted = true;
+        changed.clear();
+    }
+}
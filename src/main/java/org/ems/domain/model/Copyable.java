@@ -0,0 +1,15 @@
+package org.ems.domain.model;
+
+/**
+ * Copyable - An entity that can hand out an independent copy of itself
+ * Single Responsibility: Let shared read results be given to each caller separately
+ *
+ * A copy has the same field values and the same dirty state (see ChangeTracker); its lists
+ * are new lists, so changing the copy never changes the original.
+ *
+ * @author EMS Team
+ */
+public interface Copyable<T> {
+
+    T copy();
+}
@@ -5,10 +5,11 @@ import org.ems.domain.model.enums.EventType;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
-public class Event {
+public class Event implements Copyable<Event> {
 
     private UUID id;
 
@@ -22,6 +23,9 @@ public class Event {
 
     private List<UUID> sessionIds = new ArrayList<>();
 
+    // Fields changed since the last load or save (see ChangeTracker)
+    private final ChangeTracker changes = new ChangeTracker();
+
     public Event() {
         this.id = UUID.randomUUID();
     }
@@ -44,29 +48,47 @@ public class Event {
     public void setId(UUID id) { this.id = id; }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) { changes.set("name", this.name, name); this.name = name; }
 
     public EventType getType() { return type; }
-    public void setType(EventType type) { this.type = type; }
+    public void setType(EventType type) { changes.set("type", this.type, type); this.type = type; }
 
     public String getLocation() { return location; }
-    public void setLocation(String location) { this.location = location; }
+    public void setLocation(String location) { changes.set("location", this.location, location); this.location = location; }
 
     public LocalDate getStartDate() { return startDate; }
-    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    public void setStartDate(LocalDate startDate) { changes.set("startDate", this.startDate, startDate); this.startDate = startDate; }
 
     public LocalDate getEndDate() { return endDate; }
-    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    public void setEndDate(LocalDate endDate) { changes.set("endDate", this.endDate, endDate); this.endDate = endDate; }
 
     public EventStatus getStatus() { return status; }
-    public void setStatus(EventStatus status) { this.status = status; }
+    public void setStatus(EventStatus status) { changes.set("status", this.status, status); this.status = status; }
 
     public String getImagePath() { return imagePath; }
-    public void setImagePath(String imagePath) { this.imagePath = imagePath; }
+    public void setImagePath(String imagePath) { changes.set("imagePath", this.imagePath, imagePath); this.imagePath = imagePath; }
 
-    public List<UUID> getSessionIds() { return sessionIds; }
+    // Read-only: list changes go through the methods below so the ChangeTracker sees them
+    public List<UUID> getSessionIds() { return Collections.unmodifiableList(sessionIds); }
+    public void setSessionIds(List<UUID> sessionIds) { changes.set("sessionIds", this.sessionIds, sessionIds); this.sessionIds = new ArrayList<>(sessionIds); }
 
     public void addSession(UUID sessionId) {
         sessionIds.add(sessionId);
+        changes.mark("sessionIds");
+    }
+
+    public void removeSession(UUID sessionId) {
+        if (sessionIds.remove(sessionId)) changes.mark("sessionIds");
+    }
+
+    public ChangeTracker getChangeTracker() { return changes; }
+
+    @Override
+    public Event copy() {
+        Event copy = new Event(name, type, location, startDate, endDate, status, imagePath);
+        copy.id = id;
+        copy.sessionIds = new ArrayList<>(sessionIds);
+        copy.changes.copyFrom(changes);
+        return copy;
     }
 }
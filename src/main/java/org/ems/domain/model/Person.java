@@ -7,7 +7,7 @@ import java.util.UUID;
 /**
  * Base domain entity for all types of users.
  */
-public abstract class Person {
+public abstract class Person implements Copyable<Person> {
 
     // Unique identifier
     private UUID id;
@@ -21,6 +21,9 @@ public abstract class Person {
     private String passwordHash;
     private Role role;
 
+    // Fields changed since the last load or save (see ChangeTracker)
+    private final ChangeTracker changes = new ChangeTracker();
+
     protected Person() {
         this.id = UUID.randomUUID();
     }
@@ -44,23 +47,50 @@ public abstract class Person {
     public void setId(UUID id) { this.id = id; }
 
     public String getFullName() { return fullName; }
-    public void setFullName(String fullName) { this.fullName = fullName; }
+    public void setFullName(String fullName) { changes.set("fullName", this.fullName, fullName); this.fullName = fullName; }
 
     public LocalDate getDateOfBirth() { return dateOfBirth; }
-    public void setDateOfBirth(LocalDate dateOfBirth) { this.dateOfBirth = dateOfBirth; }
+    public void setDateOfBirth(LocalDate dateOfBirth) { changes.set("dateOfBirth", this.dateOfBirth, dateOfBirth); this.dateOfBirth = dateOfBirth; }
 
     public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
+    public void setEmail(String email) { changes.set("email", this.email, email); this.email = email; }
 
     public String getPhone() { return phone; }
-    public void setPhone(String phone) { this.phone = phone; }
+    public void setPhone(String phone) { changes.set("phone", this.phone, phone); this.phone = phone; }
 
     public String getUsername() { return username; }
-    public void setUsername(String username) { this.username = username; }
+    public void setUsername(String username) { changes.set("username", this.username, username); this.username = username; }
 
     public String getPasswordHash() { return passwordHash; }
-    public void setPasswordHash(String passwordHash) { this.passwordHash = passwordHash; }
+    public void setPasswordHash(String passwordHash) { changes.set("passwordHash", this.passwordHash, passwordHash); this.passwordHash = passwordHash; }
 
     public Role getRole() { return role; }
-    public void setRole(Role role) { this.role = role; }
+    public void setRole(Role role) { changes.set("role", this.role, role); this.role = role; }
+
+    public ChangeTracker getChangeTracker() { return changes; }
+
+    /**
+     * Copy of a person without a more specific type (subclasses return their own type)
+     */
+    @Override
+    public Person copy() {
+        return copyInto(new Person() {});
+    }
+
+    /**
+     * Copy the fields and dirty state of this person into a new instance
+     */
+    protected <P extends Person> P copyInto(P copy) {
+        Person target = copy;
+        target.id = id;
+        target.fullName = fullName;
+        target.dateOfBirth = dateOfBirth;
+        target.email = email;
+        target.phone = phone;
+        target.username = username;
+        target.passwordHash = passwordHash;
+        target.role = role;
+        target.changes.copyFrom(changes);
+        return copy;
+    }
 }
@@ -5,6 +5,7 @@ import org.ems.domain.model.enums.PresenterType;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -60,8 +61,11 @@ public class Presenter extends Person {
         this.presenterType = presenterType;
     }
 
-    public List<UUID> getSessionIds() { return sessionIds; }
-    public void addSession(UUID sessionId) { sessionIds.add(sessionId); }
+    // Read-only: list changes go through the methods below so the ChangeTracker sees them
+    public List<UUID> getSessionIds() { return Collections.unmodifiableList(sessionIds); }
+    public void setSessionIds(List<UUID> sessionIds) { getChangeTracker().set("sessionIds", this.sessionIds, sessionIds); this.sessionIds = new ArrayList<>(sessionIds); }
+    public void addSession(UUID sessionId) { sessionIds.add(sessionId); getChangeTracker().mark("sessionIds"); }
+    public void removeSession(UUID sessionId) { if (sessionIds.remove(sessionId)) getChangeTracker().mark("sessionIds"); }
 
     public List<UUID> getEventIds() { return eventIds; }
     public void addEvent(UUID eventId) { eventIds.add(eventId); }
@@ -76,4 +80,15 @@ public class Presenter extends Person {
 
     public String getBio() { return bio; }
     public void setBio(String bio) { this.bio = bio; }
+
+    @Override
+    public Presenter copy() {
+        Presenter copy = new Presenter();
+        copy.presenterType = presenterType;
+        copy.sessionIds = new ArrayList<>(sessionIds);
+        copy.eventIds = new ArrayList<>(eventIds);
+        copy.bio = bio;
+        copy.materialPaths = new ArrayList<>(materialPaths);
+        return copyInto(copy);
+    }
 }
@@ -2,10 +2,11 @@ package org.ems.domain.model;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
-public class Session {
+public class Session implements Copyable<Session> {
 
     private UUID id;
     private UUID eventId;
@@ -22,6 +23,9 @@ public class Session {
     private List<UUID> presenterIds = new ArrayList<>();
     private String materialPath;
 
+    // Fields changed since the last load or save (see ChangeTracker)
+    private final ChangeTracker changes = new ChangeTracker();
+
     public Session() {
         this.id = UUID.randomUUID();
     }
@@ -44,29 +48,44 @@ public class Session {
     public void setId(UUID id) { this.id = id; }
 
     public UUID getEventId() { return eventId; }
-    public void setEventId(UUID eventId) { this.eventId = eventId; }
+    public void setEventId(UUID eventId) { changes.set("eventId", this.eventId, eventId); this.eventId = eventId; }
 
     public String getTitle() { return title; }
-    public void setTitle(String title) { this.title = title; }
+    public void setTitle(String title) { changes.set("title", this.title, title); this.title = title; }
 
     public String getDescription() { return description; }
-    public void setDescription(String description) { this.description = description; }
+    public void setDescription(String description) { changes.set("description", this.description, description); this.description = description; }
 
     public LocalDateTime getStart() { return start; }
-    public void setStart(LocalDateTime start) { this.start = start; }
+    public void setStart(LocalDateTime start) { changes.set("start", this.start, start); this.start = start; }
 
     public LocalDateTime getEnd() { return end; }
-    public void setEnd(LocalDateTime end) { this.end = end; }
+    public void setEnd(LocalDateTime end) { changes.set("end", this.end, end); this.end = end; }
 
     public String getVenue() { return venue; }
-    public void setVenue(String venue) { this.venue = venue; }
+    public void setVenue(String venue) { changes.set("venue", this.venue, venue); this.venue = venue; }
 
     public int getCapacity() { return capacity; }
-    public void setCapacity(int capacity) { this.capacity = capacity; }
+    public void setCapacity(int capacity) { changes.set("capacity", this.capacity, capacity); this.capacity = capacity; }
 
-    public List<UUID> getPresenterIds() { return presenterIds; }
-    public void addPresenter(UUID presenterId) { presenterIds.add(presenterId); }
+    // Read-only: list changes go through the methods below so the ChangeTracker sees them
+    public List<UUID> getPresenterIds() { return Collections.unmodifiableList(presenterIds); }
+    public void setPresenterIds(List<UUID> presenterIds) { changes.set("presenterIds", this.presenterIds, presenterIds); this.presenterIds = new ArrayList<>(presenterIds); }
+    public void addPresenter(UUID presenterId) { presenterIds.add(presenterId); changes.mark("presenterIds"); }
+    public void removePresenter(UUID presenterId) { if (presenterIds.remove(presenterId)) changes.mark("presenterIds"); }
 
     public String getMaterialPath() { return materialPath; }
-    public void setMaterialPath(String materialPath) { this.materialPath = materialPath; }
+    public void setMaterialPath(String materialPath) { changes.set("materialPath", this.materialPath, materialPath); this.materialPath = materialPath; }
+
+    public ChangeTracker getChangeTracker() { return changes; }
+
+    @Override
+    public Session copy() {
+        Session copy = new Session(eventId, title, description, start, end, venue, capacity);
+        copy.id = id;
+        copy.presenterIds = new ArrayList<>(presenterIds);
+        copy.materialPath = materialPath;
+        copy.changes.copyFrom(changes);
+        return copy;
+    }
 }
@@ -7,7 +7,7 @@ import org.ems.domain.model.enums.TicketType;
 import java.math.BigDecimal;
 import java.util.UUID;
 
-public class Ticket {
+public class Ticket implements Copyable<Ticket> {
 
     private UUID id;
 
@@ -25,6 +25,9 @@ public class Ticket {
     private String qrCodeData;
     private java.sql.Timestamp createdAt;
 
+    // Fields changed since the last load or save (see ChangeTracker)
+    private final ChangeTracker changes = new ChangeTracker();
+
     public Ticket() {
         this.id = UUID.randomUUID();
     }
@@ -43,6 +46,7 @@ public class Ticket {
     }
 
     public void setAttendeeId(UUID attendeeId) {
+        changes.set("attendeeId", this.attendeeId, attendeeId);
         this.attendeeId = attendeeId;
     }
 
@@ -51,6 +55,7 @@ public class Ticket {
     }
 
     public void setEventId(UUID eventId) {
+        changes.set("eventId", this.eventId, eventId);
         this.eventId = eventId;
     }
 
@@ -61,6 +66,7 @@ public class Ticket {
     }
 
     public void setType(TicketType type) {
+        changes.set("type", this.type, type);
         this.type = type;
     }
 
@@ -69,6 +75,7 @@ public class Ticket {
     }
 
     public void setPrice(BigDecimal price) {
+        changes.set("price", this.price, price);
         this.price = price;
     }
 
@@ -77,6 +84,7 @@ public class Ticket {
     }
 
     public void setPaymentStatus(PaymentStatus paymentStatus) {
+        changes.set("paymentStatus", this.paymentStatus, paymentStatus);
         this.paymentStatus = paymentStatus;
     }
 
@@ -85,6 +93,7 @@ public class Ticket {
     }
 
     public void setTicketStatus(TicketStatus ticketStatus) {
+        changes.set("ticketStatus", this.ticketStatus, ticketStatus);
         this.ticketStatus = ticketStatus;
     }
 
@@ -93,6 +102,7 @@ public class Ticket {
     }
 
     public void setQrCodeData(String qrCodeData) {
+        changes.set("qrCodeData", this.qrCodeData, qrCodeData);
         this.qrCodeData = qrCodeData;
     }
 
@@ -103,4 +113,24 @@ public class Ticket {
     public void setCreatedAt(java.sql.Timestamp createdAt) {
         this.createdAt = createdAt;
     }
+
+    public ChangeTracker getChangeTracker() {
+        return changes;
+    }
+
+    @Override
+    public Ticket copy() {
+        Ticket copy = new Ticket();
+        copy.id = id;
+        copy.attendeeId = attendeeId;
+        copy.eventId = eventId;
+        copy.type = type;
+        copy.price = price;
+        copy.paymentStatus = paymentStatus;
+        copy.ticketStatus = ticketStatus;
+        copy.qrCodeData = qrCodeData;
+        copy.createdAt = createdAt;
+        copy.changes.copyFrom(changes);
+        return copy;
+    }
 }
@@ -10,20 +10,42 @@ public interface ActivityLogRepository {
 
     void save(ActivityLog log);
 
+    @Read
     ActivityLog findById(UUID id);
 
+    @Read
     List<ActivityLog> findAll();
 
+    @Read
     List<ActivityLog> findPage(int offset, int pageSize);
 
+    /**
+     * Page of logs matching the filters, newest first
+     * @param action exact action, or null for all actions
+     * @param searchTerm case-insensitive text in user, action, resource or description; null/empty for all
+     */
+    @Read
+    List<ActivityLog> findPage(String action, String searchTerm, int offset, int pageSize);
+
+    /**
+     * Number of logs matching the same filters as {@link #findPage(String, String, int, int)}
+     */
+    @Read
+    long count(String action, String searchTerm);
+
+    @Read
     List<ActivityLog> findByAction(String action);
 
+    @Read
     List<ActivityLog> findByUserId(String userId);
 
+    @Read
     List<ActivityLog> findByResource(String resource);
 
+    @Read
     List<ActivityLog> findByDateRange(LocalDateTime startDate, LocalDateTime endDate);
 
+    @Read
     long count();
 
     void deleteById(UUID id);
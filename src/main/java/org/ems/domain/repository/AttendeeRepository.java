@@ -1,8 +1,11 @@
 package org.ems.domain.repository;
 
+import org.ems.domain.dto.AttendeeActivitySnapshot;
+import org.ems.domain.dto.ScheduleEntry;
 import org.ems.domain.model.Attendee;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface AttendeeRepository {
 
@@ -10,8 +13,10 @@ public interface AttendeeRepository {
 
     void delete(UUID id);
 
+    @Read
     Attendee findById(UUID id);
 
+    @Read
     List<Attendee> findAll();
 
     // mapping tables
@@ -26,5 +31,30 @@ public interface AttendeeRepository {
     /**
      * Returns total number of attendees.
      */
+    @Read
     long count();
+
+    /**
+     * Per-attendee registration/ticket counts and registrations per event type,
+     * computed with grouped queries instead of loading every attendee.
+     */
+    @Read(shared = false)
+    AttendeeActivitySnapshot loadActivitySnapshot();
+
+    /**
+     * One attendee's schedule: every event they registered for or hold a ticket to,
+     * with their sessions, ordered by event start then session start.
+     */
+    @Read
+    List<ScheduleEntry> findSchedule(UUID attendeeId);
+
+    /**
+     * Schedules of every attendee of an event (registered or holding a ticket), read with
+     * one joined query and handed to the handler row by row without being collected.
+     * Entries arrive grouped by attendee, each attendee's sessions by start time.
+     *
+     * @return Number of entries
+     */
+    @Read(shared = false)
+    long loadEventSchedules(UUID eventId, Consumer<ScheduleEntry> handler);
 }
@@ -0,0 +1,91 @@
+package org.ems.domain.repository;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * ChangeSet - Rows written and deleted since a sync watermark
+ * Single Responsibility: Carry one delta of an entity table to a client-side copy
+ *
+ * Returned by the repositories' findChangesSince(watermark). A client starts from watermark
+ * 0, applies each set to its copy (see applyTo) and passes getWatermark() to the next call.
+ * When isFullReload() is true, changed holds every row and replaces the copy: this is the
+ * case for watermark 0 and for watermarks older than the deletes the database still knows.
+ * A row may be sent again in a later set; applying it twice is harmless.
+ *
+ * @author EMS Team
+ */
+public final class ChangeSet<T> {
+
+    private final List<T> changed;
+    private final Set<UUID> deletedIds;
+    private final long watermark;
+    private final boolean fullReload;
+
+    private ChangeSet(List<T> changed, Set<UUID> deletedIds, long watermark, boolean fullReload) {
+        this.changed = changed;
+        this.deletedIds = deletedIds;
+        this.watermark = watermark;
+        this.fullReload = fullReload;
+    }
+
+    /**
+     * Every row, replacing whatever the client has
+     */
+    public static <T> ChangeSet<T> fullReload(List<T> all, long watermark) {
+        return new ChangeSet<>(all, Set.of(), watermark, true);
+    }
+
+    /**
+     * Rows written and ids deleted since the previous watermark. An id that is both (deleted
+     * and written again, or a session moved to another event) counts as written.
+     */
+    public static <T> ChangeSet<T> delta(List<T> changed, Set<UUID> deletedIds, Function<T, UUID> id, long watermark) {
+        Set<UUID> deleted = new HashSet<>(deletedIds);
+        for (T row : changed) {
+            deleted.remove(id.apply(row));
+        }
+        return new ChangeSet<>(changed, deleted, watermark, false);
+    }
+
+    /**
+     * Apply this set to a client copy
+     *
+     * @return A new list: the copy with deleted rows removed, changed rows replaced in place
+     *         and new rows appended (or just the changed rows on a full reload)
+     */
+    public List<T> applyTo(List<T> current, Function<T, UUID> id) {
+        if (fullReload) {
+            return new ArrayList<>(changed);
+        }
+        Map<UUID, T> rows = new LinkedHashMap<>();
+        for (T row : current) {
+            rows.put(id.apply(row), row);
+        }
+        rows.keySet().removeAll(deletedIds);
+        for (T row : changed) {
+            rows.put(id.apply(row), row);
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    public List<T> getChanged() { return changed; }
+    public Set<UUID> getDeletedIds() { return deletedIds; }
+
+    /**
+     * Watermark to pass to the next findChangesSince call
+     */
+    public long getWatermark() { return watermark; }
+
+    public boolean isFullReload() { return fullReload; }
+
+    public boolean isEmpty() {
+        return !fullReload && changed.isEmpty() && deletedIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return fullReload ? "ChangeSet[full reload, " + changed.size() + " rows]"
+                : "ChangeSet[" + changed.size() + " changed, " + deletedIds.size() + " deleted]";
+    }
+}
@@ -1,5 +1,7 @@
 package org.ems.domain.repository;
 
+import org.ems.application.dto.event.EventFilterCriteriaDTO;
+import org.ems.application.dto.event.EventRowDTO;
 import org.ems.domain.model.Event;
 import org.ems.domain.model.enums.EventType;
 
@@ -9,17 +11,64 @@ import java.util.UUID;
 public interface EventRepository {
     Event save(Event event);
     void delete(UUID id);
+    @Read
     Event findById(UUID id);
+    @Read
     List<Event> findAll();
+    @Read
     List<Event> findByType(EventType type);
 
+    /**
+     * Events written or deleted since the watermark (see ChangeSet). An event also counts
+     * as written when its session list changed.
+     */
+    @Read(shared = false)
+    ChangeSet<Event> findChangesSince(long watermark);
+
     /**
      * Returns total number of events.
      */
+    @Read
     long count();
 
+    /**
+     * Returns number of active events (SCHEDULED or ONGOING).
+     */
+    @Read
+    long countActiveEvents();
+
     /**
      * Returns a page of events using offset/limit.
      */
+    @Read
     List<Event> findPage(int offset, int limit);
+
+    /**
+     * Returns one page of grid rows (with session counts) for the given filters and sort,
+     * reading only the columns the grid shows.
+     *
+     * @param criteria     filters, zero-based page number, page size and sort
+     * @param includeTotal also compute the total number of matching events in the same query;
+     *                     pass false when the caller already knows it
+     */
+    @Read(shared = false)
+    EventRowPage findRowPage(EventFilterCriteriaDTO criteria, boolean includeTotal);
+
+    /**
+     * One page of event rows. totalCount is -1 when it was not requested
+     * or the page was past the end of the result.
+     */
+    final class EventRowPage {
+        private final List<EventRowDTO> rows;
+        private final long totalCount;
+
+        public EventRowPage(List<EventRowDTO> rows, long totalCount) {
+            this.rows = rows;
+            this.totalCount = totalCount;
+        }
+
+        public List<EventRowDTO> getRows() { return rows; }
+        public long getTotalCount() { return totalCount; }
+        public boolean hasTotalCount() { return totalCount >= 0; }
+    }
 }
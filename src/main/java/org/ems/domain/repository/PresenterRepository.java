@@ -1,9 +1,12 @@
 package org.ems.domain.repository;
 
+import org.ems.domain.dto.PresenterActivityRow;
 import org.ems.domain.model.Presenter;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface PresenterRepository {
 
@@ -11,16 +14,70 @@ public interface PresenterRepository {
 
     void delete(UUID id);
 
+    @Read
     Presenter findById(UUID id);
 
+    @Read
     Presenter findByUsername(String username);
 
+    @Read
     List<Presenter> findAll();
 
+    @Read
     List<Presenter> findByEvent(UUID eventId);
 
+    @Read
     List<Presenter> findBySession(UUID sessionId);
 
+    /**
+     * Presenters written or deleted since the watermark (see ChangeSet), with session ids.
+     * A presenter also counts as written when their sessions changed.
+     */
+    @Read(shared = false)
+    ChangeSet<Presenter> findChangesSince(long watermark);
+
+    /**
+     * Stream presenters' session assignments with their events, ordered by presenter and
+     * session start, without collecting them
+     *
+     * @return Number of rows handed to the handler
+     */
+    @Read(shared = false)
+    long loadActivity(ActivityFilter filter, Consumer<PresenterActivityRow> handler);
+
+    /**
+     * Filter for loadActivity; a null field does not restrict the result.
+     * The date range is inclusive and applies to the session start.
+     */
+    final class ActivityFilter {
+        private final UUID presenterId;
+        private final UUID eventId;
+        private final LocalDate from;
+        private final LocalDate to;
+
+        public ActivityFilter(UUID presenterId, UUID eventId, LocalDate from, LocalDate to) {
+            this.presenterId = presenterId;
+            this.eventId = eventId;
+            this.from = from;
+            this.to = to;
+        }
+
+        public static ActivityFilter forPresenter(UUID presenterId) {
+            return new ActivityFilter(presenterId, null, null, null);
+        }
+
+        public UUID getPresenterId() { return presenterId; }
+        public UUID getEventId() { return eventId; }
+        public LocalDate getFrom() { return from; }
+        public LocalDate getTo() { return to; }
+
+        @Override
+        public String toString() {
+            return "ActivityFilter{presenter=" + presenterId + ", event=" + eventId
+                    + ", from=" + from + ", to=" + to + "}";
+        }
+    }
+
     void assignToSession(UUID presenterId, UUID sessionId);
 
     void removeFromSession(UUID presenterId, UUID sessionId);
@@ -30,5 +87,6 @@ public interface PresenterRepository {
     /**
      * Returns total number of presenters.
      */
+    @Read
     long count();
 }
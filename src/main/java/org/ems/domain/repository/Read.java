@@ -0,0 +1,29 @@
+package org.ems.domain.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Read - Marks a repository method that only reads
+ * Single Responsibility: Classify repository methods for the repository wrappers
+ *
+ * Repository proxies (CoalescingRepository, OfflineRepository) treat a method without this
+ * annotation as a write: it drops coalesced results, and it is rejected while offline.
+ * Identical concurrent calls of a read may share one database call, unless shared is false
+ * (results streamed to a handler, or mutable results that cannot be copied per caller).
+ *
+ * @author EMS Team
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Read {
+
+    /**
+     * Whether identical concurrent calls may share one result
+     */
+    boolean shared() default true;
+}
@@ -12,42 +12,59 @@ public interface SessionRepository {
 
     void delete(UUID id);
 
+    @Read
     Session findById(UUID id);
 
+    @Read
     List<Session> findAll();
 
     /**
      * Find all sessions with optimized presenter loading (batch query instead of N+1)
      * ⚡ Much faster for large datasets
      */
+    @Read
     List<Session> findAllOptimized();
 
+    @Read
     List<Session> findByEvent(UUID eventId);
 
+    @Read
     List<Session> findByDate(LocalDate date);
 
+    /**
+     * Sessions written or deleted since the watermark (see ChangeSet), with presenter ids.
+     * A session also counts as written when its presenters changed.
+     */
+    @Read(shared = false)
+    ChangeSet<Session> findChangesSince(long watermark);
+
     // Presenter assignment
     void assignPresenter(UUID sessionId, UUID presenterId);
 
+    @Read
     List<Session> findByPresenter(UUID presenterId, int offset, int limit);
 
     void clearPresenters(UUID sessionId);
 
+    @Read
     long countByPresenter(UUID presenterId);
 
     /**
      * Returns total number of sessions.
      */
+    @Read
     long count();
 
     /**
      * Phân trang session: trả về danh sách theo offset/limit.
      */
+    @Read
     List<Session> findPage(int offset, int limit);
 
     /**
      * Batch count sessions for multiple events using GROUP BY.
      */
+    @Read
     java.util.Map<java.util.UUID, Integer> countByEventIds(java.util.List<java.util.UUID> eventIds);
 
     /**
@@ -63,11 +80,13 @@ public interface SessionRepository {
     /**
      * Get all sessions registered for an attendee
      */
+    @Read
     List<Session> findSessionsForAttendee(UUID attendeeId);
 
     /**
      * Find all sessions that an attendee has registered for in a specific event
      */
+    @Read
     List<Session> findSessionsByAttendeeAndEvent(UUID attendeeId, UUID eventId);
 
     /**
@@ -6,6 +6,7 @@ import org.ems.domain.model.enums.TicketStatus;
 import org.ems.domain.model.enums.PaymentStatus;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,61 +16,88 @@ public interface TicketRepository {
 
     void delete(UUID id);
 
+    @Read
     Ticket findById(UUID id);
 
+    @Read
     List<Ticket> findAll();
 
+    @Read
     List<Ticket> findByAttendee(UUID attendeeId);
 
+    @Read
     List<Ticket> findByEvent(UUID eventId);
 
+    @Read
     List<Ticket> findBySession(UUID sessionId);
 
+    @Read
     List<Ticket> findByType(TicketType type);
 
+    @Read
     List<Ticket> findByStatus(TicketStatus status);
 
+    @Read
     List<Ticket> findByPaymentStatus(PaymentStatus status);
 
+    /**
+     * Templates and one attendee's tickets written or deleted since the watermark (see
+     * ChangeSet). A ticket leaving that scope (a template being assigned, a ticket moved to
+     * another attendee) is reported as deleted; other attendees' tickets are never returned.
+     *
+     * @param attendeeId attendee whose tickets are included, or null for templates only
+     */
+    @Read(shared = false)
+    ChangeSet<Ticket> findChangesSince(long watermark, UUID attendeeId);
+
     /**
      * Returns total number of tickets.
      */
+    @Read
     long count();
 
     /**
      * Returns total number of template tickets (attendee_id IS NULL).
      */
+    @Read
     long countTemplates();
 
     /**
      * Returns total number of assigned tickets (attendee_id IS NOT NULL).
      */
+    @Read
     long countAssigned();
 
     /**
      * Find ticket templates: tickets chưa gán attendee (attendee_id IS NULL).
      */
+    @Read
     List<Ticket> findTemplates();
 
     /**
      * Find assigned tickets: tickets đã gán attendee (attendee_id IS NOT NULL).
      */
+    @Read
     List<Ticket> findAssigned();
 
     /**
      * Templates phân trang.
      */
+    @Read
     List<Ticket> findTemplatesPage(int offset, int limit);
 
     /**
      * Assigned tickets phân trang.
      */
+    @Read
     List<Ticket> findAssignedPage(int offset, int limit);
 
     /**
      * Aggregate số lượng vé đã assign theo template key (event, session, type, price).
      * Có thể dùng để tính "available" mà không cần load toàn bộ danh sách assigned vào memory.
+     * Đọc từ bảng ticket_template_stats (O(templates)); sessionId luôn null vì vé không gắn session.
      */
+    @Read
     List<TemplateAssignmentStats> findAssignedStatsForTemplates();
 
     /**
@@ -99,6 +127,94 @@ public interface TicketRepository {
         public long getAssignedCount() { return assignedCount; }
     }
 
+    /**
+     * Totals over all assigned tickets (count, ACTIVE count, revenue) in one query,
+     * so statistics do not require loading every assigned ticket.
+     */
+    @Read
+    AssignedSummary summarizeAssigned();
+
+    /**
+     * Aggregate of assigned tickets.
+     */
+    final class AssignedSummary {
+        private final long total;
+        private final long active;
+        private final java.math.BigDecimal revenue;
+
+        public AssignedSummary(long total, long active, java.math.BigDecimal revenue) {
+            this.total = total;
+            this.active = active;
+            this.revenue = revenue;
+        }
+
+        public long getTotal() { return total; }
+        public long getActive() { return active; }
+        public java.math.BigDecimal getRevenue() { return revenue; }
+    }
+
+    /**
+     * Ticket sales per period từ các bảng rollup ticket_sales_*, oldest period first.
+     * Key = ngày đầu của period (yyyy-MM-dd). Số dòng đọc tỉ lệ với số ngày, không phải số vé.
+     * Vé không có created_at (rollup day 1970-01-01) không thuộc period nào.
+     *
+     * @param eventId Only this event's tickets (null: all events)
+     * @param from    First day included (null: no lower bound)
+     * @param to      Day after the last one included (null: no upper bound)
+     */
+    @Read
+    List<SalesRollup> findSalesTrend(SalesPeriod period, UUID eventId, LocalDate from, LocalDate to);
+
+    /**
+     * Ticket sales per event từ rollup (key = event id, name = event name), most tickets first.
+     * Vé có event đã bị xóa không được tính.
+     */
+    @Read
+    List<SalesRollup> findSalesByEvent();
+
+    /**
+     * Ticket sales per ticket type từ rollup (key = TicketType name).
+     */
+    @Read
+    List<SalesRollup> findSalesByType();
+
+    /**
+     * Độ dài một period của sales trend.
+     */
+    enum SalesPeriod { DAY, WEEK, MONTH, YEAR }
+
+    /**
+     * Aggregate ticket sales of one key (period, event or type).
+     */
+    final class SalesRollup {
+        private final String key;
+        private final String name;
+        private final long ticketCount;
+        private final long usedCount;
+        private final long paidCount;
+        private final java.math.BigDecimal grossAmount;
+        private final java.math.BigDecimal paidRevenue;
+
+        public SalesRollup(String key, String name, long ticketCount, long usedCount, long paidCount,
+                           java.math.BigDecimal grossAmount, java.math.BigDecimal paidRevenue) {
+            this.key = key;
+            this.name = name;
+            this.ticketCount = ticketCount;
+            this.usedCount = usedCount;
+            this.paidCount = paidCount;
+            this.grossAmount = grossAmount;
+            this.paidRevenue = paidRevenue;
+        }
+
+        public String getKey() { return key; }
+        public String getName() { return name; }
+        public long getTicketCount() { return ticketCount; }
+        public long getUsedCount() { return usedCount; }
+        public long getPaidCount() { return paidCount; }
+        public java.math.BigDecimal getGrossAmount() { return grossAmount; }
+        public java.math.BigDecimal getPaidRevenue() { return paidRevenue; }
+    }
+
     /**
      * Find ticket templates by keyset cursor pagination.
      * Uses (created_at, id) as cursor for efficient pagination.
@@ -108,6 +224,7 @@ public interface TicketRepository {
      * @param limit Number of records to fetch
      * @return List of template tickets
      */
+    @Read
     List<Ticket> findTemplatesByCursor(Timestamp lastCreatedAt, UUID lastId, int limit);
 
     /**
@@ -119,5 +236,6 @@ public interface TicketRepository {
      * @param limit Number of records to fetch
      * @return List of assigned tickets
      */
+    @Read
     List<Ticket> findAssignedByCursor(Timestamp lastCreatedAt, UUID lastId, int limit);
 }
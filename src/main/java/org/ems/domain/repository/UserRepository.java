@@ -1,5 +1,6 @@
 package org.ems.domain.repository;
 
+import org.ems.application.dto.user.UserDisplayRowDTO;
 import org.ems.domain.model.Person;
 
 import java.util.List;
@@ -7,21 +8,63 @@ import java.util.UUID;
 
 public interface UserRepository {
 
+    @Read
     Person findById(UUID id);
 
+    @Read
     Person findByUsername(String username);
 
+    @Read
     List<Person> findAll();
 
     Person save(Person user);
 
     void delete(UUID id);
 
+    @Read
     boolean existsByUsername(String username);
 
     /**
      * Returns total number of users.
      * Implemented efficiently in JDBC layer using SELECT COUNT(*).
      */
+    @Read
     long count();
+
+    /**
+     * Returns one page of the user directory ordered by username (keyset paging).
+     *
+     * @param roleFilter    role name or "ALL"
+     * @param searchTerm    matched against full name, username and email (empty for all)
+     * @param afterUsername username of the last row of the previous page, null for the first page
+     * @param limit         page size
+     */
+    @Read(shared = false)
+    UserPage findDirectoryPage(String roleFilter, String searchTerm, String afterUsername, int limit);
+
+    /**
+     * Number of users matching the directory filters
+     */
+    @Read
+    long countDirectory(String roleFilter, String searchTerm);
+
+    /**
+     * One keyset page of the user directory
+     */
+    final class UserPage {
+        private final List<UserDisplayRowDTO> rows;
+        private final String nextCursor;
+
+        public UserPage(List<UserDisplayRowDTO> rows, String nextCursor) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<UserDisplayRowDTO> getRows() { return rows; }
+
+        /** Username to pass as afterUsername for the next page, null on the last page */
+        public String getNextCursor() { return nextCursor; }
+
+        public boolean hasNext() { return nextCursor != null; }
+    }
 }
@@ -0,0 +1,177 @@
+package org.ems.infrastructure.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CacheChangeListener - Background LISTEN loop that applies other clients' writes to local caches
+ *
+ * Runs on a daemon thread with its own dedicated connection, opened outside the pool so it
+ * neither takes a pooled connection for the app's lifetime nor gets recycled under the loop.
+ * An idle connection is checked every VALIDATE_IDLE_MS. Each notification evicts
+ * only the affected entries (per the region rules in {@link CacheRegions}). If the
+ * connection drops, notifications may have been missed, so every region is cleared
+ * after reconnecting.
+ *
+ * @author EMS Team
+ */
+public class CacheChangeListener {
+
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final long VALIDATE_IDLE_MS = 30_000;
+    private static final int VALIDATE_TIMEOUT_S = 5;
+
+    private final Callable<Connection> connectionFactory;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+
+    private volatile boolean running = false;
+    private volatile Connection connection;
+    private Thread thread;
+
+    /**
+     * @param connectionFactory supplies a dedicated connection (called again after failures)
+     */
+    public CacheChangeListener(Callable<Connection> connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::runLoop, "cache-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+        System.out.println("[CacheChangeListener] Listening on channel '" + CacheChangePublisher.CHANNEL + "'");
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeConnection();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    public long getAppliedCount() {
+        return applied.get();
+    }
+
+    // ============================================================
+    //  Listen loop
+    // ============================================================
+
+    private void runLoop() {
+        long backoff = 1000;
+        boolean firstConnect = true;
+
+        while (running) {
+            try {
+                connection = connectionFactory.call();
+                try (Statement st = connection.createStatement()) {
+                    st.execute("LISTEN " + CacheChangePublisher.CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+
+                if (!firstConnect) {
+                    // Anything written while we were disconnected was missed
+                    CacheRegistry.getInstance().clearAll();
+                    System.out.println("[CacheChangeListener] Reconnected; caches cleared");
+                }
+                firstConnect = false;
+                backoff = 1000;
+
+                long lastActivity = System.currentTimeMillis();
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null || notifications.length == 0) {
+                        // A silently dropped connection just stays quiet; probe it now and then
+                        if (System.currentTimeMillis() - lastActivity >= VALIDATE_IDLE_MS) {
+                            if (!connection.isValid(VALIDATE_TIMEOUT_S)) {
+                                throw new SQLException("Listen connection is no longer valid");
+                            }
+                            lastActivity = System.currentTimeMillis();
+                        }
+                        continue;
+                    }
+                    lastActivity = System.currentTimeMillis();
+                    for (PGNotification n : notifications) {
+                        handle(n.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) break;
+                System.err.println("[CacheChangeListener] Connection lost: " + e.getMessage() +
+                        " (retrying in " + backoff + " ms)");
+                closeConnection();
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+        closeConnection();
+    }
+
+    /**
+     * Apply one notification payload: {@code <instanceId>|<table>|<op>|<id>}
+     */
+    void handle(String payload) {
+        received.incrementAndGet();
+        if (payload == null) return;
+
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length < 4) {
+            System.err.println("[CacheChangeListener] Ignoring malformed payload: " + payload);
+            return;
+        }
+
+        // Already applied locally by CacheChangePublisher
+        if (CacheChangePublisher.INSTANCE_ID.equals(parts[0])) return;
+
+        String table = parts[1];
+        Object id = parseId(parts[3]);
+        CacheRegistry.getInstance().notifyChange(table, id);
+        applied.incrementAndGet();
+    }
+
+    private static Object parseId(String raw) {
+        if (raw == null || raw.isEmpty()) return null;
+        try {
+            return UUID.fromString(raw);
+        } catch (IllegalArgumentException e) {
+            return raw;
+        }
+    }
+
+    private void closeConnection() {
+        Connection c = connection;
+        connection = null;
+        if (c != null) {
+            try {
+                c.close();
+            } catch (SQLException e) {
+                // Ignore
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.ems.infrastructure.cache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * CacheChangePublisher - Publishes repository writes to every cache that may hold the row
+ *
+ * A write is applied to the local {@link CacheRegistry} immediately and then broadcast
+ * to other desktop clients with PostgreSQL NOTIFY on {@link #CHANNEL}. Remote clients
+ * receive it through {@link CacheChangeListener}.
+ *
+ * Payload format: {@code <instanceId>|<table>|<op>|<id>} (id is empty for bulk changes).
+ *
+ * @author EMS Team
+ */
+public final class CacheChangePublisher {
+
+    public static final String CHANNEL = "ems_cache_changes";
+
+    /** Identifies this client so the listener can skip its own notifications */
+    public static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private CacheChangePublisher() {
+    }
+
+    /**
+     * Invalidate local caches and notify other clients about a write.
+     * Never throws: a failed notification must not fail the write that triggered it.
+     *
+     * @param conn  connection the write was executed on (may be null)
+     * @param table changed table
+     * @param id    changed row id, or null for bulk changes
+     * @param op    kind of write
+     */
+    public static void publish(Connection conn, String table, Object id, ChangeOp op) {
+        CacheRegistry.getInstance().notifyChange(table, id);
+
+        if (conn == null) return;
+
+        try (PreparedStatement ps = conn.prepareStatement(NOTIFY_SQL)) {
+            ps.setString(1, CHANNEL);
+            ps.setString(2, encode(table, id, op));
+            ps.execute();
+        } catch (SQLException e) {
+            System.err.println("[CacheChangePublisher] NOTIFY failed for " + table + ": " + e.getMessage());
+        }
+    }
+
+    static String encode(String table, Object id, ChangeOp op) {
+        return INSTANCE_ID + "|" + table + "|" + op.name() + "|" + (id != null ? id.toString() : "");
+    }
+}
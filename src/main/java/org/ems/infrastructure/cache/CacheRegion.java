@@ -0,0 +1,363 @@
+package org.ems.infrastructure.cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * CacheRegion - Bounded, TTL-based cache region with refresh-ahead
+ *
+ * Reads are lock-free (ConcurrentHashMap). When the region grows past its capacity
+ * the least recently accessed entries are evicted in one batch, so the cost of
+ * eviction is amortized over many puts. Entries older than the TTL are dropped on
+ * read; entries inside the refresh-ahead window are reloaded in the background
+ * while the current value keeps being served.
+ *
+ * Every invalidation advances the region's generation. A value loaded on a miss or by a
+ * refresh is only stored if no invalidation happened while it was loading, so a write
+ * that lands during a slow load cannot leave the old value cached for a whole TTL.
+ *
+ * Regions whose contents are read as one complete set (display-name lookups) are marked
+ * with {@link #evictWhole()}: exceeding the capacity or any entry expiring drops the whole
+ * region, so readers see either the full set or nothing, never a set with holes.
+ *
+ * @author EMS Team
+ */
+public class CacheRegion<K, V> {
+
+    /**
+     * How a table change affects this region
+     */
+    public enum InvalidationMode {
+        /** Remove only the entry whose key equals the changed row id */
+        KEY,
+        /** Drop every entry (used for whole-list and aggregate regions) */
+        ALL
+    }
+
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMs;
+    private final long refreshAheadMs;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<String, InvalidationMode> invalidationRules = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final CacheStats stats = new CacheStats();
+    private volatile boolean evictWhole;
+
+    /**
+     * @param name           region name (used in statistics)
+     * @param maxSize        maximum number of entries, 0 or less means unbounded
+     * @param ttlMs          time-to-live after write, 0 or less means no expiry
+     * @param refreshAheadMs reload entries this long before they expire, 0 disables
+     * @param refreshExecutor executor used for refresh-ahead reloads
+     */
+    public CacheRegion(String name, int maxSize, long ttlMs, long refreshAheadMs, Executor refreshExecutor) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.refreshAheadMs = refreshAheadMs;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Register a table whose writes invalidate this region
+     */
+    public CacheRegion<K, V> invalidateOn(String table, InvalidationMode mode) {
+        invalidationRules.put(table, mode);
+        return this;
+    }
+
+    /**
+     * Drop the whole region instead of single entries on eviction and expiry
+     */
+    public CacheRegion<K, V> evictWhole() {
+        this.evictWhole = true;
+        return this;
+    }
+
+    // ============================================================
+    //  Reads
+    // ============================================================
+
+    /**
+     * Get cached value or null if absent/expired
+     */
+    public V get(K key) {
+        if (key == null) return null;
+        Entry<V> entry = liveEntry(key);
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        return entry.value;
+    }
+
+    /**
+     * Get cached value, loading it on a miss.
+     * The loader also drives refresh-ahead once the entry is close to expiry.
+     * A null result from the loader is returned but not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (key == null) return null;
+        Entry<V> entry = liveEntry(key);
+        if (entry != null) {
+            stats.recordHit();
+            maybeRefreshAhead(key, entry, loader);
+            return entry.value;
+        }
+
+        stats.recordMiss();
+        long startGeneration = generation.get();
+        V value = loader.apply(key);
+        stats.recordLoad();
+        if (value != null) {
+            putIfCurrent(key, value, startGeneration);
+        }
+        return value;
+    }
+
+    public boolean contains(K key) {
+        return key != null && liveEntry(key) != null;
+    }
+
+    /**
+     * Snapshot of all live entries
+     */
+    public Map<K, V> asMap() {
+        Map<K, V> snapshot = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+            if (!isExpired(e.getValue(), now)) {
+                snapshot.put(e.getKey(), e.getValue().value);
+            } else if (evictWhole) {
+                expireAll();
+                return new HashMap<>();
+            }
+        }
+        return snapshot;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    // ============================================================
+    //  Writes
+    // ============================================================
+
+    public void put(K key, V value) {
+        if (key == null || value == null) return;
+        entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+        evictIfNeeded();
+    }
+
+    public void putAll(Map<? extends K, ? extends V> values) {
+        if (values == null || values.isEmpty()) return;
+        long now = System.currentTimeMillis();
+        for (Map.Entry<? extends K, ? extends V> e : values.entrySet()) {
+            if (e.getKey() != null && e.getValue() != null) {
+                entries.put(e.getKey(), new Entry<>(e.getValue(), now));
+            }
+        }
+        evictIfNeeded();
+    }
+
+    public void invalidate(K key) {
+        if (key == null) return;
+        // Advance even when the key is absent: it may be loading right now
+        generation.incrementAndGet();
+        if (entries.remove(key) != null) {
+            stats.recordInvalidation(1);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        int size = entries.size();
+        entries.clear();
+        if (size > 0) {
+            stats.recordInvalidation(size);
+        }
+    }
+
+    /**
+     * Apply the invalidation rule registered for a table (write-through invalidation)
+     *
+     * @param table changed table
+     * @param id    changed row id, or null when the change is not row-specific
+     */
+    @SuppressWarnings("unchecked")
+    void onTableChanged(String table, Object id) {
+        InvalidationMode mode = invalidationRules.get(table);
+        if (mode == null) return;
+
+        if (mode == InvalidationMode.ALL || id == null) {
+            invalidateAll();
+        } else {
+            try {
+                invalidate((K) id);
+            } catch (ClassCastException e) {
+                invalidateAll();
+            }
+        }
+    }
+
+    // ============================================================
+    //  Accessors
+    // ============================================================
+
+    public String getName() { return name; }
+    public int getMaxSize() { return maxSize; }
+    public long getTtlMs() { return ttlMs; }
+    public CacheStats getStats() { return stats; }
+
+    @Override
+    public String toString() {
+        return name + " [size=" + entries.size() + "/" + (maxSize > 0 ? maxSize : "∞") + ", " + stats + "]";
+    }
+
+    // ============================================================
+    //  Internals
+    // ============================================================
+
+    private Entry<V> liveEntry(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+
+        long now = System.currentTimeMillis();
+        if (isExpired(entry, now)) {
+            if (evictWhole) {
+                expireAll();
+            } else if (entries.remove(key, entry)) {
+                stats.recordExpiration();
+            }
+            return null;
+        }
+        entry.lastAccess = now;
+        return entry;
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return ttlMs > 0 && now - entry.writtenAt >= ttlMs;
+    }
+
+    private void maybeRefreshAhead(K key, Entry<V> entry, Function<? super K, ? extends V> loader) {
+        if (refreshAheadMs <= 0 || ttlMs <= 0 || refreshExecutor == null) return;
+
+        long age = System.currentTimeMillis() - entry.writtenAt;
+        if (age < ttlMs - refreshAheadMs) return;
+        if (!refreshing.add(key)) return;
+
+        long startGeneration = generation.get();
+        refreshExecutor.execute(() -> {
+            try {
+                V value = loader.apply(key);
+                if (value != null) {
+                    // Only replace the entry we decided to refresh; an invalidation wins
+                    Entry<V> refreshed = new Entry<>(value, System.currentTimeMillis());
+                    if (generation.get() == startGeneration && entries.replace(key, entry, refreshed)) {
+                        if (generation.get() != startGeneration) {
+                            entries.remove(key, refreshed);
+                        }
+                        stats.recordRefresh();
+                    }
+                }
+            } catch (Exception e) {
+                System.err.println("[CacheRegion:" + name + "] Refresh-ahead failed: " + e.getMessage());
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Store a loaded value unless the region was invalidated since the load started.
+     * The generation is checked again after the put, so an invalidation racing with the
+     * put itself also removes the value.
+     */
+    private void putIfCurrent(K key, V value, long startGeneration) {
+        if (generation.get() != startGeneration) return;
+        Entry<V> loaded = new Entry<>(value, System.currentTimeMillis());
+        entries.put(key, loaded);
+        if (generation.get() != startGeneration) {
+            entries.remove(key, loaded);
+            return;
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * Evict least recently accessed entries down to 90% of capacity
+     * (or everything for {@link #evictWhole()} regions).
+     * Only one thread evicts at a time; others skip instead of blocking.
+     */
+    private void evictIfNeeded() {
+        if (maxSize <= 0 || entries.size() <= maxSize) return;
+        if (!evictionLock.tryLock()) return;
+
+        try {
+            if (evictWhole) {
+                generation.incrementAndGet();
+                int size = entries.size();
+                entries.clear();
+                stats.recordEvictions(size);
+                return;
+            }
+
+            int target = (int) (maxSize * EVICTION_TARGET_RATIO);
+            int toEvict = entries.size() - target;
+            if (toEvict <= 0) return;
+
+            List<Map.Entry<K, Entry<V>>> candidates = new ArrayList<>(entries.entrySet());
+            candidates.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+
+            for (int i = 0; i < toEvict && i < candidates.size(); i++) {
+                Map.Entry<K, Entry<V>> victim = candidates.get(i);
+                if (entries.remove(victim.getKey(), victim.getValue())) {
+                    stats.recordEviction();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * An entry of an {@link #evictWhole()} region expired: drop them all
+     */
+    private void expireAll() {
+        generation.incrementAndGet();
+        int size = entries.size();
+        entries.clear();
+        if (size > 0) {
+            stats.recordExpirations(size);
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long writtenAt;
+        volatile long lastAccess;
+
+        Entry(V value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+            this.lastAccess = writtenAt;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.ems.infrastructure.cache;
+
+import org.ems.application.dto.template.TemplateKey;
+import org.ems.domain.model.Attendee;
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.Session;
+import org.ems.infrastructure.cache.CacheRegion.InvalidationMode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * CacheRegions - Central definition of every cache region used by the application
+ * Capacity, TTL, refresh-ahead and invalidation rules live here instead of in each service
+ *
+ * Whole-list regions hold a single entry under {@link #ALL_KEY}.
+ *
+ * @author EMS Team
+ */
+public final class CacheRegions {
+
+    public static final String ALL_KEY = "all";
+
+    // Table names published by repositories on write
+    public static final String TABLE_EVENTS = "events";
+    public static final String TABLE_SESSIONS = "sessions";
+    public static final String TABLE_TICKETS = "tickets";
+    public static final String TABLE_PERSONS = "persons";
+    public static final String TABLE_ATTENDEES = "attendees";
+    public static final String TABLE_PRESENTERS = "presenters";
+    public static final String TABLE_PRESENTER_SESSION = "presenter_session";
+    public static final String TABLE_ATTENDEE_EVENT = "attendee_event";
+    public static final String TABLE_ATTENDEE_SESSION = "attendee_session";
+
+    // Defaults - writes from any client evict entries via CacheChangeListener,
+    // so the TTL is only a safety net against missed notifications
+    public static final long DEFAULT_TTL_MS = 60 * 60 * 1000;           // 1 hour
+    public static final long DEFAULT_REFRESH_AHEAD_MS = 2 * 60 * 1000;  // 2 minutes
+    private static final int ENTITY_CAPACITY = 50_000;
+    private static final int LOOKUP_CAPACITY = 50_000;
+    private static final int LIST_CAPACITY = 4;
+    private static final int COUNT_CAPACITY = 1_000;
+
+    private CacheRegions() {
+    }
+
+    // ============================================================
+    //  Entity regions (keyed by id)
+    // ============================================================
+
+    public static CacheRegion<UUID, Event> eventsById() {
+        return CacheRegistry.getInstance().<UUID, Event>region("events.byId",
+                ENTITY_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.invalidateOn(TABLE_EVENTS, InvalidationMode.KEY));
+    }
+
+    public static CacheRegion<UUID, Session> sessionsById() {
+        return CacheRegistry.getInstance().<UUID, Session>region("sessions.byId",
+                ENTITY_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.invalidateOn(TABLE_SESSIONS, InvalidationMode.KEY)
+                      .invalidateOn(TABLE_PRESENTER_SESSION, InvalidationMode.ALL));
+    }
+
+    public static CacheRegion<UUID, Attendee> attendeesById() {
+        return CacheRegistry.getInstance().<UUID, Attendee>region("attendees.byId",
+                ENTITY_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.invalidateOn(TABLE_ATTENDEES, InvalidationMode.KEY)
+                      .invalidateOn(TABLE_PERSONS, InvalidationMode.KEY)
+                      .invalidateOn(TABLE_ATTENDEE_EVENT, InvalidationMode.KEY)
+                      .invalidateOn(TABLE_ATTENDEE_SESSION, InvalidationMode.KEY));
+    }
+
+    // ============================================================
+    //  Whole-list regions (single entry under ALL_KEY)
+    // ============================================================
+
+    public static CacheRegion<String, List<Event>> allEvents() {
+        return CacheRegistry.getInstance().<String, List<Event>>region("events.all",
+                LIST_CAPACITY, DEFAULT_TTL_MS, DEFAULT_REFRESH_AHEAD_MS,
+                r -> r.invalidateOn(TABLE_EVENTS, InvalidationMode.ALL)
+                      .invalidateOn(TABLE_SESSIONS, InvalidationMode.ALL));
+    }
+
+    public static CacheRegion<String, List<Session>> allSessions() {
+        return CacheRegistry.getInstance().<String, List<Session>>region("sessions.all",
+                LIST_CAPACITY, DEFAULT_TTL_MS, DEFAULT_REFRESH_AHEAD_MS,
+                r -> r.invalidateOn(TABLE_SESSIONS, InvalidationMode.ALL)
+                      .invalidateOn(TABLE_PRESENTER_SESSION, InvalidationMode.ALL));
+    }
+
+    public static CacheRegion<String, Map<UUID, Presenter>> allPresenters() {
+        return CacheRegistry.getInstance().<String, Map<UUID, Presenter>>region("presenters.all",
+                LIST_CAPACITY, DEFAULT_TTL_MS, DEFAULT_REFRESH_AHEAD_MS,
+                r -> r.invalidateOn(TABLE_PRESENTERS, InvalidationMode.ALL)
+                      .invalidateOn(TABLE_PERSONS, InvalidationMode.ALL)
+                      .invalidateOn(TABLE_PRESENTER_SESSION, InvalidationMode.ALL));
+    }
+
+    // ============================================================
+    //  Aggregates
+    // ============================================================
+
+    public static CacheRegion<String, Map<TemplateKey, Long>> templateAssignedCounts() {
+        return CacheRegistry.getInstance().<String, Map<TemplateKey, Long>>region("tickets.templateStats",
+                LIST_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.invalidateOn(TABLE_TICKETS, InvalidationMode.ALL));
+    }
+
+    /**
+     * Filtered event totals keyed by {@code EventFilterCriteriaDTO.filterKey()},
+     * so page turns do not re-count
+     */
+    public static CacheRegion<String, Long> eventListCounts() {
+        return CacheRegistry.getInstance().<String, Long>region("events.listCounts",
+                COUNT_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.invalidateOn(TABLE_EVENTS, InvalidationMode.ALL));
+    }
+
+    // ============================================================
+    //  Display-name lookups (display string -> id)
+    //  Read as complete sets, so they are evicted and expired whole
+    // ============================================================
+
+    public static CacheRegion<String, UUID> eventNameLookup() {
+        return CacheRegistry.getInstance().<String, UUID>region("lookup.eventNames",
+                LOOKUP_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.evictWhole()
+                      .invalidateOn(TABLE_EVENTS, InvalidationMode.ALL));
+    }
+
+    public static CacheRegion<String, UUID> sessionNameLookup() {
+        return CacheRegistry.getInstance().<String, UUID>region("lookup.sessionNames",
+                LOOKUP_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.evictWhole()
+                      .invalidateOn(TABLE_SESSIONS, InvalidationMode.ALL));
+    }
+
+    public static CacheRegion<String, UUID> attendeeNameLookup() {
+        return CacheRegistry.getInstance().<String, UUID>region("lookup.attendeeNames",
+                LOOKUP_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.evictWhole()
+                      .invalidateOn(TABLE_ATTENDEES, InvalidationMode.ALL)
+                      .invalidateOn(TABLE_PERSONS, InvalidationMode.ALL));
+    }
+
+    public static CacheRegion<String, UUID> templateNameLookup() {
+        return CacheRegistry.getInstance().<String, UUID>region("lookup.templateNames",
+                LOOKUP_CAPACITY, DEFAULT_TTL_MS, 0,
+                r -> r.evictWhole()
+                      .invalidateOn(TABLE_TICKETS, InvalidationMode.ALL));
+    }
+}
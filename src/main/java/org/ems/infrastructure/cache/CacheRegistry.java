@@ -0,0 +1,137 @@
+package org.ems.infrastructure.cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * CacheRegistry - Application-wide registry of cache regions
+ *
+ * Owns every CacheRegion, the background executor used for refresh-ahead, and the
+ * write-through invalidation entry point that repositories call after saves and deletes.
+ *
+ * @author EMS Team
+ */
+public class CacheRegistry {
+
+    private static CacheRegistry instance;
+
+    /**
+     * Hook for caches that are not regions (e.g. search indexes) but must follow the
+     * same write notifications
+     */
+    public interface ChangeListener {
+        /** A row (or, if id is null, an unknown set of rows) of the table was written */
+        void onTableChanged(String table, Object id);
+
+        /** Notifications may have been missed; drop everything */
+        default void onReset() {
+        }
+    }
+
+    private final Map<String, CacheRegion<?, ?>> regions = new ConcurrentHashMap<>();
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService refreshExecutor;
+
+    private CacheRegistry() {
+        this.refreshExecutor = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "cache-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public static synchronized CacheRegistry getInstance() {
+        if (instance == null) {
+            instance = new CacheRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Get a region by name, creating it on first use.
+     * Configuration is applied only when the region is created.
+     *
+     * @param configurer optional hook to register invalidation rules on creation
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> CacheRegion<K, V> region(String name, int maxSize, long ttlMs, long refreshAheadMs,
+                                           Consumer<CacheRegion<K, V>> configurer) {
+        return (CacheRegion<K, V>) regions.computeIfAbsent(name, n -> {
+            CacheRegion<K, V> region = new CacheRegion<>(n, maxSize, ttlMs, refreshAheadMs, refreshExecutor);
+            if (configurer != null) {
+                configurer.accept(region);
+            }
+            System.out.println("[CacheRegistry] Region created: " + n +
+                    " (maxSize=" + maxSize + ", ttl=" + ttlMs + " ms, refreshAhead=" + refreshAheadMs + " ms)");
+            return region;
+        });
+    }
+
+    public <K, V> CacheRegion<K, V> region(String name, int maxSize, long ttlMs) {
+        return region(name, maxSize, ttlMs, 0, null);
+    }
+
+    /**
+     * Write-through invalidation: called by repositories after a row is written or deleted
+     *
+     * @param table changed table name
+     * @param id    changed row id (null for bulk changes)
+     */
+    public void notifyChange(String table, Object id) {
+        for (CacheRegion<?, ?> region : regions.values()) {
+            region.onTableChanged(table, id);
+        }
+        for (ChangeListener listener : listeners) {
+            listener.onTableChanged(table, id);
+        }
+    }
+
+    public void addChangeListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(ChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Clear every region (keeps statistics)
+     */
+    public void clearAll() {
+        for (CacheRegion<?, ?> region : regions.values()) {
+            region.invalidateAll();
+        }
+        for (ChangeListener listener : listeners) {
+            listener.onReset();
+        }
+        System.out.println("🧹 [CacheRegistry] All regions cleared");
+    }
+
+    /**
+     * Per-region statistics, ordered by region name
+     */
+    public Map<String, CacheStats> getStatistics() {
+        Map<String, CacheStats> result = new TreeMap<>();
+        for (CacheRegion<?, ?> region : regions.values()) {
+            result.put(region.getName(), region.getStats());
+        }
+        return result;
+    }
+
+    /**
+     * Human-readable statistics report for all regions
+     */
+    public String getStatsReport() {
+        StringBuilder sb = new StringBuilder("Cache Regions:\n");
+        new TreeMap<>(regions).values().forEach(r -> sb.append("  ").append(r).append('\n'));
+        return sb.toString();
+    }
+
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
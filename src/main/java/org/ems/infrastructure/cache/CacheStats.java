@@ -0,0 +1,54 @@
+package org.ems.infrastructure.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CacheStats - Hit/miss/eviction counters for a single cache region
+ * Counters are striped (LongAdder) so concurrent readers never contend
+ *
+ * @author EMS Team
+ */
+public class CacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    void recordHit() { hits.increment(); }
+    void recordMiss() { misses.increment(); }
+    void recordEviction() { evictions.increment(); }
+    void recordEvictions(long count) { evictions.add(count); }
+    void recordExpiration() { expirations.increment(); }
+    void recordExpirations(long count) { expirations.add(count); }
+    void recordInvalidation(long count) { invalidations.add(count); }
+    void recordLoad() { loads.increment(); }
+    void recordRefresh() { refreshes.increment(); }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public long getExpirations() { return expirations.sum(); }
+    public long getInvalidations() { return invalidations.sum(); }
+    public long getLoads() { return loads.sum(); }
+    public long getRefreshes() { return refreshes.sum(); }
+
+    /**
+     * Hit ratio in [0, 1], or 0 when the region has not been read yet
+     */
+    public double getHitRatio() {
+        long h = getHits();
+        long total = h + getMisses();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRatio=%.2f, evictions=%d, expirations=%d, invalidations=%d, loads=%d, refreshes=%d",
+                getHits(), getMisses(), getHitRatio(), getEvictions(), getExpirations(),
+                getInvalidations(), getLoads(), getRefreshes());
+    }
+}
@@ -0,0 +1,12 @@
+package org.ems.infrastructure.cache;
+
+/**
+ * ChangeOp - Kind of write published for cache invalidation
+ *
+ * @author EMS Team
+ */
+public enum ChangeOp {
+    /** Insert or update (repositories upsert, so the two are not distinguished) */
+    SAVE,
+    DELETE
+}
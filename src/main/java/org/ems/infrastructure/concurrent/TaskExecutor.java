@@ -0,0 +1,229 @@
+package org.ems.infrastructure.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TaskExecutor - Application-wide executor for background work
+ * Single Responsibility: Run, name, cancel and count background tasks
+ *
+ * All UI loaders submit here instead of starting their own threads. Work is grouped in
+ * {@link TaskScope}s: the current screen scope is cancelled when the user navigates away
+ * (see {@link #beginScreen}), while the global scope holds writes that must finish.
+ *
+ * The pool is bounded and smaller than the connection pool: every repository shares one
+ * JDBC connection, so more concurrent loaders only queue inside the driver.
+ *
+ * @author EMS Team
+ */
+public class TaskExecutor {
+
+    private static TaskExecutor instance;
+
+    private static final int POOL_SIZE =
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private final ThreadPoolExecutor executor;
+    private final Map<Future<?>, Submission> submissions = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    private final TaskScope globalScope = new TaskScope("global", this);
+    private volatile TaskScope screenScope = new TaskScope("startup", this);
+
+    private TaskExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "ems-worker-" + threadNumber.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                }) {
+            @Override
+            protected void beforeExecute(Thread t, Runnable r) {
+                Submission submission = submissions.get(r);
+                if (submission != null) {
+                    t.setName(baseName(t.getName()) + " [" + submission.name + "]");
+                }
+            }
+
+            @Override
+            protected void afterExecute(Runnable r, Throwable t) {
+                Thread current = Thread.currentThread();
+                current.setName(baseName(current.getName()));
+                Submission submission = submissions.remove(r);
+                if (submission != null) {
+                    submission.scope.finished(submission.task);
+                    recordOutcome(submission.task, t);
+                }
+            }
+        };
+        this.executor.allowCoreThreadTimeOut(true);
+        System.out.println("[TaskExecutor] Started with " + POOL_SIZE + " worker threads");
+    }
+
+    public static synchronized TaskExecutor getInstance() {
+        if (instance == null) {
+            instance = new TaskExecutor();
+        }
+        return instance;
+    }
+
+    // ============================================================
+    //  Scopes
+    // ============================================================
+
+    /**
+     * Scope for work that must not be cancelled by navigation (saves, deletes, exports)
+     */
+    public TaskScope globalScope() {
+        return globalScope;
+    }
+
+    /**
+     * Scope of the screen currently shown
+     */
+    public TaskScope screenScope() {
+        return screenScope;
+    }
+
+    /**
+     * Start a new screen scope, cancelling every task still pending in the previous one
+     */
+    public TaskScope beginScreen(String screenName) {
+        TaskScope previous;
+        TaskScope next = new TaskScope(screenName, this);
+        synchronized (this) {
+            previous = screenScope;
+            screenScope = next;
+        }
+        int cancelledCount = previous.close();
+        if (cancelledCount > 0) {
+            System.out.println("[TaskExecutor] Left '" + previous.getName() + "': cancelled " +
+                    cancelledCount + " pending task(s)");
+        }
+        return next;
+    }
+
+    // ============================================================
+    //  Execution (called by TaskScope)
+    // ============================================================
+
+    private record Submission(String name, TaskScope scope, RunnableFuture<?> task) {
+    }
+
+    void execute(String name, TaskScope scope, RunnableFuture<?> task) {
+        submitted.increment();
+        submissions.put(task, new Submission(name, scope, task));
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            submissions.remove(task);
+            scope.finished(task);
+            task.cancel(false);
+            cancelled.increment();
+            System.err.println("[TaskExecutor] Rejected task '" + name + "' (executor shut down)");
+        }
+    }
+
+    /**
+     * Cancel a task; a task still in the queue is removed so it never occupies a worker.
+     * Running tasks are interrupted, but blocking JDBC calls generally run to completion;
+     * their results are discarded because cancelled JavaFX tasks skip their success handlers.
+     */
+    boolean cancel(RunnableFuture<?> task) {
+        if (!task.cancel(true)) {
+            return false;
+        }
+        cancelled.increment();
+        if (executor.remove(task)) {
+            submissions.remove(task);
+        }
+        return true;
+    }
+
+    private void recordOutcome(Future<?> future, Throwable thrown) {
+        if (future.isCancelled()) {
+            return; // counted when cancelled
+        }
+        if (thrown != null) {
+            failed.increment();
+            return;
+        }
+        try {
+            future.get();
+            completed.increment();
+        } catch (ExecutionException | CancellationException e) {
+            failed.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String baseName(String threadName) {
+        int bracket = threadName.indexOf(" [");
+        return bracket >= 0 ? threadName.substring(0, bracket) : threadName;
+    }
+
+    // ============================================================
+    //  Metrics
+    // ============================================================
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public int getRunningCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getCancelledCount() {
+        return cancelled.sum();
+    }
+
+    /**
+     * @return Executor stats as formatted string
+     */
+    public String getStats() {
+        return String.format("TaskExecutor[threads=%d, queued=%d, running=%d, submitted=%d, " +
+                        "completed=%d, failed=%d, cancelled=%d, screen=%s]",
+                executor.getPoolSize(), getQueuedCount(), getRunningCount(), getSubmittedCount(),
+                getCompletedCount(), getFailedCount(), getCancelledCount(), screenScope.getName());
+    }
+
+    // ============================================================
+    //  Shutdown
+    // ============================================================
+
+    public void shutdown() {
+        screenScope.close();
+        executor.shutdown();
+        try {
+            // Give in-flight writes a moment to finish
+            if (!executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("[TaskExecutor] Shutdown: " + getStats());
+    }
+}
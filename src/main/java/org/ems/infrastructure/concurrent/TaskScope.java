@@ -0,0 +1,96 @@
+package org.ems.infrastructure.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+
+/**
+ * TaskScope - Group of background tasks that are cancelled together
+ * Single Responsibility: Track outstanding tasks of one owner (usually a screen)
+ *
+ * Finished tasks are removed by the executor; {@link #close()} cancels whatever is left and
+ * cancels any task submitted afterwards.
+ *
+ * @author EMS Team
+ */
+public class TaskScope {
+
+    private final String name;
+    private final TaskExecutor executor;
+    private final Set<RunnableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    TaskScope(String name, TaskExecutor executor) {
+        this.name = name;
+        this.executor = executor;
+    }
+
+    /**
+     * Submit a task (e.g. a javafx.concurrent.Task) under a descriptive name.
+     * The name is shown on the worker thread while the task runs.
+     */
+    public <F extends RunnableFuture<?>> F submit(String taskName, F task) {
+        pending.add(task);
+        if (closed) {
+            cancel(task);
+            return task;
+        }
+        executor.execute(taskName, this, task);
+        return task;
+    }
+
+    /**
+     * Submit a plain runnable
+     */
+    public RunnableFuture<Void> run(String taskName, Runnable runnable) {
+        return submit(taskName, new FutureTask<>(runnable, null));
+    }
+
+    /**
+     * Cancel every outstanding task of this scope
+     *
+     * @return Number of tasks cancelled
+     */
+    public int cancelAll() {
+        int count = 0;
+        for (RunnableFuture<?> task : pending) {
+            if (cancel(task)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cancel outstanding tasks and reject (cancel) later submissions
+     */
+    int close() {
+        closed = true;
+        return cancelAll();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Called by the executor once a task has run (or was dropped)
+     */
+    void finished(RunnableFuture<?> task) {
+        pending.remove(task);
+    }
+
+    private boolean cancel(RunnableFuture<?> task) {
+        pending.remove(task);
+        return executor.cancel(task);
+    }
+}
@@ -1,5 +1,6 @@
 package org.ems.infrastructure.config;
 
+import org.ems.application.service.event.EventSearchIndex;
 import org.ems.application.service.event.EventServiceImpl;
 import org.ems.application.service.identity.IdentityServiceImpl;
 import org.ems.application.service.image.ImageServiceImpl;
@@ -14,7 +15,17 @@ import org.ems.application.service.report.ReportingService;
 import org.ems.application.service.schedule.ScheduleService;
 import org.ems.application.service.ticket.TicketService;
 
+import org.ems.infrastructure.cache.CacheChangeListener;
+import org.ems.infrastructure.cache.CacheRegistry;
+import org.ems.infrastructure.concurrent.TaskExecutor;
+import org.ems.infrastructure.metrics.RepositoryMetrics;
+import org.ems.infrastructure.repository.CoalescingRepository;
+import org.ems.infrastructure.repository.MeteredRepository;
+import org.ems.infrastructure.repository.OfflineRepository;
 import org.ems.infrastructure.repository.jdbc.*;
+import org.ems.infrastructure.snapshot.LocalSnapshot;
+import org.ems.infrastructure.snapshot.SnapshotRepositories;
+import org.ems.infrastructure.snapshot.SnapshotStore;
 
 import org.ems.domain.repository.*;
 import org.ems.domain.model.Person;
@@ -26,9 +37,17 @@ import java.sql.Connection;
  */
 public class AppContext {
 
-    private static AppContext instance;
+    private static volatile AppContext instance;
+
+    /** How long a finished repository read may be handed to identical calls */
+    private static final long DEFAULT_COALESCE_REUSE_MS = 250;
+    /** Rows per round trip for streamed queries, and the slow-statement log threshold */
+    private static final int DEFAULT_FETCH_SIZE = 500;
+    private static final long DEFAULT_SLOW_QUERY_MS = 1000;
 
     public final Connection connection;
+    /** No database: repositories read the local snapshot and reject writes (see SnapshotStore) */
+    public final boolean offline;
 
     // Repositories
     public final EventRepository eventRepo;
@@ -46,6 +65,11 @@ public class AppContext {
     public final ScheduleService scheduleService;
     public final ReportingService reportingService;
     public final ImageService imageService;
+    // Event search (kept current by cache change notifications)
+    public final EventSearchIndex eventSearchIndex;
+    // Cross-client cache coherence (LISTEN/NOTIFY)
+    private final CacheChangeListener cacheChangeListener;
+
     public Person currentUser = null;
     public String currentUserRole = "VISITOR"; // default
 
@@ -57,37 +81,94 @@ public class AppContext {
     // ============================================================
     //  Singleton Access
     // ============================================================
+    /**
+     * The application context. While the StartupPipeline is still running this waits for
+     * it; without a pipeline (tools, benchmarks) the context is built on this thread.
+     */
     public static AppContext get() {
-        if (instance == null) {
-            instance = new AppContext();
+        AppContext context = instance;
+        if (context != null) {
+            return context;
+        }
+        StartupPipeline pipeline = StartupPipeline.current();
+        if (pipeline != null) {
+            return pipeline.awaitContext();
         }
+        return create(connectOrOffline(), new ImageServiceImpl());
+    }
+
+    /**
+     * The context if startup has finished, otherwise null (never blocks)
+     */
+    public static AppContext getIfReady() {
         return instance;
     }
 
-    // ============================================================
-    //  Constructor: wire all dependencies here
-    // ============================================================
-    private AppContext() {
+    /**
+     * Build the context once (called by StartupPipeline or by get())
+     */
+    static synchronized AppContext create(Connection connection, ImageService imageService) {
+        if (instance == null) {
+            instance = new AppContext(connection, imageService);
+        }
+        return instance;
+    }
 
-        Connection tempConnection;
+    /**
+     * Open the shared connection; null means offline mode.
+     * Also triggers DatabaseConfig's static initializer (driver, TLS handshake, pool start).
+     */
+    static Connection connectOrOffline() {
         try {
-            // 1. Connect to database
-            tempConnection = DatabaseConfig.getConnection();
+            Connection connection = DatabaseConfig.getConnection();
             System.out.println(" Database connection established");
-        } catch (Exception e) {
-            System.err.println(" Warning: Failed to connect to database: " + e.getMessage());
+            return connection;
+        } catch (Throwable e) {
+            // ExceptionInInitializerError carries the pool failure as its cause
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            System.err.println(" Warning: Failed to connect to database: " + cause.getMessage());
             System.err.println("️ Application will run in offline mode");
-            tempConnection = null;
+            return null;
         }
+    }
 
-        this.connection = tempConnection;
-        this.eventRepo     = connection != null ? new JdbcEventRepository(connection) : null;
-        this.sessionRepo   = connection != null ? new JdbcSessionRepository(connection) : null;
-        this.attendeeRepo  = connection != null ? new JdbcAttendeeRepository(connection) : null;
-        this.presenterRepo = connection != null ? new JdbcPresenterRepository(connection) : null;
-        this.ticketRepo    = connection != null ? new JdbcTicketRepository(connection) : null;
-        this.userRepo      = null;
-        this.activityLogRepo = connection != null ? new JdbcActivityLogRepository(connection) : null;
+    // ============================================================
+    //  Constructor: wire all dependencies here
+    // ============================================================
+    private AppContext(Connection connection, ImageService imageService) {
+
+        this.connection = connection;
+        // One S3 client for the whole application
+        this.imageService = imageService;
+
+        // Identical concurrent reads share one query (see CoalescingRepository)
+        long reuseMs = connection != null
+                ? DatabaseConfig.getLongProperty("repository.coalesce.reuse-ms", DEFAULT_COALESCE_REUSE_MS)
+                : 0;
+        // Calls that reach the database are timed per method (see MeteredRepository)
+        boolean metered = connection != null && DatabaseConfig.getBooleanProperty("repository.metrics.enabled", true);
+        // Fetch size and slow-statement logging for all Jdbc repositories (see JdbcExecutor)
+        if (connection != null) {
+            JdbcExecutor.configure(
+                    (int) DatabaseConfig.getLongProperty("db.jdbc.fetch-size", DEFAULT_FETCH_SIZE),
+                    DatabaseConfig.getLongProperty("db.jdbc.slow-query-ms", DEFAULT_SLOW_QUERY_MS));
+        }
+        // Offline: reads come from the local snapshot; without one the repositories stay null
+        this.offline = connection == null;
+        LocalSnapshot snapshot = offline ? offlineSnapshot() : null;
+        this.eventRepo     = connection != null ? wrapRepository(EventRepository.class, new JdbcEventRepository(connection), reuseMs, metered)
+                : snapshot != null ? SnapshotRepositories.events(snapshot) : null;
+        this.sessionRepo   = connection != null ? wrapRepository(SessionRepository.class, new JdbcSessionRepository(connection), reuseMs, metered)
+                : snapshot != null ? SnapshotRepositories.sessions(snapshot) : null;
+        this.attendeeRepo  = connection != null ? wrapRepository(AttendeeRepository.class, new JdbcAttendeeRepository(connection, DatabaseConfig.getDataSource()), reuseMs, metered)
+                : snapshot != null ? OfflineRepository.wrap(AttendeeRepository.class, null) : null;
+        this.presenterRepo = connection != null ? wrapRepository(PresenterRepository.class, new JdbcPresenterRepository(connection, DatabaseConfig.getDataSource()), reuseMs, metered)
+                : snapshot != null ? SnapshotRepositories.presenters(snapshot) : null;
+        this.ticketRepo    = connection != null ? wrapRepository(TicketRepository.class, new JdbcTicketRepository(connection), reuseMs, metered)
+                : snapshot != null ? SnapshotRepositories.tickets(snapshot) : null;
+        this.userRepo      = connection != null ? wrapRepository(UserRepository.class, new JdbcUserRepository(connection), reuseMs, metered)
+                : snapshot != null ? OfflineRepository.wrap(UserRepository.class, null) : null;
+        this.activityLogRepo = connection != null ? wrapRepository(ActivityLogRepository.class, new JdbcActivityLogRepository(connection), reuseMs, metered) : null;
         System.out.println(" ActivityLogRepository initialized: " + (activityLogRepo != null ? "OK" : "NULL"));
         this.scheduleService = sessionRepo != null ? new ScheduleServiceImpl(sessionRepo) : null;
 
@@ -97,7 +178,7 @@ public class AppContext {
                 attendeeRepo,
                 presenterRepo,
                 scheduleService,
-                new ImageServiceImpl()
+                imageService
         ) : null;
 
         this.identityService = attendeeRepo != null ? new IdentityServiceImpl(
@@ -110,11 +191,9 @@ public class AppContext {
                 sessionRepo,
                 attendeeRepo,
                 eventRepo,
-                new ImageServiceImpl()
+                imageService
         ) : null;
 
-        this.imageService = new ImageServiceImpl();
-
         this.reportingService = eventRepo != null ? new ReportingServiceImpl(
                 eventRepo,
                 sessionRepo,
@@ -122,6 +201,18 @@ public class AppContext {
                 ticketRepo
         ) : null;
 
+        this.eventSearchIndex = eventRepo != null ? new EventSearchIndex(eventRepo) : null;
+        if (eventSearchIndex != null) {
+            CacheRegistry.getInstance().addChangeListener(eventSearchIndex);
+        }
+
+        // Evict cache entries written by other clients
+        this.cacheChangeListener = connection != null
+                ? new CacheChangeListener(() -> DatabaseConfig.openDedicatedConnection("ems-cache-listener"))
+                : null;
+        if (cacheChangeListener != null) {
+            cacheChangeListener.start();
+        }
 
         System.out.println(" AppContext initialized successfully.");
 
@@ -136,9 +227,18 @@ public class AppContext {
     //  Shutdown
     // ============================================================
     /**
-     * Gracefully shutdown the application and close connection pool
+     * Gracefully shutdown the application and close connection pool.
+     * Background tasks are stopped first: global-scope writes still running get the
+     * executor's grace period with the connection open. Connection and pool close last.
      */
     public void shutdown() {
+        TaskExecutor.getInstance().shutdown();
+
+        if (cacheChangeListener != null) {
+            cacheChangeListener.stop();
+        }
+        CacheRegistry.getInstance().shutdown();
+
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -148,11 +248,34 @@ public class AppContext {
             System.err.println(" Error closing connection: " + e.getMessage());
         }
 
-        // Close HikariCP connection pool
-        DatabaseConfig.closePool();
+        // Close HikariCP connection pool (offline there is none: the pool failed to start)
+        if (!offline) {
+            DatabaseConfig.closePool();
+        }
         System.out.println(" AppContext shutdown completed");
     }
 
+    /**
+     * The snapshot loaded by the startup pipeline, or the newest one on disk
+     */
+    private static LocalSnapshot offlineSnapshot() {
+        SnapshotStore store = SnapshotStore.getInstance();
+        LocalSnapshot snapshot = store.current() != null ? store.current() : store.load();
+        if (snapshot != null) {
+            System.out.println("📊 Offline mode: read-only data from the local snapshot saved at "
+                    + new java.util.Date(snapshot.getCreatedAt()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Coalescing on the outside, metering on the inside: metrics only see real database calls
+     */
+    private static <R> R wrapRepository(Class<R> type, R jdbcRepository, long reuseMs, boolean metered) {
+        R inner = metered ? MeteredRepository.wrap(type, jdbcRepository) : jdbcRepository;
+        return CoalescingRepository.wrap(type, inner, reuseMs);
+    }
+
     // ============================================================
     //  Connection Pool Monitoring
     // ============================================================
@@ -163,4 +286,37 @@ public class AppContext {
     public String getPoolStats() {
         return DatabaseConfig.getPoolStats();
     }
+
+    /**
+     * Get hit/miss/eviction statistics for every cache region
+     * @return Cache stats as formatted string
+     */
+    public String getCacheStats() {
+        return CacheRegistry.getInstance().getStatsReport();
+    }
+
+    /**
+     * Get queued/running/cancelled counts of the background task executor
+     * @return Executor stats as formatted string
+     */
+    public String getTaskStats() {
+        return TaskExecutor.getInstance().getStats();
+    }
+
+    /**
+     * Get how many repository reads were served by an identical in-flight or recent call
+     * @return Coalescing stats as formatted string
+     */
+    public String getCoalescingStats() {
+        return CoalescingRepository.getStatsReport();
+    }
+
+    /**
+     * Get per-method calls, errors, rows and latency percentiles of repository calls
+     * (also exposed over JMX as org.ems:type=RepositoryMethod,...)
+     * @return Repository metrics as formatted string
+     */
+    public String getRepositoryMetrics() {
+        return RepositoryMetrics.getInstance().getReport();
+    }
 }
@@ -2,8 +2,12 @@ package org.ems.infrastructure.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.ems.infrastructure.metrics.PoolMetrics;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 import java.io.InputStream;
@@ -19,6 +23,9 @@ public class DatabaseConfig {
     private static final String USER;
     private static final String PASSWORD;
     private static HikariDataSource dataSource;
+    private static PoolMonitor monitor;
+    private static final Properties PROPS = new Properties();
+    private static String poolProfile = "default";
 
     static {
         try {
@@ -39,6 +46,14 @@ public class DatabaseConfig {
                 throw new RuntimeException("application.properties file not found in resources/");
             }
             props.load(input);
+            // -Dkey=value overrides a setting (e.g. -Ddb.url=... for a local database)
+            for (String key : System.getProperties().stringPropertyNames()) {
+                if (props.containsKey(key) || key.startsWith("db.")) {
+                    props.setProperty(key, System.getProperty(key));
+                }
+            }
+            PROPS.putAll(props);
+            poolProfile = props.getProperty("db.pool.profile", "default").trim();
         } catch (Exception e) {
             System.err.println("✗ Error loading application.properties: " + e.getMessage());
             throw new RuntimeException("Failed to load database configuration", e);
@@ -88,24 +103,46 @@ public class DatabaseConfig {
             config.setPassword(PASSWORD);
             config.setDriverClassName("org.postgresql.Driver");
 
-            // Connection pool settings for optimal performance with Supabase
-            config.setMaximumPoolSize(10);           // Maximum connections in pool
-            config.setMinimumIdle(2);                // Minimum idle connections
-            config.setConnectionTimeout(30000);      // 30 seconds timeout
-            config.setIdleTimeout(600000);           // 10 minutes idle timeout
-            config.setMaxLifetime(1800000);          // 30 minutes max lifetime
+            // Connection pool settings from the selected db.pool profile
+            config.setMaximumPoolSize((int) getPoolLong("maximum-pool-size", 10));
+            config.setMinimumIdle((int) getPoolLong("minimum-idle", 2));
+            config.setConnectionTimeout(getPoolLong("connection-timeout-ms", 30000));
+            config.setIdleTimeout(getPoolLong("idle-timeout-ms", 600000));
+            config.setMaxLifetime(getPoolLong("max-lifetime-ms", 1800000));
+            config.setLeakDetectionThreshold(getPoolLong("leak-detection-threshold-ms", 0));
             config.setAutoCommit(true);              // Auto-commit enabled
             config.setPoolName("EventManagerSupabasePool");  // Pool name for monitoring
+            config.setRegisterMbeans(true);          // Pool MXBean next to repository metrics in JMX
+            config.setMetricsTrackerFactory(PoolMetrics.getInstance());  // Acquire/usage histograms
+
+            // Supabase-specific properties (db.sslmode=disable for a local database)
+            String sslMode = PROPS.getProperty("db.sslmode", "require");
+            config.addDataSourceProperty("sslmode", sslMode);             // Force SSL/TLS
+            if (!"disable".equals(sslMode)) {
+                config.addDataSourceProperty("ssl", "true");              // Enable SSL
+            }
 
-            // Supabase-specific properties
-            config.addDataSourceProperty("sslmode", "require");           // Force SSL/TLS
-            config.addDataSourceProperty("ssl", "true");                  // Enable SSL
+            // Server-prepared statements: after prepareThreshold executions on a connection the
+            // driver keeps the statement prepared on the server and reuses the parsed plan
+            config.addDataSourceProperty("prepareThreshold",
+                    getLongProperty("db.jdbc.prepare-threshold", 3));
+            config.addDataSourceProperty("preparedStatementCacheQueries",
+                    getLongProperty("db.jdbc.statement-cache-queries", 256));
+            config.addDataSourceProperty("preparedStatementCacheSizeMiB",
+                    getLongProperty("db.jdbc.statement-cache-mib", 5));
 
             dataSource = new HikariDataSource(config);
+            PoolMetrics.getInstance().describePool(poolProfile, config.getLeakDetectionThreshold());
             System.out.println("✓ HikariCP Connection Pool initialized for SUPABASE:");
+            System.out.println("   Profile: " + poolProfile);
             System.out.println("   Max Pool Size: " + config.getMaximumPoolSize());
             System.out.println("   Min Idle: " + config.getMinimumIdle());
-            System.out.println("   SSL Mode: require");
+            System.out.println("   Leak Detection: " + (config.getLeakDetectionThreshold() > 0
+                    ? config.getLeakDetectionThreshold() + " ms" : "off"));
+            System.out.println("   SSL Mode: " + sslMode);
+            System.out.println("   Prepare Threshold: " + config.getDataSourceProperties().get("prepareThreshold"));
+
+            startMonitor(config.getMaximumPoolSize());
         } catch (Exception e) {
             System.err.println("✗ Failed to initialize HikariCP: " + e.getMessage());
             e.printStackTrace();
@@ -113,6 +150,24 @@ public class DatabaseConfig {
         }
     }
 
+    /**
+     * Start pool sampling (waiting-thread warnings, peaks, adaptive sizing) unless disabled
+     */
+    private static void startMonitor(int configuredSize) {
+        long intervalMs = getPoolLong("monitor-interval-ms", 1000);
+        if (intervalMs <= 0) {
+            return;
+        }
+        boolean adaptive = getPoolBoolean("adaptive", false);
+        monitor = new PoolMonitor(dataSource, intervalMs,
+                (int) getPoolLong("waiting-warn-samples", 5),
+                adaptive,
+                (int) getPoolLong("adaptive.min-size", configuredSize),
+                (int) getPoolLong("adaptive.max-size", configuredSize * 2L),
+                (int) getPoolLong("adaptive.window-samples", 60));
+        monitor.start();
+    }
+
     /**
      * Get connection from HikariCP pool
      * @return Connection from Supabase database
@@ -123,9 +178,7 @@ public class DatabaseConfig {
             if (dataSource == null) {
                 throw new SQLException("HikariDataSource not initialized");
             }
-            Connection conn = dataSource.getConnection();
-            System.out.println("✓ Got connection from Supabase pool");
-            return conn;
+            return dataSource.getConnection();
         } catch (SQLException e) {
             System.err.println("✗ Failed to get connection from Supabase pool: " + e.getMessage());
             System.err.println("   Please verify Supabase database connection string in application.properties");
@@ -134,26 +187,130 @@ public class DatabaseConfig {
         }
     }
 
+    /**
+     * Open a connection outside the pool, for a caller that holds it for the whole session
+     * (the LISTEN loop). The caller closes it; it never counts against the pool size and
+     * is not recycled by max-lifetime.
+     */
+    public static Connection openDedicatedConnection(String applicationName) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("user", USER);
+        props.setProperty("password", PASSWORD);
+        String sslMode = PROPS.getProperty("db.sslmode", "require");
+        props.setProperty("sslmode", sslMode);
+        if (!"disable".equals(sslMode)) {
+            props.setProperty("ssl", "true");
+        }
+        props.setProperty("tcpKeepAlive", "true");
+        props.setProperty("ApplicationName", applicationName);
+        return DriverManager.getConnection(URL, props);
+    }
+
     /**
      * Close the connection pool (call on application shutdown)
      */
     public static void closePool() {
+        if (monitor != null) {
+            monitor.stop();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             System.out.println("✓ HikariCP Connection Pool closed");
         }
     }
 
+    /**
+     * Read a numeric setting from application.properties
+     * @return The configured value, or defaultValue if missing or not a number
+     */
+    public static long getLongProperty(String key, long defaultValue) {
+        return parseLong(key, PROPS.getProperty(key), defaultValue);
+    }
+
+    private static long parseLong(String key, String value, long defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("⚠️  Invalid value for " + key + ": " + value + " (using " + defaultValue + ")");
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Read a true/false setting from application.properties
+     * @return The configured value, or defaultValue if missing
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = PROPS.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Pool setting: db.pool.<profile>.<key>, falling back to db.pool.<key>
+     */
+    private static String getPoolProperty(String key) {
+        return PROPS.getProperty("db.pool." + poolProfile + "." + key, PROPS.getProperty("db.pool." + key));
+    }
+
+    private static long getPoolLong(String key, long defaultValue) {
+        return parseLong("db.pool." + poolProfile + "." + key, getPoolProperty(key), defaultValue);
+    }
+
+    private static boolean getPoolBoolean(String key, boolean defaultValue) {
+        String value = getPoolProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * The pool itself, for code that borrows a connection per call (e.g. to stream with a cursor)
+     * @return The pool, or null if it was not initialized
+     */
+    public static DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Live pool counters (active, idle, waiting threads)
+     * @return Pool MXBean, or null if the pool was not initialized
+     */
+    public static HikariPoolMXBean getPoolMXBean() {
+        return dataSource != null ? dataSource.getHikariPoolMXBean() : null;
+    }
+
+    /**
+     * @return Configured maximum number of pooled connections
+     */
+    public static int getMaximumPoolSize() {
+        return dataSource != null ? dataSource.getMaximumPoolSize() : 0;
+    }
+
+    /**
+     * @return JDBC URL the pool connects to
+     */
+    public static String getJdbcUrl() {
+        return URL;
+    }
+
     /**
      * Get current pool statistics for monitoring
      * @return Pool statistics string
      */
     public static String getPoolStats() {
         if (dataSource != null) {
-            return String.format("✓ Supabase Pool Stats - Active: %d, Idle: %d, Waiting: %d",
+            PoolMetrics metrics = PoolMetrics.getInstance();
+            return String.format("✓ Supabase Pool Stats - Active: %d, Idle: %d, Waiting: %d, Max: %d"
+                            + " | Acquire p95: %.1f ms, Timeouts: %d, Peak waiting: %d",
                     dataSource.getHikariPoolMXBean().getActiveConnections(),
                     dataSource.getHikariPoolMXBean().getIdleConnections(),
-                    dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection());
+                    dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection(),
+                    dataSource.getMaximumPoolSize(),
+                    metrics.getAcquireP95Ms(), metrics.getAcquireTimeouts(), metrics.getPeakThreadsAwaiting());
         }
         return "✗ Pool not initialized";
     }
@@ -0,0 +1,148 @@
+package org.ems.infrastructure.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.ems.infrastructure.metrics.PoolMetrics;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PoolMonitor - Samples the connection pool and optionally resizes it
+ * Single Responsibility: Watch pool demand, warn on sustained waits, adapt the pool size
+ *
+ * Every interval the monitor reads active and waiting counts, feeds the peaks to
+ * PoolMetrics and warns (at most once a minute) while threads keep waiting for a connection.
+ *
+ * In adaptive mode demand (active + waiting) drives maximumPoolSize between the configured
+ * bounds: it grows to the observed demand once threads have waited for two samples in a
+ * row, and shrinks one step per quiet window while the window's peak plus headroom is below
+ * the current size. Shrinking only lowers the ceiling; surplus idle connections are retired
+ * by HikariCP through idleTimeout. minimumIdle follows as min(configured minimumIdle, size),
+ * so it is back at its configured value once the pool is that large again.
+ *
+ * @author EMS Team
+ */
+final class PoolMonitor {
+
+    private static final long WARNING_INTERVAL_MS = 60_000;
+    private static final int GROW_AFTER_SAMPLES = 2;
+    private static final int SHRINK_HEADROOM = 2;
+
+    private final HikariDataSource dataSource;
+    private final long intervalMs;
+    private final int warnAfterSamples;
+    private final boolean adaptive;
+    private final int minSize;
+    private final int maxSize;
+    private final int windowSamples;
+    private final int configuredMinimumIdle;
+    private final ScheduledExecutorService scheduler;
+
+    // Only touched by the scheduler thread
+    private int waitingStreak;
+    private long lastWarningAt;
+    private int windowPeak;
+    private int windowCount;
+
+    PoolMonitor(HikariDataSource dataSource, long intervalMs, int warnAfterSamples,
+                boolean adaptive, int minSize, int maxSize, int windowSamples) {
+        this.dataSource = dataSource;
+        this.intervalMs = intervalMs;
+        this.warnAfterSamples = Math.max(1, warnAfterSamples);
+        this.adaptive = adaptive;
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.windowSamples = Math.max(1, windowSamples);
+        this.configuredMinimumIdle = dataSource.getMinimumIdle();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ems-pool-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sampleSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        if (adaptive) {
+            System.out.println("   Adaptive sizing: " + minSize + ".." + maxSize + " connections");
+        }
+    }
+
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            // Never let one bad sample cancel the schedule
+            System.err.println("⚠️ [ConnectionPool] Monitor sample failed: " + e.getMessage());
+        }
+    }
+
+    private void sample() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null || dataSource.isClosed()) {
+            return;
+        }
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        int size = dataSource.getMaximumPoolSize();
+        PoolMetrics.getInstance().recordSample(active, waiting);
+
+        waitingStreak = waiting > 0 ? waitingStreak + 1 : 0;
+        long now = System.currentTimeMillis();
+        if (waitingStreak >= warnAfterSamples && now - lastWarningAt >= WARNING_INTERVAL_MS) {
+            lastWarningAt = now;
+            System.err.printf("⚠️ [ConnectionPool] %d threads waiting for a connection for %d ms "
+                            + "(active %d/%d, acquire p95 %.1f ms)%s%n",
+                    waiting, waitingStreak * intervalMs, active, size,
+                    PoolMetrics.getInstance().getAcquireP95Ms(),
+                    adaptive && size >= maxSize ? " - adaptive limit reached" : "");
+        }
+
+        if (adaptive) {
+            adapt(active + waiting, size);
+        }
+    }
+
+    private void adapt(int demand, int size) {
+        windowPeak = Math.max(windowPeak, demand);
+        windowCount++;
+
+        if (waitingStreak >= GROW_AFTER_SAMPLES && size < maxSize) {
+            resize(size, Math.min(maxSize, Math.max(size + 1, demand)), "threads waiting");
+            return;
+        }
+        if (windowCount >= windowSamples) {
+            if (windowPeak + SHRINK_HEADROOM < size && size > minSize) {
+                resize(size, size - 1, "peak demand " + windowPeak);
+            } else {
+                windowPeak = 0;
+                windowCount = 0;
+            }
+        }
+    }
+
+    private void resize(int from, int to, String reason) {
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int minimumIdle = Math.min(configuredMinimumIdle, to);
+        // Keep minimumIdle <= maximumPoolSize at every step
+        if (to > from) {
+            config.setMaximumPoolSize(to);
+        }
+        if (config.getMinimumIdle() != minimumIdle) {
+            config.setMinimumIdle(minimumIdle);
+        }
+        if (to < from) {
+            config.setMaximumPoolSize(to);
+        }
+        windowPeak = 0;
+        windowCount = 0;
+        System.out.println("📈 [ConnectionPool] Maximum pool size " + from + " → " + to + " (" + reason + ")");
+    }
+}
@@ -0,0 +1,191 @@
+package org.ems.infrastructure.config;
+
+import org.ems.application.service.image.ImageService;
+import org.ems.application.service.image.ImageServiceImpl;
+import org.ems.infrastructure.db.DatabaseInitializer;
+import org.ems.infrastructure.snapshot.LocalSnapshot;
+import org.ems.infrastructure.snapshot.SnapshotStore;
+import org.ems.infrastructure.snapshot.SnapshotSync;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StartupPipeline - Background application startup
+ * Single Responsibility: Run startup initializers in parallel and report their timings
+ *
+ * The first window is shown while the pipeline runs. Independent initializers run in
+ * parallel; dependent ones start as soon as their inputs are ready:
+ *
+ *   database-connect ─┬─ schema-check ───────┐
+ *                     └─┬─ app-context ──────┴─ ready ── (snapshot refresh)
+ *   image-service ──────┤
+ *   snapshot-load ──────┘
+ *
+ * database-connect covers the driver load, TLS handshake and pool start (DatabaseConfig's
+ * static initializer); image-service builds the S3 client for Cloudflare R2 once.
+ * snapshot-load maps the local snapshot, which screens can render from before "ready"
+ * (SnapshotStore.current()) and which backs offline mode if the database is unreachable.
+ * Once ready and online, the snapshot is rewritten from the database in the background.
+ * {@link AppContext#get()} waits for "ready" on first use, so screens that need data
+ * block only for whatever is still running. A timing report is printed when ready.
+ *
+ * @author EMS Team
+ */
+public final class StartupPipeline {
+
+    private static volatile StartupPipeline current;
+
+    private final long startNanos = System.nanoTime();
+    private final ExecutorService executor;
+    private final List<Step> steps = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<AppContext> ready;
+
+    /**
+     * One timed initializer (times in ms since the pipeline started)
+     */
+    private record Step(String name, String thread, long startMs, long endMs, String error) {
+    }
+
+    private StartupPipeline() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.executor = Executors.newFixedThreadPool(3, r -> {
+            Thread t = new Thread(r, "ems-startup-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        CompletableFuture<Connection> connection = step("database-connect", AppContext::connectOrOffline);
+        CompletableFuture<ImageService> imageService = step("image-service", ImageServiceImpl::new);
+        // A missing or unreadable snapshot never fails startup
+        CompletableFuture<LocalSnapshot> snapshot = step("snapshot-load", () -> SnapshotStore.getInstance().load())
+                .exceptionally(e -> null);
+
+        CompletableFuture<Void> schema = connection.thenCompose(conn -> conn == null
+                ? CompletableFuture.completedFuture(null)
+                : step("schema-check", () -> {
+                    DatabaseInitializer.initialize();
+                    return null;
+                }));
+        CompletableFuture<AppContext> context = connection.thenCombine(imageService, ContextInputs::new)
+                .thenCombine(snapshot, (inputs, ignored) -> inputs)
+                .thenCompose(inputs -> step("app-context",
+                        () -> AppContext.create(inputs.connection(), inputs.imageService())));
+
+        this.ready = context.thenCombine(schema, (ctx, ignored) -> ctx);
+        this.ready.whenComplete((ctx, error) -> {
+            printReport(error);
+            executor.shutdown();
+            if (error == null) {
+                SnapshotSync.refreshAsync(ctx);
+            }
+        });
+    }
+
+    private record ContextInputs(Connection connection, ImageService imageService) {
+    }
+
+    /**
+     * Start the pipeline (once); returns immediately
+     */
+    public static synchronized void start() {
+        if (current == null) {
+            System.out.println("🚀 [Startup] Initializing in background...");
+            current = new StartupPipeline();
+        }
+    }
+
+    /**
+     * The running or finished pipeline, or null if {@link #start()} was never called
+     */
+    static StartupPipeline current() {
+        return current;
+    }
+
+    /**
+     * Record a milestone (e.g. first scene shown) in the timing report
+     */
+    public static void mark(String milestone) {
+        StartupPipeline pipeline = current;
+        if (pipeline != null) {
+            long at = pipeline.elapsedMs();
+            pipeline.steps.add(new Step(milestone, Thread.currentThread().getName(), at, at, null));
+            System.out.println("⏱ [Startup] " + milestone + " at " + at + " ms");
+        }
+    }
+
+    // ============================================================
+    //  Waiting
+    // ============================================================
+
+    /**
+     * Block until the context is wired and the schema checked
+     */
+    AppContext awaitContext() {
+        if (ready.isDone()) {
+            return join();
+        }
+        long waitStart = elapsedMs();
+        AppContext context = join();
+        steps.add(new Step("first-use-wait", Thread.currentThread().getName(), waitStart, elapsedMs(), null));
+        System.out.println("⏳ [Startup] " + Thread.currentThread().getName() + " waited " +
+                (elapsedMs() - waitStart) + " ms for startup");
+        return context;
+    }
+
+    private AppContext join() {
+        try {
+            return ready.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Application startup failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    public boolean isReady() {
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
+
+    // ============================================================
+    //  Steps
+    // ============================================================
+
+    private <T> CompletableFuture<T> step(String name, Callable<T> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = elapsedMs();
+            try {
+                T value = work.call();
+                steps.add(new Step(name, Thread.currentThread().getName(), start, elapsedMs(), null));
+                return value;
+            } catch (Exception e) {
+                steps.add(new Step(name, Thread.currentThread().getName(), start, elapsedMs(), e.getMessage()));
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void printReport(Throwable error) {
+        List<Step> sorted = new ArrayList<>(steps);
+        sorted.sort(Comparator.comparingLong(Step::startMs));
+        long busy = sorted.stream().filter(s -> !s.name().equals("first-use-wait")).mapToLong(s -> s.endMs() - s.startMs()).sum();
+
+        StringBuilder report = new StringBuilder();
+        report.append("⏱ [Startup] ").append(error == null ? "Ready" : "FAILED")
+                .append(" in ").append(elapsedMs()).append(" ms (")
+                .append(busy).append(" ms of work in parallel)");
+        for (Step step : sorted) {
+            report.append(String.format("%n   %-18s %6d → %6d ms  %6d ms  [%s]%s",
+                    step.name(), step.startMs(), step.endMs(), step.endMs() - step.startMs(), step.thread(),
+                    step.error() != null ? "  ✗ " + step.error() : ""));
+        }
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,98 @@
+package org.ems.infrastructure.db;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * CopyWriter - Streams rows into a table with PostgreSQL COPY (text format)
+ * Single Responsibility: Encode rows and push them through the COPY protocol
+ *
+ * Fields are tab-separated with backslash escapes; null is written as \N. Rows are buffered
+ * and sent in 64 KB blocks, so memory stays constant however many rows are written.
+ *
+ * @author EMS Team
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_BYTES = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 1024);
+    private boolean firstField = true;
+    private long rows;
+
+    CopyWriter(Connection conn, String table, String columns) throws SQLException {
+        this.copyIn = conn.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+    }
+
+    CopyWriter field(Object value) {
+        if (!firstField) {
+            buffer.append('\t');
+        }
+        firstField = false;
+        if (value == null) {
+            buffer.append("\\N");
+            return this;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        firstField = true;
+        rows++;
+        if (buffer.length() >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    /**
+     * Send the remaining rows and complete the COPY
+     *
+     * @return Rows written
+     */
+    long finish() throws SQLException {
+        flush();
+        copyIn.endCopy();
+        return rows;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Abort the COPY if it was not finished (the server discards its rows)
+     */
+    @Override
+    public void close() {
+        if (copyIn.isActive()) {
+            try {
+                copyIn.cancelCopy();
+            } catch (SQLException e) {
+                System.err.println("  ⚠ Could not cancel COPY: " + e.getMessage());
+            }
+        }
+    }
+}
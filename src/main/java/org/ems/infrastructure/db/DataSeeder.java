@@ -4,23 +4,183 @@ import org.ems.infrastructure.config.DatabaseConfig;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * @author <your group number>
+ * DataSeeder - Builds reproducible datasets of any size (see {@link SeedProfile})
+ * Single Responsibility: Generate and bulk-load sample data
+ *
+ * Every row is derived from (seed, table, row index) only, so a profile and seed always
+ * produce the same rows (ids included), whatever the thread count. Rows are generated in
+ * fixed-size chunks on --threads workers. Each chunk streams into PostgreSQL with COPY on
+ * its own pooled connection.
+ *
+ * Secondary indexes from schema.sql on the seeded tables are dropped before the load and
+ * rebuilt (in parallel) afterwards, then the tables are analyzed.
+ *
+ * Usage: DataSeeder [--profile=small|medium|large|xl] [--seed=42] [--threads=N] [--truncate] [--keep-indexes]
+ *
+ * Generated accounts: attendee1..N and presenter1..N, password "password123".
+ *
+ * @author EMS Team
  */
 public class DataSeeder {
 
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final int CHUNK_ROWS = 50_000;
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDateTime BASE_TIME = BASE_DATE.atStartOfDay();
+    private static final String PASSWORD = "password123";
+
+    /** Child tables first, so TRUNCATE order does not matter for foreign keys */
+    private static final List<String> SEEDED_TABLES = List.of(
+            "ticket_session_registration", "tickets", "ticket_template_stats", "ticket_sales_daily",
+            "ticket_sales_daily_totals", "ticket_sales_event_totals", "attendee_event", "attendee_session",
+            "presenter_session", "sessions", "events", "attendees", "presenters", "persons", "sync_tombstones");
+
+    private static final Pattern INDEX_PATTERN =
+            Pattern.compile("CREATE\\s+INDEX\\s+IF\\s+NOT\\s+EXISTS\\s+(\\w+)\\s+ON\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    // Id spaces (and random streams) per kind of row
+    private static final int ATTENDEE = 1;
+    private static final int PRESENTER = 2;
+    private static final int EVENT = 3;
+    private static final int SESSION = 4;
+    private static final int TICKET = 5;
+    private static final int EVENT_DATE = 6;
+    private static final int REGISTRATION = 7;
+    private static final int SPEAKING = 8;
+
+    private static final String[] TICKET_TYPES = {"GENERAL", "VIP", "EARLY_BIRD", "STUDENT", "GROUP"};
+    private static final int[] TICKET_PRICES = {50, 150, 35, 25, 40};
+    private static final String[] EVENT_TYPES = {"CONFERENCE", "WORKSHOP", "SEMINAR", "EXHIBITION", "CONCERT"};
+    private static final String[] PRESENTER_TYPES = {"KEYNOTE_SPEAKER", "PANELIST", "MODERATOR", "GUEST"};
+    private static final String[] FIRST_NAMES = {
+            "John", "Jane", "Bob", "Alice", "Charlie", "David", "Emma", "Frank", "Linh", "Minh", "Anh", "Huong",
+            "Quang", "Thao", "Kim", "Lee", "Maria", "Carlos", "Yuki", "Hiro", "Sara", "Omar", "Priya", "Arjun"
+    };
+    private static final String[] LAST_NAMES = {
+            "Doe", "Smith", "Wilson", "Johnson", "Brown", "Lee", "Watson", "Miller", "Nguyen", "Tran", "Le",
+            "Pham", "Hoang", "Park", "Chen", "Garcia", "Tanaka", "Sato", "Khan", "Patel", "Silva", "Jones"
+    };
+
+    private static final String[] EVENT_NAMES = {
+            "Tech Conference", "Web Development Workshop", "AI & Machine Learning Summit",
+            "Cloud Computing Seminar", "Java Enterprise Development", "DevOps Best Practices",
+            "React Advanced Patterns", "Mobile Development Summit", "Python Mastery",
+            "Microservices Architecture", "Kubernetes Deep Dive", "Docker Essentials",
+            "GraphQL Advanced Techniques", "Vue.js Expert Training", "Angular Professional",
+            "Node.js Performance Tuning", "TypeScript Masterclass", "Front-End Excellence",
+            "Backend Development Bootcamp", "Full Stack Engineering", "Cybersecurity Summit",
+            "Data Science Conference", "Big Data Analytics", "Machine Learning Ops", "Blockchain Technology",
+            "Cryptocurrency Fundamentals", "Smart Contracts", "Web3 Development", "NFT & DeFi Summit",
+            "Cloud Architecture", "AWS Solutions", "Azure Masterclass", "GCP Advanced Features",
+            "Database Design", "SQL Performance", "NoSQL Databases", "PostgreSQL Advanced", "MongoDB Mastery",
+            "Redis Optimization", "ElasticSearch Advanced", "API Design Best Practices", "REST API Mastery",
+            "Testing Strategies", "Quality Assurance Summit", "Agile Methodology", "Scrum Master Workshop",
+            "DevOps Pipeline", "CI/CD Excellence", "Git Workflow Advanced", "Linux Administration",
+            "System Design", "Software Architecture", "Design Patterns", "Clean Code Principles",
+            "Refactoring Techniques", "Performance Optimization", "Memory Management", "Concurrency Programming",
+            "Parallel Processing", "Distributed Systems", "Load Balancing Strategies", "Database Scaling",
+            "Caching Techniques", "Message Queues", "Event Streaming", "Real-time Applications",
+            "WebSocket Programming", "Mobile App Development", "iOS Development", "Android Development",
+            "React Native Mastery", "Flutter Advanced", "Cross-platform Development", "Progressive Web Apps",
+            "Responsive Design", "UX/UI Principles", "User Experience Design", "Accessibility Standards",
+            "Performance Metrics", "Monitoring & Logging", "Observability", "Open Source Contribution",
+            "Community Building", "Tech Leadership", "Career Development", "Interview Preparation",
+            "Salary Negotiation", "Freelancing Guide", "Remote Work Best Practices", "Team Collaboration",
+            "Communication Skills", "Presentation Mastery", "Technical Writing"
+    };
+    private static final String[] LOCATIONS = {
+            "Hanoi Convention Center", "Da Nang Tech Hub", "Ho Chi Minh City Arena", "Hanoi Business Center",
+            "Da Nang Arena", "Ho Chi Minh City Hub", "Hanoi Tech Center", "Da Nang Conference Hall",
+            "HCMC Tech Park", "Hanoi International Center", "Da Nang Summit Hall", "HCMC Convention"
+    };
+    private static final String[] SESSION_TITLES = {
+            "Opening Keynote", "Web Development Best Practices", "Cloud Infrastructure Deep Dive", "AI Workshop",
+            "Networking Session", "Advanced Java Patterns", "Database Optimization", "DevOps & CI/CD Pipeline",
+            "Kubernetes Mastery", "Microservices Architecture", "Security Best Practices", "Performance Tuning",
+            "Code Review Session", "Testing Strategies", "Agile Retrospective", "Scrum Planning",
+            "Git Advanced Workflows", "Linux Essentials", "System Design Principles",
+            "Software Architecture Patterns", "Design Patterns Workshop", "Clean Code Principles",
+            "Refactoring Practice Session", "Memory Management", "Concurrency Programming",
+            "Parallel Processing Basics", "Distributed Systems", "Load Balancing Techniques",
+            "Database Scaling Strategies", "Caching Best Practices", "Message Queue Systems",
+            "Event Streaming Basics", "Real-time Applications", "WebSocket Implementation",
+            "Mobile Development Basics", "iOS Workshop", "Android Development", "React Native Bootcamp",
+            "Flutter Introduction", "Cross-platform Solutions", "Progressive Web Apps",
+            "Responsive Design Patterns", "UX/UI Fundamentals", "User Experience Optimization",
+            "Accessibility Compliance", "Performance Metrics", "Monitoring & Logging", "Observability Practices",
+            "Open Source Contribution", "Community Engagement", "Tech Leadership", "Career Planning",
+            "Interview Preparation", "Salary Negotiation", "Freelancing Workshop", "Remote Work Best Practices",
+            "Team Collaboration", "Communication Skills", "Presentation Training", "Technical Writing",
+            "API Design Masterclass", "REST API Best Practices", "GraphQL Advanced", "Frontend Optimization",
+            "Backend Performance", "Full Stack Development", "Deployment Strategies", "Infrastructure as Code",
+            "Container Orchestration", "Serverless Architecture", "Microservices Patterns", "Event-Driven Design",
+            "Database Modeling", "SQL Advanced Queries", "NoSQL Patterns", "Search Engine Optimization",
+            "Analytics Implementation", "Data Visualization", "Machine Learning Basics",
+            "Deep Learning Introduction", "NLP Workshop", "Computer Vision", "Reinforcement Learning",
+            "TensorFlow Masterclass", "PyTorch Advanced", "Data Pipeline Design", "ETL Processes",
+            "Data Quality Assurance", "Compliance & Regulations", "Security Hardening", "Encryption & Hashing",
+            "Authentication & Authorization", "OWASP Top 10", "Penetration Testing", "Vulnerability Assessment",
+            "Security Auditing", "Incident Response", "Disaster Recovery", "Business Continuity",
+            "Cloud Migration", "Hybrid Cloud Strategy", "Multi-cloud Architecture", "Cost Optimization",
+            "Resource Management", "Performance Benchmarking", "Load Testing", "Stress Testing",
+            "Chaos Engineering", "Monitoring & Alerting", "Log Management", "Distributed Tracing", "APM Tools",
+            "Metrics Collection", "Time Series Databases", "Version Control Strategies", "Branching Models",
+            "Merge Strategies", "Code Quality", "Static Analysis", "Dynamic Analysis", "Unit Testing",
+            "Integration Testing", "End-to-End Testing", "Test Automation", "BDD & TDD", "Continuous Testing",
+            "Agile Transformation", "Kanban Practices", "Lean Methodology", "SAFe Framework", "DevOps Culture",
+            "Cross-functional Teams", "Product Management", "Requirements Gathering", "User Stories",
+            "Feature Planning", "Release Management", "Sprint Planning", "Daily Standup", "Sprint Review",
+            "Sprint Retrospective", "Technical Debt", "Architecture Review", "Design Review",
+            "Code Review Best Practices", "Peer Programming", "Mob Programming", "Continuous Improvement",
+            "Metrics & KPIs", "Business Alignment", "Stakeholder Management", "Risk Management",
+            "Quality Metrics", "Velocity Tracking", "Burndown Charts", "Release Planning", "Roadmap Planning",
+            "Strategic Alignment", "OKR Framework", "Leadership Skills", "Decision Making", "Problem Solving",
+            "Conflict Resolution", "Change Management", "Innovation", "Mentoring & Coaching", "Delegation",
+            "Performance Management", "Feedback Loops", "Continuous Learning", "Knowledge Sharing",
+            "Documentation", "Knowledge Management", "Best Practices", "Lessons Learned", "Post-mortems",
+            "Root Cause Analysis", "Retrospectives", "Forward Planning", "Goal Setting"
+    };
+    private static final String[] VENUES = {
+            "Main Hall", "Room 101", "Room 102", "Room 201", "Room 202", "Room 203", "Lab Room",
+            "Conference Room A", "Conference Room B", "Auditorium", "Breakout Room 1", "Breakout Room 2",
+            "Breakout Room 3", "Networking Area", "Workshop Space", "Studio A", "Studio B", "Demo Area",
+            "Theater Room", "Board Room", "Executive Suite", "Innovation Lab"
+    };
+    private static final String[] DESCRIPTIONS = {
+            "Hands-on practical training", "Expert insights and strategies", "Advanced techniques workshop",
+            "Beginner to intermediate level", "Best practices and case studies", "Deep dive into technology",
+            "Live coding session", "Interactive Q&A", "Networking opportunity", "Group discussion",
+            "Problem-solving session", "Case study analysis", "Demonstration and tutorial", "Mentoring session",
+            "Breakout group discussion", "Working session", "Practical exercise"
+    };
+
     public static void main(String[] args) {
+        SeedProfile profile = SeedProfile.valueOf(stringArg(args, "--profile", "small").toUpperCase());
+        long seed = Long.parseLong(stringArg(args, "--seed", String.valueOf(DEFAULT_SEED)));
+        int threads = Integer.parseInt(stringArg(args, "--threads", String.valueOf(defaultThreads())));
+        boolean truncate = Arrays.asList(args).contains("--truncate");
+        boolean keepIndexes = Arrays.asList(args).contains("--keep-indexes");
+
         System.out.println("\n╔════════════════════════════════════════════════════╗");
         System.out.println("║   Event Manager System - Data Seeder                ║");
         System.out.println("║                                                    ║");
         System.out.println("║   This program will:                               ║");
         System.out.println("║   1. Initialize database schema                    ║");
         System.out.println("║   2. Seed admin user                               ║");
-        System.out.println("║   3. Seed sample data (events, attendees, etc.)   ║");
+        System.out.println("║   3. Bulk-load a sample dataset (COPY)             ║");
         System.out.println("╚════════════════════════════════════════════════════╝\n");
 
         try {
@@ -35,8 +195,11 @@ public class DataSeeder {
             System.out.println("✓ Admin user seeded!\n");
 
             // Step 3: Seed sample data
-            System.out.println("📊 Step 3: Seeding Sample Data...");
-            seedSampleData();
+            System.out.println("📊 Step 3: Seeding " + profile + ", seed " + seed + ", " + threads + " threads...");
+            if (!seed(profile, seed, threads, truncate, keepIndexes)) {
+                System.err.println("✗ Database already contains events; pass --truncate to replace them");
+                System.exit(1);
+            }
             System.out.println("✓ Sample data seeded!\n");
 
             System.out.println("╔════════════════════════════════════════════════════╗");
@@ -53,6 +216,7 @@ public class DataSeeder {
             e.printStackTrace();
             System.exit(1);
         }
+        DatabaseConfig.closePool();
     }
 
     /**
@@ -60,46 +224,41 @@ public class DataSeeder {
      */
     private static void initializeSchema() {
         try (Connection conn = DatabaseConfig.getConnection()) {
-            // Load schema.sql from resources
-            try (java.io.InputStream in = DataSeeder.class.getClassLoader()
-                    .getResourceAsStream("db/schema.sql")) {
-                if (in == null) {
-                    throw new RuntimeException("schema.sql not found in resources");
-                }
-                String sql = new String(in.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
-
-                // Split by semicolon and execute each statement separately
-                String[] statements = sql.split(";");
-                int successCount = 0;
-
-                try (java.sql.Statement st = conn.createStatement()) {
-                    for (String statement : statements) {
-                        String trimmed = statement.trim();
-                        if (trimmed.isEmpty()) {
-                            continue;
-                        }
-                        try {
-                            st.execute(trimmed);
-                            successCount++;
-                        } catch (Exception e) {
-                            // Skip statements that fail (e.g., IF NOT EXISTS)
-                            System.out.println("  ⚠ Statement skipped: " + trimmed.substring(0, Math.min(40, trimmed.length())) + "...");
-                        }
+            int successCount = 0;
+            try (Statement st = conn.createStatement()) {
+                for (String statement : schemaStatements()) {
+                    try {
+                        st.execute(statement);
+                        successCount++;
+                    } catch (Exception e) {
+                        // Skip statements that fail (e.g., IF NOT EXISTS)
+                        System.out.println("  ⚠ Statement skipped: " + statement.substring(0, Math.min(40, statement.length())) + "...");
                     }
                 }
-                System.out.println("  ✓ Executed " + successCount + " schema statements");
             }
+            System.out.println("  ✓ Executed " + successCount + " schema statements");
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize schema: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * schema.sql split into statements, comments removed
+     */
+    private static List<String> schemaStatements() {
+        List<String> statements = SchemaScript.load();
+        if (statements == null) {
+            throw new RuntimeException("schema.sql not found in resources");
+        }
+        return statements;
+    }
+
     public static void seedAdminUser() {
         try (Connection conn = DatabaseConfig.getConnection()) {
             // Check if persons table exists
             String tableCheckQuery = """
                     SELECT EXISTS (
-                        SELECT 1 FROM information_schema.tables 
+                        SELECT 1 FROM information_schema.tables
                         WHERE table_name = 'persons'
                     )
                     """;
@@ -151,492 +310,443 @@ public class DataSeeder {
         }
     }
 
+    /**
+     * Seed the small profile into an empty database (skipped if events already exist)
+     */
     public static void seedSampleData() {
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            System.out.println("\n=== Starting Data Seeding ===\n");
-
-            // Ensure autocommit is enabled
-            conn.setAutoCommit(true);
-
-            // Check if required tables exist before seeding
-            String requiredTables = "persons, attendees, presenters, events, sessions, tickets";
-            if (!checkTablesExist(conn, "persons", "attendees", "presenters", "events", "sessions", "tickets")) {
-                System.out.println("⚠ Not all required tables exist yet. Seeding will be skipped.");
-                System.out.println("  Required tables: " + requiredTables);
-                return;
+        try {
+            if (!seed(SeedProfile.SMALL, DEFAULT_SEED, defaultThreads(), false, false)) {
+                System.out.println("ℹ Events already exist - sample data not seeded");
             }
-
-            // Seed Attendees
-            seedAttendees(conn);
-
-            // Seed Presenters
-            seedPresenters(conn);
-
-            // Seed Events
-            seedEvents(conn);
-
-            // Seed Sessions
-            seedSessions(conn);
-
-            // Seed Tickets
-            seedTickets(conn);
-
-            System.out.println("\n=== Data Seeding Complete ===\n");
-
         } catch (Exception e) {
             System.err.println("⚠ Error seeding sample data: " + e.getMessage());
         }
     }
 
-    private static boolean checkTablesExist(Connection conn, String... tableNames) {
-        try {
-            for (String tableName : tableNames) {
-                String query = """
-                        SELECT EXISTS (
-                            SELECT 1 FROM information_schema.tables 
-                            WHERE table_name = ?
-                        )
-                        """;
-                try (PreparedStatement stmt = conn.prepareStatement(query)) {
-                    stmt.setString(1, tableName);
-                    ResultSet rs = stmt.executeQuery();
-                    if (rs.next() && !rs.getBoolean(1)) {
-                        System.out.println("  ✗ Table '" + tableName + "' not found");
+    // ============================================================
+    //  Bulk load
+    // ============================================================
+
+    /**
+     * Load a profile
+     *
+     * @param truncate     empty the seeded tables first (the admin account is recreated)
+     * @param keepIndexes  load with all indexes in place instead of rebuilding them afterwards
+     * @return false if events already exist and truncate is off (nothing is loaded)
+     */
+    public static boolean seed(SeedProfile profile, long seed, int threads, boolean truncate, boolean keepIndexes)
+            throws SQLException, InterruptedException {
+        long start = System.nanoTime();
+        List<String[]> indexes = keepIndexes ? List.of() : deferredIndexes();
+
+        try (Connection conn = DatabaseConfig.getConnection(); Statement st = conn.createStatement()) {
+            if (truncate) {
+                st.execute("TRUNCATE " + String.join(", ", SEEDED_TABLES) + " CASCADE");
+                System.out.println("  ✓ Truncated " + String.join(", ", SEEDED_TABLES));
+            } else {
+                try (ResultSet rs = st.executeQuery("SELECT EXISTS (SELECT 1 FROM events)")) {
+                    if (rs.next() && rs.getBoolean(1)) {
                         return false;
                     }
                 }
             }
-            return true;
-        } catch (Exception e) {
-            System.err.println("⚠ Error checking tables: " + e.getMessage());
-            return false;
+            for (String[] index : indexes) {
+                st.execute("DROP INDEX IF EXISTS " + index[0]);
+            }
+            if (!indexes.isEmpty()) {
+                System.out.println("  ✓ Dropped " + indexes.size() + " secondary indexes until the load is done");
+            }
+        }
+        if (truncate) {
+            seedAdminUser();
         }
-    }
 
-    private static void seedAttendees(Connection conn) {
+        BulkLoad load = new BulkLoad(profile, seed, threads);
         try {
-            String[] attendees = {
-                "john_doe,John Doe,john@example.com,+84901234567",
-                "jane_smith,Jane Smith,jane@example.com,+84901234568",
-                "bob_wilson,Bob Wilson,bob@example.com,+84901234569",
-                "alice_johnson,Alice Johnson,alice@example.com,+84901234570",
-                "charlie_brown,Charlie Brown,charlie@example.com,+84901234571",
-                "david_lee,David Lee,david@example.com,+84901234572",
-                "emma_watson,Emma Watson,emma@example.com,+84901234573",
-                "frank_miller,Frank Miller,frank@example.com,+84901234574",
-            };
-
-            String checkQuery = "SELECT id FROM persons WHERE username = ?";
-            String personQuery = """
-                    INSERT INTO persons (id, full_name, dob, email, phone, username, password_hash, role, created_at)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
-                    """;
-
-            String attendeeQuery = """
-                    INSERT INTO attendees (id, activity_history)
-                    VALUES (?, '[]')
-                    """;
+            long attendees = profile.attendees;
+            long presenters = profile.presenters;
+
+            load.phase(List.of(
+                    load.chunks("persons", PERSON_COLUMNS, attendees, load::attendeePerson),
+                    load.chunks("persons", PERSON_COLUMNS, presenters, load::presenterPerson)));
+            load.phase(List.of(
+                    load.chunks("attendees", "id, activity_history", attendees, load::attendee),
+                    load.chunks("presenters", "id, presenter_type, material_paths", presenters, load::presenter),
+                    load.chunks("events", "id, name, type, location, start_date, end_date, status, created_at",
+                            profile.events, load::event)));
+            load.phase(List.of(
+                    load.chunks("sessions", "id, event_id, title, description, venue, start_time, end_time, capacity, created_at",
+                            profile.sessions(), load::session)));
+            load.phase(List.of(
+                    load.chunks("presenter_session", "presenter_id, session_id", profile.sessions(), load::speaking),
+                    load.chunks("attendee_event", "attendee_id, event_id", attendees, load::registrations),
+                    load.chunks("tickets", "id, attendee_id, event_id, type, status, payment_status, qr_code_data, price, created_at",
+                            profile.templates() + profile.tickets, load::ticket)));
+
+            long loadNanos = System.nanoTime() - start;
+            long indexStart = System.nanoTime();
+            load.rebuildIndexes(indexes);
+            load.analyze();
+            long indexNanos = System.nanoTime() - indexStart;
+
+            load.report(loadNanos, indexNanos);
+        } finally {
+            load.shutdown();
+        }
+        return true;
+    }
 
-            int addedCount = 0;
-            for (String data : attendees) {
-                String[] parts = data.split(",");
-                String username = parts[0];
-
-                // Check if already exists
-                boolean exists = false;
-                try (PreparedStatement checkStmt = conn.prepareStatement(checkQuery)) {
-                    checkStmt.setString(1, username);
-                    ResultSet rs = checkStmt.executeQuery();
-                    exists = rs.next();
-                }
+    private static final String PERSON_COLUMNS = "id, full_name, dob, email, phone, username, password_hash, role, created_at";
 
-                if (exists) continue;
-
-                UUID id = UUID.randomUUID();
-
-                try (PreparedStatement personStmt = conn.prepareStatement(personQuery)) {
-                    personStmt.setObject(1, id);
-                    personStmt.setString(2, parts[1]);
-                    personStmt.setObject(3, LocalDate.of(1995, 1, 1));
-                    personStmt.setString(4, parts[2]);
-                    personStmt.setString(5, parts[3]);
-                    personStmt.setString(6, username);
-                    personStmt.setString(7, "password123");
-                    personStmt.setString(8, "ATTENDEE");
-                    int personRows = personStmt.executeUpdate();
-
-                    if (personRows > 0) {
-                        try (PreparedStatement attendeeStmt = conn.prepareStatement(attendeeQuery)) {
-                            attendeeStmt.setObject(1, id);
-                            attendeeStmt.executeUpdate();
-                            addedCount++;
-                        }
-                    }
-                }
+    /**
+     * CREATE INDEX statements of schema.sql on seeded tables: {name, statement}
+     */
+    private static List<String[]> deferredIndexes() {
+        List<String[]> indexes = new ArrayList<>();
+        for (String statement : schemaStatements()) {
+            Matcher m = INDEX_PATTERN.matcher(statement);
+            if (m.lookingAt() && SEEDED_TABLES.contains(m.group(2).toLowerCase())) {
+                indexes.add(new String[]{m.group(1), statement});
             }
+        }
+        return indexes;
+    }
 
-            System.out.println(" ✓ Added " + addedCount + " new attendees (total: " + attendees.length + ")");
+    /**
+     * Writes the rows derived from one index (one or more rows)
+     */
+    @FunctionalInterface
+    private interface RowSource {
+        void write(CopyWriter out, long index) throws SQLException;
+    }
 
-        } catch (Exception e) {
-            System.err.println(" Error seeding attendees: " + e.getMessage());
-        }
+    private record Chunk(String table, String columns, long from, long to, RowSource source) {
     }
 
-    private static void seedPresenters(Connection conn) {
-        try {
-            String[] presenters = {
-                "dr_smith,Dr. Smith,KEYNOTE_SPEAKER,smith@example.com,+84902234567",
-                "prof_jones,Prof. Jones,PANELIST,jones@example.com,+84902234568",
-                "engineer_lee,Lee Chen,MODERATOR,lee@example.com,+84902234569",
-                "architect_kim,Kim Park,GUEST,kim@example.com,+84902234570",
-                "consultant_nguyen,Nguyen Minh,KEYNOTE_SPEAKER,nguyen@example.com,+84902234571",
-                "master_tran,Tran Anh,PANELIST,tran@example.com,+84902234572",
-            };
-
-            String checkQuery = "SELECT id FROM persons WHERE username = ?";
-            String personQuery = """
-                    INSERT INTO persons (id, full_name, dob, email, phone, username, password_hash, role, created_at)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
-                    """;
+    /**
+     * Row counts and time span of one table
+     */
+    private static final class TableStats {
+        final LongAdder rows = new LongAdder();
+        final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        final AtomicLong lastEnd = new AtomicLong();
+    }
 
-            String presenterQuery = """
-                    INSERT INTO presenters (id, presenter_type)
-                    VALUES (?, ?)
-                    """;
+    /**
+     * One seeding run: row generators plus the worker pool that streams chunks
+     */
+    private static final class BulkLoad {
+
+        private final SeedProfile profile;
+        private final long seed;
+        private final int threads;
+        private final ExecutorService workers;
+        private final Map<String, TableStats> stats = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        BulkLoad(SeedProfile profile, long seed, int threads) {
+            this.profile = profile;
+            this.seed = seed;
+            this.threads = Math.max(1, threads);
+            this.workers = Executors.newFixedThreadPool(this.threads, r -> {
+                Thread t = new Thread(r, "ems-seeder");
+                t.setDaemon(true);
+                return t;
+            });
+        }
 
-            int addedCount = 0;
-            for (String data : presenters) {
-                String[] parts = data.split(",");
-                String username = parts[0];
-
-                // Check if already exists
-                boolean exists = false;
-                try (PreparedStatement checkStmt = conn.prepareStatement(checkQuery)) {
-                    checkStmt.setString(1, username);
-                    ResultSet rs = checkStmt.executeQuery();
-                    exists = rs.next();
-                }
+        List<Chunk> chunks(String table, String columns, long count, RowSource source) {
+            stats.computeIfAbsent(table, t -> new TableStats());
+            List<Chunk> chunks = new ArrayList<>();
+            for (long from = 0; from < count; from += CHUNK_ROWS) {
+                chunks.add(new Chunk(table, columns, from, Math.min(count, from + CHUNK_ROWS), source));
+            }
+            return chunks;
+        }
 
-                if (exists) continue;
-
-                UUID id = UUID.randomUUID();
-
-                try (PreparedStatement personStmt = conn.prepareStatement(personQuery)) {
-                    personStmt.setObject(1, id);
-                    personStmt.setString(2, parts[1]);
-                    personStmt.setObject(3, LocalDate.of(1980, 1, 1));
-                    personStmt.setString(4, parts[3]);
-                    personStmt.setString(5, parts[4]);
-                    personStmt.setString(6, username);
-                    personStmt.setString(7, "password123");
-                    personStmt.setString(8, "PRESENTER");
-                    int personRows = personStmt.executeUpdate();
-
-                    if (personRows > 0) {
-                        try (PreparedStatement presenterStmt = conn.prepareStatement(presenterQuery)) {
-                            presenterStmt.setObject(1, id);
-                            presenterStmt.setString(2, parts[2]);
-                            presenterStmt.executeUpdate();
-                            addedCount++;
-                        }
+        /**
+         * Load chunks of independent tables concurrently; returns when all are committed
+         */
+        void phase(List<List<Chunk>> tables) throws InterruptedException, SQLException {
+            // Interleave tables so small ones do not wait behind a large one
+            List<Chunk> order = new ArrayList<>();
+            int longest = tables.stream().mapToInt(List::size).max().orElse(0);
+            for (int i = 0; i < longest; i++) {
+                for (List<Chunk> table : tables) {
+                    if (i < table.size()) {
+                        order.add(table.get(i));
                     }
                 }
             }
-
-            System.out.println(" ✓ Added " + addedCount + " new presenters (total: " + presenters.length + ")");
-
-        } catch (Exception e) {
-            System.err.println(" Error seeding presenters: " + e.getMessage());
+            List<Future<?>> futures = new ArrayList<>();
+            for (Chunk chunk : order) {
+                futures.add(workers.submit(() -> {
+                    load(chunk);
+                    return null;
+                }));
+            }
+            await(futures);
         }
-    }
 
-    private static void seedEvents(Connection conn) {
-        try {
-            String eventQuery = """
-                    INSERT INTO events (id, name, type, location, start_date, end_date, status, created_at)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, NOW())
-                    """;
-
-            // Event templates
-            String[] eventNames = {
-                "Tech Conference", "Web Development Workshop", "AI & Machine Learning Summit",
-                "Cloud Computing Seminar", "Java Enterprise Development", "DevOps Best Practices",
-                "React Advanced Patterns", "Mobile Development Summit", "Python Mastery",
-                "Microservices Architecture", "Kubernetes Deep Dive", "Docker Essentials",
-                "GraphQL Advanced Techniques", "Vue.js Expert Training", "Angular Professional",
-                "Node.js Performance Tuning", "TypeScript Masterclass", "Front-End Excellence",
-                "Backend Development Bootcamp", "Full Stack Engineering", "Cybersecurity Summit",
-                "Data Science Conference", "Big Data Analytics", "Machine Learning Ops",
-                "Blockchain Technology", "Cryptocurrency Fundamentals", "Smart Contracts",
-                "Web3 Development", "NFT & DeFi Summit", "Cloud Architecture",
-                "AWS Solutions", "Azure Masterclass", "GCP Advanced Features",
-                "Database Design", "SQL Performance", "NoSQL Databases",
-                "PostgreSQL Advanced", "MongoDB Mastery", "Redis Optimization",
-                "ElasticSearch Advanced", "API Design Best Practices", "REST API Mastery",
-                "Testing Strategies", "Quality Assurance Summit", "Agile Methodology",
-                "Scrum Master Workshop", "DevOps Pipeline", "CI/CD Excellence",
-                "Git Workflow Advanced", "Linux Administration", "System Design",
-                "Software Architecture", "Design Patterns", "Clean Code Principles",
-                "Refactoring Techniques", "Performance Optimization", "Memory Management",
-                "Concurrency Programming", "Parallel Processing", "Distributed Systems",
-                "Load Balancing Strategies", "Database Scaling", "Caching Techniques",
-                "Message Queues", "Event Streaming", "Real-time Applications",
-                "WebSocket Programming", "Mobile App Development", "iOS Development",
-                "Android Development", "React Native Mastery", "Flutter Advanced",
-                "Cross-platform Development", "Progressive Web Apps", "Responsive Design",
-                "UX/UI Principles", "User Experience Design", "Accessibility Standards",
-                "Performance Metrics", "Monitoring & Logging", "Observability",
-                "Open Source Contribution", "Community Building", "Tech Leadership",
-                "Career Development", "Interview Preparation", "Salary Negotiation",
-                "Freelancing Guide", "Remote Work Best Practices", "Team Collaboration",
-                "Communication Skills", "Presentation Mastery", "Technical Writing"
-            };
-
-            String[] types = {"CONFERENCE", "WORKSHOP", "SEMINAR", "EXHIBITION", "CONCERT"};
-            String[] locations = {
-                "Hanoi Convention Center", "Da Nang Tech Hub", "Ho Chi Minh City Arena",
-                "Hanoi Business Center", "Da Nang Arena", "Ho Chi Minh City Hub",
-                "Hanoi Tech Center", "Da Nang Conference Hall", "HCMC Tech Park",
-                "Hanoi International Center", "Da Nang Summit Hall", "HCMC Convention"
-            };
-
-            int addedCount = 0;
-            LocalDate startDate = LocalDate.of(2025, 12, 10);
-
-            // Generate 100 events
-            for (int i = 0; i < 100; i++) {
-                String eventName = eventNames[i % eventNames.length] + " #" + (i + 1);
-                String type = types[i % types.length];
-                String location = locations[i % locations.length];
-                LocalDate eventStart = startDate.plusDays(i / 2);
-                LocalDate eventEnd = eventStart.plusDays((i % 3) + 1);
-                String status = (i % 5 == 0) ? "COMPLETED" : (i % 3 == 0) ? "ONGOING" : "SCHEDULED";
-
-                try (PreparedStatement stmt = conn.prepareStatement(eventQuery)) {
-                    stmt.setObject(1, UUID.randomUUID());
-                    stmt.setString(2, eventName);
-                    stmt.setString(3, type);
-                    stmt.setString(4, location);
-                    stmt.setObject(5, eventStart);
-                    stmt.setObject(6, eventEnd);
-                    stmt.setString(7, status);
-                    int rows = stmt.executeUpdate();
-                    if (rows > 0) addedCount++;
+        private void load(Chunk chunk) throws SQLException {
+            TableStats tableStats = stats.get(chunk.table());
+            tableStats.firstStart.accumulateAndGet(System.nanoTime(), Math::min);
+            try (Connection conn = DatabaseConfig.getConnection();
+                 CopyWriter out = new CopyWriter(conn, chunk.table(), chunk.columns())) {
+                for (long i = chunk.from(); i < chunk.to(); i++) {
+                    chunk.source().write(out, i);
                 }
+                tableStats.rows.add(out.finish());
             }
+            tableStats.lastEnd.accumulateAndGet(System.nanoTime(), Math::max);
+        }
 
-            System.out.println(" ✓ Added " + addedCount + " new events (total: 100)");
-
-        } catch (Exception e) {
-            System.err.println(" Error seeding events: " + e.getMessage());
+        void rebuildIndexes(List<String[]> indexes) throws InterruptedException, SQLException {
+            if (indexes.isEmpty()) {
+                return;
+            }
+            List<Future<?>> futures = new ArrayList<>();
+            for (String[] index : indexes) {
+                futures.add(workers.submit(() -> {
+                    try (Connection conn = DatabaseConfig.getConnection(); Statement st = conn.createStatement()) {
+                        st.execute(index[1]);
+                    } catch (SQLException e) {
+                        System.out.println("  ⚠ Index skipped: " + index[0] + " (" + e.getMessage() + ")");
+                    }
+                    return null;
+                }));
+            }
+            await(futures);
         }
-    }
 
-    private static void seedSessions(Connection conn) {
-        try {
-            // Get all event IDs
-            String getEventsQuery = "SELECT id FROM events ORDER BY created_at DESC LIMIT 100";
-            java.util.List<UUID> eventIds = new java.util.ArrayList<>();
-            try (PreparedStatement stmt = conn.prepareStatement(getEventsQuery)) {
-                ResultSet rs = stmt.executeQuery();
-                while (rs.next()) {
-                    eventIds.add((UUID) rs.getObject("id"));
+        void analyze() throws SQLException {
+            try (Connection conn = DatabaseConfig.getConnection(); Statement st = conn.createStatement()) {
+                for (String table : SEEDED_TABLES) {
+                    st.execute("ANALYZE " + table);
                 }
             }
+        }
 
-            if (eventIds.isEmpty()) {
-                System.out.println(" No events found for seeding sessions");
-                return;
+        private static void await(List<Future<?>> futures) throws InterruptedException, SQLException {
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sql) {
+                    throw sql;
+                }
+                throw new RuntimeException("Seeding failed: " + cause.getMessage(), cause);
             }
+        }
 
-            String sessionQuery = """
-                    INSERT INTO sessions (id, event_id, title, description, start_time, end_time, venue, capacity, created_at)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
-                    """;
-
-            // Session templates (200+)
-            String[] sessionTitles = {
-                "Opening Keynote", "Web Development Best Practices", "Cloud Infrastructure Deep Dive",
-                "AI Workshop", "Networking Session", "Advanced Java Patterns", "Database Optimization",
-                "DevOps & CI/CD Pipeline", "Kubernetes Mastery", "Microservices Architecture",
-                "Security Best Practices", "Performance Tuning", "Code Review Session", "Testing Strategies",
-                "Agile Retrospective", "Scrum Planning", "Git Advanced Workflows", "Linux Essentials",
-                "System Design Principles", "Software Architecture Patterns", "Design Patterns Workshop",
-                "Clean Code Principles", "Refactoring Practice Session", "Memory Management",
-                "Concurrency Programming", "Parallel Processing Basics", "Distributed Systems",
-                "Load Balancing Techniques", "Database Scaling Strategies", "Caching Best Practices",
-                "Message Queue Systems", "Event Streaming Basics", "Real-time Applications",
-                "WebSocket Implementation", "Mobile Development Basics", "iOS Workshop",
-                "Android Development", "React Native Bootcamp", "Flutter Introduction",
-                "Cross-platform Solutions", "Progressive Web Apps", "Responsive Design Patterns",
-                "UX/UI Fundamentals", "User Experience Optimization", "Accessibility Compliance",
-                "Performance Metrics", "Monitoring & Logging", "Observability Practices",
-                "Open Source Contribution", "Community Engagement", "Tech Leadership",
-                "Career Planning", "Interview Preparation", "Salary Negotiation",
-                "Freelancing Workshop", "Remote Work Best Practices", "Team Collaboration",
-                "Communication Skills", "Presentation Training", "Technical Writing",
-                "API Design Masterclass", "REST API Best Practices", "GraphQL Advanced",
-                "Frontend Optimization", "Backend Performance", "Full Stack Development",
-                "Deployment Strategies", "Infrastructure as Code", "Container Orchestration",
-                "Serverless Architecture", "Microservices Patterns", "Event-Driven Design",
-                "Database Modeling", "SQL Advanced Queries", "NoSQL Patterns",
-                "Search Engine Optimization", "Analytics Implementation", "Data Visualization",
-                "Machine Learning Basics", "Deep Learning Introduction", "NLP Workshop",
-                "Computer Vision", "Reinforcement Learning", "TensorFlow Masterclass",
-                "PyTorch Advanced", "Data Pipeline Design", "ETL Processes",
-                "Data Quality Assurance", "Compliance & Regulations", "Security Hardening",
-                "Encryption & Hashing", "Authentication & Authorization", "OWASP Top 10",
-                "Penetration Testing", "Vulnerability Assessment", "Security Auditing",
-                "Incident Response", "Disaster Recovery", "Business Continuity",
-                "Cloud Migration", "Hybrid Cloud Strategy", "Multi-cloud Architecture",
-                "Cost Optimization", "Resource Management", "Performance Benchmarking",
-                "Load Testing", "Stress Testing", "Chaos Engineering",
-                "Monitoring & Alerting", "Log Management", "Distributed Tracing",
-                "APM Tools", "Metrics Collection", "Time Series Databases",
-                "Version Control Strategies", "Branching Models", "Merge Strategies",
-                "Code Quality", "Static Analysis", "Dynamic Analysis",
-                "Unit Testing", "Integration Testing", "End-to-End Testing",
-                "Test Automation", "BDD & TDD", "Continuous Testing",
-                "Agile Transformation", "Kanban Practices", "Lean Methodology",
-                "SAFe Framework", "DevOps Culture", "Cross-functional Teams",
-                "Product Management", "Requirements Gathering", "User Stories",
-                "Feature Planning", "Release Management", "Sprint Planning",
-                "Daily Standup", "Sprint Review", "Sprint Retrospective",
-                "Technical Debt", "Architecture Review", "Design Review",
-                "Code Review Best Practices", "Peer Programming", "Mob Programming",
-                "Continuous Improvement", "Metrics & KPIs", "Business Alignment",
-                "Stakeholder Management", "Risk Management", "Quality Metrics",
-                "Velocity Tracking", "Burndown Charts", "Release Planning",
-                "Roadmap Planning", "Strategic Alignment", "OKR Framework",
-                "Leadership Skills", "Decision Making", "Problem Solving",
-                "Conflict Resolution", "Change Management", "Innovation",
-                "Mentoring & Coaching", "Delegation", "Performance Management",
-                "Feedback Loops", "Continuous Learning", "Knowledge Sharing",
-                "Documentation", "Knowledge Management", "Best Practices",
-                "Lessons Learned", "Post-mortems", "Root Cause Analysis",
-                "Retrospectives", "Forward Planning", "Goal Setting"
-            };
-
-            String[] venues = {
-                "Main Hall", "Room 101", "Room 102", "Room 201", "Room 202", "Room 203",
-                "Lab Room", "Conference Room A", "Conference Room B", "Auditorium",
-                "Breakout Room 1", "Breakout Room 2", "Breakout Room 3", "Networking Area",
-                "Workshop Space", "Studio A", "Studio B", "Demo Area", "Theater Room",
-                "Board Room", "Executive Suite", "Innovation Lab"
-            };
-
-            String[] descriptions = {
-                "Hands-on practical training", "Expert insights and strategies", "Advanced techniques workshop",
-                "Beginner to intermediate level", "Best practices and case studies", "Deep dive into technology",
-                "Live coding session", "Interactive Q&A", "Networking opportunity", "Group discussion",
-                "Problem-solving session", "Case study analysis", "Demonstration and tutorial",
-                "Mentoring session", "Breakout group discussion", "Working session", "Practical exercise"
-            };
-
-            int sessionCount = 0;
-            int sessionsPerEvent = 2; // 2 sessions per event = ~200 sessions for 100 events
-
-            for (int eventIdx = 0; eventIdx < eventIds.size(); eventIdx++) {
-                UUID eventId = eventIds.get(eventIdx);
-
-                for (int sessionIdx = 0; sessionIdx < sessionsPerEvent; sessionIdx++) {
-                    int titleIdx = (eventIdx * sessionsPerEvent + sessionIdx) % sessionTitles.length;
-                    String title = sessionTitles[titleIdx];
-                    String description = descriptions[(eventIdx + sessionIdx) % descriptions.length];
-                    String venue = venues[(eventIdx + sessionIdx) % venues.length];
-                    int capacity = 50 + (eventIdx % 4) * 25; // 50, 75, 100, 125
-
-                    // Fix: Calculate day properly - use modulo to stay within month bounds
-                    int dayOffset = (eventIdx / 4) % 20; // 0-19 days (safe for any month)
-                    int hour = 9 + (sessionIdx * 2);
-                    LocalDateTime startTime = LocalDateTime.of(2025, 12, 10 + dayOffset, hour, 0);
-                    LocalDateTime endTime = startTime.plusHours(1).plusMinutes(30);
-
-                    try (PreparedStatement stmt = conn.prepareStatement(sessionQuery)) {
-                        stmt.setObject(1, UUID.randomUUID());
-                        stmt.setObject(2, eventId);
-                        stmt.setString(3, title + " - " + (sessionIdx + 1));
-                        stmt.setString(4, description);
-                        stmt.setObject(5, startTime);
-                        stmt.setObject(6, endTime);
-                        stmt.setString(7, venue);
-                        stmt.setInt(8, capacity);
-                        int rows = stmt.executeUpdate();
-                        if (rows > 0) sessionCount++;
-                    }
+        void report(long loadNanos, long indexNanos) {
+            long totalRows = 0;
+            System.out.printf("  %-18s %12s %10s %14s%n", "table", "rows", "seconds", "rows/s");
+            synchronized (stats) {
+                for (Map.Entry<String, TableStats> entry : stats.entrySet()) {
+                    TableStats s = entry.getValue();
+                    long rows = s.rows.sum();
+                    totalRows += rows;
+                    double seconds = Math.max(1, s.lastEnd.get() - s.firstStart.get()) / 1e9;
+                    System.out.printf("  %-18s %,12d %10.1f %,14.0f%n", entry.getKey(), rows, seconds, rows / seconds);
                 }
             }
+            double loadSeconds = loadNanos / 1e9;
+            System.out.printf("  %-18s %,12d %10.1f %,14.0f%n", "total", totalRows, loadSeconds, totalRows / loadSeconds);
+            System.out.printf("  ✓ Indexes rebuilt and tables analyzed in %.1f s (%d threads)%n", indexNanos / 1e9, threads);
+        }
 
-            System.out.println(" ✓ Added " + sessionCount + " new sessions");
+        void shutdown() {
+            workers.shutdownNow();
+        }
 
-        } catch (Exception e) {
-            System.err.println(" Error seeding sessions: " + e.getMessage());
+        // ============================================================
+        //  Row generators (pure functions of seed + index)
+        // ============================================================
+
+        void attendeePerson(CopyWriter out, long i) throws SQLException {
+            SplittableRandom r = random(ATTENDEE, i);
+            String first = FIRST_NAMES[r.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[r.nextInt(LAST_NAMES.length)];
+            out.field(id(ATTENDEE, i)).field(first + " " + last)
+                    .field(LocalDate.of(1960, 1, 1).plusDays(r.nextInt(40 * 365)))
+                    .field("attendee" + (i + 1) + "@example.com")
+                    .field(String.format("+849%08d", r.nextInt(100_000_000)))
+                    .field("attendee" + (i + 1)).field(PASSWORD).field("ATTENDEE")
+                    .field(BASE_TIME.plusSeconds(i));
+            out.endRow();
         }
-    }
 
-    private static void seedTickets(Connection conn) {
-        try {
-            // Get attendee and event IDs
-            String attendeesQuery = "SELECT id FROM attendees";
-            java.util.List<UUID> attendeeIds = new java.util.ArrayList<>();
-            try (PreparedStatement stmt = conn.prepareStatement(attendeesQuery)) {
-                ResultSet rs = stmt.executeQuery();
-                while (rs.next()) {
-                    attendeeIds.add((UUID) rs.getObject("id"));
-                }
-            }
+        void presenterPerson(CopyWriter out, long i) throws SQLException {
+            SplittableRandom r = random(PRESENTER, i);
+            String first = FIRST_NAMES[r.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[r.nextInt(LAST_NAMES.length)];
+            out.field(id(PRESENTER, i)).field(first + " " + last)
+                    .field(LocalDate.of(1955, 1, 1).plusDays(r.nextInt(35 * 365)))
+                    .field("presenter" + (i + 1) + "@example.com")
+                    .field(String.format("+849%08d", r.nextInt(100_000_000)))
+                    .field("presenter" + (i + 1)).field(PASSWORD).field("PRESENTER")
+                    .field(BASE_TIME.plusSeconds(i));
+            out.endRow();
+        }
 
-            String eventsQuery = "SELECT id FROM events";
-            java.util.List<UUID> eventIds = new java.util.ArrayList<>();
-            try (PreparedStatement stmt = conn.prepareStatement(eventsQuery)) {
-                ResultSet rs = stmt.executeQuery();
-                while (rs.next()) {
-                    eventIds.add((UUID) rs.getObject("id"));
-                }
-            }
+        void attendee(CopyWriter out, long i) throws SQLException {
+            out.field(id(ATTENDEE, i)).field("[]");
+            out.endRow();
+        }
+
+        void presenter(CopyWriter out, long i) throws SQLException {
+            out.field(id(PRESENTER, i)).field(PRESENTER_TYPES[(int) (i % PRESENTER_TYPES.length)]).field("[]");
+            out.endRow();
+        }
+
+        void event(CopyWriter out, long i) throws SQLException {
+            SplittableRandom r = random(EVENT, i);
+            LocalDate start = eventStart(i);
+            int roll = r.nextInt(100);
+            String status = roll < 20 ? "COMPLETED" : roll < 30 ? "ONGOING" : roll < 35 ? "CANCELLED" : "SCHEDULED";
+            out.field(id(EVENT, i))
+                    .field(EVENT_NAMES[r.nextInt(EVENT_NAMES.length)] + " #" + (i + 1))
+                    .field(EVENT_TYPES[r.nextInt(EVENT_TYPES.length)])
+                    .field(LOCATIONS[r.nextInt(LOCATIONS.length)])
+                    .field(start).field(start.plusDays(r.nextInt(4)))
+                    .field(status)
+                    .field(BASE_TIME.plusSeconds(i));
+            out.endRow();
+        }
 
-            if (attendeeIds.isEmpty() || eventIds.isEmpty()) {
-                System.out.println(" No attendees or events found for seeding tickets");
+        void session(CopyWriter out, long i) throws SQLException {
+            SplittableRandom r = random(SESSION, i);
+            long event = i / profile.sessionsPerEvent;
+            int slot = (int) (i % profile.sessionsPerEvent);
+            LocalDateTime start = eventStart(event).atTime(9, 0).plusHours(2L * slot);
+            out.field(id(SESSION, i)).field(id(EVENT, event))
+                    .field(SESSION_TITLES[r.nextInt(SESSION_TITLES.length)] + " - " + (slot + 1))
+                    .field(DESCRIPTIONS[r.nextInt(DESCRIPTIONS.length)])
+                    .field(VENUES[r.nextInt(VENUES.length)])
+                    .field(start).field(start.plusMinutes(90))
+                    .field(50 + 25 * r.nextInt(7))
+                    .field(BASE_TIME.plusSeconds(i));
+            out.endRow();
+        }
+
+        /** One or two distinct presenters per session */
+        void speaking(CopyWriter out, long i) throws SQLException {
+            if (profile.presenters == 0) {
                 return;
             }
+            SplittableRandom r = random(SPEAKING, i);
+            int first = r.nextInt(profile.presenters);
+            out.field(id(PRESENTER, first)).field(id(SESSION, i));
+            out.endRow();
+            if (profile.presenters > 1 && r.nextBoolean()) {
+                int second = (first + 1 + r.nextInt(profile.presenters - 1)) % profile.presenters;
+                out.field(id(PRESENTER, second)).field(id(SESSION, i));
+                out.endRow();
+            }
+        }
 
-            String ticketQuery = """
-                    INSERT INTO tickets (id, attendee_id, event_id, type, price, status, payment_status, qr_code_data, created_at)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())
-                    """;
+        /** 0..2x the profile average of distinct events per attendee */
+        void registrations(CopyWriter out, long i) throws SQLException {
+            SplittableRandom r = random(REGISTRATION, i);
+            int count = Math.min(profile.events, r.nextInt(2 * profile.registrationsPerAttendee + 1));
+            long[] chosen = new long[count];
+            for (int k = 0; k < count; k++) {
+                long event;
+                boolean duplicate;
+                do {
+                    event = popularEvent(r);
+                    duplicate = false;
+                    for (int j = 0; j < k; j++) {
+                        duplicate |= chosen[j] == event;
+                    }
+                } while (duplicate);
+                chosen[k] = event;
+                out.field(id(ATTENDEE, i)).field(id(EVENT, event));
+                out.endRow();
+            }
+        }
 
-            String[] types = {"GENERAL", "VIP", "EARLY_BIRD", "STUDENT"};
-            double[] prices = {50.0, 100.0, 30.0, 25.0};
-
-            int ticketCount = 0;
-            // Create multiple tickets per attendee-event pair for realistic data
-            for (int i = 0; i < attendeeIds.size() * 30; i++) {
-                UUID attendeeId = attendeeIds.get(i % attendeeIds.size());
-                UUID eventId = eventIds.get(i % eventIds.size());
-
-                String type = types[i % types.length];
-                double price = prices[i % prices.length];
-                String qrCode = "QR-" + UUID.randomUUID().toString().substring(0, 12).toUpperCase();
-
-                try (PreparedStatement stmt = conn.prepareStatement(ticketQuery)) {
-                    stmt.setObject(1, UUID.randomUUID());
-                    stmt.setObject(2, attendeeId);
-                    stmt.setObject(3, eventId);
-                    stmt.setString(4, type);
-                    stmt.setBigDecimal(5, new java.math.BigDecimal(price));
-                    stmt.setString(6, "ACTIVE");
-                    stmt.setString(7, "PAID");
-                    stmt.setString(8, qrCode);
-                    int rows = stmt.executeUpdate();
-                    if (rows > 0) ticketCount++;
-                }
+        /** Indexes below templates() are unassigned templates, the rest belong to attendees */
+        void ticket(CopyWriter out, long i) throws SQLException {
+            SplittableRandom r = random(TICKET, i);
+            UUID ticketId = id(TICKET, i);
+            String qr = "QR-" + ticketId.toString().substring(0, 12).toUpperCase();
+            if (i < profile.templates()) {
+                int type = (int) (i % profile.templatesPerEvent % TICKET_TYPES.length);
+                out.field(ticketId).field(null).field(id(EVENT, i / profile.templatesPerEvent))
+                        .field(TICKET_TYPES[type]).field("ACTIVE").field("UNPAID").field(qr)
+                        .field(TICKET_PRICES[type] + ".00")
+                        .field(BASE_TIME.plusSeconds(i));
+            } else {
+                int type = r.nextInt(TICKET_TYPES.length);
+                int statusRoll = r.nextInt(100);
+                int paymentRoll = r.nextInt(100);
+                out.field(ticketId)
+                        .field(id(ATTENDEE, r.nextInt(profile.attendees)))
+                        .field(id(EVENT, popularEvent(r)))
+                        .field(TICKET_TYPES[type])
+                        .field(statusRoll < 75 ? "ACTIVE" : statusRoll < 95 ? "USED" : "CANCELLED")
+                        .field(paymentRoll < 90 ? "PAID" : paymentRoll < 97 ? "UNPAID" : "REFUNDED")
+                        .field(qr)
+                        .field(TICKET_PRICES[type] + ".00")
+                        .field(BASE_TIME.plusSeconds(r.nextInt(365 * 86_400)));
             }
+            out.endRow();
+        }
+
+        /** Event dates are needed by events and sessions, so they get their own stream */
+        private LocalDate eventStart(long event) {
+            return BASE_DATE.plusDays(random(EVENT_DATE, event).nextInt(730));
+        }
 
-            System.out.println(" ✓ Added " + ticketCount + " new tickets");
+        /** Skewed towards low indexes: a few events sell most tickets */
+        private long popularEvent(SplittableRandom r) {
+            double u = r.nextDouble();
+            return Math.min(profile.events - 1, (long) (profile.events * u * u));
+        }
 
-        } catch (Exception e) {
-            System.err.println(" Error seeding tickets: " + e.getMessage());
+        private SplittableRandom random(int kind, long index) {
+            return new SplittableRandom(mix(seed * 31 + kind) ^ mix(index + 0x9E3779B97F4A7C15L * kind));
+        }
+
+        /** Random-looking (version 4) UUID that is a pure function of seed, kind and index */
+        private UUID id(int kind, long index) {
+            long msb = mix(seed ^ (kind * 0x632BE59BD9B4E019L) ^ index);
+            long lsb = mix(msb ^ index ^ 0x85EBCA77C2B2AE63L);
+            msb = (msb & ~0xF000L) | 0x4000L;
+            lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
         }
     }
-}
 
+    // ============================================================
+    //  Helpers
+    // ============================================================
+
+    /**
+     * One connection per worker, leaving one for the coordinator
+     */
+    private static int defaultThreads() {
+        int poolSize = DatabaseConfig.getMaximumPoolSize();
+        int cores = Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(cores, poolSize > 1 ? poolSize - 1 : 1));
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return arg.substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -2,10 +2,9 @@ package org.ems.infrastructure.db;
 
 import org.ems.infrastructure.config.DatabaseConfig;
 
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.util.List;
 
 /**
  * Database initialization class
@@ -22,35 +21,38 @@ public class DatabaseInitializer {
             System.out.println("✓ Database connection successful!");
 
             // Load schema.sql from resources
-            try (InputStream in = DatabaseInitializer.class.getClassLoader()
-                    .getResourceAsStream("db/schema.sql")) {
-                if (in == null) {
-                    System.out.println("⚠ schema.sql not found - skipping schema initialization");
-                    return;
-                }
-                String sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
-
-                // Split by semicolon and execute each statement separately
-                String[] statements = sql.split(";");
-                int successCount = 0;
+            List<String> statements = SchemaScript.load();
+            if (statements == null) {
+                System.out.println("⚠ schema.sql not found - skipping schema initialization");
+                return;
+            }
 
-                try (Statement st = conn.createStatement()) {
-                    for (String statement : statements) {
-                        String trimmed = statement.trim();
-                        if (trimmed.isEmpty()) {
-                            continue;
-                        }
-                        try {
-                            st.execute(trimmed);
-                            successCount++;
-                        } catch (Exception e) {
-                            // Log but continue - some statements might fail (e.g., IF NOT EXISTS that already exist)
-                            System.out.println("  ⚠ Statement skipped: " + trimmed.substring(0, Math.min(50, trimmed.length())) + "... (" + e.getMessage() + ")");
-                        }
+            // Execute each statement separately (function bodies are kept whole)
+            int successCount = 0;
+            try (Statement st = conn.createStatement()) {
+                for (String statement : statements) {
+                    try {
+                        st.execute(statement);
+                        successCount++;
+                    } catch (Exception e) {
+                        // Log but continue - some statements might fail (e.g., IF NOT EXISTS that already exist)
+                        System.out.println("  ⚠ Statement skipped: " + statement.substring(0, Math.min(50, statement.length())) + "... (" + e.getMessage() + ")");
                     }
                 }
-                System.out.println("✓ Database schema initialized successfully (" + successCount + " statements executed).");
             }
+            System.out.println("✓ Database schema initialized successfully (" + successCount + " statements executed).");
+
+            // Trigger-maintained counters can drift through TRUNCATE or restores; full check is opt-in
+            if (DatabaseConfig.getBooleanProperty("tickets.template-stats.verify-on-startup", false)) {
+                TicketTemplateStatsChecker.verify(conn, true);
+            }
+
+            // The sales rollup triggers only see new tickets; history is backfilled once
+            TicketSalesRollupJob.backfillIfEmpty(conn);
+
+            // Delta sync tombstones are only needed until every client has synced past them
+            SyncTombstoneJob.purge(conn, (int) DatabaseConfig.getLongProperty(
+                    "sync.tombstone-retention-days", SyncTombstoneJob.DEFAULT_RETENTION_DAYS));
 
             // Seed admin user (always seed to ensure admin exists)
             DataSeeder.seedAdminUser();
@@ -0,0 +1,101 @@
+package org.ems.infrastructure.db;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SchemaScript - Reads db/schema.sql as a list of statements
+ * Single Responsibility: Split a SQL script on semicolons the way PostgreSQL would
+ *
+ * Semicolons inside quoted strings and dollar-quoted bodies ($$ ... $$, used by functions
+ * and DO blocks) do not end a statement. -- comments are removed.
+ *
+ * @author EMS Team
+ */
+final class SchemaScript {
+
+    private static final String RESOURCE = "db/schema.sql";
+
+    private SchemaScript() {
+    }
+
+    /**
+     * @return The statements of db/schema.sql, or null if the resource is missing
+     */
+    static List<String> load() {
+        try (InputStream in = SchemaScript.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            return split(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read schema.sql: " + e.getMessage(), e);
+        }
+    }
+
+    static List<String> split(String sql) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        String dollarTag = null;
+        boolean inString = false;
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (dollarTag != null) {
+                if (sql.startsWith(dollarTag, i)) {
+                    current.append(dollarTag);
+                    i += dollarTag.length();
+                    dollarTag = null;
+                } else {
+                    current.append(c);
+                    i++;
+                }
+            } else if (inString) {
+                current.append(c);
+                inString = c != '\'';
+                i++;
+            } else if (c == '\'') {
+                current.append(c);
+                inString = true;
+                i++;
+            } else if (c == '-' && sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end;
+            } else if (c == '$' && dollarTagAt(sql, i) != null) {
+                dollarTag = dollarTagAt(sql, i);
+                current.append(dollarTag);
+                i += dollarTag.length();
+            } else if (c == ';') {
+                add(statements, current);
+                i++;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        add(statements, current);
+        return statements;
+    }
+
+    /**
+     * $$ or $tag$ starting at index, else null
+     */
+    private static String dollarTagAt(String sql, int index) {
+        int end = index + 1;
+        while (end < sql.length() && (Character.isLetterOrDigit(sql.charAt(end)) || sql.charAt(end) == '_')) {
+            end++;
+        }
+        return end < sql.length() && sql.charAt(end) == '$' ? sql.substring(index, end + 1) : null;
+    }
+
+    private static void add(List<String> statements, StringBuilder current) {
+        String statement = current.toString().trim();
+        if (!statement.isEmpty()) {
+            statements.add(statement);
+        }
+        current.setLength(0);
+    }
+}
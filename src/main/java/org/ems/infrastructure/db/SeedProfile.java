@@ -0,0 +1,51 @@
+package org.ems.infrastructure.db;
+
+/**
+ * SeedProfile - Dataset sizes for DataSeeder
+ * Single Responsibility: Define how many rows each seeded table gets
+ *
+ * Template tickets (attendee_id NULL) are created per event on top of the assigned tickets.
+ *
+ * @author EMS Team
+ */
+public enum SeedProfile {
+
+    //       events  sessions/event  attendees  presenters  registrations/attendee  templates/event  tickets
+    SMALL(      100,  2,                 1_000,      50, 3, 4,     30_000),
+    MEDIUM(   1_000,  4,                50_000,     500, 3, 4,  1_000_000),
+    LARGE(   10_000,  5,               500_000,   2_000, 4, 5, 10_000_000),
+    XL(      50_000,  6,             2_000_000,   5_000, 4, 5, 40_000_000);
+
+    public final int events;
+    public final int sessionsPerEvent;
+    public final int attendees;
+    public final int presenters;
+    public final int registrationsPerAttendee;
+    public final int templatesPerEvent;
+    public final long tickets;
+
+    SeedProfile(int events, int sessionsPerEvent, int attendees, int presenters,
+                int registrationsPerAttendee, int templatesPerEvent, long tickets) {
+        this.events = events;
+        this.sessionsPerEvent = sessionsPerEvent;
+        this.attendees = attendees;
+        this.presenters = presenters;
+        this.registrationsPerAttendee = registrationsPerAttendee;
+        this.templatesPerEvent = templatesPerEvent;
+        this.tickets = tickets;
+    }
+
+    public long sessions() {
+        return (long) events * sessionsPerEvent;
+    }
+
+    public long templates() {
+        return (long) events * templatesPerEvent;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase() + " (" + events + " events, " + sessions() + " sessions, " + attendees
+                + " attendees, " + presenters + " presenters, " + (tickets + templates()) + " tickets)";
+    }
+}
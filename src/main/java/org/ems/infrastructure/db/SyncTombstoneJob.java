@@ -0,0 +1,82 @@
+package org.ems.infrastructure.db;
+
+import org.ems.infrastructure.config.DatabaseConfig;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SyncTombstoneJob - Purges old delete tombstones used by delta sync
+ * Single Responsibility: Bound sync_tombstones and advance the sync horizon
+ *
+ * Every delete on a tracked table leaves a tombstone (see schema.sql, CHANGE TRACKING) so
+ * clients can drop the row from their copies. Tombstones older than the retention period
+ * are deleted; sync_horizon is raised past the newest purged version in the same statement,
+ * so a client whose watermark is older than that gets a full reload instead of a delta
+ * that silently misses deletes. DatabaseInitializer runs the purge at startup.
+ *
+ * Usage: SyncTombstoneJob [--days N]
+ *
+ * @author EMS Team
+ */
+public final class SyncTombstoneJob {
+
+    public static final int DEFAULT_RETENTION_DAYS = 30;
+
+    private static final String PURGE = """
+            WITH purged AS (
+                DELETE FROM sync_tombstones WHERE deleted_at < now() - make_interval(days => ?)
+                RETURNING version
+            ), horizon AS (
+                INSERT INTO sync_horizon AS h (singleton, version)
+                SELECT TRUE, MAX(version) + 1 FROM purged HAVING COUNT(*) > 0
+                ON CONFLICT (singleton) DO UPDATE SET version = GREATEST(h.version, EXCLUDED.version)
+            )
+            SELECT COUNT(*) FROM purged
+            """;
+
+    private SyncTombstoneJob() {
+    }
+
+    public static void main(String[] args) {
+        List<String> options = Arrays.asList(args);
+        int days = DEFAULT_RETENTION_DAYS;
+        int at = options.indexOf("--days");
+        if (at >= 0 && at + 1 < options.size()) {
+            days = Integer.parseInt(options.get(at + 1));
+        }
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            purge(conn, days);
+        } catch (SQLException e) {
+            System.err.println("✗ Sync tombstone purge failed: " + e.getMessage());
+        } finally {
+            DatabaseConfig.closePool();
+        }
+    }
+
+    /**
+     * Delete tombstones older than the retention period
+     *
+     * @return Number of tombstones deleted
+     */
+    public static long purge(Connection conn, int retentionDays) throws SQLException {
+        long start = System.currentTimeMillis();
+        long purged;
+        try (PreparedStatement ps = conn.prepareStatement(PURGE)) {
+            ps.setInt(1, Math.max(retentionDays, 0));
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                purged = rs.getLong(1);
+            }
+        }
+        if (purged > 0) {
+            System.out.println("🧹 Purged " + purged + " sync tombstones older than " + retentionDays + " days in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        }
+        return purged;
+    }
+}
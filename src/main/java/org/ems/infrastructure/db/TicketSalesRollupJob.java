@@ -0,0 +1,284 @@
+package org.ems.infrastructure.db;
+
+import org.ems.infrastructure.config.DatabaseConfig;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TicketSalesRollupJob - Backfills and verifies the ticket sales rollups
+ * Single Responsibility: Rebuild rollup days from the tickets table
+ *
+ * Triggers keep the rollups exact for every ticket written after they were created (see
+ * schema.sql). History, and days that drifted through writes bypassing row triggers
+ * (TRUNCATE, restores, triggers disabled by hand), are rebuilt in ticket_sales_daily one
+ * month at a time: each month blocks ticket writes (not reads) only while it is recomputed.
+ * The per-day and per-event totals are then summed again from ticket_sales_daily.
+ *
+ * Usage: TicketSalesRollupJob [--verify | --repair | --backfill [--from yyyy-MM-dd] [--to yyyy-MM-dd]]
+ *
+ * @author EMS Team
+ */
+public final class TicketSalesRollupJob {
+
+    private static final int MAX_REPORTED = 5;
+
+    /** Day of tickets without created_at (matches ticket_sales_rollup_apply) */
+    private static final LocalDate UNDATED = LocalDate.of(1970, 1, 1);
+
+    private static final String LIVE_ROWS = """
+            SELECT COALESCE(created_at::date, DATE '1970-01-01') AS day,
+                   COALESCE(event_id, '00000000-0000-0000-0000-000000000000'::uuid) AS event_id,
+                   type,
+                   COUNT(*) AS ticket_count,
+                   COUNT(*) FILTER (WHERE status = 'USED') AS used_count,
+                   COUNT(*) FILTER (WHERE payment_status = 'PAID') AS paid_count,
+                   SUM(price) AS gross_amount,
+                   COALESCE(SUM(price) FILTER (WHERE payment_status = 'PAID'), 0) AS paid_revenue
+            FROM tickets
+            %s
+            GROUP BY 1, 2, 3
+            """;
+
+    private static final String MISMATCHED_DAYS = """
+            SELECT COALESCE(l.day, s.day) AS day, COUNT(*) AS keys,
+                   SUM(COALESCE(l.ticket_count, 0)) AS actual, SUM(COALESCE(s.ticket_count, 0)) AS stored
+            FROM (%s) l
+            FULL JOIN ticket_sales_daily s
+              ON s.day = l.day AND s.event_id = l.event_id AND s.type = l.type
+            WHERE COALESCE(l.ticket_count, 0) <> COALESCE(s.ticket_count, 0)
+               OR COALESCE(l.used_count, 0) <> COALESCE(s.used_count, 0)
+               OR COALESCE(l.paid_count, 0) <> COALESCE(s.paid_count, 0)
+               OR COALESCE(l.gross_amount, 0) <> COALESCE(s.gross_amount, 0)
+               OR COALESCE(l.paid_revenue, 0) <> COALESCE(s.paid_revenue, 0)
+            GROUP BY 1
+            ORDER BY 1
+            """.formatted(LIVE_ROWS.formatted(""));
+
+    private static final String MEASURES = """
+            SUM(ticket_count), SUM(used_count), SUM(paid_count), SUM(gross_amount), SUM(paid_revenue)
+            """;
+
+    /** Keys of a totals table whose measures differ from the sums of ticket_sales_daily */
+    private static final String MISMATCHED_TOTALS = """
+            SELECT COUNT(DISTINCT (%1$s)) FROM (
+                (SELECT %1$s, ticket_count, used_count, paid_count, gross_amount, paid_revenue FROM %2$s
+                 WHERE ticket_count <> 0 OR used_count <> 0 OR paid_count <> 0
+                    OR gross_amount <> 0 OR paid_revenue <> 0
+                 EXCEPT
+                 SELECT %1$s, %3$s FROM ticket_sales_daily GROUP BY %1$s)
+                UNION ALL
+                (SELECT %1$s, %3$s FROM ticket_sales_daily GROUP BY %1$s
+                 HAVING SUM(ticket_count) <> 0 OR SUM(used_count) <> 0 OR SUM(paid_count) <> 0
+                    OR SUM(gross_amount) <> 0 OR SUM(paid_revenue) <> 0
+                 EXCEPT
+                 SELECT %1$s, ticket_count, used_count, paid_count, gross_amount, paid_revenue FROM %2$s)
+            ) m
+            """;
+
+    private static final String REBUILD_DAYS = """
+            INSERT INTO ticket_sales_daily
+                (day, event_id, type, ticket_count, used_count, paid_count, gross_amount, paid_revenue)
+            """ + LIVE_ROWS.formatted("WHERE (created_at >= ? AND created_at < ?) OR (created_at IS NULL AND ?)");
+
+    private TicketSalesRollupJob() {
+    }
+
+    public static void main(String[] args) {
+        List<String> options = Arrays.asList(args);
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            if (options.contains("--backfill")) {
+                backfill(conn, dateOption(options, "--from"), dateOption(options, "--to"));
+            } else {
+                int problems = verify(conn, options.contains("--repair"));
+                if (problems > 0 && !options.contains("--repair")) {
+                    System.out.println("   Run with --repair to rebuild them");
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("✗ Ticket sales rollup job failed: " + e.getMessage());
+        } finally {
+            DatabaseConfig.closePool();
+        }
+    }
+
+    private static LocalDate dateOption(List<String> options, String name) {
+        int index = options.indexOf(name);
+        return index >= 0 && index + 1 < options.size() ? LocalDate.parse(options.get(index + 1)) : null;
+    }
+
+    /**
+     * Fill in history when tickets exist but the rollups are still empty (first start after upgrade)
+     */
+    public static void backfillIfEmpty(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT EXISTS (SELECT 1 FROM tickets) "
+                     + "AND NOT EXISTS (SELECT 1 FROM ticket_sales_daily)")) {
+            if (rs.next() && rs.getBoolean(1)) {
+                System.out.println("📈 Ticket sales rollups are empty - backfilling history");
+                backfill(conn, null, null);
+            }
+        }
+    }
+
+    /**
+     * Compare every ticket_sales_daily row with a fresh GROUP BY, and both totals tables with the
+     * sums of ticket_sales_daily; if repair is set, rebuild what differs
+     *
+     * @return Number of days with at least one wrong (or missing) row, plus wrong totals rows
+     */
+    public static int verify(Connection conn, boolean repair) throws SQLException {
+        long start = System.currentTimeMillis();
+        LocalDate first = null;
+        LocalDate last = null;
+        int days = 0;
+        int totals;
+        try (Statement st = conn.createStatement()) {
+            try (ResultSet rs = st.executeQuery(MISMATCHED_DAYS)) {
+                while (rs.next()) {
+                    LocalDate day = rs.getObject("day", LocalDate.class);
+                    if (days < MAX_REPORTED) {
+                        System.out.println("  ⚠ Day " + day + ": " + rs.getLong("keys") + " rows differ, stored "
+                                + rs.getLong("stored") + " tickets, actual " + rs.getLong("actual"));
+                    }
+                    first = first == null ? day : first;
+                    last = day;
+                    days++;
+                }
+            }
+            totals = countMismatchedTotals(st, "ticket_sales_daily_totals", "day, type")
+                    + countMismatchedTotals(st, "ticket_sales_event_totals", "event_id, type");
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        if (days == 0 && totals == 0) {
+            System.out.println("✓ Ticket sales rollups consistent (" + elapsed + " ms)");
+            return 0;
+        }
+        System.out.println("⚠️ Ticket sales rollups: " + days + " days and " + totals
+                + " totals out of date (" + elapsed + " ms)");
+        if (repair && days > 0) {
+            backfill(conn, first, last.plusDays(1));
+        } else if (repair) {
+            rebuildTotals(conn);
+        }
+        return days + totals;
+    }
+
+    private static int countMismatchedTotals(Statement st, String table, String key) throws SQLException {
+        try (ResultSet rs = st.executeQuery(MISMATCHED_TOTALS.formatted(key, table, MEASURES))) {
+            rs.next();
+            int rows = rs.getInt(1);
+            if (rows > 0) {
+                System.out.println("  ⚠ " + table + ": " + rows + " rows differ from ticket_sales_daily");
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Recompute the ticket_sales_daily rows of [from, to) from the tickets table, one month per
+     * transaction, then both totals tables
+     *
+     * @param from First day to rebuild (null: the oldest ticket, including tickets without created_at)
+     * @param to   Day after the last one to rebuild (null: after the newest ticket)
+     * @return Number of ticket_sales_daily rows written
+     */
+    public static long backfill(Connection conn, LocalDate from, LocalDate to) throws SQLException {
+        long start = System.currentTimeMillis();
+        boolean includeUndated = from == null;
+        if (from == null || to == null) {
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT MIN(created_at)::date, MAX(created_at)::date FROM tickets")) {
+                rs.next();
+                LocalDate oldest = rs.getObject(1, LocalDate.class);
+                LocalDate newest = rs.getObject(2, LocalDate.class);
+                from = from != null ? from : (oldest != null ? oldest : UNDATED);
+                to = to != null ? to : (newest != null ? newest.plusDays(1) : from.plusDays(1));
+            }
+        }
+
+        long rows = 0;
+        int months = 0;
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (Statement lock = conn.createStatement();
+             PreparedStatement delete = conn.prepareStatement(
+                     "DELETE FROM ticket_sales_daily WHERE (day >= ? AND day < ?) OR (day = ? AND ?)");
+             PreparedStatement insert = conn.prepareStatement(REBUILD_DAYS)) {
+            if (includeUndated) {
+                rows += rebuild(conn, lock, delete, insert, UNDATED, UNDATED, true);
+            }
+            for (LocalDate chunk = from; chunk.isBefore(to); chunk = chunk.withDayOfMonth(1).plusMonths(1)) {
+                LocalDate end = chunk.withDayOfMonth(1).plusMonths(1);
+                rows += rebuild(conn, lock, delete, insert, chunk, end.isBefore(to) ? end : to, false);
+                months++;
+            }
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        rebuildTotals(conn);
+        System.out.println("✓ Backfilled ticket sales rollups " + from + " .. " + to.minusDays(1) + ": "
+                + rows + " rows over " + months + " months in " + (System.currentTimeMillis() - start) + " ms");
+        return rows;
+    }
+
+    /**
+     * Sum the per-day and per-event totals again from ticket_sales_daily in one transaction
+     */
+    public static void rebuildTotals(Connection conn) throws SQLException {
+        long start = System.currentTimeMillis();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (Statement st = conn.createStatement()) {
+            // Ticket writes wait, so the totals match ticket_sales_daily when committed
+            st.execute("LOCK TABLE tickets IN SHARE MODE");
+            st.executeUpdate("DELETE FROM ticket_sales_daily_totals");
+            int days = st.executeUpdate("INSERT INTO ticket_sales_daily_totals "
+                    + "(day, type, ticket_count, used_count, paid_count, gross_amount, paid_revenue) "
+                    + "SELECT day, type, " + MEASURES + " FROM ticket_sales_daily GROUP BY day, type");
+            st.executeUpdate("DELETE FROM ticket_sales_event_totals");
+            int events = st.executeUpdate("INSERT INTO ticket_sales_event_totals "
+                    + "(event_id, type, ticket_count, used_count, paid_count, gross_amount, paid_revenue) "
+                    + "SELECT event_id, type, " + MEASURES + " FROM ticket_sales_daily GROUP BY event_id, type");
+            conn.commit();
+            System.out.println("✓ Rebuilt ticket sales totals: " + days + " day rows, " + events + " event rows in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Replace the ticket_sales_daily rows of [from, to) (plus the undated bucket if set) in one transaction
+     */
+    private static int rebuild(Connection conn, Statement lock, PreparedStatement delete, PreparedStatement insert,
+                               LocalDate from, LocalDate to, boolean undated) throws SQLException {
+        try {
+            // Ticket writes wait until the rebuilt days are committed, so none are lost
+            lock.execute("LOCK TABLE tickets IN SHARE MODE");
+            delete.setObject(1, from);
+            delete.setObject(2, to);
+            delete.setObject(3, UNDATED);
+            delete.setBoolean(4, undated);
+            delete.executeUpdate();
+            insert.setObject(1, from);
+            insert.setObject(2, to);
+            insert.setBoolean(3, undated);
+            int rows = insert.executeUpdate();
+            conn.commit();
+            return rows;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.ems.infrastructure.db;
+
+import org.ems.infrastructure.config.DatabaseConfig;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * TicketTemplateStatsChecker - Verifies ticket_template_stats against the tickets table
+ * Single Responsibility: Detect drifted template counters and rebuild them
+ *
+ * The counters are maintained by triggers (see schema.sql). They can only drift through
+ * writes that bypass row triggers (TRUNCATE, triggers disabled by hand, restores), so the
+ * check compares every counter with a fresh GROUP BY and rebuilds the table if any differ.
+ * The rebuild blocks ticket writes (not reads) while it runs, so the counts are exact.
+ *
+ * Usage: TicketTemplateStatsChecker [--repair | --rebuild]
+ *
+ * @author EMS Team
+ */
+public final class TicketTemplateStatsChecker {
+
+    private static final int MAX_REPORTED = 5;
+
+    private static final String LIVE_COUNTS = """
+            SELECT event_id, type, price, COUNT(*) AS assigned_count
+            FROM tickets
+            WHERE attendee_id IS NOT NULL AND event_id IS NOT NULL
+            GROUP BY event_id, type, price
+            """;
+
+    private static final String MISMATCHES = """
+            SELECT COALESCE(l.event_id, s.event_id) AS event_id,
+                   COALESCE(l.type, s.type) AS type,
+                   COALESCE(l.price, s.price) AS price,
+                   COALESCE(l.assigned_count, 0) AS actual,
+                   COALESCE(s.assigned_count, 0) AS stored
+            FROM (%s) l
+            FULL JOIN ticket_template_stats s
+              ON s.event_id = l.event_id AND s.type = l.type AND s.price = l.price
+            WHERE COALESCE(l.assigned_count, 0) <> COALESCE(s.assigned_count, 0)
+            """.formatted(LIVE_COUNTS);
+
+    private TicketTemplateStatsChecker() {
+    }
+
+    public static void main(String[] args) {
+        boolean rebuild = Arrays.asList(args).contains("--rebuild");
+        boolean repair = Arrays.asList(args).contains("--repair");
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            if (rebuild) {
+                rebuild(conn);
+            } else {
+                int mismatches = verify(conn, repair);
+                if (mismatches > 0 && !repair) {
+                    System.out.println("   Run with --repair to rebuild the counters");
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("✗ Ticket template stats check failed: " + e.getMessage());
+        } finally {
+            DatabaseConfig.closePool();
+        }
+    }
+
+    /**
+     * Compare the counters with the tickets table, rebuilding them on any difference if repair is set
+     *
+     * @return Number of templates whose counter was wrong (or missing)
+     */
+    public static int verify(Connection conn, boolean repair) throws SQLException {
+        long start = System.currentTimeMillis();
+        int mismatches = 0;
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(MISMATCHES)) {
+            while (rs.next()) {
+                if (mismatches < MAX_REPORTED) {
+                    System.out.println("  ⚠ Template " + rs.getString("event_id") + " / " + rs.getString("type")
+                            + " / " + rs.getBigDecimal("price") + ": stored " + rs.getLong("stored")
+                            + ", actual " + rs.getLong("actual"));
+                }
+                mismatches++;
+            }
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        if (mismatches == 0) {
+            System.out.println("✓ Ticket template stats consistent (" + elapsed + " ms)");
+            return 0;
+        }
+        System.out.println("⚠️ Ticket template stats: " + mismatches + " templates out of date (" + elapsed + " ms)");
+        if (repair) {
+            rebuild(conn);
+        }
+        return mismatches;
+    }
+
+    /**
+     * Recompute every counter from the tickets table in one transaction
+     */
+    public static void rebuild(Connection conn) throws SQLException {
+        long start = System.currentTimeMillis();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (Statement st = conn.createStatement()) {
+            // Ticket writes wait until the new counts are committed, so none are lost
+            st.execute("LOCK TABLE tickets IN SHARE MODE");
+            st.executeUpdate("DELETE FROM ticket_template_stats");
+            int templates = st.executeUpdate(
+                    "INSERT INTO ticket_template_stats (event_id, type, price, assigned_count) " + LIVE_COUNTS);
+            conn.commit();
+            System.out.println("✓ Rebuilt ticket template stats: " + templates + " templates in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.ems.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram - Lock-free latency histogram with log-scale buckets
+ * Single Responsibility: Record durations and answer percentile queries
+ *
+ * Durations are bucketed by power of two in microseconds, with 4 linear sub-buckets per
+ * power (1 µs up to ~19 hours). Memory is constant; recording is one array increment.
+ * Percentiles return the upper bound of their bucket, so they over-estimate by at most 25%.
+ *
+ * @author EMS Team
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int POWERS = 36;
+    private static final int BUCKETS = POWERS * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(bucketOf(micros));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    static int bucketOf(long micros) {
+        int power = 63 - Long.numberOfLeadingZeros(micros);
+        if (power >= POWERS) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (((micros - (1L << power)) * SUB_BUCKETS) >> power);
+        return power * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundMicros(int bucket) {
+        int power = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        return (1L << power) + (((long) (sub + 1)) << power) / SUB_BUCKETS;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    // ============================================================
+    //  Queries
+    // ============================================================
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMeanMs() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / (double) n / 1_000_000;
+    }
+
+    public double getMaxMs() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    public double getTotalMs() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    /**
+     * @param quantile 0..1 (e.g. 0.95)
+     * @return Latency in ms at or below which the given fraction of calls finished
+     */
+    public double percentileMs(double quantile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundMicros(i) / 1_000.0, getMaxMs());
+            }
+        }
+        return getMaxMs();
+    }
+}
@@ -0,0 +1,100 @@
+package org.ems.infrastructure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MethodMetrics - Counters and latency histogram of one repository method
+ * Single Responsibility: Record outcomes of calls to a single method
+ *
+ * @author EMS Team
+ */
+public final class MethodMetrics implements RepositoryMethodMXBean {
+
+    private final String repository;
+    private final String method;
+
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    MethodMetrics(String repository, String method) {
+        this.repository = repository;
+        this.method = method;
+    }
+
+    public void recordSuccess(long nanos, long rowCount) {
+        latency.record(nanos);
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+    }
+
+    public void recordError(long nanos) {
+        latency.record(nanos);
+        errors.increment();
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    // ============================================================
+    //  MXBean
+    // ============================================================
+
+    @Override
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public double getMeanMs() {
+        return latency.getMeanMs();
+    }
+
+    @Override
+    public double getP50Ms() {
+        return latency.percentileMs(0.50);
+    }
+
+    @Override
+    public double getP95Ms() {
+        return latency.percentileMs(0.95);
+    }
+
+    @Override
+    public double getP99Ms() {
+        return latency.percentileMs(0.99);
+    }
+
+    @Override
+    public double getMaxMs() {
+        return latency.getMaxMs();
+    }
+
+    @Override
+    public double getTotalMs() {
+        return latency.getTotalMs();
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        errors.reset();
+        rows.reset();
+    }
+}
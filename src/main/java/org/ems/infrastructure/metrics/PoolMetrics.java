@@ -0,0 +1,219 @@
+package org.ems.infrastructure.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PoolMetrics - Connection pool telemetry fed by HikariCP
+ * Single Responsibility: Record acquire/usage/creation times and pool state samples
+ *
+ * Installed as the pool's MetricsTrackerFactory, so HikariCP reports every borrow, return,
+ * connection creation and timeout. Peaks come from the pool monitor's samples. Published
+ * as org.ems:type=ConnectionPool, next to the repository method MBeans.
+ *
+ * @author EMS Team
+ */
+public final class PoolMetrics implements MetricsTrackerFactory, PoolMetricsMXBean {
+
+    private static PoolMetrics instance;
+
+    private final LatencyHistogram acquire = new LatencyHistogram();
+    private final LatencyHistogram usage = new LatencyHistogram();
+    private final LatencyHistogram creation = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicInteger peakActive = new AtomicInteger();
+    private final AtomicInteger peakWaiting = new AtomicInteger();
+
+    private volatile PoolStats poolStats;
+    private volatile String profile = "default";
+    private volatile long leakDetectionThresholdMs;
+
+    private PoolMetrics() {
+        RepositoryMetrics.register(new String[]{"type", "ConnectionPool"}, this);
+    }
+
+    public static synchronized PoolMetrics getInstance() {
+        if (instance == null) {
+            instance = new PoolMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * Called by HikariCP once when the pool starts
+     */
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats stats) {
+        this.poolStats = stats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(elapsedBorrowedMillis * 1_000_000);
+            }
+
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                creation.record(connectionCreatedMillis * 1_000_000);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    /**
+     * Settings shown next to the measurements
+     */
+    public void describePool(String profile, long leakDetectionThresholdMs) {
+        this.profile = profile;
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+    }
+
+    /**
+     * Pool state seen by the monitor; keeps the peaks
+     */
+    public void recordSample(int active, int waiting) {
+        peakActive.accumulateAndGet(active, Math::max);
+        peakWaiting.accumulateAndGet(waiting, Math::max);
+    }
+
+    // ============================================================
+    //  MXBean
+    // ============================================================
+
+    @Override
+    public long getAcquireCount() {
+        return acquire.getCount();
+    }
+
+    @Override
+    public double getAcquireMeanMs() {
+        return acquire.getMeanMs();
+    }
+
+    @Override
+    public double getAcquireP50Ms() {
+        return acquire.percentileMs(0.50);
+    }
+
+    @Override
+    public double getAcquireP95Ms() {
+        return acquire.percentileMs(0.95);
+    }
+
+    @Override
+    public double getAcquireP99Ms() {
+        return acquire.percentileMs(0.99);
+    }
+
+    @Override
+    public double getAcquireMaxMs() {
+        return acquire.getMaxMs();
+    }
+
+    @Override
+    public long getAcquireTimeouts() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public double getUsageMeanMs() {
+        return usage.getMeanMs();
+    }
+
+    @Override
+    public double getUsageP95Ms() {
+        return usage.percentileMs(0.95);
+    }
+
+    @Override
+    public double getUsageMaxMs() {
+        return usage.getMaxMs();
+    }
+
+    @Override
+    public long getConnectionsCreated() {
+        return creation.getCount();
+    }
+
+    @Override
+    public double getCreateMeanMs() {
+        return creation.getMeanMs();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getActiveConnections() : 0;
+    }
+
+    @Override
+    public int getIdleConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getIdleConnections() : 0;
+    }
+
+    @Override
+    public int getThreadsAwaitingConnection() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getPendingThreads() : 0;
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getMaxConnections() : 0;
+    }
+
+    @Override
+    public int getPeakActiveConnections() {
+        return peakActive.get();
+    }
+
+    @Override
+    public int getPeakThreadsAwaiting() {
+        return peakWaiting.get();
+    }
+
+    @Override
+    public long getLeakDetectionThresholdMs() {
+        return leakDetectionThresholdMs;
+    }
+
+    @Override
+    public String getProfile() {
+        return profile;
+    }
+
+    @Override
+    public String getReport() {
+        return String.format("Connection pool (%s): acquire n=%d p50=%.1f p95=%.1f p99=%.1f max=%.1f ms, timeouts=%d | "
+                        + "usage mean=%.1f p95=%.1f max=%.1f ms | created=%d (mean %.1f ms) | "
+                        + "peak active=%d/%d, peak waiting=%d | leak detection %s",
+                profile, getAcquireCount(), getAcquireP50Ms(), getAcquireP95Ms(), getAcquireP99Ms(), getAcquireMaxMs(),
+                getAcquireTimeouts(), getUsageMeanMs(), getUsageP95Ms(), getUsageMaxMs(), getConnectionsCreated(),
+                getCreateMeanMs(), getPeakActiveConnections(), getMaximumPoolSize(), getPeakThreadsAwaiting(),
+                leakDetectionThresholdMs > 0 ? leakDetectionThresholdMs + " ms" : "off");
+    }
+
+    @Override
+    public void reset() {
+        acquire.reset();
+        usage.reset();
+        creation.reset();
+        timeouts.reset();
+        peakActive.set(0);
+        peakWaiting.set(0);
+    }
+}
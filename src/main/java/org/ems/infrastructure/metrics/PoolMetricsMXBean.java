@@ -0,0 +1,61 @@
+package org.ems.infrastructure.metrics;
+
+/**
+ * PoolMetricsMXBean - JMX view of connection pool telemetry
+ * ObjectName: org.ems:type=ConnectionPool
+ *
+ * @author EMS Team
+ */
+public interface PoolMetricsMXBean {
+
+    // Borrowing: time from getConnection() until a connection was handed out
+    long getAcquireCount();
+
+    double getAcquireMeanMs();
+
+    double getAcquireP50Ms();
+
+    double getAcquireP95Ms();
+
+    double getAcquireP99Ms();
+
+    double getAcquireMaxMs();
+
+    /** getConnection() calls that gave up after connectionTimeout */
+    long getAcquireTimeouts();
+
+    // Usage: time from borrow until close()
+    double getUsageMeanMs();
+
+    double getUsageP95Ms();
+
+    double getUsageMaxMs();
+
+    long getConnectionsCreated();
+
+    double getCreateMeanMs();
+
+    // Pool state
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getThreadsAwaitingConnection();
+
+    int getMaximumPoolSize();
+
+    int getPeakActiveConnections();
+
+    int getPeakThreadsAwaiting();
+
+    /** 0 = leak detection off */
+    long getLeakDetectionThresholdMs();
+
+    /** Pool profile from application.properties (db.pool.profile) */
+    String getProfile();
+
+    String getReport();
+
+    /** Clear histograms, counters and peaks */
+    void reset();
+}
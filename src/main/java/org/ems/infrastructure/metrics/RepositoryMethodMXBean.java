@@ -0,0 +1,31 @@
+package org.ems.infrastructure.metrics;
+
+/**
+ * RepositoryMethodMXBean - JMX view of one repository method
+ * ObjectName: org.ems:type=RepositoryMethod,repository=&lt;Repository&gt;,method="&lt;method&gt;(&lt;parameter types&gt;)"
+ *
+ * @author EMS Team
+ */
+public interface RepositoryMethodMXBean {
+
+    long getCalls();
+
+    long getErrors();
+
+    /** Rows returned (collection sizes; 1 for a single entity; counts and flags are not rows) */
+    long getRows();
+
+    double getMeanMs();
+
+    double getP50Ms();
+
+    double getP95Ms();
+
+    double getP99Ms();
+
+    double getMaxMs();
+
+    double getTotalMs();
+
+    void reset();
+}
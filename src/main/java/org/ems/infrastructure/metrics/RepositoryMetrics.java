@@ -0,0 +1,159 @@
+package org.ems.infrastructure.metrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RepositoryMetrics - Registry of per-method repository metrics
+ * Single Responsibility: Own method metrics and publish them (JMX and snapshots)
+ *
+ * Metrics are recorded by MeteredRepository proxies. Every method gets its own MXBean
+ * (org.ems:type=RepositoryMethod,...) when it is first called, next to HikariCP's pool
+ * MXBean (com.zaxxer.hikari:type=Pool (...)) in JConsole / VisualVM. {@link #snapshot()}
+ * serves in-app display.
+ *
+ * @author EMS Team
+ */
+public final class RepositoryMetrics implements RepositoryMetricsMXBean {
+
+    private static final String DOMAIN = "org.ems";
+
+    private static RepositoryMetrics instance;
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    /**
+     * Point-in-time values of one method
+     */
+    public record MethodSnapshot(String repository, String method, long calls, long errors, long rows,
+                                 double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs,
+                                 double totalMs) {
+    }
+
+    private RepositoryMetrics() {
+        register(new String[]{"type", "RepositoryMetrics"}, this);
+    }
+
+    public static synchronized RepositoryMetrics getInstance() {
+        if (instance == null) {
+            instance = new RepositoryMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * Metrics of one method, created (and registered over JMX) on first use
+     *
+     * @param method method name with parameter types, e.g. findPage(int,int), so overloads
+     *               get separate metrics
+     */
+    public MethodMetrics forMethod(String repository, String method) {
+        return methods.computeIfAbsent(repository + "." + method, key -> {
+            MethodMetrics metrics = new MethodMetrics(repository, method);
+            register(new String[]{"type", "RepositoryMethod", "repository", repository, "method", method}, metrics);
+            return metrics;
+        });
+    }
+
+    // ============================================================
+    //  Snapshots
+    // ============================================================
+
+    /**
+     * Current values of every method that has been called, slowest total first
+     */
+    public List<MethodSnapshot> snapshot() {
+        List<MethodSnapshot> result = new ArrayList<>();
+        for (MethodMetrics m : methods.values()) {
+            if (m.getCalls() > 0) {
+                result.add(new MethodSnapshot(m.getRepository(), m.getMethod(), m.getCalls(), m.getErrors(),
+                        m.getRows(), m.getMeanMs(), m.getP50Ms(), m.getP95Ms(), m.getP99Ms(), m.getMaxMs(),
+                        m.getTotalMs()));
+            }
+        }
+        result.sort(Comparator.comparingDouble(MethodSnapshot::totalMs).reversed());
+        return result;
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder("Repository metrics" + (enabled ? "" : " (disabled)") + ":");
+        for (MethodSnapshot s : snapshot()) {
+            report.append(String.format("%n  %-60s calls=%-6d err=%-3d rows=%-8d p50=%7.1f p95=%7.1f p99=%7.1f max=%7.1f ms",
+                    s.repository() + "." + s.method(), s.calls(), s.errors(), s.rows(),
+                    s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs()));
+        }
+        return report.toString();
+    }
+
+    // ============================================================
+    //  MXBean
+    // ============================================================
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        System.out.println("📈 [RepositoryMetrics] Recording " + (enabled ? "enabled" : "disabled"));
+    }
+
+    @Override
+    public int getMethodCount() {
+        return methods.size();
+    }
+
+    @Override
+    public long getTotalCalls() {
+        return methods.values().stream().mapToLong(MethodMetrics::getCalls).sum();
+    }
+
+    @Override
+    public long getTotalErrors() {
+        return methods.values().stream().mapToLong(MethodMetrics::getErrors).sum();
+    }
+
+    @Override
+    public void reset() {
+        methods.values().forEach(MethodMetrics::reset);
+    }
+
+    // ============================================================
+    //  JMX
+    // ============================================================
+
+    /**
+     * Register an MBean under org.ems with the given key/value pairs (shared with PoolMetrics)
+     */
+    static void register(String[] keyValues, Object mbean) {
+        StringBuilder name = new StringBuilder(DOMAIN).append(':');
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (i > 0) {
+                name.append(',');
+            }
+            String value = keyValues[i + 1];
+            // Values such as findPage(int,int) contain characters ObjectName only accepts quoted
+            name.append(keyValues[i]).append('=')
+                    .append(value.matches("[^,=:\"*?\\\\\n]*") ? value : ObjectName.quote(value));
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name.toString());
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(mbean, objectName);
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ [Metrics] Could not register MBean " + name + ": " + e.getMessage());
+        }
+    }
+}
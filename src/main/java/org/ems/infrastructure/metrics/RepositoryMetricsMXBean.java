@@ -0,0 +1,26 @@
+package org.ems.infrastructure.metrics;
+
+/**
+ * RepositoryMetricsMXBean - JMX control of repository metrics
+ * ObjectName: org.ems:type=RepositoryMetrics
+ *
+ * @author EMS Team
+ */
+public interface RepositoryMetricsMXBean {
+
+    boolean isEnabled();
+
+    /** Turn recording on or off at runtime (off: one volatile read per repository call) */
+    void setEnabled(boolean enabled);
+
+    int getMethodCount();
+
+    long getTotalCalls();
+
+    long getTotalErrors();
+
+    /** Methods ordered by total time spent, one line each */
+    String getReport();
+
+    void reset();
+}
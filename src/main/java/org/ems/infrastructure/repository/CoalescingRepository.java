@@ -0,0 +1,262 @@
+package org.ems.infrastructure.repository;
+
+import org.ems.domain.model.Copyable;
+import org.ems.domain.repository.Read;
+import org.ems.infrastructure.cache.CacheRegistry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CoalescingRepository - Single-flight wrapper around a repository interface
+ * Single Responsibility: Deduplicate identical concurrent repository reads
+ *
+ * Methods annotated @Read are keyed by method and arguments. While a call is in flight,
+ * identical calls wait for it and share its result instead of issuing their own query.
+ * A finished result is also reused for a short window (reuse-ms), which catches screens
+ * whose loaders start a few milliseconds apart. Expired results are pruned at most once per
+ * window when a new one is stored, so results of keys never read again do not pile up. @Read(shared = false) methods run directly.
+ *
+ * Any other method is treated as a write: it runs directly and drops reusable results.
+ * Results are also dropped on every cache change notification, so writes through other
+ * repositories or other clients are seen as soon as the next read.
+ *
+ * Every caller gets its own copy of a shared result: collections are copied and entities
+ * in them (or returned alone) are copied with Copyable.copy(). Editing or saving an entity
+ * therefore never changes what another caller holds. Other result types must be immutable.
+ *
+ * @author EMS Team
+ */
+public final class CoalescingRepository implements InvocationHandler, CacheRegistry.ChangeListener {
+
+    private static final List<CoalescingRepository> INSTANCES = new CopyOnWriteArrayList<>();
+    private final String name;
+    private final Object target;
+    private final long reuseWindowMs;
+
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<CallKey, Completed> recent = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong lastPrune = new AtomicLong();
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    private record CallKey(Method method, List<Object> args) {
+    }
+
+    private record Completed(Object value, long completedAt) {
+        boolean fresh(long now, long windowMs) {
+            return now - completedAt <= windowMs;
+        }
+    }
+
+    private CoalescingRepository(String name, Object target, long reuseWindowMs) {
+        this.name = name;
+        this.target = target;
+        this.reuseWindowMs = Math.max(0, reuseWindowMs);
+    }
+
+    /**
+     * Wrap a repository so identical concurrent reads share one database call
+     *
+     * @param type          repository interface
+     * @param target        actual implementation (null stays null)
+     * @param reuseWindowMs how long a finished result may be handed to identical calls (0 = never)
+     */
+    public static <R> R wrap(Class<R> type, R target, long reuseWindowMs) {
+        if (target == null) {
+            return null;
+        }
+        CoalescingRepository handler = new CoalescingRepository(type.getSimpleName(), target, reuseWindowMs);
+        INSTANCES.add(handler);
+        CacheRegistry.getInstance().addChangeListener(handler);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    // ============================================================
+    //  Invocation
+    // ============================================================
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Coalescing" + name + "[" + target + "]";
+                default -> invokeTarget(method, args);
+            };
+        }
+        Read read = method.getAnnotation(Read.class);
+        if (read == null) {
+            try {
+                return invokeTarget(method, args);
+            } finally {
+                invalidate();
+            }
+        }
+        if (!read.shared()) {
+            return invokeTarget(method, args);
+        }
+        return copyOf(read(method, args));
+    }
+
+    private Object read(Method method, Object[] args) throws Throwable {
+        reads.increment();
+        CallKey key = new CallKey(method, args == null ? List.of() : Arrays.asList(args));
+
+        if (reuseWindowMs > 0) {
+            Completed done = recent.get(key);
+            if (done != null) {
+                if (done.fresh(System.currentTimeMillis(), reuseWindowMs)) {
+                    reused.increment();
+                    return done.value();
+                }
+                recent.remove(key, done);
+            }
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            coalesced.increment();
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause() != null ? e.getCause() : e;
+            }
+        }
+
+        long startGeneration = generation.get();
+        try {
+            executed.increment();
+            Object value = invokeTarget(method, args);
+            // A write during the call may have made the value stale: share it, but do not reuse it
+            if (reuseWindowMs > 0 && startGeneration == generation.get()) {
+                remember(key, value);
+            }
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void remember(CallKey key, Object value) {
+        long now = System.currentTimeMillis();
+        long last = lastPrune.get();
+        if (now - last > reuseWindowMs && lastPrune.compareAndSet(last, now)) {
+            recent.values().removeIf(done -> !done.fresh(now, reuseWindowMs));
+        }
+        recent.put(key, new Completed(value, now));
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object copyOf(Object value) {
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyOf(element));
+            }
+            return copy;
+        }
+        if (value instanceof Set<?> set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            for (Object element : set) {
+                copy.add(copyOf(element));
+            }
+            return copy;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(k, copyOf(v)));
+            return copy;
+        }
+        if (value instanceof Copyable<?> entity) {
+            return entity.copy();
+        }
+        return value;
+    }
+
+    // ============================================================
+    //  Invalidation
+    // ============================================================
+
+    /**
+     * Drop reusable results; reads already in flight finish but are not reused,
+     * and later calls do not join them
+     */
+    private void invalidate() {
+        generation.incrementAndGet();
+        recent.clear();
+        inFlight.clear();
+    }
+
+    @Override
+    public void onTableChanged(String table, Object id) {
+        invalidate();
+    }
+
+    @Override
+    public void onReset() {
+        invalidate();
+    }
+
+    // ============================================================
+    //  Statistics
+    // ============================================================
+
+    public long getReadCount() { return reads.sum(); }
+    public long getExecutedCount() { return executed.sum(); }
+    public long getCoalescedCount() { return coalesced.sum(); }
+    public long getReusedCount() { return reused.sum(); }
+
+    /**
+     * Calls answered without their own query (joined an in-flight call or reused a result)
+     */
+    public long getDeduplicatedCount() {
+        return coalesced.sum() + reused.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[reads=%d, queries=%d, coalesced=%d, reused=%d, window=%d ms]",
+                name, getReadCount(), getExecutedCount(), getCoalescedCount(), getReusedCount(), reuseWindowMs);
+    }
+
+    /**
+     * Statistics of every wrapped repository, one line each
+     */
+    public static String getStatsReport() {
+        StringBuilder report = new StringBuilder("Repository coalescing:");
+        long deduplicated = 0;
+        for (CoalescingRepository instance : INSTANCES) {
+            report.append("\n  ").append(instance);
+            deduplicated += instance.getDeduplicatedCount();
+        }
+        report.append("\n  deduplicated total: ").append(deduplicated);
+        return report.toString();
+    }
+}
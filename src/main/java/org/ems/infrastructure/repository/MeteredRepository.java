@@ -0,0 +1,125 @@
+package org.ems.infrastructure.repository;
+
+import org.ems.infrastructure.metrics.MethodMetrics;
+import org.ems.infrastructure.metrics.RepositoryMetrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MeteredRepository - Timing wrapper around a repository interface
+ * Single Responsibility: Record latency, errors and rows of every repository call
+ *
+ * Results go to RepositoryMetrics (JMX + snapshots), one entry per method signature, so
+ * overloads such as findPage with and without filters are measured apart. Wrapped directly around the JDBC
+ * implementation, so only calls that actually reach the database are measured; reads
+ * answered by CoalescingRepository are not. While recording is disabled a call costs one
+ * volatile read on top of the reflective dispatch.
+ *
+ * @author EMS Team
+ */
+public final class MeteredRepository implements InvocationHandler {
+
+    private final String name;
+    private final Object target;
+    private final RepositoryMetrics registry;
+    private final Map<Method, MethodMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    private MeteredRepository(String name, Object target, RepositoryMetrics registry) {
+        this.name = name;
+        this.target = target;
+        this.registry = registry;
+    }
+
+    /**
+     * Wrap a repository so its calls are recorded in RepositoryMetrics
+     *
+     * @param type   repository interface
+     * @param target actual implementation (null stays null)
+     */
+    public static <R> R wrap(Class<R> type, R target) {
+        if (target == null) {
+            return null;
+        }
+        MeteredRepository handler = new MeteredRepository(type.getSimpleName(), target, RepositoryMetrics.getInstance());
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    // ============================================================
+    //  Invocation
+    // ============================================================
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Metered" + name + "[" + target + "]";
+                default -> invokeTarget(method, args);
+            };
+        }
+        if (!registry.isEnabled()) {
+            return invokeTarget(method, args);
+        }
+
+        MethodMetrics metrics = metricsByMethod.computeIfAbsent(method, m -> registry.forMethod(name, signature(m)));
+        long start = System.nanoTime();
+        try {
+            Object result = invokeTarget(method, args);
+            metrics.recordSuccess(System.nanoTime() - start, rowsOf(result));
+            return result;
+        } catch (Throwable t) {
+            metrics.recordError(System.nanoTime() - start);
+            throw t;
+        }
+    }
+
+    /**
+     * Method name with simple parameter type names, e.g. count(String,String)
+     */
+    private static String signature(Method method) {
+        StringJoiner params = new StringJoiner(",", method.getName() + "(", ")");
+        for (Class<?> type : method.getParameterTypes()) {
+            params.add(type.getSimpleName());
+        }
+        return params.toString();
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Rows represented by a result: collection sizes, 1 per entity, 0 for counts and flags
+     */
+    private static long rowsOf(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result.getClass().isArray()) {
+            return java.lang.reflect.Array.getLength(result);
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,124 @@
+package org.ems.infrastructure.repository;
+
+import org.ems.domain.dto.AttendeeActivitySnapshot;
+import org.ems.domain.model.Copyable;
+import org.ems.domain.model.enums.EventType;
+import org.ems.domain.repository.ChangeSet;
+import org.ems.domain.repository.EventRepository.EventRowPage;
+import org.ems.domain.repository.Read;
+import org.ems.domain.repository.TicketRepository.AssignedSummary;
+import org.ems.domain.repository.UserRepository.UserPage;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OfflineRepository - Read-only repository used while the database is unreachable
+ * Single Responsibility: Serve repository reads from local data and reject writes
+ *
+ * A call is forwarded to the public method of the source object with the same name and
+ * parameter types (e.g. a snapshot view implementing findAll()). Reads the source does not
+ * offer (methods annotated @Read) return an empty result: mutable empty collections, 0,
+ * false, an empty page, summary or change set, and null for single-entity lookups (the
+ * repositories' not-found contract). Any other method is a write and throws OfflineModeException.
+ *
+ * @author EMS Team
+ */
+public final class OfflineRepository implements InvocationHandler {
+
+    private final String name;
+    private final Object source;
+    private final Map<Method, Optional<Method>> resolved = new ConcurrentHashMap<>();
+
+    private OfflineRepository(String name, Object source) {
+        this.name = name;
+        this.source = source;
+    }
+
+    /**
+     * @param type   repository interface
+     * @param source object with some of the interface's read methods, or null for no data at all
+     */
+    public static <R> R wrap(Class<R> type, Object source) {
+        OfflineRepository handler = new OfflineRepository(type.getSimpleName(), source);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "Offline" + name;
+            };
+        }
+
+        Optional<Method> target = resolved.computeIfAbsent(method, this::findSourceMethod);
+        if (target.isPresent()) {
+            try {
+                return target.get().invoke(source, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+        if (method.isAnnotationPresent(Read.class)) {
+            return emptyResult(method, args);
+        }
+        throw new OfflineModeException(name + "." + method.getName());
+    }
+
+    private Optional<Method> findSourceMethod(Method method) {
+        if (source == null) {
+            return Optional.empty();
+        }
+        try {
+            Method candidate = source.getClass().getMethod(method.getName(), method.getParameterTypes());
+            return method.getReturnType().isAssignableFrom(candidate.getReturnType())
+                    ? Optional.of(candidate) : Optional.empty();
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Object emptyResult(Method method, Object[] args) {
+        Class<?> type = method.getReturnType();
+        // Callers may sort or add to a result, so collections are mutable
+        if (type == List.class || type == Collection.class) return new ArrayList<>();
+        if (type == Set.class) return new HashSet<>();
+        if (type == Map.class) return new HashMap<>();
+        if (type == Optional.class) return Optional.empty();
+        if (type == long.class) return 0L;
+        if (type == int.class) return 0;
+        if (type == double.class) return 0.0;
+        if (type == boolean.class) return false;
+        if (Copyable.class.isAssignableFrom(type)) return null; // entity not found
+        if (type == EventRowPage.class) return new EventRowPage(new ArrayList<>(), 0);
+        if (type == UserPage.class) return new UserPage(new ArrayList<>(), null);
+        if (type == AssignedSummary.class) return new AssignedSummary(0, 0, BigDecimal.ZERO);
+        if (type == AttendeeActivitySnapshot.class) {
+            return new AttendeeActivitySnapshot(new UUID[0], new int[0], new int[0], new int[0],
+                    new long[EventType.values().length]);
+        }
+        if (type == ChangeSet.class) {
+            // Nothing changed: the client keeps its copy and its watermark
+            long watermark = args != null && args.length > 0 && args[0] instanceof Long w ? w : 0L;
+            return ChangeSet.delta(new ArrayList<>(), Set.of(), row -> null, watermark);
+        }
+        throw new OfflineModeException(name + "." + method.getName());
+    }
+
+    /**
+     * A write was attempted while the application runs from the local snapshot
+     */
+    public static class OfflineModeException extends RuntimeException {
+        public OfflineModeException(String operation) {
+            super("Not available offline (" + operation + "): reconnect to the database and try again");
+        }
+    }
+}
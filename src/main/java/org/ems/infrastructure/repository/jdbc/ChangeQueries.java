@@ -0,0 +1,66 @@
+package org.ems.infrastructure.repository.jdbc;
+
+import org.ems.infrastructure.repository.mapper.RowMapper;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ChangeQueries - SQL shared by the repositories' findChangesSince
+ * Single Responsibility: Read sync windows and tombstones
+ *
+ * Row versions are ids of the transactions that wrote them (schema.sql, CHANGE TRACKING).
+ * A delta is read as: window first, then rows and tombstones with version >= the caller's
+ * watermark. The new watermark is the oldest transaction still running when the window is
+ * read: every older one has finished, so its writes are in this delta or an earlier one,
+ * and writes of transactions still running are picked up by the next call.
+ *
+ * @author EMS Team
+ */
+final class ChangeQueries {
+
+    private static final String WINDOW = """
+            SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint,
+                   COALESCE((SELECT version FROM sync_horizon), 0)
+            """;
+
+    private static final RowMapper<Window> WINDOW_ROW = RowMapper.byIndex(rs -> new Window(rs.getLong(1), rs.getLong(2)));
+
+    private ChangeQueries() {
+    }
+
+    /**
+     * @param watermark new watermark for the caller
+     * @param horizon   oldest watermark that can still be answered with a delta
+     */
+    record Window(long watermark, long horizon) {
+        boolean needsFullReload(long since) {
+            return since <= 0 || since < horizon;
+        }
+    }
+
+    static Window window(JdbcExecutor jdbc) {
+        return jdbc.queryOne(WINDOW, WINDOW_ROW);
+    }
+
+    /**
+     * Keys of rows deleted from a table since the watermark, limited to tombstones without an
+     * owner or owned by refId (see sync_tombstones.ref_id)
+     */
+    static Set<UUID> deletedIds(JdbcExecutor jdbc, String table, long since, UUID refId) {
+        return new HashSet<>(jdbc.query(
+                "SELECT DISTINCT id FROM sync_tombstones WHERE table_name = ? AND version >= ?"
+                        + " AND (ref_id IS NULL OR ref_id = ?)",
+                RowMapper.byIndex(rs -> rs.getObject(1, UUID.class)), table, since, refId));
+    }
+
+    /**
+     * Keys of rows deleted from a table since the watermark
+     */
+    static Set<UUID> deletedIds(JdbcExecutor jdbc, String table, long since) {
+        return new HashSet<>(jdbc.query(
+                "SELECT DISTINCT id FROM sync_tombstones WHERE table_name = ? AND version >= ?",
+                RowMapper.byIndex(rs -> rs.getObject(1, UUID.class)), table, since));
+    }
+}
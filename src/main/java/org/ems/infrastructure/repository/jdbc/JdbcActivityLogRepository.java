@@ -2,6 +2,7 @@ package org.ems.infrastructure.repository.jdbc;
 
 import org.ems.domain.model.ActivityLog;
 import org.ems.domain.repository.ActivityLogRepository;
+import org.ems.infrastructure.repository.mapper.ActivityLogRowMapper;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -11,66 +12,35 @@ import java.util.UUID;
 
 public class JdbcActivityLogRepository implements ActivityLogRepository {
 
-    private final Connection connection;
+    private static final ActivityLogRowMapper LOG = ActivityLogRowMapper.INSTANCE;
 
-    public JdbcActivityLogRepository(Connection connection) {
-        this.connection = connection;
-        createTableIfNotExists();
-    }
+    private final JdbcExecutor jdbc;
 
-    private void createTableIfNotExists() {
-        String sql = """
-            CREATE TABLE IF NOT EXISTS activity_logs (
-                id VARCHAR(36) PRIMARY KEY,
-                user_id VARCHAR(50),
-                action VARCHAR(50),
-                resource VARCHAR(100),
-                description VARCHAR(255),
-                timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                ip_address VARCHAR(45),
-                user_agent VARCHAR(255)
-            )
-        """;
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(sql);
-            System.out.println("[ActivityLogRepository] activity_logs table created/verified");
-        } catch (SQLException e) {
-            System.err.println("Error creating activity_logs table: " + e.getMessage());
-        }
+    public JdbcActivityLogRepository(Connection connection) {
+        this.jdbc = new JdbcExecutor(connection);
+        // activity_logs is created by db/schema.sql (DatabaseInitializer)
     }
 
-
     @Override
     public void save(ActivityLog log) {
         String sql = """
             INSERT INTO activity_logs (id, user_id, action, resource, description, timestamp, ip_address, user_agent)
             VALUES (?, ?, ?, ?, ?, ?, ?, ?)
         """;
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, log.getId().toString());
-            pstmt.setString(2, log.getUserId());
-            pstmt.setString(3, log.getAction());
-            pstmt.setString(4, log.getResource());
-            pstmt.setString(5, log.getDescription());
-            pstmt.setTimestamp(6, Timestamp.valueOf(log.getTimestamp()));
-            pstmt.setString(7, log.getIpAddress());
-            pstmt.setString(8, log.getUserAgent());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
+        try {
+            jdbc.update(sql, log.getId().toString(), log.getUserId(), log.getAction(), log.getResource(),
+                    log.getDescription(), Timestamp.valueOf(log.getTimestamp()), log.getIpAddress(),
+                    log.getUserAgent());
+        } catch (RuntimeException e) {
             System.err.println("Error saving activity log: " + e.getMessage());
         }
     }
 
     @Override
     public ActivityLog findById(UUID id) {
-        String sql = "SELECT * FROM activity_logs WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, id.toString());
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return mapResultSetToActivityLog(rs);
-            }
-        } catch (SQLException e) {
+        try {
+            return jdbc.queryOne("SELECT * FROM activity_logs WHERE id = ?", LOG, id.toString());
+        } catch (RuntimeException e) {
             System.err.println("Error finding activity log: " + e.getMessage());
         }
         return null;
@@ -78,110 +48,88 @@ public class JdbcActivityLogRepository implements ActivityLogRepository {
 
     @Override
     public List<ActivityLog> findAll() {
-        List<ActivityLog> logs = new ArrayList<>();
-        String sql = "SELECT * FROM activity_logs ORDER BY timestamp DESC";
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            while (rs.next()) {
-                logs.add(mapResultSetToActivityLog(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error finding all activity logs: " + e.getMessage());
-        }
-        return logs;
+        return list("SELECT * FROM activity_logs ORDER BY timestamp DESC",
+                "Error finding all activity logs: ");
     }
 
     @Override
     public List<ActivityLog> findPage(int offset, int pageSize) {
-        List<ActivityLog> logs = new ArrayList<>();
-        String sql = "SELECT * FROM activity_logs ORDER BY timestamp DESC LIMIT ? OFFSET ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, pageSize);
-            pstmt.setInt(2, offset);
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                logs.add(mapResultSetToActivityLog(rs));
+        return list("SELECT * FROM activity_logs ORDER BY timestamp DESC LIMIT ? OFFSET ?",
+                "Error finding activity logs page: ", pageSize, offset);
+    }
+
+    @Override
+    public List<ActivityLog> findPage(String action, String searchTerm, int offset, int pageSize) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT * FROM activity_logs" + filterWhere(action, searchTerm, params) +
+                " ORDER BY timestamp DESC, id LIMIT ? OFFSET ?";
+        params.add(pageSize);
+        params.add(offset);
+        return list(sql, "Error finding filtered activity logs page: ", params.toArray());
+    }
+
+    @Override
+    public long count(String action, String searchTerm) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM activity_logs" + filterWhere(action, searchTerm, params);
+        try {
+            return jdbc.queryLong(sql, params.toArray());
+        } catch (RuntimeException e) {
+            System.err.println("Error counting filtered activity logs: " + e.getMessage());
+        }
+        return 0L;
+    }
+
+    private static String filterWhere(String action, String searchTerm, List<Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE 1=1");
+        if (action != null && !action.isEmpty()) {
+            where.append(" AND action = ?");
+            params.add(action);
+        }
+        String term = searchTerm != null ? searchTerm.trim().toLowerCase() : "";
+        if (!term.isEmpty()) {
+            String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            where.append(" AND (LOWER(user_id) LIKE ? ESCAPE '\\'" +
+                    " OR LOWER(action) LIKE ? ESCAPE '\\'" +
+                    " OR LOWER(resource) LIKE ? ESCAPE '\\'" +
+                    " OR LOWER(description) LIKE ? ESCAPE '\\')");
+            for (int i = 0; i < 4; i++) {
+                params.add(pattern);
             }
-        } catch (SQLException e) {
-            System.err.println("Error finding activity logs page: " + e.getMessage());
         }
-        return logs;
+        return where.toString();
     }
 
     @Override
     public List<ActivityLog> findByAction(String action) {
-        List<ActivityLog> logs = new ArrayList<>();
-        String sql = "SELECT * FROM activity_logs WHERE action = ? ORDER BY timestamp DESC";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, action);
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                logs.add(mapResultSetToActivityLog(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error finding activity logs by action: " + e.getMessage());
-        }
-        return logs;
+        return list("SELECT * FROM activity_logs WHERE action = ? ORDER BY timestamp DESC",
+                "Error finding activity logs by action: ", action);
     }
 
     @Override
     public List<ActivityLog> findByUserId(String userId) {
-        List<ActivityLog> logs = new ArrayList<>();
-        String sql = "SELECT * FROM activity_logs WHERE user_id = ? ORDER BY timestamp DESC";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, userId);
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                logs.add(mapResultSetToActivityLog(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error finding activity logs by user: " + e.getMessage());
-        }
-        return logs;
+        return list("SELECT * FROM activity_logs WHERE user_id = ? ORDER BY timestamp DESC",
+                "Error finding activity logs by user: ", userId);
     }
 
     @Override
     public List<ActivityLog> findByResource(String resource) {
-        List<ActivityLog> logs = new ArrayList<>();
-        String sql = "SELECT * FROM activity_logs WHERE resource = ? ORDER BY timestamp DESC";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, resource);
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                logs.add(mapResultSetToActivityLog(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error finding activity logs by resource: " + e.getMessage());
-        }
-        return logs;
+        return list("SELECT * FROM activity_logs WHERE resource = ? ORDER BY timestamp DESC",
+                "Error finding activity logs by resource: ", resource);
     }
 
     @Override
     public List<ActivityLog> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        List<ActivityLog> logs = new ArrayList<>();
-        String sql = "SELECT * FROM activity_logs WHERE timestamp BETWEEN ? AND ? ORDER BY timestamp DESC";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setTimestamp(1, Timestamp.valueOf(startDate));
-            pstmt.setTimestamp(2, Timestamp.valueOf(endDate));
-            ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                logs.add(mapResultSetToActivityLog(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error finding activity logs by date range: " + e.getMessage());
-        }
-        return logs;
+        return list("SELECT * FROM activity_logs WHERE timestamp BETWEEN ? AND ? ORDER BY timestamp DESC",
+                "Error finding activity logs by date range: ",
+                Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
     }
 
     @Override
     public long count() {
-        String sql = "SELECT COUNT(*) FROM activity_logs";
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
-        } catch (SQLException e) {
+        try {
+            return jdbc.queryLong("SELECT COUNT(*) FROM activity_logs");
+        } catch (RuntimeException e) {
             System.err.println("Error counting activity logs: " + e.getMessage());
         }
         return 0L;
@@ -189,47 +137,36 @@ public class JdbcActivityLogRepository implements ActivityLogRepository {
 
     @Override
     public void deleteById(UUID id) {
-        String sql = "DELETE FROM activity_logs WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, id.toString());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            System.err.println("Error deleting activity log: " + e.getMessage());
-        }
+        update("DELETE FROM activity_logs WHERE id = ?", "Error deleting activity log: ", id.toString());
     }
 
     @Override
     public void deleteAll() {
-        String sql = "DELETE FROM activity_logs";
-        try (Statement stmt = connection.createStatement()) {
-            stmt.executeUpdate(sql);
-        } catch (SQLException e) {
-            System.err.println("Error deleting all activity logs: " + e.getMessage());
-        }
+        update("DELETE FROM activity_logs", "Error deleting all activity logs: ");
     }
 
     @Override
     public void deleteByDateBefore(LocalDateTime date) {
-        String sql = "DELETE FROM activity_logs WHERE timestamp < ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setTimestamp(1, Timestamp.valueOf(date));
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            System.err.println("Error deleting activity logs before date: " + e.getMessage());
+        update("DELETE FROM activity_logs WHERE timestamp < ?",
+                "Error deleting activity logs before date: ", Timestamp.valueOf(date));
+    }
+
+    // Activity logging never fails the caller: errors are reported and an empty result returned
+
+    private List<ActivityLog> list(String sql, String errorMessage, Object... params) {
+        try {
+            return jdbc.query(sql, LOG, params);
+        } catch (RuntimeException e) {
+            System.err.println(errorMessage + e.getMessage());
+            return new ArrayList<>();
         }
     }
 
-    private ActivityLog mapResultSetToActivityLog(ResultSet rs) throws SQLException {
-        ActivityLog log = new ActivityLog();
-        log.setId(UUID.fromString(rs.getString("id")));
-        log.setUserId(rs.getString("user_id"));
-        log.setAction(rs.getString("action"));
-        log.setResource(rs.getString("resource"));
-        log.setDescription(rs.getString("description"));
-        log.setTimestamp(rs.getTimestamp("timestamp").toLocalDateTime());
-        log.setIpAddress(rs.getString("ip_address"));
-        log.setUserAgent(rs.getString("user_agent"));
-        return log;
+    private void update(String sql, String errorMessage, Object... params) {
+        try {
+            jdbc.update(sql, params);
+        } catch (RuntimeException e) {
+            System.err.println(errorMessage + e.getMessage());
+        }
     }
 }
-
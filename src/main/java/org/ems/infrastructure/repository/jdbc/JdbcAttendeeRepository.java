@@ -1,300 +1,364 @@
 package org.ems.infrastructure.repository.jdbc;
 
+import org.ems.domain.dto.AttendeeActivitySnapshot;
+import org.ems.domain.dto.ScheduleEntry;
 import org.ems.domain.model.Attendee;
+import org.ems.domain.model.ChangeTracker;
+import org.ems.domain.model.enums.EventType;
 import org.ems.domain.model.enums.Role;
 import org.ems.domain.repository.AttendeeRepository;
+import org.ems.infrastructure.cache.CacheChangePublisher;
+import org.ems.infrastructure.cache.CacheRegions;
+import org.ems.infrastructure.cache.ChangeOp;
+import org.ems.infrastructure.repository.mapper.PersonRowMapper;
+import org.ems.infrastructure.repository.mapper.RowMapper;
 
+import javax.sql.DataSource;
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class JdbcAttendeeRepository implements AttendeeRepository {
 
+    private static final RowMapper<Attendee> ATTENDEE = columns -> {
+        PersonRowMapper person = new PersonRowMapper(columns);
+        return rs -> {
+            Attendee a = person.read(rs, new Attendee());
+            a.getChangeTracker().markPersisted();
+            return a;
+        };
+    };
+
+    /** persons columns written when only some fields of a loaded attendee changed */
+    private static final PartialUpdate<Attendee> PERSON_UPDATE = new PartialUpdate<Attendee>("persons")
+            .column("fullName", "full_name", Attendee::getFullName)
+            .column("dateOfBirth", "dob", Attendee::getDateOfBirth)
+            .column("email", "email", Attendee::getEmail)
+            .column("phone", "phone", Attendee::getPhone)
+            .column("username", "username", Attendee::getUsername)
+            .column("passwordHash", "password_hash", Attendee::getPasswordHash)
+            .column("role", "role", Attendee::getRole);
+
+    private static final String SELECT_ATTENDEES = """
+            SELECT p.*, a.activity_history FROM persons p
+            JOIN attendees a ON p.id = a.id
+            """;
+
+    /** Columns of a schedule entry: attendee p, event e, optional session s */
+    private static final String SCHEDULE_COLUMNS = """
+            SELECT p.id AS attendee_id, p.full_name, p.email, p.username,
+                   e.id AS event_id, e.name AS event_name, e.location, e.start_date, e.end_date,
+                   s.id AS session_id, s.title, s.description, s.venue, s.start_time, s.end_time
+            """;
+
+    /**
+     * Attendees of one event: registered for it, holding a ticket or registered for one of its
+     * sessions (directly or through a ticket). The sort keeps each attendee's rows together.
+     */
+    private static final String EVENT_SCHEDULES = """
+            WITH registrations AS (
+                SELECT ats.attendee_id, ats.session_id FROM attendee_session ats
+                JOIN sessions s ON s.id = ats.session_id WHERE s.event_id = ?
+                UNION
+                SELECT t.attendee_id, tsr.session_id FROM ticket_session_registration tsr
+                JOIN tickets t ON t.id = tsr.ticket_id WHERE t.event_id = ? AND t.attendee_id IS NOT NULL
+            ), members AS (
+                SELECT attendee_id FROM attendee_event WHERE event_id = ?
+                UNION SELECT attendee_id FROM tickets WHERE event_id = ? AND attendee_id IS NOT NULL
+                UNION SELECT attendee_id FROM registrations
+            )
+            """ + SCHEDULE_COLUMNS + """
+            FROM members m
+            JOIN persons p ON p.id = m.attendee_id
+            JOIN events e ON e.id = ?
+            LEFT JOIN registrations r ON r.attendee_id = m.attendee_id
+            LEFT JOIN sessions s ON s.id = r.session_id
+            ORDER BY p.id, s.start_time NULLS FIRST, s.id
+            """;
+
+    /** Events of one attendee, found the same ways as EVENT_SCHEDULES finds attendees */
+    private static final String ATTENDEE_SCHEDULE = """
+            WITH registrations AS (
+                SELECT session_id FROM attendee_session WHERE attendee_id = ?
+                UNION
+                SELECT tsr.session_id FROM ticket_session_registration tsr
+                JOIN tickets t ON t.id = tsr.ticket_id WHERE t.attendee_id = ?
+            ), attended AS (
+                SELECT event_id FROM attendee_event WHERE attendee_id = ?
+                UNION SELECT event_id FROM tickets WHERE attendee_id = ? AND event_id IS NOT NULL
+                UNION SELECT s.event_id FROM registrations r JOIN sessions s ON s.id = r.session_id
+                      WHERE s.event_id IS NOT NULL
+            )
+            """ + SCHEDULE_COLUMNS + """
+            FROM attended a
+            JOIN events e ON e.id = a.event_id
+            JOIN persons p ON p.id = ?
+            LEFT JOIN (registrations r JOIN sessions s ON s.id = r.session_id) ON s.event_id = e.id
+            ORDER BY e.start_date, e.id, s.start_time NULLS FIRST, s.id
+            """;
+
+    private static final RowMapper<ScheduleEntry> SCHEDULE_ENTRY = columns -> {
+        int attendeeId = columns.index("attendee_id");
+        int fullName = columns.index("full_name");
+        int email = columns.index("email");
+        int username = columns.index("username");
+        int eventId = columns.index("event_id");
+        int eventName = columns.index("event_name");
+        int location = columns.index("location");
+        int startDate = columns.index("start_date");
+        int endDate = columns.index("end_date");
+        int sessionId = columns.index("session_id");
+        int title = columns.index("title");
+        int description = columns.index("description");
+        int venue = columns.index("venue");
+        int startTime = columns.index("start_time");
+        int endTime = columns.index("end_time");
+        return rs -> new ScheduleEntry(
+                rs.getObject(attendeeId, UUID.class), rs.getString(fullName), rs.getString(email),
+                rs.getString(username),
+                rs.getObject(eventId, UUID.class), rs.getString(eventName), rs.getString(location),
+                rs.getObject(startDate, LocalDate.class), rs.getObject(endDate, LocalDate.class),
+                rs.getObject(sessionId, UUID.class), rs.getString(title), rs.getString(description),
+                rs.getString(venue),
+                rs.getObject(startTime, LocalDateTime.class), rs.getObject(endTime, LocalDateTime.class));
+    };
+
     private final Connection conn;
+    private final JdbcExecutor jdbc;
+    /** Borrows a pooled connection per call, so forEach streams with a cursor */
+    private final JdbcExecutor streaming;
 
     public JdbcAttendeeRepository(Connection conn) {
+        this(conn, null);
+    }
+
+    /**
+     * @param streamingSource pool used for large streamed reads (loadEventSchedules), or null
+     *                        to run them on conn, where the driver buffers the whole result
+     */
+    public JdbcAttendeeRepository(Connection conn, DataSource streamingSource) {
         this.conn = conn;
+        this.jdbc = new JdbcExecutor(conn);
+        this.streaming = streamingSource != null ? new JdbcExecutor(streamingSource) : jdbc;
     }
 
     @Override
     public Attendee save(Attendee a) {
 
-        try {
-            //  save to persons table
-            String personSql = """
-                INSERT INTO persons
-                (id, full_name, dob, email, phone, username, password_hash, role, bio)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-                ON CONFLICT (id) DO UPDATE SET
-                  full_name = EXCLUDED.full_name,
-                  dob = EXCLUDED.dob,
-                  email = EXCLUDED.email,
-                  phone = EXCLUDED.phone,
-                  username = EXCLUDED.username,
-                  password_hash = EXCLUDED.password_hash,
-                  role = EXCLUDED.role,
-                  bio = EXCLUDED.bio
-            """;
-
-            try (PreparedStatement ps = conn.prepareStatement(personSql)) {
-                ps.setObject(1, a.getId());
-                ps.setString(2, a.getFullName());
-                ps.setObject(3, a.getDateOfBirth());
-                ps.setString(4, a.getEmail());
-                ps.setString(5, a.getPhone());
-                ps.setString(6, a.getUsername());
-                ps.setString(7, a.getPasswordHash());
-                ps.setString(8, Role.ATTENDEE.name());
-                ps.setString(9, null);
-                ps.executeUpdate();
-            }
-
-            // save to attendees table
-            String attendeeSql = """
-                INSERT INTO attendees (id, activity_history)
-                VALUES (?, ?)
-                ON CONFLICT (id) DO UPDATE SET
-                  activity_history = EXCLUDED.activity_history
-            """;
+        //  save to persons table
+        String personSql = """
+            INSERT INTO persons
+            (id, full_name, dob, email, phone, username, password_hash, role, bio)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+              full_name = EXCLUDED.full_name,
+              dob = EXCLUDED.dob,
+              email = EXCLUDED.email,
+              phone = EXCLUDED.phone,
+              username = EXCLUDED.username,
+              password_hash = EXCLUDED.password_hash,
+              role = EXCLUDED.role,
+              bio = EXCLUDED.bio
+        """;
+
+        ChangeTracker changes = a.getChangeTracker();
+        if (changes.isPersisted() && !PERSON_UPDATE.touches(changes.getChangedFields())) {
+            changes.markPersisted();
+            return a; // No persons column changed since it was loaded or saved
+        }
 
-            try (PreparedStatement ps = conn.prepareStatement(attendeeSql)) {
-                ps.setObject(1, a.getId());
-                ps.setString(2, "[]"); // Empty activity history
-                ps.executeUpdate();
+        // save to attendees table (new attendees only: activity_history is not rewritten)
+        String attendeeSql = """
+            INSERT INTO attendees (id, activity_history)
+            VALUES (?, ?)
+            ON CONFLICT (id) DO NOTHING
+        """;
+
+        return jdbc.execute(c -> {
+            // A loaded attendee only writes its changed persons columns
+            if (!changes.isPersisted()
+                    || !PERSON_UPDATE.update(jdbc, c, a.getId(), a, changes.getChangedFields())) {
+                jdbc.update(c, personSql, a.getId(), a.getFullName(), a.getDateOfBirth(), a.getEmail(), a.getPhone(),
+                        a.getUsername(), a.getPasswordHash(), Role.ATTENDEE, null);
+                jdbc.update(c, attendeeSql, a.getId(), "[]"); // Empty activity history
+                CacheChangePublisher.publish(c, CacheRegions.TABLE_ATTENDEES, a.getId(), ChangeOp.SAVE);
             }
-
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_PERSONS, a.getId(), ChangeOp.SAVE);
+            changes.markPersisted();
             return a;
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to save attendee", e);
-        }
+        });
     }
 
     @Override
     public void delete(UUID id) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM attendees WHERE id = ?"
-        )) {
-            ps.setObject(1, id);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update("DELETE FROM attendees WHERE id = ?", id);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_ATTENDEES, id, ChangeOp.DELETE);
     }
 
     @Override
     public Attendee findById(UUID id) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                """
-                SELECT p.*, a.activity_history FROM persons p
-                JOIN attendees a ON p.id = a.id
-                WHERE p.id = ?
-                """
-        )) {
-            ps.setObject(1, id);
-            ResultSet rs = ps.executeQuery();
-            if (!rs.next()) return null;
-
-            Attendee a = mapRow(rs);
-
-            loadEventMapping(a);
-            loadSessionMapping(a);
-
-            return a;
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+        Attendee a = jdbc.queryOne(SELECT_ATTENDEES + "WHERE p.id = ?", ATTENDEE, id);
+        if (a != null) {
+            loadMappings(List.of(a));
         }
+        return a;
     }
 
     @Override
     public List<Attendee> findAll() {
-        List<Attendee> list = new ArrayList<>();
-
-        try (Statement st = conn.createStatement()) {
-            ResultSet rs = st.executeQuery(
-                    """
-                    SELECT p.*, a.activity_history FROM persons p
-                    JOIN attendees a ON p.id = a.id
-                    """
-            );
-
-            while (rs.next()) {
-                Attendee a = mapRow(rs);
-                loadEventMapping(a);
-                loadSessionMapping(a);
-                list.add(a);
-            }
-
-            return list;
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        List<Attendee> list = jdbc.query(SELECT_ATTENDEES, ATTENDEE);
+        loadMappings(list);
+        return list;
     }
 
     @Override
     public long count() {
-        String sql = "SELECT COUNT(*) FROM attendees";
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
-            return 0L;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count attendees", e);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM attendees");
     }
 
-    private Attendee mapRow(ResultSet rs) throws SQLException {
-        Attendee a = new Attendee();
-        a.setId((UUID) rs.getObject("id"));
-        a.setFullName(rs.getString("full_name"));
-        a.setDateOfBirth(rs.getObject("dob", java.time.LocalDate.class));
-        a.setEmail(rs.getString("email"));
-        a.setPhone(rs.getString("phone"));
-        a.setUsername(rs.getString("username"));
-        a.setPasswordHash(rs.getString("password_hash"));
-        return a;
-    }
-
-    private void loadEventMapping(Attendee a) throws SQLException {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "SELECT event_id FROM attendee_event WHERE attendee_id=?"
-        )) {
-            ps.setObject(1, a.getId());
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                a.getRegisteredEventIds().add((UUID) rs.getObject("event_id"));
+    @Override
+    public AttendeeActivitySnapshot loadActivitySnapshot() {
+        // Each mapping table is grouped once, then joined to attendees by key
+        String countsSql = """
+            SELECT a.id,
+                   COALESCE(ae.cnt, 0) AS event_count,
+                   COALESCE(asn.cnt, 0) AS session_count,
+                   COALESCE(t.cnt, 0) AS ticket_count
+            FROM attendees a
+            LEFT JOIN (SELECT attendee_id, COUNT(*) AS cnt FROM attendee_event GROUP BY attendee_id) ae
+                   ON ae.attendee_id = a.id
+            LEFT JOIN (SELECT attendee_id, COUNT(*) AS cnt FROM attendee_session GROUP BY attendee_id) asn
+                   ON asn.attendee_id = a.id
+            LEFT JOIN (SELECT attendee_id, COUNT(*) AS cnt FROM tickets
+                       WHERE attendee_id IS NOT NULL GROUP BY attendee_id) t
+                   ON t.attendee_id = a.id
+        """;
+        String byTypeSql = """
+            SELECT e.type, COUNT(*)
+            FROM attendee_event ae
+            JOIN events e ON e.id = ae.event_id
+            GROUP BY e.type
+        """;
+
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16, count()));
+        SnapshotColumns counts = new SnapshotColumns(capacity);
+        jdbc.forEach(countsSql, RowMapper.byIndex(rs -> rs),
+                rs -> counts.add(rs.getObject(1, UUID.class), rs.getInt(2), rs.getInt(3), rs.getInt(4)));
+
+        long[] byType = new long[EventType.values().length];
+        jdbc.forEach(byTypeSql, RowMapper.byIndex(rs -> rs), rs -> {
+            String type = rs.getString(1);
+            if (type == null) return;
+            try {
+                byType[EventType.valueOf(type).ordinal()] += rs.getLong(2);
+            } catch (IllegalArgumentException e) {
+                // Unknown type in data - not counted
             }
-        }
-    }
-
-    private void loadSessionMapping(Attendee a) throws SQLException {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "SELECT session_id FROM attendee_session WHERE attendee_id=?"
-        )) {
-            ps.setObject(1, a.getId());
-            ResultSet rs = ps.executeQuery();
+        });
 
-            while (rs.next()) {
-                a.getRegisteredSessionIds().add((UUID) rs.getObject("session_id"));
-            }
-        }
+        return counts.toSnapshot(byType);
     }
 
     /**
-     * OPTIMIZED: Load event mappings for multiple attendees in one query
-     * Instead of N queries (one per attendee), load all in 1 query
+     * Per-attendee counts in parallel arrays, sized from count() and grown if needed
      */
-    private void loadEventMappingOptimized(Map<UUID, Attendee> attendeeMap) throws SQLException {
-        if (attendeeMap.isEmpty()) return;
-
-        String attendeeIds = attendeeMap.keySet().stream()
-                .map(id -> "'" + id.toString() + "'")
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-
-        String sql = "SELECT attendee_id, event_id FROM attendee_event WHERE attendee_id IN (" + attendeeIds + ")";
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-
-            while (rs.next()) {
-                UUID attendeeId = (UUID) rs.getObject("attendee_id");
-                UUID eventId = (UUID) rs.getObject("event_id");
+    private static final class SnapshotColumns {
+        private UUID[] ids;
+        private int[] events;
+        private int[] sessions;
+        private int[] tickets;
+        private int n;
+
+        SnapshotColumns(int capacity) {
+            ids = new UUID[capacity];
+            events = new int[capacity];
+            sessions = new int[capacity];
+            tickets = new int[capacity];
+        }
 
-                Attendee attendee = attendeeMap.get(attendeeId);
-                if (attendee != null) {
-                    attendee.getRegisteredEventIds().add(eventId);
-                }
+        void add(UUID id, int eventCount, int sessionCount, int ticketCount) {
+            if (n == ids.length) {
+                // Attendees added since count()
+                int grown = ids.length * 2;
+                ids = Arrays.copyOf(ids, grown);
+                events = Arrays.copyOf(events, grown);
+                sessions = Arrays.copyOf(sessions, grown);
+                tickets = Arrays.copyOf(tickets, grown);
             }
+            ids[n] = id;
+            events[n] = eventCount;
+            sessions[n] = sessionCount;
+            tickets[n] = ticketCount;
+            n++;
+        }
+
+        AttendeeActivitySnapshot toSnapshot(long[] byType) {
+            return new AttendeeActivitySnapshot(
+                    Arrays.copyOf(ids, n), Arrays.copyOf(events, n),
+                    Arrays.copyOf(sessions, n), Arrays.copyOf(tickets, n), byType);
         }
     }
 
     /**
-     * OPTIMIZED: Load session mappings for multiple attendees in one query
-     * Instead of N queries (one per attendee), load all in 1 query
+     * Event and session registrations of all given attendees, one query per mapping table
      */
-    private void loadSessionMappingOptimized(Map<UUID, Attendee> attendeeMap) throws SQLException {
-        if (attendeeMap.isEmpty()) return;
-
-        String attendeeIds = attendeeMap.keySet().stream()
-                .map(id -> "'" + id.toString() + "'")
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-
-        String sql = "SELECT attendee_id, session_id FROM attendee_session WHERE attendee_id IN (" + attendeeIds + ")";
+    private void loadMappings(List<Attendee> attendees) {
+        if (attendees.isEmpty()) return;
+
+        Set<UUID> ids = new HashSet<>();
+        attendees.forEach(a -> ids.add(a.getId()));
+        Map<UUID, List<UUID>> eventIds = jdbc.queryGroups(
+                "SELECT attendee_id, event_id FROM attendee_event WHERE attendee_id = ANY(?)",
+                ids, UUID.class, UUID.class);
+        Map<UUID, List<UUID>> sessionIds = jdbc.queryGroups(
+                "SELECT attendee_id, session_id FROM attendee_session WHERE attendee_id = ANY(?)",
+                ids, UUID.class, UUID.class);
+        for (Attendee a : attendees) {
+            a.getRegisteredEventIds().addAll(eventIds.getOrDefault(a.getId(), List.of()));
+            a.getRegisteredSessionIds().addAll(sessionIds.getOrDefault(a.getId(), List.of()));
+        }
+    }
 
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
+    // ============================================================
+    //  Schedules
+    // ============================================================
 
-            while (rs.next()) {
-                UUID attendeeId = (UUID) rs.getObject("attendee_id");
-                UUID sessionId = (UUID) rs.getObject("session_id");
+    @Override
+    public List<ScheduleEntry> findSchedule(UUID attendeeId) {
+        return jdbc.query(ATTENDEE_SCHEDULE, SCHEDULE_ENTRY, attendeeId, attendeeId, attendeeId, attendeeId, attendeeId);
+    }
 
-                Attendee attendee = attendeeMap.get(attendeeId);
-                if (attendee != null) {
-                    attendee.getRegisteredSessionIds().add(sessionId);
-                }
-            }
-        }
+    @Override
+    public long loadEventSchedules(UUID eventId, Consumer<ScheduleEntry> handler) {
+        return streaming.forEach(EVENT_SCHEDULES, SCHEDULE_ENTRY, handler::accept,
+                eventId, eventId, eventId, eventId, eventId);
     }
 
     @Override
     public void registerEvent(UUID attendeeId, UUID eventId) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT INTO attendee_event (attendee_id, event_id) VALUES (?,?) ON CONFLICT DO NOTHING"
-        )) {
-            ps.setObject(1, attendeeId);
-            ps.setObject(2, eventId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update("INSERT INTO attendee_event (attendee_id, event_id) VALUES (?,?) ON CONFLICT DO NOTHING",
+                attendeeId, eventId);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_ATTENDEE_EVENT, attendeeId, ChangeOp.SAVE);
     }
 
     @Override
     public void registerSession(UUID attendeeId, UUID sessionId) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT INTO attendee_session (attendee_id, session_id) VALUES (?,?) ON CONFLICT DO NOTHING"
-        )) {
-            ps.setObject(1, attendeeId);
-            ps.setObject(2, sessionId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update("INSERT INTO attendee_session (attendee_id, session_id) VALUES (?,?) ON CONFLICT DO NOTHING",
+                attendeeId, sessionId);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_ATTENDEE_SESSION, attendeeId, ChangeOp.SAVE);
     }
 
     @Override
     public void unregisterEvent(UUID attendeeId, UUID eventId) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM attendee_event WHERE attendee_id=? AND event_id=?"
-        )) {
-            ps.setObject(1, attendeeId);
-            ps.setObject(2, eventId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update("DELETE FROM attendee_event WHERE attendee_id=? AND event_id=?", attendeeId, eventId);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_ATTENDEE_EVENT, attendeeId, ChangeOp.DELETE);
     }
 
     @Override
     public void unregisterSession(UUID attendeeId, UUID sessionId) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM attendee_session WHERE attendee_id=? AND session_id=?"
-        )) {
-            ps.setObject(1, attendeeId);
-            ps.setObject(2, sessionId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update("DELETE FROM attendee_session WHERE attendee_id=? AND session_id=?", attendeeId, sessionId);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_ATTENDEE_SESSION, attendeeId, ChangeOp.DELETE);
     }
 }
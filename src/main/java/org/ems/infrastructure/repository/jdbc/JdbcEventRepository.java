@@ -1,9 +1,18 @@
 package org.ems.infrastructure.repository.jdbc;
 
+import org.ems.application.dto.event.EventFilterCriteriaDTO;
+import org.ems.application.dto.event.EventRowDTO;
 import org.ems.domain.model.enums.EventStatus;
 import org.ems.domain.model.enums.EventType;
+import org.ems.domain.model.ChangeTracker;
 import org.ems.domain.model.Event;
+import org.ems.domain.repository.ChangeSet;
 import org.ems.domain.repository.EventRepository;
+import org.ems.infrastructure.cache.CacheChangePublisher;
+import org.ems.infrastructure.cache.CacheRegions;
+import org.ems.infrastructure.cache.ChangeOp;
+import org.ems.infrastructure.repository.mapper.EventRowMapper;
+import org.ems.infrastructure.repository.mapper.RowMapper;
 
 import javax.sql.DataSource;
 import java.sql.*;
@@ -12,40 +21,57 @@ import java.util.*;
 
 public class JdbcEventRepository implements EventRepository {
 
+    /** Columns written when only some fields of a loaded event changed */
+    private static final PartialUpdate<Event> EVENT_UPDATE = new PartialUpdate<Event>("events")
+            .column("name", "name", Event::getName)
+            .column("type", "type", Event::getType)
+            .column("location", "location", Event::getLocation)
+            .column("startDate", "start_date", Event::getStartDate)
+            .column("endDate", "end_date", Event::getEndDate)
+            .column("status", "status", Event::getStatus)
+            .column("imagePath", "image_path", Event::getImagePath);
+
     private final Connection conn;
-    private final DataSource dataSource;  // ADDED: For getting fresh connections
+    private final JdbcExecutor jdbc;
+
+    /** Grid rows; isRegistered is user-specific and filled in by the caller */
+    private static final RowMapper<EventRowDTO> GRID_ROW = columns -> {
+        int id = columns.index("id");
+        int name = columns.index("name");
+        int type = columns.index("type");
+        int location = columns.index("location");
+        int startDate = columns.index("start_date");
+        int endDate = columns.index("end_date");
+        int status = columns.index("status");
+        int sessionCount = columns.index("session_count");
+        int imagePath = columns.index("image_path");
+
+        return rs -> {
+            LocalDate start = rs.getObject(startDate, LocalDate.class);
+            LocalDate end = rs.getObject(endDate, LocalDate.class);
+            return new EventRowDTO(
+                    rs.getObject(id, UUID.class),
+                    rs.getString(name),
+                    rs.getString(type),
+                    rs.getString(location),
+                    start != null ? start.toString() : "N/A",
+                    end != null ? end.toString() : "N/A",
+                    rs.getString(status),
+                    rs.getInt(sessionCount),
+                    false,
+                    rs.getString(imagePath)
+            );
+        };
+    };
 
     public JdbcEventRepository(Connection conn) {
         this.conn = conn;
-        this.dataSource = null;  // Legacy: single connection mode
+        this.jdbc = new JdbcExecutor(conn);
     }
 
     public JdbcEventRepository(DataSource dataSource) {
-        this.dataSource = dataSource;
-        this.conn = null;  // DataSource mode
-    }
-
-    /**
-     * Get a database connection - either from pool or reuse existing
-     */
-    private Connection getConnection() throws SQLException {
-        if (dataSource != null) {
-            return dataSource.getConnection();  // Fresh connection from pool
-        }
-        return conn;  // Fallback to injected connection
-    }
-
-    /**
-     * Close connection only if from dataSource pool
-     */
-    private void closeConnection(Connection connection) {
-        if (dataSource != null && connection != null) {
-            try {
-                connection.close();  // Return to pool
-            } catch (SQLException e) {
-                // Ignore
-            }
-        }
+        this.conn = null;  // DataSource mode: every call borrows a pooled connection
+        this.jdbc = new JdbcExecutor(dataSource);
     }
 
     // ---------------------------------------------------------
@@ -68,24 +94,22 @@ public class JdbcEventRepository implements EventRepository {
                 image_path = EXCLUDED.image_path
         """;
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, e.getId());
-            ps.setString(2, e.getName());
-            ps.setString(3, e.getType().name());
-            ps.setString(4, e.getLocation());
-            ps.setObject(5, e.getStartDate());
-            ps.setObject(6, e.getEndDate());
-            ps.setString(7, e.getStatus().name());
-            ps.setString(8, e.getImagePath());
-
-            ps.executeUpdate();
+        ChangeTracker changes = e.getChangeTracker();
+        if (changes.isPersisted() && !EVENT_UPDATE.touches(changes.getChangedFields())) {
+            changes.markPersisted();
+            return e; // No events column changed (session ids are derived from sessions.event_id)
+        }
 
+        return jdbc.execute(c -> {
+            if (!changes.isPersisted()
+                    || !EVENT_UPDATE.update(jdbc, c, e.getId(), e, changes.getChangedFields())) {
+                jdbc.update(c, sql, e.getId(), e.getName(), e.getType(), e.getLocation(),
+                        e.getStartDate(), e.getEndDate(), e.getStatus(), e.getImagePath());
+            }
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_EVENTS, e.getId(), ChangeOp.SAVE);
+            changes.markPersisted();
             return e;
-
-        } catch (SQLException ex) {
-            throw new RuntimeException("Failed to save event", ex);
-        }
+        });
     }
 
     // ---------------------------------------------------------
@@ -93,15 +117,15 @@ public class JdbcEventRepository implements EventRepository {
     // ---------------------------------------------------------
     @Override
     public void delete(UUID id) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM events WHERE id = ?"
-        )) {
-            ps.setObject(1, id);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.execute(c -> {
+            jdbc.update(c, "DELETE FROM events WHERE id = ?", id);
+
+            // Sessions cascade and tickets lose their event, so both change too
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_EVENTS, id, ChangeOp.DELETE);
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_SESSIONS, null, ChangeOp.DELETE);
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_TICKETS, null, ChangeOp.DELETE);
+            return null;
+        });
     }
 
     // ---------------------------------------------------------
@@ -109,24 +133,12 @@ public class JdbcEventRepository implements EventRepository {
     // ---------------------------------------------------------
     @Override
     public Event findById(UUID id) {
-        String sql = "SELECT * FROM events WHERE id = ?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, id);
-
-            ResultSet rs = ps.executeQuery();
-            if (!rs.next()) return null;
-
-            Event e = mapRow(rs);
-
+        Event e = jdbc.queryOne("SELECT * FROM events WHERE id = ?", EventRowMapper.INSTANCE, id);
+        if (e != null) {
             // Load sessions belonging to this event
-            loadSessionIds(e);
-
-            return e;
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+            loadSessionIds(List.of(e));
         }
+        return e;
     }
 
     // ---------------------------------------------------------
@@ -134,59 +146,35 @@ public class JdbcEventRepository implements EventRepository {
     // ---------------------------------------------------------
     @Override
     public List<Event> findAll() {
-        List<Event> list = new ArrayList<>();
-        Connection connection = null;
-
-        try {
-            connection = getConnection();
-
-            // Step 1: Load all events
-            long eventStart = System.currentTimeMillis();
-            List<Event> events = new ArrayList<>();
-            try (Statement st = connection.createStatement();
-                 ResultSet rs = st.executeQuery("SELECT * FROM events")) {
-                while (rs.next()) {
-                    events.add(mapRow(rs));
-                }
-            }
-            long eventTime = System.currentTimeMillis() - eventStart;
-            System.out.println("    ✓ Loaded " + events.size() + " events in " + eventTime + " ms");
-
-            if (events.isEmpty()) {
-                return events;
-            }
+        // Step 1: Load all events
+        long eventStart = System.currentTimeMillis();
+        List<Event> events = jdbc.query("SELECT * FROM events", EventRowMapper.INSTANCE);
+        long eventTime = System.currentTimeMillis() - eventStart;
+        System.out.println("    ✓ Loaded " + events.size() + " events in " + eventTime + " ms");
+
+        if (events.isEmpty()) {
+            return events;
+        }
 
-            // Step 2: Load ALL session IDs in ONE batch query (not N queries!)
-            long sessionStart = System.currentTimeMillis();
-            Map<java.util.UUID, List<java.util.UUID>> sessionMap = new HashMap<>();
-            try (Statement st = connection.createStatement();
-                 ResultSet rs = st.executeQuery("SELECT event_id, id FROM sessions")) {
-                while (rs.next()) {
-                    java.util.UUID eventId = (java.util.UUID) rs.getObject("event_id");
-                    java.util.UUID sessionId = (java.util.UUID) rs.getObject("id");
-                    sessionMap.computeIfAbsent(eventId, k -> new ArrayList<>()).add(sessionId);
-                }
-            }
-            long sessionTime = System.currentTimeMillis() - sessionStart;
-            System.out.println("    ✓ Batch loaded all sessions in " + sessionTime + " ms");
-
-            // Step 3: Assign session IDs to events (in-memory, no DB queries)
-            long assignStart = System.currentTimeMillis();
-            for (Event event : events) {
-                List<java.util.UUID> sessionIds = sessionMap.getOrDefault(event.getId(), new ArrayList<>());
-                event.getSessionIds().addAll(sessionIds);
-            }
-            long assignTime = System.currentTimeMillis() - assignStart;
-            System.out.println("    ✓ Assigned sessions to events in " + assignTime + " ms");
-
-            list.addAll(events);
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        } finally {
-            closeConnection(connection);
+        // Step 2: Load ALL session IDs in ONE batch query (not N queries!)
+        long sessionStart = System.currentTimeMillis();
+        Map<UUID, List<UUID>> sessionMap = new HashMap<>();
+        jdbc.forEach("SELECT event_id, id FROM sessions", RowMapper.byIndex(rs -> rs),
+                rs -> sessionMap.computeIfAbsent(rs.getObject(1, UUID.class), k -> new ArrayList<>())
+                        .add(rs.getObject(2, UUID.class)));
+        long sessionTime = System.currentTimeMillis() - sessionStart;
+        System.out.println("    ✓ Batch loaded all sessions in " + sessionTime + " ms");
+
+        // Step 3: Assign session IDs to events (in-memory, no DB queries)
+        long assignStart = System.currentTimeMillis();
+        for (Event event : events) {
+            event.setSessionIds(sessionMap.getOrDefault(event.getId(), List.of()));
+            event.getChangeTracker().markPersisted();
         }
+        long assignTime = System.currentTimeMillis() - assignStart;
+        System.out.println("    ✓ Assigned sessions to events in " + assignTime + " ms");
 
-        return list;
+        return events;
     }
 
 
@@ -195,81 +183,50 @@ public class JdbcEventRepository implements EventRepository {
     // ---------------------------------------------------------
     @Override
     public List<Event> findByType(EventType type) {
-        List<Event> list = new ArrayList<>();
-
-        String sql = "SELECT * FROM events WHERE type=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, type.name());
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                Event e = mapRow(rs);
-                loadSessionIds(e);
-                list.add(e);
-            }
+        return withSessionIds(jdbc.query("SELECT * FROM events WHERE type=?", EventRowMapper.INSTANCE, type));
+    }
 
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+    // ---------------------------------------------------------
+    // CHANGES SINCE A WATERMARK (delta sync)
+    // ---------------------------------------------------------
+    /**
+     * Changed events plus events that gained or lost sessions: sessions written since the
+     * watermark name their event, deleted or moved sessions leave a tombstone naming it.
+     * The UNION keeps each branch on its version index.
+     */
+    @Override
+    public ChangeSet<Event> findChangesSince(long watermark) {
+        ChangeQueries.Window window = ChangeQueries.window(jdbc);
+        if (window.needsFullReload(watermark)) {
+            return ChangeSet.fullReload(findAll(), window.watermark());
         }
-
-        return list;
+        String sql = """
+            SELECT * FROM events WHERE id IN (
+                SELECT id FROM events WHERE version >= ?
+                UNION SELECT event_id FROM sessions WHERE version >= ?
+                UNION SELECT ref_id FROM sync_tombstones WHERE table_name = 'sessions' AND version >= ?)
+        """;
+        List<Event> changed = withSessionIds(jdbc.query(sql, EventRowMapper.INSTANCE, watermark, watermark, watermark));
+        return ChangeSet.delta(changed, ChangeQueries.deletedIds(jdbc, "events", watermark), Event::getId,
+                window.watermark());
     }
 
     // ---------------------------------------------------------
     // FIND BY STATUS
     // ---------------------------------------------------------
     public List<Event> findByStatus(EventStatus status) {
-        List<Event> list = new ArrayList<>();
-
-        String sql = "SELECT * FROM events WHERE status=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, status.name());
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                Event e = mapRow(rs);
-                loadSessionIds(e);
-                list.add(e);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withSessionIds(jdbc.query("SELECT * FROM events WHERE status=?", EventRowMapper.INSTANCE, status));
     }
 
     // ---------------------------------------------------------
     // FIND BY DATE
     // ---------------------------------------------------------
     public List<Event> findByDate(LocalDate date) {
-
-        List<Event> list = new ArrayList<>();
-
         String sql = """
             SELECT * FROM events 
             WHERE start_date <= ? AND end_date >= ?
         """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, date);
-            ps.setObject(2, date);
-
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                Event e = mapRow(rs);
-                loadSessionIds(e);
-                list.add(e);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withSessionIds(jdbc.query(sql, EventRowMapper.INSTANCE, date, date));
     }
 
     // ---------------------------------------------------------
@@ -277,42 +234,18 @@ public class JdbcEventRepository implements EventRepository {
     // ---------------------------------------------------------
     /**
      * Returns total number of events using SELECT COUNT(*).
-     * FIXED: Get fresh connection to avoid "Connection is closed" error in async operations
      */
     @Override
     public long count() {
-        String sql = "SELECT COUNT(*) FROM events";
-        Connection connection = null;
-        try {
-            connection = getConnection();
-            try (Statement st = connection.createStatement();
-                 ResultSet rs = st.executeQuery(sql)) {
-                if (rs.next()) {
-                    return rs.getLong(1);
-                }
-                return 0L;
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count events", e);
-        } finally {
-            closeConnection(connection);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM events");
     }
 
     /**
      * Returns number of active events (SCHEDULED or ONGOING).
      */
+    @Override
     public long countActiveEvents() {
-        String sql = "SELECT COUNT(*) FROM events WHERE status IN ('SCHEDULED','ONGOING')";
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
-            return 0L;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count active events", e);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM events WHERE status IN ('SCHEDULED','ONGOING')");
     }
 
     // ---------------------------------------------------------
@@ -320,81 +253,108 @@ public class JdbcEventRepository implements EventRepository {
     // ---------------------------------------------------------
     /**
      * Returns a paginated list of events.
-     * FIXED: Use getConnection() for fresh connection from pool
      */
     public List<Event> findPage(int offset, int limit) {
-        List<Event> list = new ArrayList<>();
-        String sql = "SELECT * FROM events ORDER BY start_date DESC NULLS LAST, id DESC LIMIT ? OFFSET ?";
-
-        Connection connection = null;
-        try {
-            connection = getConnection();
-            try (PreparedStatement ps = connection.prepareStatement(sql)) {
-                ps.setInt(1, limit);
-                ps.setInt(2, offset);
-
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) {
-                        list.add(mapRow(rs));
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to page events", e);
-        } finally {
-            closeConnection(connection);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM events ORDER BY start_date DESC NULLS LAST, id DESC LIMIT ? OFFSET ?",
+                EventRowMapper.INSTANCE, limit, offset);
     }
 
     // ---------------------------------------------------------
-    // MAPPER
+    // GRID PAGE (filters, sort and session counts in SQL)
     // ---------------------------------------------------------
-    private Event mapRow(ResultSet rs) throws SQLException {
+    /**
+     * The inner query filters, sorts and limits on events only; session counts are
+     * computed for the page rows alone. COUNT(*) OVER() returns the filtered total
+     * with the page when requested, so no separate count query is needed.
+     */
+    @Override
+    public EventRowPage findRowPage(EventFilterCriteriaDTO criteria, boolean includeTotal) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder where = new StringBuilder(" WHERE 1=1");
+
+        if (!"ALL".equals(criteria.typeFilter)) {
+            where.append(" AND type = ?");
+            params.add(criteria.typeFilter);
+        }
+        if (!"ALL".equals(criteria.statusFilter)) {
+            where.append(" AND status = ?");
+            params.add(criteria.statusFilter);
+        }
+        if (!criteria.searchTerm.isEmpty()) {
+            String pattern = "%" + escapeLike(criteria.searchTerm) + "%";
+            where.append(" AND (LOWER(name) LIKE ? ESCAPE '\\' OR LOWER(location) LIKE ? ESCAPE '\\')");
+            params.add(pattern);
+            params.add(pattern);
+        }
 
-        Event e = new Event();
+        String orderBy = orderByClause(criteria);
+        String sql = "SELECT p.*, (SELECT COUNT(*) FROM sessions s WHERE s.event_id = p.id) AS session_count" +
+                " FROM (SELECT id, name, type, location, start_date, end_date, status, image_path" +
+                (includeTotal ? ", COUNT(*) OVER() AS total_count" : "") +
+                " FROM events" + where + orderBy + " LIMIT ? OFFSET ?) p" +
+                orderBy;
+
+        int pageSize = Math.max(1, criteria.pageSize);
+        params.add(pageSize);
+        params.add(Math.max(0, criteria.pageNumber) * pageSize);
+
+        List<EventRowDTO> rows = new ArrayList<>(pageSize);
+        long[] total = {-1};
+        RowMapper<EventRowDTO> mapper = !includeTotal ? GRID_ROW : columns -> {
+            int totalCount = columns.index("total_count");
+            RowMapper.Reader<EventRowDTO> row = GRID_ROW.bind(columns);
+            return rs -> {
+                if (total[0] < 0) {
+                    total[0] = rs.getLong(totalCount);
+                }
+                return row.read(rs);
+            };
+        };
+        jdbc.forEach(sql, mapper, rows::add, params.toArray());
+        return new EventRowPage(rows, total[0]);
+    }
 
-        e.setId((UUID) rs.getObject("id"));
-        e.setName(rs.getString("name"));
-        e.setType(EventType.valueOf(rs.getString("type")));
-        e.setLocation(rs.getString("location"));
-        e.setStartDate(rs.getObject("start_date", LocalDate.class));
-        e.setEndDate(rs.getObject("end_date", LocalDate.class));
-        e.setStatus(EventStatus.valueOf(rs.getString("status")));
-        e.setImagePath(rs.getString("image_path"));
+    /**
+     * Whitelisted ORDER BY; id breaks ties so pages are stable
+     */
+    private static String orderByClause(EventFilterCriteriaDTO criteria) {
+        String column = switch (criteria.sortField) {
+            case NAME -> "name";
+            case TYPE -> "type";
+            case LOCATION -> "location";
+            case STATUS -> "status";
+            default -> "start_date";
+        };
+        String dir = criteria.sortAscending ? " ASC" : " DESC";
+        return " ORDER BY " + column + dir + " NULLS LAST, id" + dir;
+    }
 
-        return e;
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     // ---------------------------------------------------------
     // LOAD sessionIds from "sessions" table
     // ---------------------------------------------------------
-    private void loadSessionIds(Event e) throws SQLException {
-        Connection connection = null;
-        try {
-            connection = getConnection();
-            loadSessionIds(e, connection);
-        } finally {
-            closeConnection(connection);
-        }
+    private List<Event> withSessionIds(List<Event> events) {
+        loadSessionIds(events);
+        return events;
     }
 
     /**
-     * Load session IDs using provided connection (to reuse same connection)
+     * Session ids of all given events in one query
      */
-    private void loadSessionIds(Event e, Connection connection) throws SQLException {
-        try (PreparedStatement ps = connection.prepareStatement(
-                "SELECT id FROM sessions WHERE event_id=?"
-        )) {
-            ps.setObject(1, e.getId());
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                UUID sessionId = (UUID) rs.getObject("id");
-                e.getSessionIds().add(sessionId);
-            }
+    private void loadSessionIds(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<UUID> ids = new HashSet<>();
+        events.forEach(e -> ids.add(e.getId()));
+        Map<UUID, List<UUID>> sessionIds = jdbc.queryGroups(
+                "SELECT event_id, id FROM sessions WHERE event_id = ANY(?)", ids, UUID.class, UUID.class);
+        for (Event e : events) {
+            e.setSessionIds(sessionIds.getOrDefault(e.getId(), List.of()));
+            e.getChangeTracker().markPersisted();
         }
     }
 }
-
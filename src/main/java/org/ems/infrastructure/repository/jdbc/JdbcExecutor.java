@@ -0,0 +1,344 @@
+package org.ems.infrastructure.repository.jdbc;
+
+import org.ems.infrastructure.repository.mapper.Columns;
+import org.ems.infrastructure.repository.mapper.RowMapper;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.temporal.Temporal;
+import java.util.*;
+
+/**
+ * JdbcExecutor - Shared statement execution for the Jdbc repositories
+ * Single Responsibility: Prepare, bind, execute, map and close - in one place
+ *
+ * Every call prepares its SQL on the repository's connection (or a connection borrowed
+ * from the DataSource), binds the parameters, maps rows with a {@link RowMapper} whose
+ * columns are resolved once per result set, and closes statement and result set.
+ * SQLExceptions are wrapped in RuntimeException, as the repositories always did.
+ *
+ * Statement reuse: SQL strings are constants, and id lists are bound as one array
+ * parameter (= ANY(?)) instead of being inlined. The PostgreSQL driver can therefore keep
+ * one server-prepared statement per query and connection (see db.jdbc.prepare-threshold).
+ *
+ * Fetch size applies to every query. The driver only streams with a cursor when
+ * auto-commit is off; {@link #forEach} switches it off on borrowed (DataSource)
+ * connections. On a shared connection the result is buffered by the driver.
+ *
+ * Every statement is timed. Slow ones are logged and all go to the optional
+ * {@link QueryListener}.
+ *
+ * @author EMS Team
+ */
+public final class JdbcExecutor {
+
+    private static final int DEFAULT_FETCH_SIZE = 500;
+    private static final long DEFAULT_SLOW_QUERY_MS = 1000;
+
+    private static volatile int fetchSize = DEFAULT_FETCH_SIZE;
+    private static volatile long slowQueryNanos = DEFAULT_SLOW_QUERY_MS * 1_000_000;
+    private static volatile QueryListener listener;
+
+    private final Connection connection;
+    private final DataSource dataSource;
+
+    /**
+     * Receives the timing of every executed statement
+     */
+    @FunctionalInterface
+    public interface QueryListener {
+        /**
+         * @param rows  rows read (queries) or affected (updates)
+         * @param error the failure, or null
+         */
+        void onStatement(String sql, long nanos, long rows, SQLException error);
+    }
+
+    /**
+     * Work that needs the connection itself (several statements, NOTIFY, ...)
+     */
+    @FunctionalInterface
+    public interface ConnectionCallback<R> {
+        R apply(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Consumes streamed rows
+     */
+    @FunctionalInterface
+    public interface RowHandler<T> {
+        void accept(T row) throws SQLException;
+    }
+
+    public JdbcExecutor(Connection connection) {
+        this.connection = connection;
+        this.dataSource = null;
+    }
+
+    public JdbcExecutor(DataSource dataSource) {
+        this.connection = null;
+        this.dataSource = dataSource;
+    }
+
+    // ============================================================
+    //  Settings
+    // ============================================================
+
+    /**
+     * @param rowsPerFetch rows per round trip when a cursor is used (0 = driver default)
+     * @param slowQueryMs  statements slower than this are logged (0 = off)
+     */
+    public static void configure(int rowsPerFetch, long slowQueryMs) {
+        fetchSize = Math.max(0, rowsPerFetch);
+        slowQueryNanos = slowQueryMs > 0 ? slowQueryMs * 1_000_000 : Long.MAX_VALUE;
+    }
+
+    public static void setListener(QueryListener queryListener) {
+        listener = queryListener;
+    }
+
+    // ============================================================
+    //  Queries
+    // ============================================================
+
+    public <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) {
+        List<T> rows = new ArrayList<>();
+        forEach(sql, mapper, rows::add, params);
+        return rows;
+    }
+
+    /**
+     * @return The first row, or null if there is none
+     */
+    public <T> T queryOne(String sql, RowMapper<T> mapper, Object... params) {
+        return withConnection(false, conn -> {
+            long start = System.nanoTime();
+            long rows = 0;
+            try (PreparedStatement ps = prepare(conn, sql, params);
+                 ResultSet rs = ps.executeQuery()) {
+                T row = null;
+                if (rs.next()) {
+                    row = mapper.bind(new Columns(rs.getMetaData())).read(rs);
+                    rows = 1;
+                }
+                timed(sql, start, rows, null);
+                return row;
+            } catch (SQLException e) {
+                timed(sql, start, rows, e);
+                throw e;
+            }
+        }, sql);
+    }
+
+    /**
+     * @return First column of the first row as a long (COUNT, SUM, ...), 0 if there is no row
+     */
+    public long queryLong(String sql, Object... params) {
+        Long value = queryOne(sql, RowMapper.byIndex(rs -> rs.getLong(1)), params);
+        return value != null ? value : 0L;
+    }
+
+    public boolean exists(String sql, Object... params) {
+        return queryOne(sql, RowMapper.byIndex(rs -> Boolean.TRUE), params) != null;
+    }
+
+    /**
+     * Hand rows to the handler as they are read, without collecting them
+     *
+     * @return Number of rows
+     */
+    public <T> long forEach(String sql, RowMapper<T> mapper, RowHandler<T> handler, Object... params) {
+        return withConnection(true, conn -> {
+            long start = System.nanoTime();
+            long rows = 0;
+            try (PreparedStatement ps = prepare(conn, sql, params);
+                 ResultSet rs = ps.executeQuery()) {
+                RowMapper.Reader<T> reader = null;
+                while (rs.next()) {
+                    if (reader == null) {
+                        reader = mapper.bind(new Columns(rs.getMetaData()));
+                    }
+                    handler.accept(reader.read(rs));
+                    rows++;
+                }
+                timed(sql, start, rows, null);
+                return rows;
+            } catch (SQLException e) {
+                timed(sql, start, rows, e);
+                throw e;
+            }
+        }, sql);
+    }
+
+    /**
+     * Group two-column rows (key, value) - e.g. session ids per event - for the given keys.
+     * The SQL takes the keys as one array parameter: {@code WHERE event_id = ANY(?)}.
+     *
+     * @return Values per key; keys without rows are absent
+     */
+    public <K, V> Map<K, List<V>> queryGroups(String sql, Collection<K> keys, Class<K> keyType, Class<V> valueType) {
+        Map<K, List<V>> groups = new HashMap<>();
+        if (keys.isEmpty()) {
+            return groups;
+        }
+        forEach(sql, RowMapper.byIndex(rs -> rs), rs -> groups
+                .computeIfAbsent(rs.getObject(1, keyType), k -> new ArrayList<>())
+                .add(rs.getObject(2, valueType)), keys);
+        return groups;
+    }
+
+    // ============================================================
+    //  Updates
+    // ============================================================
+
+    /**
+     * @return Affected rows
+     */
+    public int update(String sql, Object... params) {
+        return withConnection(false, conn -> update(conn, sql, params), sql);
+    }
+
+    /**
+     * Execute an update on a connection the caller already holds (inside {@link #execute})
+     */
+    public int update(Connection conn, String sql, Object... params) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement ps = prepare(conn, sql, params)) {
+            int rows = ps.executeUpdate();
+            timed(sql, start, rows, null);
+            return rows;
+        } catch (SQLException e) {
+            timed(sql, start, 0, e);
+            throw e;
+        }
+    }
+
+    /**
+     * One statement, executed as a JDBC batch for every parameter row
+     */
+    public int[] batch(String sql, List<Object[]> paramRows) {
+        if (paramRows.isEmpty()) {
+            return new int[0];
+        }
+        return withConnection(false, conn -> batch(conn, sql, paramRows), sql);
+    }
+
+    public int[] batch(Connection conn, String sql, List<Object[]> paramRows) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (Object[] params : paramRows) {
+                bind(conn, ps, params);
+                ps.addBatch();
+            }
+            int[] counts = ps.executeBatch();
+            timed(sql, start, paramRows.size(), null);
+            return counts;
+        } catch (SQLException e) {
+            timed(sql, start, 0, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Run several statements on one connection (borrowed for the whole callback)
+     */
+    public <R> R execute(ConnectionCallback<R> callback) {
+        return withConnection(false, callback, "connection callback");
+    }
+
+    // ============================================================
+    //  Internals
+    // ============================================================
+
+    private <R> R withConnection(boolean cursor, ConnectionCallback<R> work, String sql) {
+        try {
+            if (dataSource == null) {
+                return work.apply(connection);
+            }
+            try (Connection conn = dataSource.getConnection()) {
+                if (!cursor || !conn.getAutoCommit()) {
+                    return work.apply(conn);
+                }
+                // A cursor needs a transaction; the borrowed connection is ours alone
+                conn.setAutoCommit(false);
+                try {
+                    R result = work.apply(conn);
+                    conn.commit();
+                    return result;
+                } catch (SQLException | RuntimeException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error [" + summary(sql) + "]: " + e.getMessage(), e);
+        }
+    }
+
+    private static PreparedStatement prepare(Connection conn, String sql, Object[] params) throws SQLException {
+        PreparedStatement ps = conn.prepareStatement(sql);
+        try {
+            if (fetchSize > 0) {
+                ps.setFetchSize(fetchSize);
+            }
+            bind(conn, ps, params);
+            return ps;
+        } catch (SQLException e) {
+            ps.close();
+            throw e;
+        }
+    }
+
+    private static void bind(Connection conn, PreparedStatement ps, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            Object value = params[i];
+            int index = i + 1;
+            if (value == null) {
+                ps.setObject(index, null);
+            } else if (value instanceof String s) {
+                ps.setString(index, s);
+            } else if (value instanceof Enum<?> e) {
+                ps.setString(index, e.name());
+            } else if (value instanceof Timestamp t) {
+                ps.setTimestamp(index, t);
+            } else if (value instanceof BigDecimal d) {
+                ps.setBigDecimal(index, d);
+            } else if (value instanceof Collection<?> c) {
+                ps.setArray(index, array(conn, c));
+            } else if (value instanceof UUID || value instanceof Number || value instanceof Boolean
+                    || value instanceof Temporal) {
+                ps.setObject(index, value);
+            } else {
+                throw new SQLException("Unsupported parameter type: " + value.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * SQL array for = ANY(?); element type from the first element (uuid, text or bigint)
+     */
+    private static Array array(Connection conn, Collection<?> values) throws SQLException {
+        Object first = values.isEmpty() ? null : values.iterator().next();
+        String type = first instanceof UUID ? "uuid" : first instanceof Number ? "bigint" : "text";
+        return conn.createArrayOf(type, values.toArray());
+    }
+
+    private static void timed(String sql, long start, long rows, SQLException error) {
+        long nanos = System.nanoTime() - start;
+        if (nanos >= slowQueryNanos) {
+            System.err.printf("⚠️ [JDBC] Slow statement (%.1f ms, %d rows): %s%n", nanos / 1e6, rows, summary(sql));
+        }
+        QueryListener current = listener;
+        if (current != null) {
+            current.onStatement(sql, nanos, rows, error);
+        }
+    }
+
+    private static String summary(String sql) {
+        String flat = sql.strip().replaceAll("\\s+", " ");
+        return flat.length() > 120 ? flat.substring(0, 117) + "..." : flat;
+    }
+}
@@ -1,20 +1,108 @@
 package org.ems.infrastructure.repository.jdbc;
 
+import org.ems.domain.dto.PresenterActivityRow;
 import org.ems.domain.model.enums.PresenterType;
 import org.ems.domain.model.enums.Role;
 import org.ems.domain.model.Presenter;
+import org.ems.domain.repository.ChangeSet;
 import org.ems.domain.repository.PresenterRepository;
+import org.ems.infrastructure.cache.CacheChangePublisher;
+import org.ems.infrastructure.cache.CacheRegions;
+import org.ems.infrastructure.cache.ChangeOp;
+import org.ems.infrastructure.repository.mapper.PersonRowMapper;
+import org.ems.infrastructure.repository.mapper.RowMapper;
 
+import javax.sql.DataSource;
 import java.sql.*;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class JdbcPresenterRepository implements PresenterRepository {
 
+    private static final String SELECT_PRESENTERS = """
+            SELECT p.*, pr.presenter_type, pr.material_paths FROM persons p
+            JOIN presenters pr ON p.id = pr.id
+            """;
+
+    private static final RowMapper<Presenter> PRESENTER = columns -> {
+        PersonRowMapper person = new PersonRowMapper(columns);
+        int presenterTypeColumn = columns.index("presenter_type");
+        int roleColumn = columns.index("role");
+        int bioColumn = columns.index("bio");
+        return rs -> {
+            Presenter p = person.read(rs, new Presenter());
+            p.setRole(Role.PRESENTER);
+
+            // Handle presenter_type - use role column if presenter_type is null
+            String presenterType = rs.getString(presenterTypeColumn);
+            if (presenterType == null || presenterType.isEmpty()) {
+                presenterType = rs.getString(roleColumn);
+            }
+            if (presenterType == null || presenterType.isEmpty()) {
+                presenterType = "Keynote Speaker"; // Default
+            }
+            try {
+                p.setPresenterType(PresenterType.valueOf(presenterType.toUpperCase().replace(" ", "_")));
+            } catch (IllegalArgumentException e) {
+                p.setPresenterType(PresenterType.KEYNOTE_SPEAKER); // Fallback
+            }
+
+            p.setBio(rs.getString(bioColumn));
+            p.getChangeTracker().markPersisted();
+            return p;
+        };
+    };
+
+    private static final String SELECT_ACTIVITY = """
+            SELECT p.id AS presenter_id, p.full_name, p.email,
+                   e.id AS event_id, e.name AS event_name, e.location,
+                   s.id AS session_id, s.title, s.venue, s.start_time, s.end_time, s.capacity
+            FROM presenters pr
+            JOIN persons p ON p.id = pr.id
+            JOIN presenter_session ps ON ps.presenter_id = pr.id
+            JOIN sessions s ON s.id = ps.session_id
+            LEFT JOIN events e ON e.id = s.event_id
+            """;
+
+    private static final RowMapper<PresenterActivityRow> ACTIVITY = columns -> {
+        int presenterId = columns.index("presenter_id");
+        int fullName = columns.index("full_name");
+        int email = columns.index("email");
+        int eventId = columns.index("event_id");
+        int eventName = columns.index("event_name");
+        int location = columns.index("location");
+        int sessionId = columns.index("session_id");
+        int title = columns.index("title");
+        int venue = columns.index("venue");
+        int startTime = columns.index("start_time");
+        int endTime = columns.index("end_time");
+        int capacity = columns.index("capacity");
+        return rs -> new PresenterActivityRow(
+                rs.getObject(presenterId, UUID.class), rs.getString(fullName), rs.getString(email),
+                rs.getObject(eventId, UUID.class), rs.getString(eventName), rs.getString(location),
+                rs.getObject(sessionId, UUID.class), rs.getString(title), rs.getString(venue),
+                rs.getObject(startTime, LocalDateTime.class), rs.getObject(endTime, LocalDateTime.class),
+                rs.getInt(capacity));
+    };
+
     private final Connection conn;
+    private final JdbcExecutor jdbc;
+    /** Borrows a pooled connection per call, so forEach streams with a cursor */
+    private final JdbcExecutor streaming;
 
     public JdbcPresenterRepository(Connection conn) {
+        this(conn, null);
+    }
+
+    /**
+     * @param streamingSource pool used for large streamed reads (loadActivity), or null
+     *                        to run them on conn, where the driver buffers the whole result
+     */
+    public JdbcPresenterRepository(Connection conn, DataSource streamingSource) {
         this.conn = conn;
+        this.jdbc = new JdbcExecutor(conn);
+        this.streaming = streamingSource != null ? new JdbcExecutor(streamingSource) : jdbc;
     }
 
     // -------------------------------------------------------
@@ -22,60 +110,42 @@ public class JdbcPresenterRepository implements PresenterRepository {
     // -------------------------------------------------------
     @Override
     public Presenter save(Presenter p) {
+        // First save to persons table
+        String personSql = """
+            INSERT INTO persons
+            (id, full_name, dob, email, phone, username, password_hash, role, bio)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                full_name      = EXCLUDED.full_name,
+                dob            = EXCLUDED.dob,
+                email          = EXCLUDED.email,
+                phone          = EXCLUDED.phone,
+                username       = EXCLUDED.username,
+                password_hash  = EXCLUDED.password_hash,
+                role           = EXCLUDED.role,
+                bio            = EXCLUDED.bio
+        """;
 
-        try {
-            // First save to persons table
-            String personSql = """
-                INSERT INTO persons
-                (id, full_name, dob, email, phone, username, password_hash, role, bio)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-                ON CONFLICT (id) DO UPDATE SET
-                    full_name      = EXCLUDED.full_name,
-                    dob            = EXCLUDED.dob,
-                    email          = EXCLUDED.email,
-                    phone          = EXCLUDED.phone,
-                    username       = EXCLUDED.username,
-                    password_hash  = EXCLUDED.password_hash,
-                    role           = EXCLUDED.role,
-                    bio            = EXCLUDED.bio
-            """;
-
-            try (PreparedStatement ps = conn.prepareStatement(personSql)) {
-                ps.setObject(1, p.getId());
-                ps.setString(2, p.getFullName());
-                ps.setObject(3, p.getDateOfBirth());
-                ps.setString(4, p.getEmail());
-                ps.setString(5, p.getPhone());
-                ps.setString(6, p.getUsername());
-                ps.setString(7, p.getPasswordHash());
-                ps.setString(8, Role.PRESENTER.name());
-                ps.setString(9, p.getBio());
-                ps.executeUpdate();
-            }
+        // Then save to presenters table
+        String presenterSql = """
+            INSERT INTO presenters (id, presenter_type, material_paths)
+            VALUES (?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                presenter_type = EXCLUDED.presenter_type,
+                material_paths = EXCLUDED.material_paths
+        """;
 
-            // Then save to presenters table
-            String presenterSql = """
-                INSERT INTO presenters (id, presenter_type, material_paths)
-                VALUES (?, ?, ?)
-                ON CONFLICT (id) DO UPDATE SET
-                    presenter_type = EXCLUDED.presenter_type,
-                    material_paths = EXCLUDED.material_paths
-            """;
+        return jdbc.execute(c -> {
+            jdbc.update(c, personSql, p.getId(), p.getFullName(), p.getDateOfBirth(), p.getEmail(), p.getPhone(),
+                    p.getUsername(), p.getPasswordHash(), Role.PRESENTER, p.getBio());
+            jdbc.update(c, presenterSql, p.getId(), p.getPresenterType(), "[]"); // Empty material paths
 
-            try (PreparedStatement ps = conn.prepareStatement(presenterSql)) {
-                ps.setObject(1, p.getId());
-                ps.setString(2, p.getPresenterType().name());
-                ps.setString(3, "[]"); // Empty material paths
-                ps.executeUpdate();
-            }
-
-            saveSessionLinks(p);
+            saveSessionLinks(c, p);
 
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_PERSONS, p.getId(), ChangeOp.SAVE);
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_PRESENTERS, p.getId(), ChangeOp.SAVE);
             return p;
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to save presenter", e);
-        }
+        });
     }
 
     // -------------------------------------------------------
@@ -83,85 +153,28 @@ public class JdbcPresenterRepository implements PresenterRepository {
     // -------------------------------------------------------
     @Override
     public void delete(UUID id) {
-
-        try {
+        jdbc.execute(c -> {
             // Remove mapping first
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "DELETE FROM presenter_session WHERE presenter_id=?"
-            )) {
-                ps.setObject(1, id);
-                ps.executeUpdate();
-            }
-
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "DELETE FROM presenters WHERE id=?"
-            )) {
-                ps.setObject(1, id);
-                ps.executeUpdate();
-            }
+            jdbc.update(c, "DELETE FROM presenter_session WHERE presenter_id=?", id);
+            jdbc.update(c, "DELETE FROM presenters WHERE id=?", id);
 
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_PRESENTERS, id, ChangeOp.DELETE);
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_PRESENTER_SESSION, null, ChangeOp.DELETE);
+            return null;
+        });
     }
 
     // -------------------------------------------------------
-    // FIND BY ID
+    // FIND BY ID / USERNAME
     // -------------------------------------------------------
     @Override
     public Presenter findById(UUID id) {
-
-        String sql = """
-            SELECT p.*, pr.presenter_type, pr.material_paths FROM persons p
-            JOIN presenters pr ON p.id = pr.id
-            WHERE p.id=?
-            """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, id);
-            ResultSet rs = ps.executeQuery();
-
-            if (!rs.next()) return null;
-
-            Presenter p = mapRow(rs);
-
-            loadSessionIds(p);
-
-            return p;
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        return withSessionIds(jdbc.queryOne(SELECT_PRESENTERS + "WHERE p.id=?", PRESENTER, id));
     }
 
-    // -------------------------------------------------------
-    // FIND BY USERNAME
-    // -------------------------------------------------------
     @Override
     public Presenter findByUsername(String username) {
-
-        String sql = """
-            SELECT p.*, pr.presenter_type, pr.material_paths FROM persons p
-            JOIN presenters pr ON p.id = pr.id
-            WHERE p.username=?
-            """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, username);
-            ResultSet rs = ps.executeQuery();
-
-            if (!rs.next()) return null;
-
-            Presenter p = mapRow(rs);
-            loadSessionIds(p);
-
-            return p;
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        return withSessionIds(jdbc.queryOne(SELECT_PRESENTERS + "WHERE p.username=?", PRESENTER, username));
     }
 
     // -------------------------------------------------------
@@ -169,26 +182,7 @@ public class JdbcPresenterRepository implements PresenterRepository {
     // -------------------------------------------------------
     @Override
     public List<Presenter> findAll() {
-
-        List<Presenter> list = new ArrayList<>();
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery("""
-                 SELECT p.*, pr.presenter_type, pr.material_paths FROM persons p
-                 JOIN presenters pr ON p.id = pr.id
-                 """)) {
-
-            while (rs.next()) {
-                Presenter p = mapRow(rs);
-                loadSessionIds(p);
-                list.add(p);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withSessionIds(jdbc.query(SELECT_PRESENTERS, PRESENTER));
     }
 
     // -------------------------------------------------------
@@ -196,33 +190,12 @@ public class JdbcPresenterRepository implements PresenterRepository {
     // -------------------------------------------------------
     @Override
     public List<Presenter> findByEvent(UUID eventId) {
-
-        List<Presenter> list = new ArrayList<>();
-
-        String sql = """
-            SELECT p.*, pr.presenter_type, pr.material_paths FROM persons p
-            JOIN presenters pr ON p.id = pr.id
+        String sql = SELECT_PRESENTERS + """
             JOIN presenter_session ps ON p.id = ps.presenter_id
             JOIN sessions s ON s.id = ps.session_id
             WHERE s.event_id = ?
         """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, eventId);
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                Presenter p = mapRow(rs);
-                loadSessionIds(p);
-                list.add(p);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withSessionIds(jdbc.query(sql, PRESENTER, eventId));
     }
 
     // -------------------------------------------------------
@@ -230,32 +203,67 @@ public class JdbcPresenterRepository implements PresenterRepository {
     // -------------------------------------------------------
     @Override
     public List<Presenter> findBySession(UUID sessionId) {
-
-        List<Presenter> list = new ArrayList<>();
-
-        String sql = """
-            SELECT p.*, pr.presenter_type, pr.material_paths FROM persons p
-            JOIN presenters pr ON p.id = pr.id
+        String sql = SELECT_PRESENTERS + """
             JOIN presenter_session ps ON p.id = ps.presenter_id
             WHERE ps.session_id = ?
         """;
+        return withSessionIds(jdbc.query(sql, PRESENTER, sessionId));
+    }
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, sessionId);
-            ResultSet rs = ps.executeQuery();
+    // -------------------------------------------------------
+    // CHANGES SINCE A WATERMARK (delta sync)
+    // -------------------------------------------------------
+    /**
+     * Presenters whose person or presenter row changed, plus presenters whose session
+     * links were added or removed (presenter_session tombstones are keyed by presenter)
+     */
+    @Override
+    public ChangeSet<Presenter> findChangesSince(long watermark) {
+        ChangeQueries.Window window = ChangeQueries.window(jdbc);
+        if (window.needsFullReload(watermark)) {
+            return ChangeSet.fullReload(findAll(), window.watermark());
+        }
+        String sql = SELECT_PRESENTERS + """
+            WHERE p.id IN (
+                SELECT id FROM persons WHERE version >= ?
+                UNION SELECT id FROM presenters WHERE version >= ?
+                UNION SELECT presenter_id FROM presenter_session WHERE version >= ?
+                UNION SELECT id FROM sync_tombstones WHERE table_name = 'presenter_session' AND version >= ?)
+        """;
+        List<Presenter> changed = withSessionIds(
+                jdbc.query(sql, PRESENTER, watermark, watermark, watermark, watermark));
+        return ChangeSet.delta(changed, ChangeQueries.deletedIds(jdbc, "presenters", watermark), Presenter::getId,
+                window.watermark());
+    }
 
-            while (rs.next()) {
-                Presenter p = mapRow(rs);
-                loadSessionIds(p);
-                list.add(p);
-            }
+    // -------------------------------------------------------
+    // ACTIVITY (presenter -> sessions -> events, streamed)
+    // -------------------------------------------------------
+    @Override
+    public long loadActivity(ActivityFilter filter, Consumer<PresenterActivityRow> handler) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder where = new StringBuilder(" WHERE 1=1");
 
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+        if (filter.getPresenterId() != null) {
+            where.append(" AND ps.presenter_id = ?");
+            params.add(filter.getPresenterId());
+        }
+        if (filter.getEventId() != null) {
+            where.append(" AND s.event_id = ?");
+            params.add(filter.getEventId());
+        }
+        // Half-open range on start_time, so the index on it can be used
+        if (filter.getFrom() != null) {
+            where.append(" AND s.start_time >= ?");
+            params.add(filter.getFrom().atStartOfDay());
+        }
+        if (filter.getTo() != null) {
+            where.append(" AND s.start_time < ?");
+            params.add(filter.getTo().plusDays(1).atStartOfDay());
         }
 
-        return list;
+        String sql = SELECT_ACTIVITY + where + " ORDER BY p.full_name, p.id, s.start_time, s.id";
+        return streaming.forEach(sql, ACTIVITY, handler::accept, params.toArray());
     }
 
     // -------------------------------------------------------
@@ -263,52 +271,34 @@ public class JdbcPresenterRepository implements PresenterRepository {
     // -------------------------------------------------------
     @Override
     public void assignToSession(UUID presenterId, UUID sessionId) {
-
         String sql = """
             INSERT INTO presenter_session (presenter_id, session_id)
             VALUES (?,?)
             ON CONFLICT DO NOTHING
         """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, presenterId);
-            ps.setObject(2, sessionId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.execute(c -> {
+            jdbc.update(c, sql, presenterId, sessionId);
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_PRESENTER_SESSION, null, ChangeOp.SAVE);
+            return null;
+        });
     }
 
     @Override
     public void removeFromSession(UUID presenterId, UUID sessionId) {
-
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM presenter_session WHERE presenter_id=? AND session_id=?"
-        )) {
-            ps.setObject(1, presenterId);
-            ps.setObject(2, sessionId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
+        jdbc.execute(c -> {
+            jdbc.update(c, "DELETE FROM presenter_session WHERE presenter_id=? AND session_id=?",
+                    presenterId, sessionId);
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_PRESENTER_SESSION, null, ChangeOp.DELETE);
+            return null;
+        });
     }
 
     @Override
     public void clearSessions(UUID presenterId) {
-
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM presenter_session WHERE presenter_id=?"
-        )) {
-            ps.setObject(1, presenterId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.execute(c -> {
+            clearSessions(c, presenterId);
+            return null;
+        });
     }
 
     // -------------------------------------------------------
@@ -316,89 +306,54 @@ public class JdbcPresenterRepository implements PresenterRepository {
     // -------------------------------------------------------
     @Override
     public long count() {
-        String sql = "SELECT COUNT(*) FROM presenters";
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
-            return 0L;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count presenters", e);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM presenters");
     }
 
     // -------------------------------------------------------
     // INTERNAL METHODS
     // -------------------------------------------------------
-    private void saveSessionLinks(Presenter p) throws SQLException {
+    private void clearSessions(Connection c, UUID presenterId) throws SQLException {
+        jdbc.update(c, "DELETE FROM presenter_session WHERE presenter_id=?", presenterId);
+        CacheChangePublisher.publish(c, CacheRegions.TABLE_PRESENTER_SESSION, null, ChangeOp.DELETE);
+    }
 
-        clearSessions(p.getId());
+    private void saveSessionLinks(Connection c, Presenter p) throws SQLException {
+        clearSessions(c, p.getId());
 
         if (p.getSessionIds() == null) return;
 
-        String sql = """
-            INSERT INTO presenter_session (presenter_id, session_id)
-            VALUES (?,?)
-        """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            for (UUID sessionId : p.getSessionIds()) {
-                ps.setObject(1, p.getId());
-                ps.setObject(2, sessionId);
-                ps.executeUpdate();
-            }
+        List<Object[]> rows = new ArrayList<>();
+        for (UUID sessionId : p.getSessionIds()) {
+            rows.add(new Object[]{p.getId(), sessionId});
+        }
+        if (!rows.isEmpty()) {
+            jdbc.batch(c, "INSERT INTO presenter_session (presenter_id, session_id) VALUES (?,?)", rows);
         }
     }
 
-    private void loadSessionIds(Presenter p) throws SQLException {
-
-        String sql = "SELECT session_id FROM presenter_session WHERE presenter_id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, p.getId());
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                p.getSessionIds().add((UUID) rs.getObject("session_id"));
-            }
+    private Presenter withSessionIds(Presenter p) {
+        if (p != null) {
+            withSessionIds(List.of(p));
         }
+        return p;
     }
 
-    // -------------------------------------------------------
-    // ROW MAPPER
-    // -------------------------------------------------------
-    private Presenter mapRow(ResultSet rs) throws SQLException {
-
-        Presenter p = new Presenter();
-
-        p.setId((UUID) rs.getObject("id"));
-        p.setFullName(rs.getString("full_name"));
-        p.setDateOfBirth(rs.getObject("dob", LocalDate.class));
-        p.setEmail(rs.getString("email"));
-        p.setPhone(rs.getString("phone"));
-        p.setUsername(rs.getString("username"));
-        p.setPasswordHash(rs.getString("password_hash"));
-        p.setRole(Role.PRESENTER);
-
-        // Handle presenter_type - use role column if presenter_type is null
-        String presenterType = rs.getString("presenter_type");
-        if (presenterType == null || presenterType.isEmpty()) {
-            presenterType = rs.getString("role");
+    /**
+     * Session ids for all presenters in one query. A presenter can appear more than
+     * once (findByEvent joins through presenter_session), so every copy is filled.
+     */
+    private List<Presenter> withSessionIds(List<Presenter> presenters) {
+        Set<UUID> ids = new HashSet<>();
+        for (Presenter p : presenters) {
+            ids.add(p.getId());
         }
-        if (presenterType == null || presenterType.isEmpty()) {
-            presenterType = "Keynote Speaker"; // Default
+        Map<UUID, List<UUID>> sessions = jdbc.queryGroups(
+                "SELECT presenter_id, session_id FROM presenter_session WHERE presenter_id = ANY(?)",
+                ids, UUID.class, UUID.class);
+        for (Presenter p : presenters) {
+            p.setSessionIds(sessions.getOrDefault(p.getId(), List.of()));
+            p.getChangeTracker().markPersisted();
         }
-        try {
-            p.setPresenterType(PresenterType.valueOf(presenterType.toUpperCase().replace(" ", "_")));
-        } catch (IllegalArgumentException e) {
-            p.setPresenterType(PresenterType.valueOf("KEYNOTE_SPEAKER")); // Fallback
-        }
-
-        p.setBio(rs.getString("bio"));
-
-        return p;
+        return presenters;
     }
 }
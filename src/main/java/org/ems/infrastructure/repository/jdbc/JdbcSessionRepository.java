@@ -1,19 +1,40 @@
 package org.ems.infrastructure.repository.jdbc;
 
+import org.ems.domain.model.ChangeTracker;
 import org.ems.domain.model.Session;
+import org.ems.domain.repository.ChangeSet;
 import org.ems.domain.repository.SessionRepository;
+import org.ems.infrastructure.cache.CacheChangePublisher;
+import org.ems.infrastructure.cache.CacheRegions;
+import org.ems.infrastructure.cache.ChangeOp;
+import org.ems.infrastructure.repository.mapper.RowMapper;
+import org.ems.infrastructure.repository.mapper.SessionRowMapper;
 
 import java.sql.*;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
 
 public class JdbcSessionRepository implements SessionRepository {
 
+    private static final RowMapper<Session> SESSION = SessionRowMapper.INSTANCE;
+
+    /** Columns written when only some fields of a loaded session changed */
+    private static final PartialUpdate<Session> SESSION_UPDATE = new PartialUpdate<Session>("sessions")
+            .column("eventId", "event_id", Session::getEventId)
+            .column("title", "title", Session::getTitle)
+            .column("description", "description", Session::getDescription)
+            .column("start", "start_time", Session::getStart)
+            .column("end", "end_time", Session::getEnd)
+            .column("venue", "venue", Session::getVenue)
+            .column("capacity", "capacity", Session::getCapacity)
+            .column("materialPath", "material_path", Session::getMaterialPath);
+
     private final Connection conn;
+    private final JdbcExecutor jdbc;
 
     public JdbcSessionRepository(Connection conn) {
         this.conn = conn;
+        this.jdbc = new JdbcExecutor(conn);
     }
 
     // -------------------------------------------------------
@@ -36,22 +57,26 @@ public class JdbcSessionRepository implements SessionRepository {
                 material_path = EXCLUDED.material_path
         """;
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, s.getId());
-            ps.setObject(2, s.getEventId());
-            ps.setString(3, s.getTitle());
-            ps.setString(4, s.getDescription());
-            ps.setObject(5, s.getStart());
-            ps.setObject(6, s.getEnd());
-            ps.setString(7, s.getVenue());
-            ps.setInt(8, s.getCapacity());
-            ps.setString(9, s.getMaterialPath());
-            ps.executeUpdate();
-            savePresenterLinks(s);
-            return s;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to save session", e);
+        ChangeTracker changes = s.getChangeTracker();
+        if (changes.isPersisted() && !changes.hasChanges()) {
+            return s; // Nothing changed since it was loaded or saved
         }
+
+        return jdbc.execute(c -> {
+            boolean fullWrite = !changes.isPersisted()
+                    || !SESSION_UPDATE.update(jdbc, c, s.getId(), s, changes.getChangedFields());
+            if (fullWrite) {
+                jdbc.update(c, sql, s.getId(), s.getEventId(), s.getTitle(), s.getDescription(), s.getStart(),
+                        s.getEnd(), s.getVenue(), s.getCapacity(), s.getMaterialPath());
+            }
+            // Presenter links are only rewritten when presenters were added (or the row is new)
+            if (fullWrite || changes.isChanged("presenterIds")) {
+                savePresenterLinks(s);
+            }
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_SESSIONS, s.getId(), ChangeOp.SAVE);
+            changes.markPersisted();
+            return s;
+        });
     }
 
     // -------------------------------------------------------
@@ -59,25 +84,12 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public void delete(UUID id) {
-        try {
-            // Clear presenter mapping first
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "DELETE FROM presenter_session WHERE session_id=?"
-            )) {
-                ps.setObject(1, id);
-                ps.executeUpdate();
-            }
-
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "DELETE FROM sessions WHERE id=?"
-            )) {
-                ps.setObject(1, id);
-                ps.executeUpdate();
-            }
+        // Clear presenter mapping first
+        jdbc.update("DELETE FROM presenter_session WHERE session_id=?", id);
+        jdbc.update("DELETE FROM sessions WHERE id=?", id);
 
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_SESSIONS, id, ChangeOp.DELETE);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_PRESENTER_SESSION, null, ChangeOp.DELETE);
     }
 
     // -------------------------------------------------------
@@ -85,25 +97,11 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public Session findById(UUID id) {
-
-        String sql = "SELECT * FROM sessions WHERE id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, id);
-            ResultSet rs = ps.executeQuery();
-
-            if (!rs.next()) return null;
-
-            Session s = mapRow(rs);
-
-            loadPresenterIds(s);
-
-            return s;
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+        Session s = jdbc.queryOne("SELECT * FROM sessions WHERE id=?", SESSION, id);
+        if (s != null) {
+            loadPresenterIds(List.of(s));
         }
+        return s;
     }
 
     // -------------------------------------------------------
@@ -111,24 +109,7 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public List<Session> findAll() {
-
-        List<Session> list = new ArrayList<>();
-
-        try (Statement st = conn.createStatement()) {
-
-            ResultSet rs = st.executeQuery("SELECT * FROM sessions");
-
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                loadPresenterIds(s);
-                list.add(s);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withPresenterIds(jdbc.query("SELECT * FROM sessions", SESSION));
     }
 
     // ==========================================================
@@ -140,95 +121,35 @@ public class JdbcSessionRepository implements SessionRepository {
      * OPTIMIZED: Batch load presenters instead of N+1 queries
      */
     public List<Session> findAllOptimized() {
-        List<Session> list = new ArrayList<>();
-
         String sql = """
             SELECT * FROM sessions
             ORDER BY start_time DESC
         """;
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-
-            Map<UUID, Session> sessionMap = new LinkedHashMap<>();
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                sessionMap.put(s.getId(), s);
-            }
-
-            // Load all presenters in one query instead of N queries
-            loadPresenterIdsOptimized(sessionMap);
-            list.addAll(sessionMap.values());
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withPresenterIds(jdbc.query(sql, SESSION));
     }
 
     /**
      * Find sessions by event with optimized presenter loading
      */
     public List<Session> findByEventOptimized(UUID eventId) {
-        List<Session> list = new ArrayList<>();
-
         String sql = """
             SELECT * FROM sessions
             WHERE event_id = ?
             ORDER BY start_time DESC
         """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, eventId);
-            ResultSet rs = ps.executeQuery();
-
-            Map<UUID, Session> sessionMap = new LinkedHashMap<>();
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                sessionMap.put(s.getId(), s);
-            }
-
-            loadPresenterIdsOptimized(sessionMap);
-            list.addAll(sessionMap.values());
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withPresenterIds(jdbc.query(sql, SESSION, eventId));
     }
 
     /**
      * Find sessions by date with optimized presenter loading
      */
     public List<Session> findByDateOptimized(LocalDate date) {
-        List<Session> list = new ArrayList<>();
-
         String sql = """
             SELECT * FROM sessions
             WHERE DATE(start_time) = ?
             ORDER BY start_time ASC
         """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, date);
-            ResultSet rs = ps.executeQuery();
-
-            Map<UUID, Session> sessionMap = new LinkedHashMap<>();
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                sessionMap.put(s.getId(), s);
-            }
-
-            loadPresenterIdsOptimized(sessionMap);
-            list.addAll(sessionMap.values());
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withPresenterIds(jdbc.query(sql, SESSION, date));
     }
 
     // -------------------------------------------------------
@@ -236,27 +157,7 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public List<Session> findByEvent(UUID eventId) {
-
-        List<Session> list = new ArrayList<>();
-
-        String sql = "SELECT * FROM sessions WHERE event_id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, eventId);
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                loadPresenterIds(s);
-                list.add(s);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withPresenterIds(jdbc.query("SELECT * FROM sessions WHERE event_id=?", SESSION, eventId));
     }
 
     // -------------------------------------------------------
@@ -264,30 +165,35 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public List<Session> findByDate(LocalDate date) {
-
-        List<Session> list = new ArrayList<>();
-
         String sql = """
             SELECT * FROM sessions
             WHERE DATE(start_time) = ?
         """;
+        return withPresenterIds(jdbc.query(sql, SESSION, date));
+    }
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, date);
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                loadPresenterIds(s);
-                list.add(s);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+    // -------------------------------------------------------
+    // CHANGES SINCE A WATERMARK (delta sync)
+    // -------------------------------------------------------
+    /**
+     * Changed sessions plus sessions whose presenter links were added or removed
+     * (presenter_session tombstones name the session as ref_id)
+     */
+    @Override
+    public ChangeSet<Session> findChangesSince(long watermark) {
+        ChangeQueries.Window window = ChangeQueries.window(jdbc);
+        if (window.needsFullReload(watermark)) {
+            return ChangeSet.fullReload(findAllOptimized(), window.watermark());
         }
-
-        return list;
+        String sql = """
+            SELECT * FROM sessions WHERE id IN (
+                SELECT id FROM sessions WHERE version >= ?
+                UNION SELECT session_id FROM presenter_session WHERE version >= ?
+                UNION SELECT ref_id FROM sync_tombstones WHERE table_name = 'presenter_session' AND version >= ?)
+        """;
+        List<Session> changed = withPresenterIds(jdbc.query(sql, SESSION, watermark, watermark, watermark));
+        return ChangeSet.delta(changed, ChangeQueries.deletedIds(jdbc, "sessions", watermark), Session::getId,
+                window.watermark());
     }
 
     // -------------------------------------------------------
@@ -295,30 +201,18 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public void assignPresenter(UUID sessionId, UUID presenterId) {
-
         String sql = """
             INSERT INTO presenter_session (presenter_id, session_id)
             VALUES (?, ?)
             ON CONFLICT DO NOTHING
         """;
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, presenterId);
-            ps.setObject(2, sessionId);
-
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update(sql, presenterId, sessionId);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_PRESENTER_SESSION, null, ChangeOp.SAVE);
     }
 
     @Override
     public List<Session> findByPresenter(UUID presenterId, int offset, int limit) {
-
-        List<Session> list = new ArrayList<>();
-
         String sql = """
             SELECT DISTINCT s.*
             FROM sessions s
@@ -327,26 +221,7 @@ public class JdbcSessionRepository implements SessionRepository {
             ORDER BY s.start_time
             LIMIT ? OFFSET ?
         """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, presenterId);
-            ps.setInt(2, limit);
-            ps.setInt(3, offset);
-
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                loadPresenterIds(s);
-                list.add(s);
-            }
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return withPresenterIds(jdbc.query(sql, SESSION, presenterId, limit, offset));
     }
 
 
@@ -355,109 +230,64 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public void clearPresenters(UUID sessionId) {
-
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM presenter_session WHERE session_id=?"
-        )) {
-            ps.setObject(1, sessionId);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update("DELETE FROM presenter_session WHERE session_id=?", sessionId);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_PRESENTER_SESSION, null, ChangeOp.DELETE);
     }
 
     @Override
     public long countByPresenter(UUID presenterId) {
-
         final String sql = """
         SELECT COUNT(*) 
         FROM presenter_session 
         WHERE presenter_id = ?
         """;
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, presenterId);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getLong(1);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count sessions for presenter " + presenterId, e);
-        }
-        return 0L;
+        return jdbc.queryLong(sql, presenterId);
     }
 
 
     // -------------------------------------------------------
     // SAVE Presenter Links (called inside save())
     // -------------------------------------------------------
-    private void savePresenterLinks(Session s) throws SQLException {
+    private void savePresenterLinks(Session s) {
 
         clearPresenters(s.getId());
 
-        if (s.getPresenterIds() == null) return;
+        if (s.getPresenterIds() == null || s.getPresenterIds().isEmpty()) return;
 
         String sql = """
             INSERT INTO presenter_session (presenter_id, session_id)
             VALUES (?, ?)
         """;
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            for (UUID pId : s.getPresenterIds()) {
-                ps.setObject(1, pId);
-                ps.setObject(2, s.getId());
-                ps.executeUpdate();
-            }
+        List<Object[]> rows = new ArrayList<>();
+        for (UUID pId : s.getPresenterIds()) {
+            rows.add(new Object[]{pId, s.getId()});
         }
+        jdbc.batch(sql, rows);
     }
 
     // -------------------------------------------------------
-    // LOAD presenter IDs for session
+    // LOAD presenter IDs for sessions
     // -------------------------------------------------------
-    private void loadPresenterIds(Session s) throws SQLException {
-
-        String sql = "SELECT presenter_id FROM presenter_session WHERE session_id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, s.getId());
-            ResultSet rs = ps.executeQuery();
-
-            while (rs.next()) {
-                s.getPresenterIds()
-                        .add((UUID) rs.getObject("presenter_id"));
-            }
-        }
+    private List<Session> withPresenterIds(List<Session> sessions) {
+        loadPresenterIds(sessions);
+        return sessions;
     }
 
     /**
-     * OPTIMIZED: Load presenter IDs for multiple sessions in one query
-     * Instead of N queries (one per session), load all in 1 query
+     * Presenter IDs of all given sessions in one query
      */
-    private void loadPresenterIdsOptimized(Map<UUID, Session> sessionMap) throws SQLException {
-        if (sessionMap.isEmpty()) return;
-
-        String sessionIds = sessionMap.keySet().stream()
-                .map(id -> "'" + id.toString() + "'")
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-
-        String sql = "SELECT session_id, presenter_id FROM presenter_session WHERE session_id IN (" + sessionIds + ")";
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-
-            while (rs.next()) {
-                UUID sessionId = (UUID) rs.getObject("session_id");
-                UUID presenterId = (UUID) rs.getObject("presenter_id");
-
-                Session session = sessionMap.get(sessionId);
-                if (session != null) {
-                    session.getPresenterIds().add(presenterId);
-                }
-            }
+    private void loadPresenterIds(List<Session> sessions) {
+        if (sessions.isEmpty()) return;
+
+        Set<UUID> ids = new HashSet<>();
+        sessions.forEach(s -> ids.add(s.getId()));
+        Map<UUID, List<UUID>> presenterIds = jdbc.queryGroups(
+                "SELECT session_id, presenter_id FROM presenter_session WHERE session_id = ANY(?)",
+                ids, UUID.class, UUID.class);
+        for (Session s : sessions) {
+            s.setPresenterIds(presenterIds.getOrDefault(s.getId(), List.of()));
+            s.getChangeTracker().markPersisted();
         }
     }
 
@@ -466,16 +296,7 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public long count() {
-        String sql = "SELECT COUNT(*) FROM sessions";
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
-            return 0L;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count sessions", e);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM sessions");
     }
 
     // -------------------------------------------------------
@@ -483,31 +304,9 @@ public class JdbcSessionRepository implements SessionRepository {
     // -------------------------------------------------------
     @Override
     public List<Session> findPage(int offset, int limit) {
-        List<Session> list = new ArrayList<>();
-
-        String sql = "SELECT * FROM sessions ORDER BY start_time DESC LIMIT ? OFFSET ?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, limit);
-            ps.setInt(2, offset);
-
-            ResultSet rs = ps.executeQuery();
-
-            Map<UUID, Session> sessionMap = new LinkedHashMap<>();
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                sessionMap.put(s.getId(), s);
-            }
-
-            // Load presenter IDs for this page only (optimized IN query)
-            loadPresenterIdsOptimized(sessionMap);
-            list.addAll(sessionMap.values());
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to page sessions", e);
-        }
-
-        return list;
+        // Presenter IDs are loaded for this page only
+        return withPresenterIds(jdbc.query(
+                "SELECT * FROM sessions ORDER BY start_time DESC, id DESC LIMIT ? OFFSET ?", SESSION, limit, offset));
     }
 
     // -------------------------------------------------------
@@ -520,24 +319,9 @@ public class JdbcSessionRepository implements SessionRepository {
             return result;
         }
 
-        String inClause = eventIds.stream()
-                .map(id -> "'" + id.toString() + "'")
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-
-        String sql = "SELECT event_id, COUNT(*) AS cnt FROM sessions WHERE event_id IN (" + inClause + ") GROUP BY event_id";
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            while (rs.next()) {
-                UUID eventId = (UUID) rs.getObject("event_id");
-                int cnt = rs.getInt("cnt");
-                result.put(eventId, cnt);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count sessions by event ids", e);
-        }
-
+        String sql = "SELECT event_id, COUNT(*) AS cnt FROM sessions WHERE event_id = ANY(?) GROUP BY event_id";
+        jdbc.forEach(sql, RowMapper.byIndex(rs -> rs),
+                rs -> result.put(rs.getObject(1, UUID.class), rs.getInt(2)), eventIds);
         return result;
     }
 
@@ -552,35 +336,30 @@ public class JdbcSessionRepository implements SessionRepository {
             ON CONFLICT DO NOTHING
         """;
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, attendeeId);
-            ps.setObject(2, sessionId);
-            ps.executeUpdate();
-            System.out.println("✓ Attendee " + attendeeId + " registered for session " + sessionId);
-        } catch (SQLException e) {
+        try {
+            jdbc.update(sql, attendeeId, sessionId);
+        } catch (RuntimeException e) {
             System.err.println("Error registering attendee for session: " + e.getMessage());
-            throw new RuntimeException("Failed to register attendee for session", e);
+            throw e;
         }
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_ATTENDEE_SESSION, attendeeId, ChangeOp.SAVE);
+        System.out.println("✓ Attendee " + attendeeId + " registered for session " + sessionId);
     }
 
     @Override
     public void unregisterAttendeeFromSession(UUID attendeeId, UUID sessionId) {
-        String sql = "DELETE FROM attendee_session WHERE attendee_id = ? AND session_id = ?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, attendeeId);
-            ps.setObject(2, sessionId);
-            ps.executeUpdate();
-            System.out.println("✓ Attendee " + attendeeId + " unregistered from session " + sessionId);
-        } catch (SQLException e) {
+        try {
+            jdbc.update("DELETE FROM attendee_session WHERE attendee_id = ? AND session_id = ?", attendeeId, sessionId);
+        } catch (RuntimeException e) {
             System.err.println("Error unregistering attendee from session: " + e.getMessage());
-            throw new RuntimeException("Failed to unregister attendee from session", e);
+            throw e;
         }
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_ATTENDEE_SESSION, attendeeId, ChangeOp.DELETE);
+        System.out.println("✓ Attendee " + attendeeId + " unregistered from session " + sessionId);
     }
 
     @Override
     public List<Session> findSessionsForAttendee(UUID attendeeId) {
-        List<Session> list = new ArrayList<>();
         String sql = """
             SELECT s.* FROM sessions s
             INNER JOIN attendee_session ats ON s.id = ats.session_id
@@ -588,83 +367,24 @@ public class JdbcSessionRepository implements SessionRepository {
             ORDER BY s.start_time ASC
         """;
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, attendeeId);
-            ResultSet rs = ps.executeQuery();
-
-            Map<UUID, Session> sessionMap = new LinkedHashMap<>();
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                sessionMap.put(s.getId(), s);
-            }
-
-            // Load presenter IDs
-            if (!sessionMap.isEmpty()) {
-                loadPresenterIdsOptimized(sessionMap);
-            }
-
-            list.addAll(sessionMap.values());
-            System.out.println("✓ Found " + list.size() + " sessions for attendee " + attendeeId);
-
-        } catch (SQLException e) {
-            System.err.println("Error finding sessions for attendee: " + e.getMessage());
-            throw new RuntimeException("Failed to find sessions for attendee", e);
-        }
-
+        List<Session> list = withPresenterIds(jdbc.query(sql, SESSION, attendeeId));
+        System.out.println("✓ Found " + list.size() + " sessions for attendee " + attendeeId);
         return list;
     }
 
     @Override
     public List<Session> findSessionsByAttendeeAndEvent(UUID attendeeId, UUID eventId) {
-        List<Session> list = new ArrayList<>();
         String sql = """
             SELECT s.* FROM sessions s
             INNER JOIN attendee_session ats ON s.id = ats.session_id
             WHERE ats.attendee_id = ? AND s.event_id = ?
             ORDER BY s.start_time ASC
         """;
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, attendeeId);
-            ps.setObject(2, eventId);
-            ResultSet rs = ps.executeQuery();
-            Map<UUID, Session> sessionMap = new LinkedHashMap<>();
-            while (rs.next()) {
-                Session s = mapRow(rs);
-                sessionMap.put(s.getId(), s);
-            }
-            if (!sessionMap.isEmpty()) {
-                loadPresenterIdsOptimized(sessionMap);
-            }
-            list.addAll(sessionMap.values());
-        } catch (SQLException e) {
-            System.err.println("Error finding sessions for attendee and event: " + e.getMessage());
-            throw new RuntimeException("Failed to find sessions for attendee and event", e);
-        }
-        return list;
+        return withPresenterIds(jdbc.query(sql, SESSION, attendeeId, eventId));
     }
 
     @Override
     public void cancelAttendeeSession(UUID attendeeId, UUID sessionId) {
         unregisterAttendeeFromSession(attendeeId, sessionId);
     }
-
-    // -------------------------------------------------------
-    // MAPPER
-    // -------------------------------------------------------
-    private Session mapRow(ResultSet rs) throws SQLException {
-
-        Session s = new Session();
-
-        s.setId((UUID) rs.getObject("id"));
-        s.setEventId((UUID) rs.getObject("event_id"));
-        s.setTitle(rs.getString("title"));
-        s.setDescription(rs.getString("description"));
-        s.setStart(rs.getObject("start_time", LocalDateTime.class));
-        s.setEnd(rs.getObject("end_time", LocalDateTime.class));
-        s.setVenue(rs.getString("venue"));
-        s.setCapacity(rs.getInt("capacity"));
-        s.setMaterialPath(rs.getString("material_path"));
-
-        return s;
-    }
 }
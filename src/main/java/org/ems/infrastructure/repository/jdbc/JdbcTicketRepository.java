@@ -3,18 +3,63 @@ package org.ems.infrastructure.repository.jdbc;
 import org.ems.domain.model.enums.PaymentStatus;
 import org.ems.domain.model.enums.TicketStatus;
 import org.ems.domain.model.enums.TicketType;
+import org.ems.domain.model.ChangeTracker;
 import org.ems.domain.model.Ticket;
+import org.ems.domain.repository.ChangeSet;
 import org.ems.domain.repository.TicketRepository;
+import org.ems.infrastructure.cache.CacheChangePublisher;
+import org.ems.infrastructure.cache.CacheRegions;
+import org.ems.infrastructure.cache.ChangeOp;
+import org.ems.infrastructure.repository.mapper.RowMapper;
+import org.ems.infrastructure.repository.mapper.TicketRowMapper;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.*;
 
 public class JdbcTicketRepository implements TicketRepository {
 
+    private static final RowMapper<Ticket> TICKET = TicketRowMapper.FULL;
+
+    /** Columns written when only some fields of a loaded ticket changed */
+    private static final PartialUpdate<Ticket> TICKET_UPDATE = new PartialUpdate<Ticket>("tickets")
+            .column("attendeeId", "attendee_id", Ticket::getAttendeeId)
+            .column("eventId", "event_id", Ticket::getEventId)
+            .column("type", "type", Ticket::getType)
+            .column("price", "price", Ticket::getPrice)
+            .column("paymentStatus", "payment_status", Ticket::getPaymentStatus)
+            .column("ticketStatus", "status", Ticket::getTicketStatus)
+            .column("qrCodeData", "qr_code_data", Ticket::getQrCodeData);
+
+    private static final RowMapper<TemplateAssignmentStats> ASSIGNMENT_STATS = columns -> {
+        int eventId = columns.index("event_id");
+        int type = columns.index("type");
+        int price = columns.index("price");
+        int assignedCount = columns.index("assigned_count");
+        return rs -> {
+            String typeStr = rs.getString(type);
+            return new TemplateAssignmentStats(
+                    rs.getObject(eventId, UUID.class), null,
+                    typeStr != null ? TicketType.valueOf(typeStr.toUpperCase()) : TicketType.GENERAL,
+                    rs.getBigDecimal(price), rs.getLong(assignedCount));
+        };
+    };
+
+    /** key, name, then the summed rollup measures */
+    private static final RowMapper<SalesRollup> SALES_ROLLUP = RowMapper.byIndex(rs -> new SalesRollup(
+            rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getLong(5),
+            rs.getBigDecimal(6), rs.getBigDecimal(7)));
+
+    private static final String SALES_MEASURES = """
+            SUM(r.ticket_count), SUM(r.used_count), SUM(r.paid_count), SUM(r.gross_amount), SUM(r.paid_revenue)
+            """;
+
     private final Connection conn;
+    private final JdbcExecutor jdbc;
 
     public JdbcTicketRepository(Connection conn) {
         this.conn = conn;
+        this.jdbc = new JdbcExecutor(conn);
     }
 
     // ---------------------------------------------------------
@@ -37,23 +82,22 @@ public class JdbcTicketRepository implements TicketRepository {
                         qr_code_data   = EXCLUDED.qr_code_data
                 """;
 
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, t.getId());
-            ps.setObject(2, t.getAttendeeId());
-            ps.setObject(3, t.getEventId());
-            ps.setString(4, t.getType().name());
-            ps.setBigDecimal(5, t.getPrice());
-            ps.setString(6, t.getPaymentStatus().name());
-            ps.setString(7, t.getTicketStatus().name());
-            ps.setString(8, t.getQrCodeData());
+        ChangeTracker changes = t.getChangeTracker();
+        if (changes.isPersisted() && !changes.hasChanges()) {
+            return t; // Nothing changed since it was loaded or saved
+        }
 
-            ps.executeUpdate();
+        return jdbc.execute(c -> {
+            // A loaded ticket only writes its changed columns (e.g. status on check-in)
+            if (!changes.isPersisted()
+                    || !TICKET_UPDATE.update(jdbc, c, t.getId(), t, changes.getChangedFields())) {
+                jdbc.update(c, sql, t.getId(), t.getAttendeeId(), t.getEventId(), t.getType(), t.getPrice(),
+                        t.getPaymentStatus(), t.getTicketStatus(), t.getQrCodeData());
+            }
+            CacheChangePublisher.publish(c, CacheRegions.TABLE_TICKETS, t.getId(), ChangeOp.SAVE);
+            changes.markPersisted();
             return t;
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to save ticket", e);
-        }
+        });
     }
 
     // ---------------------------------------------------------
@@ -61,273 +105,94 @@ public class JdbcTicketRepository implements TicketRepository {
     // ---------------------------------------------------------
     @Override
     public void delete(UUID id) {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "DELETE FROM tickets WHERE id=?"
-        )) {
-            ps.setObject(1, id);
-            ps.executeUpdate();
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        jdbc.update("DELETE FROM tickets WHERE id=?", id);
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_TICKETS, id, ChangeOp.DELETE);
     }
 
     // ---------------------------------------------------------
-    // FIND BY ID
+    // FIND
     // ---------------------------------------------------------
     @Override
     public Ticket findById(UUID id) {
-
-        String sql = "SELECT * FROM tickets WHERE id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setObject(1, id);
-            ResultSet rs = ps.executeQuery();
-
-            if (!rs.next()) return null;
-
-            return mapRow(rs);
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        return jdbc.queryOne("SELECT * FROM tickets WHERE id=?", TICKET, id);
     }
 
-    // ---------------------------------------------------------
-    // FIND ALL
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findAll() {
-
-        List<Ticket> list = new ArrayList<>();
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery("SELECT * FROM tickets")) {
-
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets", TICKET);
     }
 
-    // ---------------------------------------------------------
-    // FIND BY ATTENDEE
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findByAttendee(UUID attendeeId) {
-
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE attendee_id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, attendeeId);
-
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE attendee_id=?", TICKET, attendeeId);
     }
 
-    // ---------------------------------------------------------
-    // FIND BY EVENT
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findByEvent(UUID eventId) {
-
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE event_id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, eventId);
-
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE event_id=?", TICKET, eventId);
     }
 
-    // ---------------------------------------------------------
-    // FIND BY SESSION
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findBySession(UUID sessionId) {
-
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE session_id=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, sessionId);
-
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE session_id=?", TICKET, sessionId);
     }
 
-    // ---------------------------------------------------------
-    // FIND BY TICKET TYPE
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findByType(TicketType type) {
-
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE type=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, type.name());
-
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE type=?", TICKET, type);
     }
 
-    // ---------------------------------------------------------
-    // FIND BY TICKET STATUS
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findByStatus(TicketStatus status) {
+        return jdbc.query("SELECT * FROM tickets WHERE status=?", TICKET, status);
+    }
 
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE status=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, status.name());
-
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+    @Override
+    public List<Ticket> findByPaymentStatus(PaymentStatus status) {
+        return jdbc.query("SELECT * FROM tickets WHERE payment_status=?", TICKET, status);
     }
 
     // ---------------------------------------------------------
-    // FIND BY PAYMENT STATUS
+    // CHANGES SINCE A WATERMARK (delta sync)
     // ---------------------------------------------------------
     @Override
-    public List<Ticket> findByPaymentStatus(PaymentStatus status) {
-
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE payment_status=?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, status.name());
-
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+    public ChangeSet<Ticket> findChangesSince(long watermark, UUID attendeeId) {
+        ChangeQueries.Window window = ChangeQueries.window(jdbc);
+        if (window.needsFullReload(watermark)) {
+            return ChangeSet.fullReload(jdbc.query("SELECT * FROM tickets WHERE attendee_id IS NULL OR attendee_id = ?",
+                    TICKET, attendeeId), window.watermark());
         }
-
-        return list;
+        List<Ticket> changed = jdbc.query(
+                "SELECT * FROM tickets WHERE version >= ? AND (attendee_id IS NULL OR attendee_id = ?)",
+                TICKET, watermark, attendeeId);
+        // Tickets that left this attendee or stopped being templates come back as tombstones
+        return ChangeSet.delta(changed, ChangeQueries.deletedIds(jdbc, "tickets", watermark, attendeeId),
+                Ticket::getId, window.watermark());
     }
 
     // ---------------------------------------------------------
-    // FIND TEMPLATES
+    // TEMPLATES / ASSIGNED
     // ---------------------------------------------------------
     @Override
     public List<Ticket> findTemplates() {
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE attendee_id IS NULL";
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE attendee_id IS NULL", TICKET);
     }
 
-    // ---------------------------------------------------------
-    // FIND ASSIGNED
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findAssigned() {
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE attendee_id IS NOT NULL";
-
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-
-            while (rs.next()) list.add(mapRow(rs));
-
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE attendee_id IS NOT NULL", TICKET);
     }
 
-    // ---------------------------------------------------------
-    // FIND TEMPLATES PAGE
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findTemplatesPage(int offset, int limit) {
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE attendee_id IS NULL ORDER BY created_at DESC NULLS LAST, id DESC LIMIT ? OFFSET ?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, limit);
-            ps.setInt(2, offset);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) list.add(mapRow(rs));
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE attendee_id IS NULL ORDER BY created_at DESC NULLS LAST, id DESC LIMIT ? OFFSET ?",
+                TICKET, limit, offset);
     }
 
-    // ---------------------------------------------------------
-    // FIND ASSIGNED PAGE
-    // ---------------------------------------------------------
     @Override
     public List<Ticket> findAssignedPage(int offset, int limit) {
-        List<Ticket> list = new ArrayList<>();
-        String sql = "SELECT * FROM tickets WHERE attendee_id IS NOT NULL ORDER BY created_at DESC NULLS LAST, id DESC LIMIT ? OFFSET ?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, limit);
-            ps.setInt(2, offset);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) list.add(mapRow(rs));
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return list;
+        return jdbc.query("SELECT * FROM tickets WHERE attendee_id IS NOT NULL ORDER BY created_at DESC NULLS LAST, id DESC LIMIT ? OFFSET ?",
+                TICKET, limit, offset);
     }
 
     // ---------------------------------------------------------
@@ -335,148 +200,97 @@ public class JdbcTicketRepository implements TicketRepository {
     // ---------------------------------------------------------
     @Override
     public long count() {
-        String sql = "SELECT COUNT(*) FROM tickets";
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
-            return 0L;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count tickets", e);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM tickets");
     }
 
     @Override
     public long countTemplates() {
-        String sql = "SELECT COUNT(*) FROM tickets WHERE attendee_id IS NULL";
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            return rs.next() ? rs.getLong(1) : 0L;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count template tickets", e);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM tickets WHERE attendee_id IS NULL");
     }
 
     @Override
     public long countAssigned() {
-        String sql = "SELECT COUNT(*) FROM tickets WHERE attendee_id IS NOT NULL";
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            return rs.next() ? rs.getLong(1) : 0L;
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to count assigned tickets", e);
-        }
+        return jdbc.queryLong("SELECT COUNT(*) FROM tickets WHERE attendee_id IS NOT NULL");
     }
 
     @Override
-    public List<TemplateAssignmentStats> findAssignedStatsForTemplates() {
+    public AssignedSummary summarizeAssigned() {
         String sql = """
-                SELECT event_id,
-                       type,
-                       price,
-                       COUNT(*) AS assigned_count
+                SELECT COUNT(*),
+                       COUNT(*) FILTER (WHERE status = 'ACTIVE'),
+                       COALESCE(SUM(price), 0)
                 FROM tickets
                 WHERE attendee_id IS NOT NULL
-                GROUP BY event_id, type, price
                 """;
+        AssignedSummary summary = jdbc.queryOne(sql,
+                RowMapper.byIndex(rs -> new AssignedSummary(rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3))));
+        return summary != null ? summary : new AssignedSummary(0, 0, java.math.BigDecimal.ZERO);
+    }
 
-        List<TemplateAssignmentStats> stats = new ArrayList<>();
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            while (rs.next()) {
-                UUID eventId = (UUID) rs.getObject("event_id");
-                String typeStr = rs.getString("type");
-                TicketType type = typeStr != null ? TicketType.valueOf(typeStr.toUpperCase()) : TicketType.GENERAL;
-                java.math.BigDecimal price = rs.getBigDecimal("price");
-                long assignedCount = rs.getLong("assigned_count");
-                stats.add(new TemplateAssignmentStats(eventId, null, type, price, assignedCount));
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load assigned stats for templates", e);
-        }
-        return stats;
+    @Override
+    public List<TemplateAssignmentStats> findAssignedStatsForTemplates() {
+        // One row per template, kept exact by triggers on tickets (see schema.sql)
+        String sql = """
+                SELECT event_id, type, price, assigned_count
+                FROM ticket_template_stats
+                WHERE assigned_count > 0
+                """;
+        return jdbc.query(sql, ASSIGNMENT_STATS);
     }
 
     // ---------------------------------------------------------
-    // MAPPER - FULL ROW
+    // SALES ROLLUPS (ticket_sales_*, kept exact by triggers on tickets)
     // ---------------------------------------------------------
-    private Ticket mapRow(ResultSet rs) throws SQLException {
-
-        Ticket t = new Ticket();
-
-        t.setId((UUID) rs.getObject("id"));
-        t.setAttendeeId((UUID) rs.getObject("attendee_id"));
-        t.setEventId((UUID) rs.getObject("event_id"));
-        // Note: sessionId removed - tickets are event-level only
-
-        // Handle TicketType safely
-        try {
-            String typeStr = rs.getString("type");
-            if (typeStr != null) {
-                t.setType(TicketType.valueOf(typeStr.toUpperCase()));
-            } else {
-                t.setType(TicketType.GENERAL); // Default
-            }
-        } catch (IllegalArgumentException e) {
-            System.err.println("Unknown ticket type: " + rs.getString("type") + ", using GENERAL");
-            t.setType(TicketType.GENERAL); // Fallback
+    @Override
+    public List<SalesRollup> findSalesTrend(SalesPeriod period, UUID eventId, LocalDate from, LocalDate to) {
+        // All events: one row per day and type; one event: its own days only
+        StringBuilder sql = new StringBuilder("SELECT date_trunc('")
+                .append(period.name().toLowerCase()).append("', r.day)::date::text, NULL, ")
+                .append(SALES_MEASURES)
+                .append(eventId == null ? " FROM ticket_sales_daily_totals r" : " FROM ticket_sales_daily r")
+                .append(" WHERE r.day <> DATE '1970-01-01'"); // Undated tickets
+        List<Object> params = new ArrayList<>();
+        if (eventId != null) {
+            sql.append(" AND r.event_id = ?");
+            params.add(eventId);
         }
-
-        t.setPrice(rs.getBigDecimal("price"));
-
-        // Handle PaymentStatus safely
-        try {
-            String paymentStr = rs.getString("payment_status");
-            if (paymentStr != null) {
-                t.setPaymentStatus(PaymentStatus.valueOf(paymentStr.toUpperCase()));
-            } else {
-                t.setPaymentStatus(PaymentStatus.UNPAID); // Default
-            }
-        } catch (IllegalArgumentException e) {
-            System.err.println("Unknown payment status: " + rs.getString("payment_status") + ", using UNPAID");
-            t.setPaymentStatus(PaymentStatus.UNPAID); // Fallback
+        if (from != null) {
+            sql.append(" AND r.day >= ?");
+            params.add(from);
         }
-
-        // Handle TicketStatus safely
-        try {
-            String statusStr = rs.getString("status");
-            if (statusStr != null) {
-                t.setTicketStatus(TicketStatus.valueOf(statusStr.toUpperCase()));
-            } else {
-                t.setTicketStatus(TicketStatus.ACTIVE); // Default
-            }
-        } catch (IllegalArgumentException e) {
-            System.err.println("Unknown ticket status: " + rs.getString("status") + ", using ACTIVE");
-            t.setTicketStatus(TicketStatus.ACTIVE); // Fallback
+        if (to != null) {
+            sql.append(" AND r.day < ?");
+            params.add(to);
         }
+        sql.append(" GROUP BY 1 ORDER BY 1");
+        return jdbc.query(sql.toString(), SALES_ROLLUP, params.toArray());
+    }
 
-        t.setQrCodeData(rs.getString("qr_code_data"));
-        t.setCreatedAt(rs.getTimestamp("created_at"));
-
-        return t;
+    @Override
+    public List<SalesRollup> findSalesByEvent() {
+        // Tickets of deleted events are filed under the nil UUID
+        String sql = """
+                SELECT r.event_id::text, e.name, %s
+                FROM ticket_sales_event_totals r
+                LEFT JOIN events e ON e.id = r.event_id
+                WHERE r.event_id <> '00000000-0000-0000-0000-000000000000'::uuid
+                GROUP BY r.event_id, e.name
+                HAVING SUM(r.ticket_count) > 0
+                ORDER BY 3 DESC, 1
+                """.formatted(SALES_MEASURES);
+        return jdbc.query(sql, SALES_ROLLUP);
     }
 
-    // ---------------------------------------------------------
-    // MAPPER - LITE (for templates pagination - minimal fields)
-    // ---------------------------------------------------------
-    /**
-     * Optimized mapper for template pagination.
-     * Only populates essential fields: id, eventId, type, price, createdAt.
-     * Skips null-checking and enum validation to reduce CPU cost.
-     */
-    private Ticket mapRowLite(ResultSet rs) throws SQLException {
-        Ticket t = new Ticket();
-        t.setId((UUID) rs.getObject("id"));
-        t.setEventId((UUID) rs.getObject("event_id"));
-
-        String typeStr = rs.getString("type");
-        t.setType(typeStr != null ? TicketType.valueOf(typeStr) : TicketType.GENERAL);
-
-        t.setPrice(rs.getBigDecimal("price"));
-        t.setCreatedAt(rs.getTimestamp("created_at"));
-
-        return t;
+    @Override
+    public List<SalesRollup> findSalesByType() {
+        String sql = """
+                SELECT r.type, NULL, %s
+                FROM ticket_sales_event_totals r
+                GROUP BY r.type
+                HAVING SUM(r.ticket_count) > 0
+                ORDER BY 1
+                """.formatted(SALES_MEASURES);
+        return jdbc.query(sql, SALES_ROLLUP);
     }
 
     // ---------------------------------------------------------
@@ -484,50 +298,25 @@ public class JdbcTicketRepository implements TicketRepository {
     // ---------------------------------------------------------
     @Override
     public List<Ticket> findTemplatesByCursor(Timestamp lastCreatedAt, UUID lastId, int limit) {
-        List<Ticket> list = new ArrayList<>();
-
-        String sql;
         if (lastCreatedAt == null) {
             // First page: no cursor - select only needed columns for display + aggregation
-            sql = """
+            return jdbc.query("""
                 SELECT id, event_id, type, price, created_at
                 FROM tickets
                 WHERE attendee_id IS NULL
                 ORDER BY created_at DESC NULLS LAST, id DESC
                 LIMIT ?
-                """;
-        } else {
-            // Subsequent pages: use keyset cursor - optimized column selection
-            sql = """
+                """, TicketRowMapper.TEMPLATE, limit);
+        }
+        // Subsequent pages: use keyset cursor - optimized column selection
+        return jdbc.query("""
                 SELECT id, event_id, type, price, created_at
                 FROM tickets
                 WHERE attendee_id IS NULL
                   AND (created_at, id) < (?, ?)
                 ORDER BY created_at DESC NULLS LAST, id DESC
                 LIMIT ?
-                """;
-        }
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            int paramIndex = 1;
-
-            if (lastCreatedAt != null) {
-                ps.setTimestamp(paramIndex++, lastCreatedAt);
-                ps.setObject(paramIndex++, lastId);
-            }
-
-            ps.setInt(paramIndex, limit);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    list.add(mapRowLite(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find templates by cursor", e);
-        }
-
-        return list;
+                """, TicketRowMapper.TEMPLATE, lastCreatedAt, lastId, limit);
     }
 
     // ---------------------------------------------------------
@@ -535,54 +324,24 @@ public class JdbcTicketRepository implements TicketRepository {
     // ---------------------------------------------------------
     @Override
     public List<Ticket> findAssignedByCursor(Timestamp lastCreatedAt, UUID lastId, int limit) {
-        List<Ticket> list = new ArrayList<>();
-
-        String sql;
         if (lastCreatedAt == null) {
             // First page: no cursor - select all columns for assigned tickets display
-            sql = """
+            return jdbc.query("""
                 SELECT id, attendee_id, event_id, type, price, payment_status, status, qr_code_data, created_at
                 FROM tickets
                 WHERE attendee_id IS NOT NULL
                 ORDER BY created_at DESC NULLS LAST, id DESC
                 LIMIT ?
-                """;
-        } else {
-            // Subsequent pages: use keyset cursor
-            sql = """
+                """, TICKET, limit);
+        }
+        // Subsequent pages: use keyset cursor
+        return jdbc.query("""
                 SELECT id, attendee_id, event_id, type, price, payment_status, status, qr_code_data, created_at
                 FROM tickets
                 WHERE attendee_id IS NOT NULL
                   AND (created_at, id) < (?, ?)
                 ORDER BY created_at DESC NULLS LAST, id DESC
                 LIMIT ?
-                """;
-        }
-
-        long startTime = System.currentTimeMillis();
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            int paramIndex = 1;
-
-            if (lastCreatedAt != null) {
-                ps.setTimestamp(paramIndex++, lastCreatedAt);
-                ps.setObject(paramIndex++, lastId);
-            }
-
-            ps.setInt(paramIndex, limit);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    list.add(mapRow(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find assigned by cursor", e);
-        }
-
-        long endTime = System.currentTimeMillis();
-        System.out.println("[Perf] findAssignedByCursor executed in " + (endTime - startTime) + " ms, rows=" + list.size());
-
-        return list;
+                """, TICKET, lastCreatedAt, lastId, limit);
     }
 }
@@ -0,0 +1,208 @@
+package org.ems.infrastructure.repository.jdbc;
+
+import org.ems.application.dto.user.UserDisplayRowDTO;
+import org.ems.domain.model.Attendee;
+import org.ems.domain.model.Person;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.enums.Role;
+import org.ems.domain.repository.UserRepository;
+import org.ems.infrastructure.cache.CacheChangePublisher;
+import org.ems.infrastructure.cache.CacheRegions;
+import org.ems.infrastructure.cache.ChangeOp;
+import org.ems.infrastructure.repository.mapper.PersonRowMapper;
+import org.ems.infrastructure.repository.mapper.RowMapper;
+
+import java.sql.*;
+import java.util.*;
+
+/**
+ * JdbcUserRepository - Role-independent access to the persons table
+ * Attendee/presenter specific columns stay in their own repositories.
+ *
+ * @author EMS Team
+ */
+public class JdbcUserRepository implements UserRepository {
+
+    /** Shorter search terms use prefix matching (btree); longer ones substring (pg_trgm) */
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private static final String DIRECTORY_COLUMNS =
+            "id, username, full_name, email, phone, role, dob, created_at";
+
+    /**
+     * Maps the persons columns only; subtype-specific fields are not loaded
+     */
+    private static final RowMapper<Person> PERSON = columns -> {
+        PersonRowMapper person = new PersonRowMapper(columns);
+        int roleColumn = columns.index("role");
+        return rs -> {
+            Role role = Role.valueOf(rs.getString(roleColumn));
+            Person p = switch (role) {
+                case ATTENDEE -> new Attendee();
+                case PRESENTER -> new Presenter();
+                default -> new Person() {};
+            };
+            person.read(rs, p);
+            p.setRole(role);
+            p.getChangeTracker().markPersisted();
+            return p;
+        };
+    };
+
+    private static final RowMapper<UserDisplayRowDTO> DIRECTORY_ROW = columns -> {
+        int id = columns.index("id");
+        int username = columns.index("username");
+        int fullName = columns.index("full_name");
+        int email = columns.index("email");
+        int phone = columns.index("phone");
+        int role = columns.index("role");
+        int dob = columns.index("dob");
+        int createdAt = columns.index("created_at");
+        return rs -> {
+            String dobText = rs.getString(dob);
+            String createdText = rs.getString(createdAt);
+            return new UserDisplayRowDTO(
+                    rs.getString(id),
+                    rs.getString(username),
+                    rs.getString(fullName),
+                    rs.getString(email),
+                    rs.getString(phone),
+                    rs.getString(role),
+                    dobText != null ? dobText : "N/A",
+                    createdText != null ? createdText : "N/A"
+            );
+        };
+    };
+
+    private final Connection conn;
+    private final JdbcExecutor jdbc;
+
+    public JdbcUserRepository(Connection conn) {
+        this.conn = conn;
+        this.jdbc = new JdbcExecutor(conn);
+    }
+
+    // ---------------------------------------------------------
+    // FIND
+    // ---------------------------------------------------------
+    @Override
+    public Person findById(UUID id) {
+        return jdbc.queryOne("SELECT * FROM persons WHERE id = ?", PERSON, id);
+    }
+
+    @Override
+    public Person findByUsername(String username) {
+        return jdbc.queryOne("SELECT * FROM persons WHERE username = ?", PERSON, username);
+    }
+
+    @Override
+    public List<Person> findAll() {
+        return jdbc.query("SELECT * FROM persons ORDER BY username", PERSON);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return jdbc.exists("SELECT 1 FROM persons WHERE username = ?", username);
+    }
+
+    @Override
+    public long count() {
+        return jdbc.queryLong("SELECT COUNT(*) FROM persons");
+    }
+
+    // ---------------------------------------------------------
+    // SAVE / DELETE (persons row only)
+    // ---------------------------------------------------------
+    @Override
+    public Person save(Person p) {
+        String sql = """
+            INSERT INTO persons
+            (id, full_name, dob, email, phone, username, password_hash, role)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+              full_name = EXCLUDED.full_name,
+              dob = EXCLUDED.dob,
+              email = EXCLUDED.email,
+              phone = EXCLUDED.phone,
+              username = EXCLUDED.username,
+              password_hash = EXCLUDED.password_hash,
+              role = EXCLUDED.role
+        """;
+
+        jdbc.update(sql, p.getId(), p.getFullName(), p.getDateOfBirth(), p.getEmail(), p.getPhone(),
+                p.getUsername(), p.getPasswordHash(), p.getRole());
+
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_PERSONS, p.getId(), ChangeOp.SAVE);
+        return p;
+    }
+
+    @Override
+    public void delete(UUID id) {
+        jdbc.update("DELETE FROM persons WHERE id = ?", id);
+
+        // attendees/presenters rows cascade
+        CacheChangePublisher.publish(conn, CacheRegions.TABLE_PERSONS, id, ChangeOp.DELETE);
+    }
+
+    // ---------------------------------------------------------
+    // DIRECTORY (filtered keyset paging)
+    // ---------------------------------------------------------
+    /**
+     * Keyset paging on the unique username column: each page is an index range scan
+     * starting after the previous page's last username, independent of page depth.
+     * One extra row is fetched to know whether a next page exists.
+     */
+    @Override
+    public UserPage findDirectoryPage(String roleFilter, String searchTerm, String afterUsername, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT " + DIRECTORY_COLUMNS + " FROM persons");
+        sql.append(directoryWhere(roleFilter, searchTerm, params));
+        if (afterUsername != null) {
+            sql.append(" AND username > ?");
+            params.add(afterUsername);
+        }
+        sql.append(" ORDER BY username LIMIT ?");
+        params.add(limit + 1);
+
+        List<UserDisplayRowDTO> rows = jdbc.query(sql.toString(), DIRECTORY_ROW, params.toArray());
+        boolean more = rows.size() > limit;
+        if (more) {
+            rows.remove(limit);
+        }
+        String next = more ? rows.get(rows.size() - 1).getUsername() : null;
+        return new UserPage(rows, next);
+    }
+
+    @Override
+    public long countDirectory(String roleFilter, String searchTerm) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM persons" + directoryWhere(roleFilter, searchTerm, params);
+        return jdbc.queryLong(sql, params.toArray());
+    }
+
+    private static String directoryWhere(String roleFilter, String searchTerm, List<Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE 1=1");
+
+        if (roleFilter != null && !roleFilter.isEmpty() && !"ALL".equals(roleFilter)) {
+            where.append(" AND role = ?");
+            params.add(roleFilter);
+        }
+
+        String term = searchTerm != null ? searchTerm.trim().toLowerCase() : "";
+        if (!term.isEmpty()) {
+            String escaped = escapeLike(term);
+            String pattern = term.length() < MIN_SUBSTRING_LENGTH ? escaped + "%" : "%" + escaped + "%";
+            where.append(" AND (LOWER(full_name) LIKE ? ESCAPE '\\'" +
+                    " OR LOWER(username) LIKE ? ESCAPE '\\'" +
+                    " OR LOWER(email) LIKE ? ESCAPE '\\')");
+            params.add(pattern);
+            params.add(pattern);
+            params.add(pattern);
+        }
+        return where.toString();
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
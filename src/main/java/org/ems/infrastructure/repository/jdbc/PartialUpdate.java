@@ -0,0 +1,75 @@
+package org.ems.infrastructure.repository.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * PartialUpdate - UPDATE statements limited to the changed columns of an entity
+ * Single Responsibility: Map tracked field names to columns and write only those
+ *
+ * Field names are the ones the entity's setters report to its ChangeTracker. Columns are
+ * always listed in declaration order, so one set of changed fields always produces the
+ * same SQL and the driver can reuse its server-prepared statement.
+ *
+ * @author EMS Team
+ */
+final class PartialUpdate<T> {
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private final String table;
+    private final Map<String, Column<T>> columns = new LinkedHashMap<>();
+
+    PartialUpdate(String table) {
+        this.table = table;
+    }
+
+    PartialUpdate<T> column(String field, String column, Function<T, Object> value) {
+        columns.put(field, new Column<>(column, value));
+        return this;
+    }
+
+    /**
+     * @return true if any changed field is a column of this update
+     */
+    boolean touches(Set<String> changedFields) {
+        for (String field : changedFields) {
+            if (columns.containsKey(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * UPDATE the columns of the changed fields (nothing is written if none is a column here)
+     *
+     * @return false if the row no longer exists; the caller then inserts the full row
+     */
+    boolean update(JdbcExecutor jdbc, Connection conn, UUID id, T entity, Set<String> changedFields)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        List<Object> params = new ArrayList<>();
+        for (Map.Entry<String, Column<T>> entry : columns.entrySet()) {
+            if (changedFields.contains(entry.getKey())) {
+                Column<T> column = entry.getValue();
+                sql.append(params.isEmpty() ? "" : ", ").append(column.name()).append(" = ?");
+                params.add(column.value().apply(entity));
+            }
+        }
+        if (params.isEmpty()) {
+            return true;
+        }
+        sql.append(" WHERE id = ?");
+        params.add(id);
+        return jdbc.update(conn, sql.toString(), params.toArray()) > 0;
+    }
+}
@@ -0,0 +1,45 @@
+package org.ems.infrastructure.repository.mapper;
+
+import org.ems.domain.model.ActivityLog;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * ActivityLogRowMapper - Maps activity_logs rows
+ * Single Responsibility: Build ActivityLog objects from SELECT * FROM activity_logs
+ *
+ * @author EMS Team
+ */
+public final class ActivityLogRowMapper implements RowMapper<ActivityLog> {
+
+    public static final ActivityLogRowMapper INSTANCE = new ActivityLogRowMapper();
+
+    private ActivityLogRowMapper() {
+    }
+
+    @Override
+    public Reader<ActivityLog> bind(Columns columns) throws SQLException {
+        int id = columns.index("id");
+        int userId = columns.index("user_id");
+        int action = columns.index("action");
+        int resource = columns.index("resource");
+        int description = columns.index("description");
+        int timestamp = columns.index("timestamp");
+        int ipAddress = columns.index("ip_address");
+        int userAgent = columns.index("user_agent");
+
+        return rs -> {
+            ActivityLog log = new ActivityLog();
+            log.setId(UUID.fromString(rs.getString(id)));
+            log.setUserId(rs.getString(userId));
+            log.setAction(rs.getString(action));
+            log.setResource(rs.getString(resource));
+            log.setDescription(rs.getString(description));
+            log.setTimestamp(rs.getTimestamp(timestamp).toLocalDateTime());
+            log.setIpAddress(rs.getString(ipAddress));
+            log.setUserAgent(rs.getString(userAgent));
+            return log;
+        };
+    }
+}
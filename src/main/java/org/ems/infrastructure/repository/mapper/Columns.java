@@ -0,0 +1,46 @@
+package org.ems.infrastructure.repository.mapper;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Columns - Column labels of one result set
+ * Single Responsibility: Resolve column labels to JDBC indexes
+ *
+ * @author EMS Team
+ */
+public final class Columns {
+
+    private final Map<String, Integer> indexes;
+
+    public Columns(ResultSetMetaData metaData) throws SQLException {
+        int count = metaData.getColumnCount();
+        indexes = new HashMap<>(count * 2);
+        for (int i = count; i >= 1; i--) {
+            // Iterating backwards keeps the first of duplicate labels, as ResultSet.findColumn does
+            indexes.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+    }
+
+    /**
+     * @return 1-based index of the column
+     * @throws SQLException if the query did not select it
+     */
+    public int index(String label) throws SQLException {
+        Integer index = indexes.get(label.toLowerCase(Locale.ROOT));
+        if (index == null) {
+            throw new SQLException("Column not in result: " + label);
+        }
+        return index;
+    }
+
+    /**
+     * @return 1-based index of the column, or 0 if the query did not select it
+     */
+    public int optional(String label) {
+        return indexes.getOrDefault(label.toLowerCase(Locale.ROOT), 0);
+    }
+}
@@ -1,4 +1,51 @@
 package org.ems.infrastructure.repository.mapper;
 
-public class EventRowMapper {
+import org.ems.domain.model.Event;
+import org.ems.domain.model.enums.EventStatus;
+import org.ems.domain.model.enums.EventType;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * EventRowMapper - Maps events rows
+ * Single Responsibility: Build Event objects from SELECT * FROM events
+ *
+ * Session ids are not part of the row; repositories attach them.
+ *
+ * @author EMS Team
+ */
+public final class EventRowMapper implements RowMapper<Event> {
+
+    public static final EventRowMapper INSTANCE = new EventRowMapper();
+
+    private EventRowMapper() {
+    }
+
+    @Override
+    public Reader<Event> bind(Columns columns) throws SQLException {
+        int id = columns.index("id");
+        int name = columns.index("name");
+        int type = columns.index("type");
+        int location = columns.index("location");
+        int startDate = columns.index("start_date");
+        int endDate = columns.index("end_date");
+        int status = columns.index("status");
+        int imagePath = columns.index("image_path");
+
+        return rs -> {
+            Event e = new Event();
+            e.setId(rs.getObject(id, UUID.class));
+            e.setName(rs.getString(name));
+            e.setType(EventType.valueOf(rs.getString(type)));
+            e.setLocation(rs.getString(location));
+            e.setStartDate(rs.getObject(startDate, LocalDate.class));
+            e.setEndDate(rs.getObject(endDate, LocalDate.class));
+            e.setStatus(EventStatus.valueOf(rs.getString(status)));
+            e.setImagePath(rs.getString(imagePath));
+            e.getChangeTracker().markPersisted();
+            return e;
+        };
+    }
 }
@@ -1,4 +1,49 @@
 package org.ems.infrastructure.repository.mapper;
 
-public class PersonRowMapper {
+import org.ems.domain.model.Person;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * PersonRowMapper - Reads the persons columns shared by every role
+ * Single Responsibility: Fill the Person fields of users, attendees and presenters
+ *
+ * Bound once per result set; subtype mappers create the instance, add their own columns
+ * and mark it persisted (ChangeTracker) once every field is set.
+ *
+ * @author EMS Team
+ */
+public final class PersonRowMapper {
+
+    private final int id;
+    private final int fullName;
+    private final int dob;
+    private final int email;
+    private final int phone;
+    private final int username;
+    private final int passwordHash;
+
+    public PersonRowMapper(Columns columns) throws SQLException {
+        id = columns.index("id");
+        fullName = columns.index("full_name");
+        dob = columns.index("dob");
+        email = columns.index("email");
+        phone = columns.index("phone");
+        username = columns.index("username");
+        passwordHash = columns.index("password_hash");
+    }
+
+    public <P extends Person> P read(ResultSet rs, P person) throws SQLException {
+        person.setId(rs.getObject(id, UUID.class));
+        person.setFullName(rs.getString(fullName));
+        person.setDateOfBirth(rs.getObject(dob, LocalDate.class));
+        person.setEmail(rs.getString(email));
+        person.setPhone(rs.getString(phone));
+        person.setUsername(rs.getString(username));
+        person.setPasswordHash(rs.getString(passwordHash));
+        return person;
+    }
 }
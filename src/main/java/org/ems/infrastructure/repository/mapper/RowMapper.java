@@ -0,0 +1,34 @@
+package org.ems.infrastructure.repository.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * RowMapper - Turns result set rows into objects
+ * Single Responsibility: Resolve column positions once, then read rows by index
+ *
+ * {@link #bind(Columns)} runs once per result set and looks up the columns it needs;
+ * the returned Reader is called for every row and only uses column indexes.
+ *
+ * @author EMS Team
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    Reader<T> bind(Columns columns) throws SQLException;
+
+    /**
+     * Reads the current row
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Mapper for queries whose column order is fixed by the SQL (e.g. SELECT COUNT(*), id ...)
+     */
+    static <T> RowMapper<T> byIndex(Reader<T> reader) {
+        return columns -> reader;
+    }
+}
@@ -0,0 +1,51 @@
+package org.ems.infrastructure.repository.mapper;
+
+import org.ems.domain.model.Session;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * SessionRowMapper - Maps sessions rows
+ * Single Responsibility: Build Session objects from SELECT * FROM sessions
+ *
+ * Presenter ids are not part of the row; repositories attach them.
+ *
+ * @author EMS Team
+ */
+public final class SessionRowMapper implements RowMapper<Session> {
+
+    public static final SessionRowMapper INSTANCE = new SessionRowMapper();
+
+    private SessionRowMapper() {
+    }
+
+    @Override
+    public Reader<Session> bind(Columns columns) throws SQLException {
+        int id = columns.index("id");
+        int eventId = columns.index("event_id");
+        int title = columns.index("title");
+        int description = columns.index("description");
+        int startTime = columns.index("start_time");
+        int endTime = columns.index("end_time");
+        int venue = columns.index("venue");
+        int capacity = columns.index("capacity");
+        int materialPath = columns.index("material_path");
+
+        return rs -> {
+            Session s = new Session();
+            s.setId(rs.getObject(id, UUID.class));
+            s.setEventId(rs.getObject(eventId, UUID.class));
+            s.setTitle(rs.getString(title));
+            s.setDescription(rs.getString(description));
+            s.setStart(rs.getObject(startTime, LocalDateTime.class));
+            s.setEnd(rs.getObject(endTime, LocalDateTime.class));
+            s.setVenue(rs.getString(venue));
+            s.setCapacity(rs.getInt(capacity));
+            s.setMaterialPath(rs.getString(materialPath));
+            s.getChangeTracker().markPersisted();
+            return s;
+        };
+    }
+}
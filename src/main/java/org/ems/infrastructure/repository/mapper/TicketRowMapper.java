@@ -0,0 +1,85 @@
+package org.ems.infrastructure.repository.mapper;
+
+import org.ems.domain.model.Ticket;
+import org.ems.domain.model.enums.PaymentStatus;
+import org.ems.domain.model.enums.TicketStatus;
+import org.ems.domain.model.enums.TicketType;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * TicketRowMapper - Maps tickets rows
+ * Single Responsibility: Build Ticket objects from full or template-only column lists
+ *
+ * FULL needs every tickets column. Unknown or missing enum values fall back to
+ * GENERAL / UNPAID / ACTIVE with a warning. TEMPLATE reads only the columns of the
+ * template list query (id, event_id, type, price, created_at) without that validation.
+ *
+ * @author EMS Team
+ */
+public final class TicketRowMapper {
+
+    public static final RowMapper<Ticket> FULL = columns -> {
+        int id = columns.index("id");
+        int attendeeId = columns.index("attendee_id");
+        int eventId = columns.index("event_id");
+        int type = columns.index("type");
+        int price = columns.index("price");
+        int paymentStatus = columns.index("payment_status");
+        int status = columns.index("status");
+        int qrCodeData = columns.index("qr_code_data");
+        int createdAt = columns.index("created_at");
+
+        return rs -> {
+            Ticket t = new Ticket();
+            t.setId(rs.getObject(id, UUID.class));
+            t.setAttendeeId(rs.getObject(attendeeId, UUID.class));
+            t.setEventId(rs.getObject(eventId, UUID.class));
+            // Note: sessionId removed - tickets are event-level only
+            t.setType(parse(TicketType.class, rs.getString(type), TicketType.GENERAL, "ticket type"));
+            t.setPrice(rs.getBigDecimal(price));
+            t.setPaymentStatus(parse(PaymentStatus.class, rs.getString(paymentStatus), PaymentStatus.UNPAID, "payment status"));
+            t.setTicketStatus(parse(TicketStatus.class, rs.getString(status), TicketStatus.ACTIVE, "ticket status"));
+            t.setQrCodeData(rs.getString(qrCodeData));
+            t.setCreatedAt(rs.getTimestamp(createdAt));
+            t.getChangeTracker().markPersisted();
+            return t;
+        };
+    };
+
+    public static final RowMapper<Ticket> TEMPLATE = columns -> {
+        int id = columns.index("id");
+        int eventId = columns.index("event_id");
+        int type = columns.index("type");
+        int price = columns.index("price");
+        int createdAt = columns.index("created_at");
+
+        return rs -> {
+            Ticket t = new Ticket();
+            t.setId(rs.getObject(id, UUID.class));
+            t.setEventId(rs.getObject(eventId, UUID.class));
+            String typeStr = rs.getString(type);
+            t.setType(typeStr != null ? TicketType.valueOf(typeStr) : TicketType.GENERAL);
+            t.setPrice(rs.getBigDecimal(price));
+            t.setCreatedAt(rs.getTimestamp(createdAt));
+            t.getChangeTracker().markPersisted();
+            return t;
+        };
+    };
+
+    private TicketRowMapper() {
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, E fallback, String what) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown " + what + ": " + value + ", using " + fallback);
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.ems.infrastructure.snapshot;
+
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.Session;
+import org.ems.domain.model.Ticket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * LocalSnapshot - One memory-mapped snapshot file
+ * Single Responsibility: Lay out snapshot sections in a file and decode them from the mapping
+ *
+ * File layout (big-endian):
+ *   header     magic "EMSS" (int), version (short), section count (short),
+ *              created-at millis (long), CRC32 of everything after the directory (int)
+ *   directory  per section: id (int), offset from file start (int), length (int)
+ *   sections   encoded by SnapshotCodec
+ *
+ * The file is mapped read-only and the pages are shared with the OS file cache, so opening
+ * a snapshot costs one checksum pass and no copies. Sections are decoded on every call and
+ * callers get fresh entities they may modify. Sections missing from the file read as empty.
+ *
+ * @author EMS Team
+ */
+public final class LocalSnapshot {
+
+    static final int MAGIC = 0x454D5353;
+    static final short VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final int DIRECTORY_ENTRY_BYTES = 12;
+
+    /**
+     * Section ids are stored in the file: append new sections, never reorder
+     */
+    enum Section {
+        EVENTS, SESSIONS, PRESENTERS, TEMPLATES, USER, USER_TICKETS, SYNC_STATE
+    }
+
+    private final Path file;
+    private final ByteBuffer mapped;
+    private final long createdAt;
+    private final Map<Section, int[]> directory = new EnumMap<>(Section.class);
+
+    private LocalSnapshot(Path file, ByteBuffer mapped, long createdAt) {
+        this.file = file;
+        this.mapped = mapped;
+        this.createdAt = createdAt;
+    }
+
+    // ============================================================
+    //  Reading
+    // ============================================================
+
+    /**
+     * Map and validate a snapshot file
+     *
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot of this version
+     */
+    static LocalSnapshot open(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.capacity() < HEADER_BYTES || mapped.getInt(0) != MAGIC) {
+            throw new IOException("not a snapshot file");
+        }
+        if (mapped.getShort(4) != VERSION) {
+            throw new IOException("snapshot version " + mapped.getShort(4) + ", expected " + VERSION);
+        }
+        int sections = mapped.getShort(6);
+        int bodyStart = HEADER_BYTES + sections * DIRECTORY_ENTRY_BYTES;
+        if (bodyStart > mapped.capacity()) {
+            throw new IOException("truncated snapshot directory");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(mapped.slice(bodyStart, mapped.capacity() - bodyStart));
+        if ((int) crc.getValue() != mapped.getInt(16)) {
+            throw new IOException("snapshot checksum mismatch");
+        }
+
+        LocalSnapshot snapshot = new LocalSnapshot(file, mapped, mapped.getLong(8));
+        Section[] known = Section.values();
+        for (int i = 0; i < sections; i++) {
+            int entry = HEADER_BYTES + i * DIRECTORY_ENTRY_BYTES;
+            int id = mapped.getInt(entry);
+            int offset = mapped.getInt(entry + 4);
+            int length = mapped.getInt(entry + 8);
+            if (offset < bodyStart || length < 0 || (long) offset + length > mapped.capacity()) {
+                throw new IOException("snapshot section " + id + " out of bounds");
+            }
+            if (id >= 0 && id < known.length) {
+                snapshot.directory.put(known[id], new int[]{offset, length});
+            }
+        }
+        return snapshot;
+    }
+
+    public List<Event> events() {
+        return read(Section.EVENTS, SnapshotCodec::readEvents, new ArrayList<>());
+    }
+
+    public List<Session> sessions() {
+        return read(Section.SESSIONS, SnapshotCodec::readSessions, new ArrayList<>());
+    }
+
+    public List<Presenter> presenters() {
+        return read(Section.PRESENTERS, SnapshotCodec::readPresenters, new ArrayList<>());
+    }
+
+    public List<Ticket> templates() {
+        return read(Section.TEMPLATES, SnapshotCodec::readTickets, new ArrayList<>());
+    }
+
+    /**
+     * @return The saved attendee or presenter, or null
+     */
+    public SnapshotUser user() {
+        return read(Section.USER, SnapshotCodec::readUser, null);
+    }
+
+    public List<Ticket> userTickets() {
+        return read(Section.USER_TICKETS, SnapshotCodec::readTickets, new ArrayList<>());
+    }
+
+    /**
+     * @return Delta sync position, or NONE for files written before it was stored
+     */
+    public SyncWatermarks watermarks() {
+        return read(Section.SYNC_STATE, SnapshotCodec::readWatermarks, SyncWatermarks.NONE);
+    }
+
+    /**
+     * Decode every section (used to rewrite the file with one part replaced)
+     */
+    public SnapshotContent content() {
+        return new SnapshotContent(events(), sessions(), presenters(), templates(), user(), userTickets(), watermarks());
+    }
+
+    private <T> T read(Section section, Function<SnapshotCodec.Reader, T> decoder, T missing) {
+        int[] location = directory.get(section);
+        if (location == null) {
+            return missing;
+        }
+        // slice() gives each call its own position, so readers on several threads do not interfere
+        return decoder.apply(new SnapshotCodec.Reader(mapped.slice(location[0], location[1])));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getSizeBytes() {
+        return mapped.capacity();
+    }
+
+    // ============================================================
+    //  Writing
+    // ============================================================
+
+    /**
+     * Encode content into the snapshot file layout
+     */
+    static ByteBuffer encode(SnapshotContent content, long createdAt) {
+        Map<Section, SnapshotCodec.Writer> sections = new EnumMap<>(Section.class);
+        sections.put(Section.EVENTS, encode(out -> SnapshotCodec.writeEvents(out, content.events())));
+        sections.put(Section.SESSIONS, encode(out -> SnapshotCodec.writeSessions(out, content.sessions())));
+        sections.put(Section.PRESENTERS, encode(out -> SnapshotCodec.writePresenters(out, content.presenters())));
+        sections.put(Section.TEMPLATES, encode(out -> SnapshotCodec.writeTickets(out, content.templates())));
+        sections.put(Section.USER, encode(out -> SnapshotCodec.writeUser(out, content.user())));
+        sections.put(Section.USER_TICKETS, encode(out -> SnapshotCodec.writeTickets(out, content.userTickets())));
+        sections.put(Section.SYNC_STATE, encode(out -> SnapshotCodec.writeWatermarks(out, content.watermarks())));
+
+        int bodyStart = HEADER_BYTES + sections.size() * DIRECTORY_ENTRY_BYTES;
+        int total = bodyStart + sections.values().stream().mapToInt(SnapshotCodec.Writer::size).sum();
+        ByteBuffer file = ByteBuffer.allocate(total);
+        file.putInt(MAGIC).putShort(VERSION).putShort((short) sections.size()).putLong(createdAt).putInt(0);
+        int offset = bodyStart;
+        for (Map.Entry<Section, SnapshotCodec.Writer> section : sections.entrySet()) {
+            file.putInt(section.getKey().ordinal()).putInt(offset).putInt(section.getValue().size());
+            offset += section.getValue().size();
+        }
+        for (SnapshotCodec.Writer section : sections.values()) {
+            section.writeTo(file);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(file.slice(bodyStart, total - bodyStart));
+        file.putInt(16, (int) crc.getValue());
+        return file.flip();
+    }
+
+    private static SnapshotCodec.Writer encode(Consumer<SnapshotCodec.Writer> section) {
+        SnapshotCodec.Writer out = new SnapshotCodec.Writer();
+        section.accept(out);
+        return out;
+    }
+}
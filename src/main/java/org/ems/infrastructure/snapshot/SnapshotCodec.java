@@ -0,0 +1,459 @@
+package org.ems.infrastructure.snapshot;
+
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.Session;
+import org.ems.domain.model.Ticket;
+import org.ems.domain.model.enums.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SnapshotCodec - Binary encoding of snapshot sections
+ * Single Responsibility: Write and read entities in the compact snapshot format
+ *
+ * Every value has a fixed layout and its own null marker, so no field names or tags are stored:
+ *   UUID        16 bytes (two longs); the nil UUID is null
+ *   String      varint (UTF-8 length + 1) then the bytes; 0 is null
+ *   enum        its name as a String
+ *   int         varint (zig-zag)
+ *   LocalDate   epoch day as int; Integer.MIN_VALUE is null
+ *   date-time   epoch microseconds (UTC) as long; Long.MIN_VALUE is null
+ *   BigDecimal  scale byte then unscaled varint; scale -128 is null
+ *   List<UUID>  varint count then the UUIDs
+ * A section is a varint entity count followed by the entities. Decoded entities are marked
+ * persisted (they are database rows), so a later save writes only the fields that change.
+ *
+ * @author EMS Team
+ */
+final class SnapshotCodec {
+
+    private static final UUID NIL = new UUID(0, 0);
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+
+    private SnapshotCodec() {
+    }
+
+    // ============================================================
+    //  Sections
+    // ============================================================
+
+    static void writeEvents(Writer out, List<Event> events) {
+        out.varint(events.size());
+        for (Event e : events) {
+            out.uuid(e.getId());
+            out.string(e.getName());
+            out.enumName(e.getType());
+            out.string(e.getLocation());
+            out.date(e.getStartDate());
+            out.date(e.getEndDate());
+            out.enumName(e.getStatus());
+            out.string(e.getImagePath());
+            out.uuids(e.getSessionIds());
+        }
+    }
+
+    static List<Event> readEvents(Reader in) {
+        int count = in.varint();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event e = new Event();
+            e.setId(in.uuid());
+            e.setName(in.string());
+            e.setType(in.enumValue(EventType.class));
+            e.setLocation(in.string());
+            e.setStartDate(in.date());
+            e.setEndDate(in.date());
+            e.setStatus(in.enumValue(EventStatus.class));
+            e.setImagePath(in.string());
+            e.setSessionIds(in.uuids());
+            e.getChangeTracker().markPersisted();
+            events.add(e);
+        }
+        return events;
+    }
+
+    static void writeSessions(Writer out, List<Session> sessions) {
+        out.varint(sessions.size());
+        for (Session s : sessions) {
+            out.uuid(s.getId());
+            out.uuid(s.getEventId());
+            out.string(s.getTitle());
+            out.string(s.getDescription());
+            out.dateTime(s.getStart());
+            out.dateTime(s.getEnd());
+            out.string(s.getVenue());
+            out.varint(s.getCapacity());
+            out.uuids(s.getPresenterIds());
+            out.string(s.getMaterialPath());
+        }
+    }
+
+    static List<Session> readSessions(Reader in) {
+        int count = in.varint();
+        List<Session> sessions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Session s = new Session();
+            s.setId(in.uuid());
+            s.setEventId(in.uuid());
+            s.setTitle(in.string());
+            s.setDescription(in.string());
+            s.setStart(in.dateTime());
+            s.setEnd(in.dateTime());
+            s.setVenue(in.string());
+            s.setCapacity(in.varint());
+            s.setPresenterIds(in.uuids());
+            s.setMaterialPath(in.string());
+            s.getChangeTracker().markPersisted();
+            sessions.add(s);
+        }
+        return sessions;
+    }
+
+    /**
+     * Public profile only: username and password hash are never written
+     */
+    static void writePresenters(Writer out, List<Presenter> presenters) {
+        out.varint(presenters.size());
+        for (Presenter p : presenters) {
+            out.uuid(p.getId());
+            out.string(p.getFullName());
+            out.string(p.getEmail());
+            out.string(p.getPhone());
+            out.enumName(p.getPresenterType());
+            out.string(p.getBio());
+            out.uuids(p.getSessionIds());
+            out.uuids(p.getEventIds());
+        }
+    }
+
+    static List<Presenter> readPresenters(Reader in) {
+        int count = in.varint();
+        List<Presenter> presenters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Presenter p = new Presenter();
+            p.setId(in.uuid());
+            p.setFullName(in.string());
+            p.setEmail(in.string());
+            p.setPhone(in.string());
+            p.setRole(Role.PRESENTER);
+            p.setPresenterType(in.enumValue(PresenterType.class));
+            p.setBio(in.string());
+            p.setSessionIds(in.uuids());
+            p.getEventIds().addAll(in.uuids());
+            p.getChangeTracker().markPersisted();
+            presenters.add(p);
+        }
+        return presenters;
+    }
+
+    static void writeTickets(Writer out, List<Ticket> tickets) {
+        out.varint(tickets.size());
+        for (Ticket t : tickets) {
+            out.uuid(t.getId());
+            out.uuid(t.getAttendeeId());
+            out.uuid(t.getEventId());
+            out.enumName(t.getType());
+            out.decimal(t.getPrice());
+            out.enumName(t.getPaymentStatus());
+            out.enumName(t.getTicketStatus());
+            out.string(t.getQrCodeData());
+            out.timestamp(t.getCreatedAt());
+        }
+    }
+
+    static List<Ticket> readTickets(Reader in) {
+        int count = in.varint();
+        List<Ticket> tickets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Ticket t = new Ticket();
+            t.setId(in.uuid());
+            t.setAttendeeId(in.uuid());
+            t.setEventId(in.uuid());
+            t.setType(in.enumValue(TicketType.class));
+            t.setPrice(in.decimal());
+            t.setPaymentStatus(in.enumValue(PaymentStatus.class));
+            t.setTicketStatus(in.enumValue(TicketStatus.class));
+            t.setQrCodeData(in.string());
+            t.setCreatedAt(in.timestamp());
+            t.getChangeTracker().markPersisted();
+            tickets.add(t);
+        }
+        return tickets;
+    }
+
+    static void writeUser(Writer out, SnapshotUser user) {
+        out.varint(user == null ? 0 : 1);
+        if (user != null) {
+            out.uuid(user.id());
+            out.string(user.fullName());
+            out.string(user.email());
+            out.string(user.username());
+            out.enumName(user.role());
+            out.varint(user.iterations());
+            out.bytes(user.salt());
+            out.bytes(user.verifier());
+        }
+    }
+
+    static SnapshotUser readUser(Reader in) {
+        if (in.varint() == 0) {
+            return null;
+        }
+        return new SnapshotUser(in.uuid(), in.string(), in.string(), in.string(), in.enumValue(Role.class),
+                in.varint(), in.bytes(), in.bytes());
+    }
+
+    static void writeWatermarks(Writer out, SyncWatermarks marks) {
+        out.varlong(marks.events());
+        out.varlong(marks.sessions());
+        out.varlong(marks.presenters());
+        out.varlong(marks.tickets());
+    }
+
+    static SyncWatermarks readWatermarks(Reader in) {
+        return new SyncWatermarks(in.varlong(), in.varlong(), in.varlong(), in.varlong());
+    }
+
+    // ============================================================
+    //  Writer
+    // ============================================================
+
+    /**
+     * Growable byte buffer
+     */
+    static final class Writer {
+        private byte[] buf = new byte[8192];
+        private int pos;
+
+        int size() {
+            return pos;
+        }
+
+        void writeTo(ByteBuffer target) {
+            target.put(buf, 0, pos);
+        }
+
+        private void ensure(int more) {
+            if (pos + more > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + more));
+            }
+        }
+
+        void int32(int v) {
+            ensure(4);
+            buf[pos++] = (byte) (v >>> 24);
+            buf[pos++] = (byte) (v >>> 16);
+            buf[pos++] = (byte) (v >>> 8);
+            buf[pos++] = (byte) v;
+        }
+
+        void int64(long v) {
+            int32((int) (v >>> 32));
+            int32((int) v);
+        }
+
+        void varint(int v) {
+            varlong(v);
+        }
+
+        void varlong(long v) {
+            long zigzag = (v << 1) ^ (v >> 63);
+            ensure(10);
+            while ((zigzag & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buf[pos++] = (byte) zigzag;
+        }
+
+        void uuid(UUID id) {
+            UUID value = id != null ? id : NIL;
+            int64(value.getMostSignificantBits());
+            int64(value.getLeastSignificantBits());
+        }
+
+        void uuids(List<UUID> ids) {
+            varint(ids == null ? 0 : ids.size());
+            if (ids != null) {
+                for (UUID id : ids) {
+                    uuid(id);
+                }
+            }
+        }
+
+        void string(String s) {
+            if (s == null) {
+                varint(0);
+                return;
+            }
+            bytes(s.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Length + 1 then the bytes (0 is null)
+         */
+        void bytes(byte[] b) {
+            if (b == null) {
+                varint(0);
+                return;
+            }
+            varint(b.length + 1);
+            ensure(b.length);
+            System.arraycopy(b, 0, buf, pos, b.length);
+            pos += b.length;
+        }
+
+        void enumName(Enum<?> e) {
+            string(e != null ? e.name() : null);
+        }
+
+        void date(LocalDate d) {
+            int32(d != null ? (int) d.toEpochDay() : NULL_DATE);
+        }
+
+        void dateTime(LocalDateTime t) {
+            int64(t != null ? toMicros(t.toEpochSecond(ZoneOffset.UTC), t.getNano()) : NULL_TIME);
+        }
+
+        void timestamp(Timestamp t) {
+            int64(t != null ? toMicros(Math.floorDiv(t.getTime(), 1000), t.getNanos()) : NULL_TIME);
+        }
+
+        void decimal(BigDecimal d) {
+            ensure(1);
+            if (d == null) {
+                buf[pos++] = NULL_SCALE;
+                return;
+            }
+            // Prices are NUMERIC(10,2): scale and unscaled value always fit
+            buf[pos++] = (byte) d.scale();
+            varlong(d.unscaledValue().longValueExact());
+        }
+
+        private static long toMicros(long epochSecond, int nanos) {
+            return epochSecond * 1_000_000L + nanos / 1_000;
+        }
+    }
+
+    // ============================================================
+    //  Reader
+    // ============================================================
+
+    /**
+     * Cursor over one section of the mapped file (each reader has its own position)
+     */
+    static final class Reader {
+        private final ByteBuffer buf;
+
+        Reader(ByteBuffer section) {
+            this.buf = section;
+        }
+
+        int varint() {
+            return (int) varlong();
+        }
+
+        long varlong() {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buf.get();
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        UUID uuid() {
+            long most = buf.getLong();
+            long least = buf.getLong();
+            return most == 0 && least == 0 ? null : new UUID(most, least);
+        }
+
+        List<UUID> uuids() {
+            int count = varint();
+            List<UUID> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(uuid());
+            }
+            return ids;
+        }
+
+        String string() {
+            byte[] b = bytes();
+            return b != null ? new String(b, StandardCharsets.UTF_8) : null;
+        }
+
+        byte[] bytes() {
+            int length = varint() - 1;
+            if (length < 0) {
+                return null;
+            }
+            byte[] b = new byte[length];
+            buf.get(b);
+            return b;
+        }
+
+        /**
+         * Names no longer in the enum read as null rather than failing the whole section
+         */
+        <E extends Enum<E>> E enumValue(Class<E> type) {
+            String name = string();
+            if (name == null) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        LocalDate date() {
+            int day = buf.getInt();
+            return day == NULL_DATE ? null : LocalDate.ofEpochDay(day);
+        }
+
+        LocalDateTime dateTime() {
+            long micros = buf.getLong();
+            if (micros == NULL_TIME) {
+                return null;
+            }
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+        }
+
+        Timestamp timestamp() {
+            long micros = buf.getLong();
+            if (micros == NULL_TIME) {
+                return null;
+            }
+            Timestamp t = new Timestamp(Math.floorDiv(micros, 1_000_000L) * 1_000);
+            t.setNanos((int) Math.floorMod(micros, 1_000_000L) * 1_000);
+            return t;
+        }
+
+        BigDecimal decimal() {
+            byte scale = buf.get();
+            if (scale == NULL_SCALE) {
+                return null;
+            }
+            return new BigDecimal(BigInteger.valueOf(varlong()), scale);
+        }
+    }
+}
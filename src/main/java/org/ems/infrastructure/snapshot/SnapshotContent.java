@@ -0,0 +1,39 @@
+package org.ems.infrastructure.snapshot;
+
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.Session;
+import org.ems.domain.model.Ticket;
+
+import java.util.List;
+
+/**
+ * SnapshotContent - Everything written to one snapshot file
+ * Single Responsibility: Carry reference data and the saved user between the database and the file
+ *
+ * @param templates   ticket templates (tickets without an attendee)
+ * @param user        last signed-in attendee or presenter, or null
+ * @param userTickets that user's tickets (empty without a user)
+ * @param watermarks  delta sync position of the reference data and tickets
+ * @author EMS Team
+ */
+public record SnapshotContent(List<Event> events, List<Session> sessions, List<Presenter> presenters,
+                              List<Ticket> templates, SnapshotUser user, List<Ticket> userTickets,
+                              SyncWatermarks watermarks) {
+
+    /** Nothing saved yet (the starting point of the first sync) */
+    public static final SnapshotContent EMPTY =
+            new SnapshotContent(List.of(), List.of(), List.of(), List.of(), null, List.of(), SyncWatermarks.NONE);
+
+    public SnapshotContent {
+        userTickets = user != null && userTickets != null ? userTickets : List.of();
+        watermarks = watermarks != null ? watermarks : SyncWatermarks.NONE;
+    }
+
+    /**
+     * Same reference data for another user
+     */
+    public SnapshotContent withUser(SnapshotUser newUser, List<Ticket> newUserTickets) {
+        return new SnapshotContent(events, sessions, presenters, templates, newUser, newUserTickets, watermarks);
+    }
+}
@@ -0,0 +1,261 @@
+package org.ems.infrastructure.snapshot;
+
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.Session;
+import org.ems.domain.model.Ticket;
+import org.ems.domain.model.enums.EventStatus;
+import org.ems.domain.model.enums.EventType;
+import org.ems.domain.repository.EventRepository;
+import org.ems.domain.repository.PresenterRepository;
+import org.ems.domain.repository.SessionRepository;
+import org.ems.domain.repository.TicketRepository;
+import org.ems.infrastructure.repository.OfflineRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * SnapshotRepositories - Read-only repositories over the local snapshot
+ * Single Responsibility: Answer repository reads from snapshot sections in offline mode
+ *
+ * Each view implements the reads its screens need with the same ordering as the JDBC
+ * repository; OfflineRepository forwards to them and rejects writes. Sections are decoded
+ * per call, so every caller gets its own entities.
+ *
+ * @author EMS Team
+ */
+public final class SnapshotRepositories {
+
+    private static final Comparator<LocalDate> DATE_DESC_NULLS_LAST =
+            Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()).reversed();
+
+    private SnapshotRepositories() {
+    }
+
+    public static EventRepository events(LocalSnapshot snapshot) {
+        return OfflineRepository.wrap(EventRepository.class, new EventView(snapshot));
+    }
+
+    public static SessionRepository sessions(LocalSnapshot snapshot) {
+        return OfflineRepository.wrap(SessionRepository.class, new SessionView(snapshot));
+    }
+
+    public static PresenterRepository presenters(LocalSnapshot snapshot) {
+        return OfflineRepository.wrap(PresenterRepository.class, new PresenterView(snapshot));
+    }
+
+    public static TicketRepository tickets(LocalSnapshot snapshot) {
+        return OfflineRepository.wrap(TicketRepository.class, new TicketView(snapshot));
+    }
+
+    // ============================================================
+    //  Views
+    // ============================================================
+
+    public static final class EventView {
+        private final LocalSnapshot snapshot;
+
+        EventView(LocalSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public Event findById(UUID id) {
+            return first(snapshot.events(), e -> Objects.equals(e.getId(), id));
+        }
+
+        public List<Event> findAll() {
+            return snapshot.events();
+        }
+
+        public List<Event> findByType(EventType type) {
+            return filter(snapshot.events(), e -> e.getType() == type);
+        }
+
+        public long count() {
+            return snapshot.events().size();
+        }
+
+        public long countActiveEvents() {
+            return filter(snapshot.events(),
+                    e -> e.getStatus() == EventStatus.SCHEDULED || e.getStatus() == EventStatus.ONGOING).size();
+        }
+
+        public List<Event> findPage(int offset, int limit) {
+            List<Event> events = snapshot.events();
+            events.sort(Comparator.comparing(Event::getStartDate, DATE_DESC_NULLS_LAST)
+                    .thenComparing(Event::getId, Comparator.reverseOrder()));
+            return page(events, offset, limit);
+        }
+    }
+
+    public static final class SessionView {
+        private final LocalSnapshot snapshot;
+
+        SessionView(LocalSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public Session findById(UUID id) {
+            return first(snapshot.sessions(), s -> Objects.equals(s.getId(), id));
+        }
+
+        public List<Session> findAll() {
+            return snapshot.sessions();
+        }
+
+        public List<Session> findAllOptimized() {
+            return sortedByStart(snapshot.sessions(), true);
+        }
+
+        public List<Session> findByEvent(UUID eventId) {
+            return filter(snapshot.sessions(), s -> Objects.equals(s.getEventId(), eventId));
+        }
+
+        public List<Session> findByDate(LocalDate date) {
+            return sortedByStart(filter(snapshot.sessions(),
+                    s -> s.getStart() != null && s.getStart().toLocalDate().equals(date)), false);
+        }
+
+        public List<Session> findByPresenter(UUID presenterId, int offset, int limit) {
+            return page(sortedByStart(filter(snapshot.sessions(),
+                    s -> s.getPresenterIds().contains(presenterId)), false), offset, limit);
+        }
+
+        public long countByPresenter(UUID presenterId) {
+            return filter(snapshot.sessions(), s -> s.getPresenterIds().contains(presenterId)).size();
+        }
+
+        public long count() {
+            return snapshot.sessions().size();
+        }
+
+        public List<Session> findPage(int offset, int limit) {
+            return page(sortedByStart(snapshot.sessions(), true), offset, limit);
+        }
+
+        public Map<UUID, Integer> countByEventIds(List<UUID> eventIds) {
+            Set<UUID> wanted = new HashSet<>(eventIds);
+            Map<UUID, Integer> counts = new HashMap<>();
+            for (Session s : snapshot.sessions()) {
+                if (wanted.contains(s.getEventId())) {
+                    counts.merge(s.getEventId(), 1, Integer::sum);
+                }
+            }
+            return counts;
+        }
+
+        private static List<Session> sortedByStart(List<Session> sessions, boolean descending) {
+            Comparator<Session> byStart = Comparator.comparing(Session::getStart,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            sessions.sort(descending ? byStart.reversed().thenComparing(Session::getId, Comparator.reverseOrder())
+                    : byStart);
+            return sessions;
+        }
+    }
+
+    public static final class PresenterView {
+        private final LocalSnapshot snapshot;
+
+        PresenterView(LocalSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public Presenter findById(UUID id) {
+            return first(snapshot.presenters(), p -> Objects.equals(p.getId(), id));
+        }
+
+        public List<Presenter> findAll() {
+            return snapshot.presenters();
+        }
+
+        public List<Presenter> findByEvent(UUID eventId) {
+            Set<UUID> eventSessions = new HashSet<>();
+            for (Session s : snapshot.sessions()) {
+                if (Objects.equals(s.getEventId(), eventId)) {
+                    eventSessions.add(s.getId());
+                }
+            }
+            return filter(snapshot.presenters(), p -> p.getSessionIds().stream().anyMatch(eventSessions::contains));
+        }
+
+        public List<Presenter> findBySession(UUID sessionId) {
+            return filter(snapshot.presenters(), p -> p.getSessionIds().contains(sessionId));
+        }
+
+        public long count() {
+            return snapshot.presenters().size();
+        }
+    }
+
+    /**
+     * Ticket templates plus the saved user's own tickets
+     */
+    public static final class TicketView {
+        private final LocalSnapshot snapshot;
+
+        TicketView(LocalSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public Ticket findById(UUID id) {
+            return first(findAll(), t -> Objects.equals(t.getId(), id));
+        }
+
+        public List<Ticket> findAll() {
+            List<Ticket> tickets = new ArrayList<>(snapshot.templates());
+            tickets.addAll(snapshot.userTickets());
+            return tickets;
+        }
+
+        public List<Ticket> findTemplates() {
+            return snapshot.templates();
+        }
+
+        public List<Ticket> findByAttendee(UUID attendeeId) {
+            return filter(snapshot.userTickets(), t -> Objects.equals(t.getAttendeeId(), attendeeId));
+        }
+
+        public List<Ticket> findByEvent(UUID eventId) {
+            return filter(findAll(), t -> Objects.equals(t.getEventId(), eventId));
+        }
+
+        public long countTemplates() {
+            return snapshot.templates().size();
+        }
+
+        public List<Ticket> findTemplatesPage(int offset, int limit) {
+            List<Ticket> templates = snapshot.templates();
+            templates.sort(Comparator.comparing(Ticket::getCreatedAt, Comparator.nullsFirst(
+                            Comparator.<Timestamp>naturalOrder()).reversed())
+                    .thenComparing(Ticket::getId, Comparator.reverseOrder()));
+            return page(templates, offset, limit);
+        }
+    }
+
+    // ============================================================
+    //  Helpers
+    // ============================================================
+
+    private static <T> T first(List<T> items, Predicate<T> match) {
+        for (T item : items) {
+            if (match.test(item)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    private static <T> List<T> filter(List<T> items, Predicate<T> match) {
+        items.removeIf(match.negate());
+        return items;
+    }
+
+    private static <T> List<T> page(List<T> items, int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), items.size());
+        int to = Math.min(from + Math.max(limit, 0), items.size());
+        return new ArrayList<>(items.subList(from, to));
+    }
+}
@@ -0,0 +1,235 @@
+package org.ems.infrastructure.snapshot;
+
+import org.ems.domain.model.Person;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * SnapshotStore - Local on-disk copy of reference data
+ * Single Responsibility: Find, write and replace the snapshot file
+ *
+ * Events, sessions, presenters, ticket templates and the last signed-in user's tickets are
+ * kept in one file (see LocalSnapshot). At startup the newest valid file is mapped before
+ * the database is reached, so screens can render at once; SnapshotSync rewrites it from the
+ * database in the background. Without a database the snapshot backs a read-only offline mode.
+ *
+ * Each write creates a new snapshot-<millis>.bin (temp file + atomic rename) and deletes the
+ * older ones. Files still mapped by this process cannot be deleted on Windows; they are
+ * removed at the next start instead.
+ *
+ * Settings (application.properties, -D overrides) are read here rather than from
+ * DatabaseConfig, whose first use opens the connection pool:
+ *   snapshot.enabled  (default true)
+ *   snapshot.dir      (default ~/.ems/snapshot)
+ *
+ * @author EMS Team
+ */
+public final class SnapshotStore {
+
+    private static final String FILE_PREFIX = "snapshot-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private static SnapshotStore instance;
+
+    private final boolean enabled;
+    private final Path directory;
+    private volatile LocalSnapshot current;
+
+    private SnapshotStore(boolean enabled, Path directory) {
+        this.enabled = enabled;
+        this.directory = directory;
+    }
+
+    public static synchronized SnapshotStore getInstance() {
+        if (instance == null) {
+            Properties props = loadSettings();
+            String dir = props.getProperty("snapshot.dir", "").trim();
+            instance = new SnapshotStore(
+                    Boolean.parseBoolean(props.getProperty("snapshot.enabled", "true").trim()),
+                    dir.isEmpty() ? Path.of(System.getProperty("user.home"), ".ems", "snapshot") : Path.of(dir));
+        }
+        return instance;
+    }
+
+    private static Properties loadSettings() {
+        Properties props = new Properties();
+        try (InputStream input = SnapshotStore.class.getClassLoader().getResourceAsStream("application.properties")) {
+            if (input != null) {
+                props.load(input);
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ [Snapshot] Could not read application.properties: " + e.getMessage());
+        }
+        for (String key : List.of("snapshot.enabled", "snapshot.dir")) {
+            if (System.getProperty(key) != null) {
+                props.setProperty(key, System.getProperty(key));
+            }
+        }
+        return props;
+    }
+
+    // ============================================================
+    //  Reading
+    // ============================================================
+
+    /**
+     * Map the newest valid snapshot file (files that fail validation are skipped)
+     *
+     * @return The snapshot, or null if there is none or snapshots are disabled
+     */
+    public LocalSnapshot load() {
+        if (!enabled) {
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        for (Path file : snapshotFiles()) {
+            try {
+                LocalSnapshot snapshot = LocalSnapshot.open(file);
+                current = snapshot;
+                deleteOlderThan(file);
+                System.out.println("✓ [Snapshot] Loaded " + file.getFileName() + " (" + snapshot.getSizeBytes() / 1024
+                        + " KiB, saved " + snapshot.getCreatedAt() + ") in " + (System.currentTimeMillis() - start) + " ms");
+                return snapshot;
+            } catch (IOException e) {
+                System.err.println("⚠️ [Snapshot] Skipping " + file.getFileName() + ": " + e.getMessage());
+            }
+        }
+        System.out.println("📊 [Snapshot] No local snapshot in " + directory);
+        return null;
+    }
+
+    /**
+     * The loaded snapshot, or null (never blocks or touches the disk)
+     */
+    public LocalSnapshot current() {
+        return current;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Offline sign-in against the saved user
+     *
+     * @return The user, or null if no snapshot user matches these credentials
+     */
+    public Person loginOffline(String login, String password) {
+        LocalSnapshot snapshot = current;
+        SnapshotUser user = snapshot != null ? snapshot.user() : null;
+        return user != null && user.matches(login, password) ? user.toPerson() : null;
+    }
+
+    // ============================================================
+    //  Writing
+    // ============================================================
+
+    /**
+     * Replace the snapshot with new content and make it current
+     */
+    public synchronized LocalSnapshot write(SnapshotContent content) {
+        if (!enabled) {
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        LocalSnapshot previous = current;
+        // File names must increase even if the clock does not
+        long createdAt = Math.max(start, previous != null ? previous.getCreatedAt() + 1 : 0);
+        ByteBuffer bytes = LocalSnapshot.encode(content, createdAt);
+        Path target = directory.resolve(FILE_PREFIX + createdAt + FILE_SUFFIX);
+        Path temp = null;
+        try {
+            createDirectory();
+            // Temp files are created owner-only on POSIX systems
+            temp = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            current = LocalSnapshot.open(target);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new RuntimeException("Failed to write snapshot: " + e.getMessage(), e);
+        }
+        deleteOlderThan(target);
+        System.out.println("✓ [Snapshot] Saved " + content.events().size() + " events, " + content.sessions().size()
+                + " sessions, " + content.presenters().size() + " presenters, " + content.templates().size()
+                + " templates (" + current.getSizeBytes() / 1024 + " KiB) in " + (System.currentTimeMillis() - start) + " ms");
+        return current;
+    }
+
+    private void createDirectory() throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        Files.createDirectories(directory);
+        try {
+            Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwx------"));
+        } catch (UnsupportedOperationException e) {
+            // Not a POSIX file system: the user profile directory is private already
+        }
+    }
+
+    /**
+     * Snapshot files, newest first
+     */
+    private List<Path> snapshotFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> snapshots = new ArrayList<>(files.filter(SnapshotStore::isSnapshotFile).toList());
+            snapshots.sort(Comparator.comparingLong(SnapshotStore::fileMillis).reversed());
+            return snapshots;
+        } catch (IOException e) {
+            System.err.println("⚠️ [Snapshot] Could not list " + directory + ": " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void deleteOlderThan(Path keep) {
+        for (Path file : snapshotFiles()) {
+            if (fileMillis(file) < fileMillis(keep)) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Still mapped (Windows) or in use: the next start retries
+        }
+    }
+
+    private static boolean isSnapshotFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX) && fileMillis(file) >= 0;
+    }
+
+    private static long fileMillis(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
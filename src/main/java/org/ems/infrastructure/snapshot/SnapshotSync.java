@@ -0,0 +1,139 @@
+package org.ems.infrastructure.snapshot;
+
+import org.ems.domain.model.Event;
+import org.ems.domain.model.Person;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.Session;
+import org.ems.domain.model.Ticket;
+import org.ems.domain.model.enums.Role;
+import org.ems.domain.repository.ChangeSet;
+import org.ems.infrastructure.concurrent.TaskExecutor;
+import org.ems.infrastructure.config.AppContext;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SnapshotSync - Keeps the local snapshot in step with the database
+ * Single Responsibility: Rebuild the snapshot from the repositories in the background
+ *
+ * refreshAsync() runs once the application is online and brings reference data and the
+ * saved user's tickets up to date. It asks the repositories only for rows changed since the
+ * watermarks stored in the snapshot (findChangesSince) and patches the saved copy, so a
+ * refresh transfers the changes rather than whole tables; the first refresh, or one after
+ * the database purged the deletes it would need, reloads a section in full.
+ * rememberUserAsync() saves a user who just signed in online so they can sign in offline
+ * later. Both run on the global task scope (they outlive the screen that started them) and
+ * one at a time, so neither overwrites the other's result.
+ *
+ * @author EMS Team
+ */
+public final class SnapshotSync {
+
+    private static final Object LOCK = new Object();
+
+    private SnapshotSync() {
+    }
+
+    /**
+     * Rewrite the snapshot from the database (no-op offline or when snapshots are disabled)
+     */
+    public static void refreshAsync(AppContext context) {
+        if (context.offline || !SnapshotStore.getInstance().isEnabled()) {
+            return;
+        }
+        TaskExecutor.getInstance().globalScope().run("snapshot-refresh", () -> {
+            try {
+                refresh(context);
+            } catch (Exception e) {
+                System.err.println("⚠️ [Snapshot] Refresh failed: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Save a user who signed in online, with their tickets, for offline sign-in
+     * (only attendees and presenters; see SnapshotUser)
+     */
+    public static void rememberUserAsync(AppContext context, Person user, String password) {
+        if (context.offline || !SnapshotStore.getInstance().isEnabled() || !SnapshotUser.supports(user)) {
+            return;
+        }
+        TaskExecutor.getInstance().globalScope().run("snapshot-remember-user", () -> {
+            try {
+                SnapshotUser saved = SnapshotUser.of(user, password);
+                synchronized (LOCK) {
+                    LocalSnapshot current = SnapshotStore.getInstance().current();
+                    // Without a snapshot the first sync loads everything, this user's tickets included
+                    SnapshotContent content = current != null
+                            ? current.content().withUser(saved, loadUserTickets(context, saved))
+                            : applyChanges(context, SnapshotContent.EMPTY.withUser(saved, List.of()));
+                    SnapshotStore.getInstance().write(content);
+                }
+            } catch (Exception e) {
+                System.err.println("⚠️ [Snapshot] Could not save user for offline sign-in: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Bring the snapshot up to date on this thread
+     *
+     * @return The rewritten snapshot, or the current one if nothing changed
+     */
+    public static LocalSnapshot refresh(AppContext context) {
+        synchronized (LOCK) {
+            long start = System.currentTimeMillis();
+            LocalSnapshot current = SnapshotStore.getInstance().current();
+            SnapshotContent saved = current != null ? current.content() : SnapshotContent.EMPTY;
+            SnapshotContent content = applyChanges(context, saved);
+            if (content == saved) {
+                System.out.println("✓ [Snapshot] Up to date (checked in " + (System.currentTimeMillis() - start) + " ms)");
+                return current;
+            }
+            System.out.println("📊 [Snapshot] Fetched changes in " + (System.currentTimeMillis() - start) + " ms");
+            return SnapshotStore.getInstance().write(content);
+        }
+    }
+
+    /**
+     * Fetch the changes since the saved watermarks and apply them
+     *
+     * @return The updated content, or saved itself if nothing changed
+     */
+    private static SnapshotContent applyChanges(AppContext context, SnapshotContent saved) {
+        SyncWatermarks marks = saved.watermarks();
+        SnapshotUser user = saved.user();
+        UUID attendeeId = user != null && user.role() == Role.ATTENDEE ? user.id() : null;
+
+        ChangeSet<Event> events = context.eventRepo.findChangesSince(marks.events());
+        ChangeSet<Session> sessions = context.sessionRepo.findChangesSince(marks.sessions());
+        ChangeSet<Presenter> presenters = context.presenterRepo.findChangesSince(marks.presenters());
+        ChangeSet<Ticket> tickets = context.ticketRepo.findChangesSince(marks.tickets(), attendeeId);
+        System.out.println("📈 [Snapshot] Changes: events " + events + ", sessions " + sessions
+                + ", presenters " + presenters + ", tickets " + tickets);
+        if (events.isEmpty() && sessions.isEmpty() && presenters.isEmpty() && tickets.isEmpty()) {
+            return saved;
+        }
+
+        // One ticket set covers both sections: templates have no attendee, the user's tickets do
+        List<Ticket> templates = tickets.applyTo(saved.templates(), Ticket::getId);
+        templates.removeIf(t -> t.getAttendeeId() != null);
+        List<Ticket> userTickets = tickets.applyTo(saved.userTickets(), Ticket::getId);
+        userTickets.removeIf(t -> t.getAttendeeId() == null);
+
+        return new SnapshotContent(
+                events.applyTo(saved.events(), Event::getId),
+                sessions.applyTo(saved.sessions(), Session::getId),
+                presenters.applyTo(saved.presenters(), Presenter::getId),
+                templates,
+                user,
+                userTickets,
+                new SyncWatermarks(events.getWatermark(), sessions.getWatermark(),
+                        presenters.getWatermark(), tickets.getWatermark()));
+    }
+
+    private static List<Ticket> loadUserTickets(AppContext context, SnapshotUser user) {
+        return user != null && user.role() == Role.ATTENDEE ? context.ticketRepo.findByAttendee(user.id()) : List.of();
+    }
+}
@@ -0,0 +1,85 @@
+package org.ems.infrastructure.snapshot;
+
+import org.ems.domain.model.Attendee;
+import org.ems.domain.model.Person;
+import org.ems.domain.model.Presenter;
+import org.ems.domain.model.enums.Role;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * SnapshotUser - The last signed-in user, kept for offline sign-in
+ * Single Responsibility: Verify offline credentials without storing the password
+ *
+ * Only a salted PBKDF2 verifier of the password is kept, never the password or the
+ * database's password_hash column. Only attendees and presenters are saved: admin screens
+ * write to the database and are of no use offline.
+ *
+ * @author EMS Team
+ */
+public record SnapshotUser(UUID id, String fullName, String email, String username, Role role,
+                           int iterations, byte[] salt, byte[] verifier) {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int ITERATIONS = 120_000;
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    /**
+     * @return true for the roles that can sign in offline
+     */
+    public static boolean supports(Person person) {
+        return person != null && (person.getRole() == Role.ATTENDEE || person.getRole() == Role.PRESENTER);
+    }
+
+    /**
+     * Derive the verifier for a user who just signed in online (slow by design; call off the FX thread)
+     */
+    public static SnapshotUser of(Person person, String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        new SecureRandom().nextBytes(salt);
+        return new SnapshotUser(person.getId(), person.getFullName(), person.getEmail(), person.getUsername(),
+                person.getRole(), ITERATIONS, salt, derive(password, salt, ITERATIONS));
+    }
+
+    /**
+     * @param login email or username, as on the login screen
+     */
+    public boolean matches(String login, String password) {
+        if (login == null || password == null) {
+            return false;
+        }
+        boolean sameUser = login.equalsIgnoreCase(email != null ? email : "") || login.equals(username);
+        return sameUser && MessageDigest.isEqual(verifier, derive(password, salt, iterations));
+    }
+
+    /**
+     * The user as a domain object, for AppContext.currentUser
+     */
+    public Person toPerson() {
+        Person person = role == Role.PRESENTER ? new Presenter() : new Attendee();
+        person.setId(id);
+        person.setFullName(fullName);
+        person.setEmail(email);
+        person.setUsername(username);
+        person.setRole(role);
+        person.getChangeTracker().markPersisted();
+        return person;
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to derive offline credentials: " + e.getMessage(), e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
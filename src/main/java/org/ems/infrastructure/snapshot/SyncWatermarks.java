@@ -0,0 +1,17 @@
+package org.ems.infrastructure.snapshot;
+
+/**
+ * SyncWatermarks - Where each snapshot section stands in the database's change history
+ * Single Responsibility: Remember the delta sync watermarks stored with a snapshot
+ *
+ * Each value is the watermark of the last ChangeSet applied to that section and is passed
+ * to the repository's findChangesSince on the next refresh; 0 asks for a full reload.
+ * The tickets watermark covers both the templates and the saved user's tickets.
+ *
+ * @author EMS Team
+ */
+public record SyncWatermarks(long events, long sessions, long presenters, long tickets) {
+
+    /** Nothing synced yet: every section is reloaded in full */
+    public static final SyncWatermarks NONE = new SyncWatermarks(0, 0, 0, 0);
+}
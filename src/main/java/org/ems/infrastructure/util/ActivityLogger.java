@@ -19,6 +19,14 @@ public class ActivityLogger {
         }
     }
 
+    /**
+     * Logger writing through the given repository instead of the shared AppContext one
+     * (e.g. a load test worker with its own pooled connection)
+     */
+    public ActivityLogger(ActivityLogRepository activityLogRepo) {
+        this.activityLogRepo = activityLogRepo;
+    }
+
     public static ActivityLogger getInstance() {
         if (instance == null) {
             instance = new ActivityLogger();
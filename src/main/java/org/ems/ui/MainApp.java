@@ -6,7 +6,7 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import org.ems.infrastructure.config.AppContext;
-import org.ems.infrastructure.db.DatabaseInitializer;
+import org.ems.infrastructure.config.StartupPipeline;
 import org.ems.ui.stage.SceneManager;
 
 /**
@@ -17,9 +17,8 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         try {
-            // INIT DB + APP CONTEXT
-            DatabaseInitializer.initialize();
-            AppContext.get();
+            // INIT DB + APP CONTEXT in the background while the home screen renders
+            StartupPipeline.start();
 
             // INIT SCENEMANAGER
             SceneManager.init(primaryStage);
@@ -39,10 +38,14 @@ public class MainApp extends Application {
             // Handle window close event for graceful shutdown
             primaryStage.setOnCloseRequest(event -> {
                 System.out.println(" Application closing...");
-                AppContext.get().shutdown();
+                AppContext context = AppContext.getIfReady();
+                if (context != null) {
+                    context.shutdown();
+                }
             });
 
             primaryStage.show();
+            StartupPipeline.mark("home-scene-shown");
 
             System.out.println(" Home Screen Loaded Successfully!");
 
@@ -0,0 +1,20 @@
+package org.ems.ui.stage;
+
+/**
+ * ReusableView - Controller whose scene may be cached by SceneManager
+ * Single Responsibility: Refresh a cached view when it is shown again
+ *
+ * Only controllers implementing this interface are cached; every other view is loaded
+ * fresh on each navigation. The controller's UI state (filters, selected tab, scroll
+ * position) is kept, so onReshow should reload data only.
+ *
+ * @author EMS Team
+ */
+public interface ReusableView {
+
+    /**
+     * Called on the JavaFX thread each time the cached view is shown again (including the
+     * first time after a preload). Background loads started here belong to the new screen.
+     */
+    void onReshow();
+}
@@ -4,25 +4,59 @@ package org.ems.ui.stage;
  * @author <your group number>
  */
 
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import org.ems.infrastructure.concurrent.TaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class SceneManager {
 
     private static Stage primaryStage;
 
+    // Views whose controller implements ReusableView, least recently shown first
+    private static final int MAX_CACHED_VIEWS = 6;
+    private static final Map<String, LoadedView> viewCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LoadedView> eldest) {
+            if (size() > MAX_CACHED_VIEWS) {
+                System.out.println("♻️ [SceneManager] Evicted cached view: " + eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * A parsed view; controller is null unless it implements ReusableView (only those are cached)
+     */
+    private record LoadedView(Scene scene, ReusableView controller) {
+    }
+
     public static void init(Stage stage) {
         primaryStage = stage;
     }
 
     public static void switchTo(String fxml, String title) {
-        try {
-            FXMLLoader loader = new FXMLLoader(
-                    SceneManager.class.getResource("/org/ems/ui/view/" + fxml)
-            );
+        // Cancel loaders still pending for the screen being left
+        TaskExecutor.getInstance().beginScreen(fxml);
+
+        LoadedView cached = viewCache.get(fxml);
+        if (cached != null) {
+            long start = System.currentTimeMillis();
+            primaryStage.setScene(cached.scene());
+            primaryStage.setTitle(title);
+            cached.controller().onReshow();
+            System.out.println("♻️ [SceneManager] Reused cached view " + fxml + " in " +
+                    (System.currentTimeMillis() - start) + " ms");
+            return;
+        }
 
-            Scene scene = new Scene(loader.load());
+        try {
+            Scene scene = load(fxml).scene();
             primaryStage.setScene(scene);
             primaryStage.setTitle(title);
 
@@ -31,4 +65,77 @@ public class SceneManager {
             e.printStackTrace(System.err);
         }
     }
+
+    /**
+     * Parse the FXML and build its scene; the view is cached if its controller is reusable
+     */
+    private static LoadedView load(String fxml) throws Exception {
+        FXMLLoader loader = new FXMLLoader(
+                SceneManager.class.getResource("/org/ems/ui/view/" + fxml)
+        );
+        Scene scene = new Scene(loader.load());
+        if (loader.getController() instanceof ReusableView controller) {
+            LoadedView view = new LoadedView(scene, controller);
+            viewCache.put(fxml, view);
+            return view;
+        }
+        return new LoadedView(scene, null);
+    }
+
+    // ============================================================
+    //  Cache control
+    // ============================================================
+
+    /**
+     * Drop a cached view so the next visit reloads its FXML and controller from scratch
+     */
+    public static void refresh(String fxml) {
+        if (viewCache.remove(fxml) != null) {
+            System.out.println("🔄 [SceneManager] Dropped cached view: " + fxml);
+        }
+    }
+
+    /**
+     * Drop every cached view (call on login and logout: views hold the user's data)
+     */
+    public static void clearCache() {
+        if (!viewCache.isEmpty()) {
+            System.out.println("🧹 [SceneManager] Cleared " + viewCache.size() + " cached view(s)");
+            viewCache.clear();
+        }
+    }
+
+    /**
+     * Load likely next views in the background so the first visit is instant.
+     * Views are built one per UI pulse on the JavaFX thread; only reusable views are kept.
+     * Their initial queries also warm the repository caches that onReshow reads from.
+     */
+    public static void preload(String... fxmls) {
+        preloadFrom(fxmls, 0);
+    }
+
+    private static void preloadFrom(String[] fxmls, int index) {
+        if (index >= fxmls.length) {
+            return;
+        }
+        Platform.runLater(() -> {
+            String fxml = fxmls[index];
+            if (!viewCache.containsKey(fxml)) {
+                long start = System.currentTimeMillis();
+                try {
+                    LoadedView view = load(fxml);
+                    System.out.println("⚡ [SceneManager] Preloaded " + fxml + " in " +
+                            (System.currentTimeMillis() - start) + " ms" +
+                            (view.controller() == null ? " (not reusable, dropped)" : ""));
+                } catch (Exception e) {
+                    System.err.println("⚠️ [SceneManager] Preload failed for " + fxml + ": " + e.getMessage());
+                }
+            }
+            preloadFrom(fxmls, index + 1);
+        });
+    }
+
+    public static String getCacheStats() {
+        return "SceneManager[cached=" + viewCache.keySet() + ", max=" + MAX_CACHED_VIEWS + "]";
+    }
 }
@@ -3,6 +3,8 @@ package org.ems.ui.util;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.scene.control.Alert;
+import org.ems.infrastructure.concurrent.TaskExecutor;
+import org.ems.infrastructure.concurrent.TaskScope;
 
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -16,6 +18,9 @@ import java.util.function.Supplier;
  *   }, result -> {
  *       updateUI(result);  // Runs on UI thread
  *   });
+ *
+ * Reads run in the current screen's TaskScope and are cancelled (callbacks skipped) when
+ * the user navigates away. Writes go through runWriteAsync so they always complete.
  */
 public class AsyncTaskService {
 
@@ -42,6 +47,31 @@ public class AsyncTaskService {
             Supplier<T> backgroundTask,
             Consumer<T> successCallback,
             Consumer<Throwable> errorCallback) {
+        submit(TaskExecutor.getInstance().screenScope(), "async-read", backgroundTask, successCallback, errorCallback);
+    }
+
+    /**
+     * Run a write (save, delete, register...) on a background thread with UI callbacks.
+     * Unlike runAsync, the task is not cancelled when the user leaves the screen.
+     *
+     * @param backgroundTask Task to run on background thread
+     * @param successCallback Called on success with result
+     * @param errorCallback Called on error with exception
+     * @param <T> Result type
+     */
+    public static <T> void runWriteAsync(
+            Supplier<T> backgroundTask,
+            Consumer<T> successCallback,
+            Consumer<Throwable> errorCallback) {
+        submit(TaskExecutor.getInstance().globalScope(), "async-write", backgroundTask, successCallback, errorCallback);
+    }
+
+    private static <T> void submit(
+            TaskScope scope,
+            String taskName,
+            Supplier<T> backgroundTask,
+            Consumer<T> successCallback,
+            Consumer<Throwable> errorCallback) {
 
         Task<T> task = new Task<T>() {
             @Override
@@ -84,12 +114,13 @@ public class AsyncTaskService {
             }
         };
 
-        // Run on background thread
-        new Thread(task).start();
+        // Run on the shared executor
+        scope.submit(taskName, task);
     }
 
     /**
-     * Run a task on background thread without callback (fire and forget)
+     * Run a task on background thread without callback (fire and forget).
+     * Has no UI to update, so it runs in the global scope and is never cancelled.
      *
      * @param backgroundTask Task to run on background thread
      */
@@ -110,7 +141,7 @@ public class AsyncTaskService {
             }
         };
 
-        new Thread(task).start();
+        TaskExecutor.getInstance().globalScope().submit("async-fire-and-forget", task);
     }
 
     /**
@@ -160,7 +191,7 @@ public class AsyncTaskService {
             }
         });
 
-        new Thread(task).start();
+        TaskExecutor.getInstance().screenScope().submit("async-progress", task);
     }
 
     /**
@@ -0,0 +1,445 @@
+package org.ems.ui.util;
+
+import javafx.collections.ObservableListBase;
+import javafx.concurrent.Task;
+import javafx.scene.Node;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.TableView;
+import javafx.scene.control.skin.VirtualFlow;
+import org.ems.infrastructure.concurrent.TaskExecutor;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * LazyTableModel - Virtualized TableView items backed by on-demand row blocks
+ * Single Responsibility: Decide which row blocks to load, keep and discard
+ *
+ * The list reports the full row count (from a count query) but holds only a bounded number
+ * of fixed-size blocks. A TableView only asks for the rows it displays, so a block is
+ * loaded the first time a visible row falls into it; until then its rows are null and
+ * render as empty. Loaded blocks are kept in an LRU of maxBlocks entries, so memory stays
+ * bounded however far the user scrolls. When the second half of a block is shown, the
+ * next block is prefetched.
+ *
+ * Without a count loader the model works as an infinite scroll: it starts with the first
+ * block and grows by one block whenever the user reaches the end, until a short block
+ * marks the end of the data.
+ *
+ * Loads run in the current screen's TaskScope. Fast scrolling cancels loads of blocks the
+ * user has already scrolled past. Must be used from the JavaFX application thread.
+ *
+ * The list is read-only and cannot be sorted in memory: {@link #attach(TableView)}
+ * disables column sorting. Sorting belongs in the query behind the block loader.
+ *
+ * Usage:
+ *   model.setSource(repo::count, (offset, limit) -> repo.findPage(offset, limit));
+ *   model.attach(table);
+ *
+ * @author EMS Team
+ */
+public class LazyTableModel<T> extends ObservableListBase<T> {
+
+    /**
+     * Loads rows [offset, offset + limit) (runs on a background thread)
+     */
+    @FunctionalInterface
+    public interface BlockLoader<T> {
+        List<T> load(int offset, int limit) throws Exception;
+    }
+
+    /**
+     * Counts all rows (runs on a background thread)
+     */
+    @FunctionalInterface
+    public interface CountLoader {
+        long count() throws Exception;
+    }
+
+    private static final int MAX_PENDING_LOADS = 4;
+
+    private final String name;
+    private final int blockSize;
+    private final int maxBlocks;
+
+    private BlockLoader<T> loader;
+    private CountLoader counter;
+    private TableView<T> table;
+
+    // Access-ordered: iteration starts at the least recently shown block
+    private final LinkedHashMap<Integer, List<T>> blocks = new LinkedHashMap<>(16, 0.75f, true);
+    // Insertion-ordered: iteration starts at the oldest request
+    private final LinkedHashMap<Integer, Task<List<T>>> loading = new LinkedHashMap<>();
+    private Task<Long> countTask;
+
+    private int size = 0;
+    private boolean exhausted = false;
+    private int generation = 0;
+
+    private Consumer<LazyTableModel<T>> onLoaded;
+    private Consumer<Throwable> onError;
+
+    private int blockLoads = 0;
+    private int evictions = 0;
+    private int cancelledLoads = 0;
+
+    public LazyTableModel(String name, int blockSize, int maxBlocks) {
+        this.name = name;
+        this.blockSize = Math.max(1, blockSize);
+        this.maxBlocks = Math.max(2, maxBlocks);
+    }
+
+    // ============================================================
+    //  Setup
+    // ============================================================
+
+    /**
+     * Use a new source (typically capturing new filter values) and drop all rows
+     *
+     * @param counter total row count, or null for infinite scroll
+     * @param loader  block loader
+     */
+    public void setSource(CountLoader counter, BlockLoader<T> loader) {
+        this.counter = counter;
+        this.loader = loader;
+        reset();
+    }
+
+    /**
+     * Show this model in a table; column sorting is disabled (see class comment)
+     */
+    public void attach(TableView<T> table) {
+        this.table = table;
+        table.setSortPolicy(t -> false);
+        table.getColumns().forEach(column -> column.setSortable(false));
+        table.setItems(this);
+    }
+
+    /**
+     * Called after the row count is known and after every block load
+     */
+    public void setOnLoaded(Consumer<LazyTableModel<T>> onLoaded) {
+        this.onLoaded = onLoaded;
+    }
+
+    public void setOnError(Consumer<Throwable> onError) {
+        this.onError = onError;
+    }
+
+    /**
+     * Drop all rows and cancel running loads; call after writes or when filters change
+     */
+    public void reset() {
+        generation++;
+        for (Task<List<T>> task : loading.values()) {
+            task.cancel(true);
+        }
+        loading.clear();
+        if (countTask != null) {
+            countTask.cancel(true);
+            countTask = null;
+        }
+        blocks.clear();
+        exhausted = false;
+        resize(0);
+
+        if (loader == null) {
+            return;
+        }
+        if (counter != null) {
+            loadCount();
+        } else {
+            request(0);
+        }
+    }
+
+    // ============================================================
+    //  List access
+    // ============================================================
+
+    /**
+     * Row at index, or null while its block is loading
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        int blockIndex = index / blockSize;
+        int offsetInBlock = index % blockSize;
+
+        List<T> block = blocks.get(blockIndex); // marks the block as recently used
+        if (block == null) {
+            request(blockIndex);
+            return null;
+        }
+        if (offsetInBlock >= blockSize / 2) {
+            prefetch(blockIndex + 1);
+        }
+        return offsetInBlock < block.size() ? block.get(offsetInBlock) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Searches loaded rows only; an unloaded row is never loaded just to be compared
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        for (Map.Entry<Integer, List<T>> entry : new ArrayList<>(blocks.entrySet())) {
+            int i = entry.getValue().indexOf(o);
+            if (i >= 0) {
+                return entry.getKey() * blockSize + i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    // ============================================================
+    //  Loading
+    // ============================================================
+
+    private void loadCount() {
+        CountLoader countLoader = counter;
+        int requestGeneration = generation;
+        Task<Long> task = new Task<>() {
+            @Override
+            protected Long call() throws Exception {
+                return countLoader.count();
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (requestGeneration != generation) {
+                return;
+            }
+            countTask = null;
+            resize((int) Math.min(Integer.MAX_VALUE, Math.max(0, task.getValue())));
+            System.out.println("  📊 [" + name + "] " + size + " rows, loading on demand (" + blockSize + " per block)");
+            notifyLoaded();
+        });
+        task.setOnFailed(e -> {
+            if (requestGeneration == generation) {
+                countTask = null;
+                fail(task.getException());
+            }
+        });
+        countTask = task;
+        TaskExecutor.getInstance().screenScope().submit(name + "-count", task);
+    }
+
+    private void prefetch(int blockIndex) {
+        boolean known = counter != null ? blockIndex * (long) blockSize < size : !exhausted;
+        if (known) {
+            request(blockIndex);
+        }
+    }
+
+    private void request(int blockIndex) {
+        if (loader == null || blocks.containsKey(blockIndex)) {
+            return;
+        }
+        Task<List<T>> pending = loading.get(blockIndex);
+        if (pending != null && !pending.isDone()) {
+            return;
+        }
+        loading.remove(blockIndex); // cancelled (e.g. the screen was left) or failed: load again
+        // Drop the oldest requests: the user has scrolled past them
+        while (loading.size() >= MAX_PENDING_LOADS) {
+            Iterator<Task<List<T>>> oldest = loading.values().iterator();
+            oldest.next().cancel(true);
+            oldest.remove();
+            cancelledLoads++;
+        }
+
+        BlockLoader<T> blockLoader = loader;
+        int requestGeneration = generation;
+        int offset = blockIndex * blockSize;
+        Task<List<T>> task = new Task<>() {
+            @Override
+            protected List<T> call() throws Exception {
+                long start = System.currentTimeMillis();
+                List<T> rows = blockLoader.load(offset, blockSize);
+                System.out.println("  📄 [" + name + "] Loaded rows " + offset + "-" + (offset + rows.size()) +
+                        " in " + (System.currentTimeMillis() - start) + " ms");
+                return rows;
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (requestGeneration == generation && loading.remove(blockIndex, task)) {
+                store(blockIndex, task.getValue());
+            }
+        });
+        task.setOnFailed(e -> {
+            if (requestGeneration == generation && loading.remove(blockIndex, task)) {
+                fail(task.getException());
+            }
+        });
+        loading.put(blockIndex, task);
+        TaskExecutor.getInstance().screenScope().submit(name + "-block-" + blockIndex, task);
+    }
+
+    private void store(int blockIndex, List<T> rows) {
+        blockLoads++;
+        List<T> block = rows != null ? rows : List.of();
+        blocks.put(blockIndex, block);
+        evictLeastRecentlyUsed();
+
+        int from = blockIndex * blockSize;
+        if (counter == null) {
+            // Infinite scroll: a short block is the end of the data
+            if (block.size() < blockSize) {
+                exhausted = true;
+            }
+            int end = from + block.size();
+            if (end > size) {
+                int replaced = size - from;
+                if (replaced > 0) {
+                    fireReplaced(from, replaced);
+                }
+                resize(end);
+                notifyLoaded();
+                return;
+            }
+        }
+        int to = Math.min(size, from + blockSize);
+        if (to > from) {
+            fireReplaced(from, to - from);
+        }
+        notifyLoaded();
+    }
+
+    /**
+     * Keep at most maxBlocks; evicted rows become null again and reload when shown
+     */
+    private void evictLeastRecentlyUsed() {
+        Iterator<List<T>> it = blocks.values().iterator();
+        while (blocks.size() > maxBlocks && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private void fail(Throwable error) {
+        System.err.println("✗ [" + name + "] Load failed: " + (error != null ? error.getMessage() : "unknown"));
+        if (onError != null) {
+            onError.accept(error);
+        }
+    }
+
+    private void notifyLoaded() {
+        if (onLoaded != null) {
+            onLoaded.accept(this);
+        }
+    }
+
+    // ============================================================
+    //  Change events
+    // ============================================================
+
+    /**
+     * Rows [from, from + count) changed from placeholders to loaded values
+     */
+    private void fireReplaced(int from, int count) {
+        beginChange();
+        nextReplace(from, from + count, Collections.nCopies(count, null));
+        endChange();
+    }
+
+    private void resize(int newSize) {
+        int oldSize = size;
+        if (newSize == oldSize) {
+            return;
+        }
+        size = newSize;
+        beginChange();
+        if (newSize > oldSize) {
+            nextAdd(oldSize, newSize);
+        } else {
+            nextRemove(newSize, Collections.nCopies(oldSize - newSize, null));
+        }
+        endChange();
+    }
+
+    // ============================================================
+    //  Scrolling
+    // ============================================================
+
+    /**
+     * Scroll the attached table by one screen of rows (direction: +1 down, -1 up)
+     */
+    public void scrollPage(int direction) {
+        if (table == null || size == 0) {
+            return;
+        }
+        int first = getFirstVisibleRow();
+        int visible = Math.max(1, getLastVisibleRow() - first);
+        int target = Math.max(0, Math.min(size - 1, first + direction * visible));
+        table.scrollTo(target);
+    }
+
+    public int getFirstVisibleRow() {
+        IndexedCell<?> cell = flow() != null ? flow().getFirstVisibleCell() : null;
+        return cell != null ? Math.max(0, cell.getIndex()) : 0;
+    }
+
+    public int getLastVisibleRow() {
+        IndexedCell<?> cell = flow() != null ? flow().getLastVisibleCell() : null;
+        return cell != null ? Math.min(size - 1, cell.getIndex()) : Math.min(size - 1, blockSize - 1);
+    }
+
+    private VirtualFlow<?> flow() {
+        Node node = table != null ? table.lookup(".virtual-flow") : null;
+        return node instanceof VirtualFlow<?> virtualFlow ? virtualFlow : null;
+    }
+
+    /**
+     * Label like "Rows 41-60 of 500000"
+     */
+    public String getVisibleRangeLabel() {
+        if (size == 0) {
+            return "No rows";
+        }
+        String total = counter == null && !exhausted ? size + "+" : String.valueOf(size);
+        return "Rows " + (getFirstVisibleRow() + 1) + "-" + (getLastVisibleRow() + 1) + " of " + total;
+    }
+
+    // ============================================================
+    //  State
+    // ============================================================
+
+    /**
+     * True once the row count is known (counted mode) or the first block arrived (infinite mode)
+     */
+    public boolean isReady() {
+        return counter != null ? countTask == null && loader != null : blockLoads > 0;
+    }
+
+    public int getLoadedBlockCount() {
+        return blocks.size();
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[rows=" + size + ", blocks=" + blocks.size() + "/" + maxBlocks +
+                ", loads=" + blockLoads + ", evictions=" + evictions + ", cancelled=" + cancelledLoads + "]";
+    }
+}
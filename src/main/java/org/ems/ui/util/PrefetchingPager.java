@@ -0,0 +1,242 @@
+package org.ems.ui.util;
+
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
+import javafx.concurrent.WorkerStateEvent;
+import org.ems.application.dto.page.PagedResult;
+import org.ems.infrastructure.concurrent.TaskExecutor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * PrefetchingPager - Page navigation with speculative loading of the next page
+ * Single Responsibility: Decide which pages to load, keep and discard
+ *
+ * Once page N is shown, page N+1 is loaded in the background and page N-1 is kept, so
+ * Next/Previous are usually answered from memory instead of a database round trip.
+ * Changing the loader (new filters) or calling {@link #reset()} discards every page and
+ * cancels prefetches still running for the old filters.
+ *
+ * Page indexes are 0-based. Loads run in the current screen's TaskScope, so leaving the
+ * screen cancels them. Must be used from the JavaFX application thread.
+ *
+ * Usage:
+ *   pager.setLoader(pageIndex -> service.loadPage(filters, pageIndex, PAGE_SIZE));
+ *   pager.showPage(0, this::render, this::showError);
+ *   ...
+ *   pager.next(this::render, this::showError);
+ *
+ * @author EMS Team
+ */
+public class PrefetchingPager<T> {
+
+    /**
+     * Loads one page (runs on a background thread). totalItems of the result drives
+     * whether a next page exists.
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        PagedResult<T> load(int pageIndex) throws Exception;
+    }
+
+    private final String name;
+    private final int pageSize;
+    private PageLoader<T> loader;
+
+    // Loaded or loading pages of the current filters: at most N-1, N and N+1
+    private final Map<Integer, Task<PagedResult<T>>> pages = new HashMap<>();
+    private int currentPage = 0;
+    private long totalItems = -1;
+    private int generation = 0;
+    private int requestSeq = 0;
+
+    private int prefetchHits = 0;
+    private int misses = 0;
+
+    public PrefetchingPager(String name, int pageSize) {
+        this.name = name;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Use a new loader (typically capturing new filter values) and drop all pages
+     */
+    public void setLoader(PageLoader<T> loader) {
+        this.loader = loader;
+        reset();
+    }
+
+    /**
+     * Drop all pages and cancel running loads; call after writes or when filters change
+     */
+    public void reset() {
+        generation++;
+        for (Task<PagedResult<T>> task : pages.values()) {
+            task.cancel(true);
+        }
+        pages.clear();
+        currentPage = 0;
+        totalItems = -1;
+    }
+
+    /**
+     * Reload the current page (e.g. after a save), discarding everything cached
+     */
+    public void refresh(Consumer<PagedResult<T>> onShown, Consumer<Throwable> onError) {
+        int page = currentPage;
+        reset();
+        showPage(page, onShown, onError);
+    }
+
+    public void next(Consumer<PagedResult<T>> onShown, Consumer<Throwable> onError) {
+        if (canGoNext()) {
+            showPage(currentPage + 1, onShown, onError);
+        }
+    }
+
+    public void previous(Consumer<PagedResult<T>> onShown, Consumer<Throwable> onError) {
+        if (canGoPrevious()) {
+            showPage(currentPage - 1, onShown, onError);
+        }
+    }
+
+    /**
+     * Show a page: immediately if it is already loaded, otherwise when its load finishes.
+     * Only the most recent request is delivered; earlier ones still loading are ignored.
+     */
+    public void showPage(int pageIndex, Consumer<PagedResult<T>> onShown, Consumer<Throwable> onError) {
+        if (loader == null) {
+            return;
+        }
+        int index = Math.max(0, pageIndex);
+        int request = ++requestSeq;
+        int requestGeneration = generation;
+
+        Task<PagedResult<T>> task = pages.get(index);
+        if (task != null && (task.getState() == Worker.State.FAILED || task.getState() == Worker.State.CANCELLED)) {
+            pages.remove(index); // failed or cancelled earlier: load again
+            task = null;
+        }
+        if (task == null) {
+            misses++;
+            task = load(index, false);
+        } else {
+            prefetchHits++;
+        }
+
+        if (task.getState() == Worker.State.SUCCEEDED) {
+            deliver(index, task.getValue(), onShown);
+            return;
+        }
+
+        Task<PagedResult<T>> awaited = task;
+        awaited.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> {
+            if (request == requestSeq && requestGeneration == generation) {
+                deliver(index, awaited.getValue(), onShown);
+            }
+        });
+        awaited.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, e -> {
+            if (request == requestSeq && requestGeneration == generation) {
+                pages.remove(index, awaited);
+                if (onError != null) {
+                    onError.accept(awaited.getException());
+                }
+            }
+        });
+    }
+
+    private void deliver(int index, PagedResult<T> result, Consumer<PagedResult<T>> onShown) {
+        currentPage = index;
+        totalItems = result.getTotalItems();
+        retainAround(index);
+        if (onShown != null) {
+            onShown.accept(result);
+        }
+        if (canGoNext() && !pages.containsKey(index + 1)) {
+            load(index + 1, true);
+        }
+    }
+
+    /**
+     * Keep N-1, N and N+1; cancel anything else still loading
+     */
+    private void retainAround(int index) {
+        Iterator<Map.Entry<Integer, Task<PagedResult<T>>>> it = pages.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Task<PagedResult<T>>> entry = it.next();
+            if (Math.abs(entry.getKey() - index) > 1) {
+                entry.getValue().cancel(true);
+                it.remove();
+            }
+        }
+    }
+
+    private Task<PagedResult<T>> load(int index, boolean prefetch) {
+        PageLoader<T> pageLoader = loader;
+        Task<PagedResult<T>> task = new Task<>() {
+            @Override
+            protected PagedResult<T> call() throws Exception {
+                long start = System.currentTimeMillis();
+                PagedResult<T> result = pageLoader.load(index);
+                System.out.println("  📄 [" + name + "] " + (prefetch ? "Prefetched" : "Loaded") +
+                        " page " + (index + 1) + " in " + (System.currentTimeMillis() - start) + " ms");
+                return result;
+            }
+        };
+        pages.put(index, task);
+        TaskExecutor.getInstance().screenScope().submit(name + (prefetch ? "-prefetch-" : "-page-") + (index + 1), task);
+        return task;
+    }
+
+    // ============================================================
+    //  State
+    // ============================================================
+
+    /**
+     * True if the page can be shown without waiting (already loaded)
+     */
+    public boolean isLoaded(int pageIndex) {
+        Task<PagedResult<T>> task = pages.get(pageIndex);
+        return task != null && task.getState() == Worker.State.SUCCEEDED;
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public long getTotalItems() {
+        return Math.max(0, totalItems);
+    }
+
+    public int getTotalPages() {
+        return totalItems <= 0 ? 1 : (int) Math.ceil(totalItems / (double) pageSize);
+    }
+
+    public boolean canGoNext() {
+        return currentPage + 1 < getTotalPages();
+    }
+
+    public boolean canGoPrevious() {
+        return currentPage > 0;
+    }
+
+    /**
+     * Page label like "Page 2 / 5"
+     */
+    public String getPageLabel() {
+        return "Page " + (currentPage + 1) + " / " + getTotalPages();
+    }
+
+    @Override
+    public String toString() {
+        return name + "[page=" + (currentPage + 1) + "/" + getTotalPages() +
+                ", loaded=" + pages.size() + ", hits=" + prefetchHits + ", misses=" + misses + "]";
+    }
+}
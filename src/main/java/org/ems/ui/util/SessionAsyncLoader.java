@@ -4,6 +4,7 @@ import javafx.concurrent.Task;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.VBox;
+import org.ems.infrastructure.concurrent.TaskExecutor;
 import org.ems.domain.model.Event;
 import org.ems.domain.model.Session;
 import org.ems.application.service.session.SessionManagementService;
@@ -95,9 +96,7 @@ public class SessionAsyncLoader {
             onError.accept(new RuntimeException(ex));
         });
 
-        Thread t = new Thread(task, "session-async-loader");
-        t.setDaemon(true);
-        t.start();
+        TaskExecutor.getInstance().screenScope().submit("session-async-loader", task);
     }
 
     /**
@@ -143,9 +142,7 @@ public class SessionAsyncLoader {
             onError.accept(new RuntimeException(task.getException()));
         });
 
-        Thread t = new Thread(task, "event-async-loader");
-        t.setDaemon(true);
-        t.start();
+        TaskExecutor.getInstance().screenScope().submit("event-async-loader", task);
     }
 
     /**
@@ -175,9 +172,7 @@ public class SessionAsyncLoader {
             onComplete.run();
         });
 
-        Thread t = new Thread(task, "presenter-preloader");
-        t.setDaemon(true);
-        t.start();
+        TaskExecutor.getInstance().screenScope().submit("presenter-preloader", task);
     }
 
     /**
@@ -50,7 +50,7 @@ public class SessionTableManager {
     }
 
     /**
-     * Setup all table columns
+     * Setup all table columns (rows are null while their block is still loading)
      */
     public void setupTableColumns() {
         long start = System.currentTimeMillis();
@@ -59,13 +59,13 @@ public class SessionTableManager {
         // ID column - show first 8 characters
         colId.setCellValueFactory(data ->
                 new javafx.beans.property.SimpleStringProperty(
-                        data.getValue().getId().toString().substring(0, 8) + "..."
+                        data.getValue() == null ? "" : data.getValue().getId().toString().substring(0, 8) + "..."
                 ));
 
         // Title column
         colTitle.setCellValueFactory(data ->
                 new javafx.beans.property.SimpleStringProperty(
-                        data.getValue().getTitle()
+                        data.getValue() == null ? "" : data.getValue().getTitle()
                 ));
 
         // Event column - initially empty, will be filled after events loaded
@@ -75,17 +75,17 @@ public class SessionTableManager {
         // Start time column
         colStart.setCellValueFactory(data ->
                 new javafx.beans.property.SimpleStringProperty(
-                        data.getValue().getStart().format(formatter)
+                        data.getValue() == null ? "" : data.getValue().getStart().format(formatter)
                 ));
 
         // Venue column
         colVenue.setCellValueFactory(data ->
                 new javafx.beans.property.SimpleStringProperty(
-                        data.getValue().getVenue()
+                        data.getValue() == null ? "" : data.getValue().getVenue()
                 ));
 
         // Capacity column
-        colCapacity.setCellValueFactory(data ->
+        colCapacity.setCellValueFactory(data -> data.getValue() == null ? null :
                 new javafx.beans.property.SimpleIntegerProperty(
                         data.getValue().getCapacity()
                 ).asObject());
@@ -105,6 +105,9 @@ public class SessionTableManager {
         Map<UUID, String> eventNameMap = eventManager.buildEventNameMap();
 
         colEvent.setCellValueFactory(data -> {
+            if (data.getValue() == null) {
+                return new javafx.beans.property.SimpleStringProperty("");
+            }
             UUID eventId = data.getValue().getEventId();
             String name = eventNameMap.getOrDefault(eventId, "N/A");
             return new javafx.beans.property.SimpleStringProperty(name);
@@ -113,6 +113,20 @@ CREATE TABLE IF NOT EXISTS ticket_session_registration (
     PRIMARY KEY (ticket_id, session_id)
 );
 
+-- ===========================================================
+-- ACTIVITY LOGS (audit trail)
+-- ===========================================================
+CREATE TABLE IF NOT EXISTS activity_logs (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id VARCHAR(50),
+    action VARCHAR(50),
+    resource VARCHAR(100),
+    description VARCHAR(255),
+    timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(255)
+);
+
 -- ===========================================================
 -- INDEXING FOR PERFORMANCE
 -- ===========================================================
@@ -122,6 +136,8 @@ CREATE INDEX IF NOT EXISTS idx_persons_username ON persons(username);
 CREATE INDEX IF NOT EXISTS idx_persons_email ON persons(email);
 CREATE INDEX IF NOT EXISTS idx_persons_role ON persons(role);
 CREATE INDEX IF NOT EXISTS idx_persons_created_at ON persons(created_at);
+-- User directory: keyset paging by username within a role
+CREATE INDEX IF NOT EXISTS idx_persons_role_username ON persons(role, username);
 
 -- EVENTS Table Indexes
 CREATE INDEX IF NOT EXISTS idx_events_type ON events(type);
@@ -131,6 +147,20 @@ CREATE INDEX IF NOT EXISTS idx_events_end_date ON events(end_date);
 CREATE INDEX IF NOT EXISTS idx_events_created_at ON events(created_at);
 -- Composite index for date range queries
 CREATE INDEX IF NOT EXISTS idx_events_date_range ON events(start_date, end_date);
+-- Default grid order (start date newest first, id as tie-breaker)
+CREATE INDEX IF NOT EXISTS idx_events_grid_order ON events(start_date DESC NULLS LAST, id DESC);
+-- Substring search on the event grid (LOWER(col) LIKE '%term%'); skipped if pg_trgm is unavailable
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_events_name_trgm ON events USING gin (LOWER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_events_location_trgm ON events USING gin (LOWER(location) gin_trgm_ops);
+
+-- User directory search: prefix matches (short terms) and substring matches (pg_trgm)
+CREATE INDEX IF NOT EXISTS idx_persons_username_prefix ON persons(LOWER(username) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_persons_full_name_prefix ON persons(LOWER(full_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_persons_email_prefix ON persons(LOWER(email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_persons_full_name_trgm ON persons USING gin (LOWER(full_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_persons_username_trgm ON persons USING gin (LOWER(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_persons_email_trgm ON persons USING gin (LOWER(email) gin_trgm_ops);
 
 -- SESSIONS Table Indexes
 CREATE INDEX IF NOT EXISTS idx_sessions_event ON sessions(event_id);
@@ -191,3 +221,363 @@ CREATE INDEX IF NOT EXISTS idx_tickets_assigned_keyset
 CREATE INDEX IF NOT EXISTS idx_tickets_assigned_aggregate
     ON tickets (event_id, type, price)
     WHERE attendee_id IS NOT NULL;
+
+-- ACTIVITY LOGS: pages are read newest first
+CREATE INDEX IF NOT EXISTS idx_activity_logs_timestamp ON activity_logs (timestamp DESC, id);
+
+-- ===========================================================
+-- TICKET TEMPLATE STATS (assigned tickets per template)
+-- Kept exact by statement-level triggers on tickets, so "available" counts are read
+-- per template instead of grouping all assigned tickets. A template is
+-- (event, type, price); tickets carry no session. Verified/rebuilt by TicketTemplateStatsChecker.
+-- ===========================================================
+CREATE TABLE IF NOT EXISTS ticket_template_stats (
+    event_id UUID NOT NULL,
+    type TEXT NOT NULL,
+    price NUMERIC(10, 2) NOT NULL,
+    assigned_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, type, price)
+);
+
+-- Adds the net change of one statement: +1 per assigned ticket in new_rows, -1 per
+-- assigned ticket in old_rows. Updates that keep the key (status, payment, QR) net to zero.
+CREATE OR REPLACE FUNCTION ticket_template_stats_apply() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO ticket_template_stats AS s (event_id, type, price, assigned_count)
+        SELECT event_id, type, price, COUNT(*)
+        FROM new_rows
+        WHERE attendee_id IS NOT NULL AND event_id IS NOT NULL
+        GROUP BY event_id, type, price
+        ORDER BY event_id, type, price
+        ON CONFLICT (event_id, type, price)
+            DO UPDATE SET assigned_count = s.assigned_count + EXCLUDED.assigned_count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO ticket_template_stats AS s (event_id, type, price, assigned_count)
+        SELECT event_id, type, price, -COUNT(*)
+        FROM old_rows
+        WHERE attendee_id IS NOT NULL AND event_id IS NOT NULL
+        GROUP BY event_id, type, price
+        ORDER BY event_id, type, price
+        ON CONFLICT (event_id, type, price)
+            DO UPDATE SET assigned_count = s.assigned_count + EXCLUDED.assigned_count;
+    ELSE
+        INSERT INTO ticket_template_stats AS s (event_id, type, price, assigned_count)
+        SELECT event_id, type, price, SUM(delta)
+        FROM (SELECT event_id, type, price, 1 AS delta
+              FROM new_rows WHERE attendee_id IS NOT NULL AND event_id IS NOT NULL
+              UNION ALL
+              SELECT event_id, type, price, -1
+              FROM old_rows WHERE attendee_id IS NOT NULL AND event_id IS NOT NULL) d
+        GROUP BY event_id, type, price
+        HAVING SUM(delta) <> 0
+        ORDER BY event_id, type, price
+        ON CONFLICT (event_id, type, price)
+            DO UPDATE SET assigned_count = s.assigned_count + EXCLUDED.assigned_count;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+-- Triggers are created once; the first run also builds the counts from existing tickets
+-- (CREATE TRIGGER locks out ticket writes until this block commits)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'tickets_template_stats_insert') THEN
+        CREATE TRIGGER tickets_template_stats_insert AFTER INSERT ON tickets
+            REFERENCING NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION ticket_template_stats_apply();
+        CREATE TRIGGER tickets_template_stats_update AFTER UPDATE ON tickets
+            REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION ticket_template_stats_apply();
+        CREATE TRIGGER tickets_template_stats_delete AFTER DELETE ON tickets
+            REFERENCING OLD TABLE AS old_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION ticket_template_stats_apply();
+
+        DELETE FROM ticket_template_stats;
+        INSERT INTO ticket_template_stats (event_id, type, price, assigned_count)
+        SELECT event_id, type, price, COUNT(*)
+        FROM tickets
+        WHERE attendee_id IS NOT NULL AND event_id IS NOT NULL
+        GROUP BY event_id, type, price;
+    END IF;
+END
+$$;
+
+-- ===========================================================
+-- TICKET SALES ROLLUPS (per day, event and type)
+-- Kept exact by statement-level triggers on tickets, so reports and sales-over-time
+-- charts read rollup rows instead of scanning tickets:
+--   ticket_sales_daily        (day, event, type)  one event's sales curve
+--   ticket_sales_daily_totals (day, type)         trends over all events
+--   ticket_sales_event_totals (event, type)       totals per event
+-- The day is the ticket's created_at date (1970-01-01 if unset); tickets whose event was
+-- deleted are filed under the nil UUID. Backfilled/verified by TicketSalesRollupJob.
+-- ===========================================================
+CREATE TABLE IF NOT EXISTS ticket_sales_daily (
+    day DATE NOT NULL,
+    event_id UUID NOT NULL,
+    type TEXT NOT NULL,
+    ticket_count BIGINT NOT NULL DEFAULT 0,
+    used_count BIGINT NOT NULL DEFAULT 0,
+    paid_count BIGINT NOT NULL DEFAULT 0,
+    gross_amount NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    paid_revenue NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (day, event_id, type)
+);
+
+CREATE TABLE IF NOT EXISTS ticket_sales_daily_totals (
+    day DATE NOT NULL,
+    type TEXT NOT NULL,
+    ticket_count BIGINT NOT NULL DEFAULT 0,
+    used_count BIGINT NOT NULL DEFAULT 0,
+    paid_count BIGINT NOT NULL DEFAULT 0,
+    gross_amount NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    paid_revenue NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (day, type)
+);
+
+CREATE TABLE IF NOT EXISTS ticket_sales_event_totals (
+    event_id UUID NOT NULL,
+    type TEXT NOT NULL,
+    ticket_count BIGINT NOT NULL DEFAULT 0,
+    used_count BIGINT NOT NULL DEFAULT 0,
+    paid_count BIGINT NOT NULL DEFAULT 0,
+    gross_amount NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    paid_revenue NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, type)
+);
+
+-- One event's sales curve reads its days in order
+CREATE INDEX IF NOT EXISTS idx_ticket_sales_daily_event ON ticket_sales_daily (event_id, day);
+
+-- Adds the net change of one statement to all three rollups: +1 per row in new_rows,
+-- -1 per row in old_rows. The transition tables that exist depend on the operation, so
+-- the source is chosen by TG_OP and the upserts run as dynamic SQL. Updates that change
+-- no measure net to zero and write nothing.
+CREATE OR REPLACE FUNCTION ticket_sales_rollup_apply() RETURNS trigger
+LANGUAGE plpgsql AS $$
+DECLARE
+    contribution CONSTANT TEXT := 'COALESCE(created_at::date, DATE ''1970-01-01'') AS day, '
+        || 'COALESCE(event_id, ''00000000-0000-0000-0000-000000000000''::uuid) AS event_id, type, '
+        || '(status = ''USED'')::int AS used, (payment_status = ''PAID'')::int AS paid, price';
+    source TEXT;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        source := format('SELECT %s, 1 AS sign FROM new_rows', contribution);
+    ELSIF TG_OP = 'DELETE' THEN
+        source := format('SELECT %s, -1 AS sign FROM old_rows', contribution);
+    ELSE
+        source := format('SELECT %1$s, 1 AS sign FROM new_rows UNION ALL SELECT %1$s, -1 FROM old_rows',
+                         contribution);
+    END IF;
+    EXECUTE format($sql$
+        WITH d AS (
+            SELECT day, event_id, type, SUM(sign) AS tickets, SUM(sign * used) AS used,
+                   SUM(sign * paid) AS paid, SUM(sign * price) AS gross, SUM(sign * paid * price) AS revenue
+            FROM (%s) c
+            GROUP BY day, event_id, type
+            HAVING SUM(sign) <> 0 OR SUM(sign * used) <> 0 OR SUM(sign * paid) <> 0
+                OR SUM(sign * price) <> 0 OR SUM(sign * paid * price) <> 0
+        ), by_day AS (
+            INSERT INTO ticket_sales_daily_totals AS s
+                (day, type, ticket_count, used_count, paid_count, gross_amount, paid_revenue)
+            SELECT day, type, SUM(tickets), SUM(used), SUM(paid), SUM(gross), SUM(revenue)
+            FROM d GROUP BY day, type ORDER BY day, type
+            ON CONFLICT (day, type) DO UPDATE SET
+                ticket_count = s.ticket_count + EXCLUDED.ticket_count,
+                used_count = s.used_count + EXCLUDED.used_count,
+                paid_count = s.paid_count + EXCLUDED.paid_count,
+                gross_amount = s.gross_amount + EXCLUDED.gross_amount,
+                paid_revenue = s.paid_revenue + EXCLUDED.paid_revenue
+        ), by_event AS (
+            INSERT INTO ticket_sales_event_totals AS s
+                (event_id, type, ticket_count, used_count, paid_count, gross_amount, paid_revenue)
+            SELECT event_id, type, SUM(tickets), SUM(used), SUM(paid), SUM(gross), SUM(revenue)
+            FROM d GROUP BY event_id, type ORDER BY event_id, type
+            ON CONFLICT (event_id, type) DO UPDATE SET
+                ticket_count = s.ticket_count + EXCLUDED.ticket_count,
+                used_count = s.used_count + EXCLUDED.used_count,
+                paid_count = s.paid_count + EXCLUDED.paid_count,
+                gross_amount = s.gross_amount + EXCLUDED.gross_amount,
+                paid_revenue = s.paid_revenue + EXCLUDED.paid_revenue
+        )
+        INSERT INTO ticket_sales_daily AS s
+            (day, event_id, type, ticket_count, used_count, paid_count, gross_amount, paid_revenue)
+        SELECT day, event_id, type, tickets, used, paid, gross, revenue
+        FROM d ORDER BY day, event_id, type
+        ON CONFLICT (day, event_id, type) DO UPDATE SET
+            ticket_count = s.ticket_count + EXCLUDED.ticket_count,
+            used_count = s.used_count + EXCLUDED.used_count,
+            paid_count = s.paid_count + EXCLUDED.paid_count,
+            gross_amount = s.gross_amount + EXCLUDED.gross_amount,
+            paid_revenue = s.paid_revenue + EXCLUDED.paid_revenue
+        $sql$, source);
+    RETURN NULL;
+END
+$$;
+
+-- Triggers are created once; history is then filled in by TicketSalesRollupJob --backfill
+-- (DatabaseInitializer runs it when the rollups are empty but tickets are not)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'tickets_sales_rollup_insert') THEN
+        CREATE TRIGGER tickets_sales_rollup_insert AFTER INSERT ON tickets
+            REFERENCING NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION ticket_sales_rollup_apply();
+        CREATE TRIGGER tickets_sales_rollup_update AFTER UPDATE ON tickets
+            REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION ticket_sales_rollup_apply();
+        CREATE TRIGGER tickets_sales_rollup_delete AFTER DELETE ON tickets
+            REFERENCING OLD TABLE AS old_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION ticket_sales_rollup_apply();
+    END IF;
+END
+$$;
+
+-- ===========================================================
+-- CHANGE TRACKING (delta sync)
+-- Tracked tables carry updated_at and version, the id of the transaction that last wrote
+-- the row. Deletes leave tombstones. Clients keep a watermark per entity and read only
+-- rows and tombstones with version >= watermark (the repositories' findChangesSince).
+-- Rows written before tracking was added have no version and are sent with full reloads
+-- only. Tombstones older than sync.tombstone-retention-days are purged by SyncTombstoneJob;
+-- sync_horizon is then the oldest watermark that can still be served as a delta (TRUNCATE
+-- raises it too, since it deletes without tombstones). Requires PostgreSQL 13+.
+-- ===========================================================
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    table_name TEXT NOT NULL,
+    id UUID NOT NULL,
+    ref_id UUID,                        -- owner of the row: sessions -> event, tickets -> attendee,
+                                        -- link tables -> second key
+    version BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint,
+    deleted_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS sync_horizon (
+    singleton BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (singleton),
+    version BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_version ON sync_tombstones(table_name, version);
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at);
+
+CREATE OR REPLACE FUNCTION sync_touch() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.updated_at := now();
+    NEW.version := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END
+$$;
+
+-- TG_ARGV: key column of the deleted rows, then optionally their ref_id column
+CREATE OR REPLACE FUNCTION sync_record_deletes() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    EXECUTE format('INSERT INTO sync_tombstones (table_name, id, ref_id) SELECT %L, %I, %s FROM old_rows',
+                   TG_TABLE_NAME, TG_ARGV[0],
+                   CASE WHEN TG_NARGS > 1 THEN quote_ident(TG_ARGV[1]) ELSE 'NULL::uuid' END);
+    RETURN NULL;
+END
+$$;
+
+-- A session moved to another event leaves a tombstone under its old event, so that
+-- event's session list is sent again as well
+CREATE OR REPLACE FUNCTION sync_record_session_moves() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO sync_tombstones (table_name, id, ref_id)
+    SELECT 'sessions', o.id, o.event_id
+    FROM old_rows o JOIN new_rows n ON n.id = o.id
+    WHERE o.event_id IS NOT NULL AND o.event_id IS DISTINCT FROM n.event_id;
+    RETURN NULL;
+END
+$$;
+
+-- Tickets are synced per attendee (templates have no attendee and go to everyone): a ticket
+-- that leaves an attendee leaves a tombstone for that attendee, so their copy drops it
+CREATE OR REPLACE FUNCTION sync_record_ticket_moves() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO sync_tombstones (table_name, id, ref_id)
+    SELECT 'tickets', o.id, o.attendee_id
+    FROM old_rows o JOIN new_rows n ON n.id = o.id
+    WHERE o.attendee_id IS DISTINCT FROM n.attendee_id;
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION sync_record_truncate() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO sync_horizon AS h (singleton, version) VALUES (TRUE, pg_current_xact_id()::text::bigint + 1)
+    ON CONFLICT (singleton) DO UPDATE SET version = GREATEST(h.version, EXCLUDED.version);
+    RETURN NULL;
+END
+$$;
+
+-- Columns are added without defaults (no table rewrite; existing rows stay NULL), then get them
+DO $$
+DECLARE
+    t RECORD;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('persons', 'id', NULL), ('attendees', 'id', NULL), ('presenters', 'id', NULL),
+            ('events', 'id', NULL), ('sessions', 'id', 'event_id'), ('tickets', 'id', 'attendee_id'),
+            ('presenter_session', 'presenter_id', 'session_id'),
+            ('attendee_session', 'attendee_id', 'session_id'),
+            ('attendee_event', 'attendee_id', 'event_id'),
+            ('ticket_session_registration', 'ticket_id', 'session_id')
+        ) AS v(table_name, key_column, ref_column) LOOP
+        IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                       WHERE table_schema = current_schema() AND table_name = t.table_name
+                         AND column_name = 'version') THEN
+            EXECUTE format('ALTER TABLE %I ADD COLUMN updated_at TIMESTAMPTZ, ADD COLUMN version BIGINT',
+                           t.table_name);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN updated_at SET DEFAULT now(), '
+                           'ALTER COLUMN version SET DEFAULT pg_current_xact_id()::text::bigint', t.table_name);
+        END IF;
+        IF NOT EXISTS (SELECT 1 FROM pg_trigger
+                       WHERE tgrelid = t.table_name::regclass AND tgname = 'sync_touch') THEN
+            EXECUTE format('CREATE TRIGGER sync_touch BEFORE UPDATE ON %I '
+                           'FOR EACH ROW EXECUTE FUNCTION sync_touch()', t.table_name);
+            EXECUTE format('CREATE TRIGGER sync_deletes AFTER DELETE ON %I REFERENCING OLD TABLE AS old_rows '
+                           'FOR EACH STATEMENT EXECUTE FUNCTION sync_record_deletes(%s)',
+                           t.table_name, concat_ws(', ', quote_literal(t.key_column), quote_literal(t.ref_column)));
+            EXECUTE format('CREATE TRIGGER sync_truncate AFTER TRUNCATE ON %I '
+                           'FOR EACH STATEMENT EXECUTE FUNCTION sync_record_truncate()', t.table_name);
+        END IF;
+    END LOOP;
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'sessions_sync_moves') THEN
+        CREATE TRIGGER sessions_sync_moves AFTER UPDATE ON sessions
+            REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION sync_record_session_moves();
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'tickets_sync_moves') THEN
+        CREATE TRIGGER tickets_sync_moves AFTER UPDATE ON tickets
+            REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION sync_record_ticket_moves();
+    END IF;
+    -- Ticket tombstones used to be recorded without their attendee
+    IF EXISTS (SELECT 1 FROM pg_trigger WHERE tgrelid = 'tickets'::regclass
+               AND tgname = 'sync_deletes' AND tgnargs = 1) THEN
+        DROP TRIGGER sync_deletes ON tickets;
+        CREATE TRIGGER sync_deletes AFTER DELETE ON tickets REFERENCING OLD TABLE AS old_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION sync_record_deletes('id', 'attendee_id');
+    END IF;
+END
+$$;
+
+-- Rows changed since a watermark
+CREATE INDEX IF NOT EXISTS idx_persons_version ON persons(version);
+CREATE INDEX IF NOT EXISTS idx_attendees_version ON attendees(version);
+CREATE INDEX IF NOT EXISTS idx_presenters_version ON presenters(version);
+CREATE INDEX IF NOT EXISTS idx_events_version ON events(version);
+CREATE INDEX IF NOT EXISTS idx_sessions_version ON sessions(version);
+CREATE INDEX IF NOT EXISTS idx_tickets_version ON tickets(version);
+CREATE INDEX IF NOT EXISTS idx_presenter_session_version ON presenter_session(version);
+CREATE INDEX IF NOT EXISTS idx_attendee_session_version ON attendee_session(version);
+CREATE INDEX IF NOT EXISTS idx_attendee_event_version ON attendee_event(version);
+CREATE INDEX IF NOT EXISTS idx_ticket_session_registration_version ON ticket_session_registration(version);
@@ -0,0 +1,103 @@
+package org.ems.application.service.attendee;
+
+import org.ems.domain.dto.ScheduleEntry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ICalendarWriterTest - RFC 5545 escaping, folding and line endings of ICalendarWriter
+ *
+ * @author EMS Team
+ */
+class ICalendarWriterTest {
+
+    private static final Instant STAMP = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void escapesTextSpecialCharacters() {
+        assertEquals("a\\\\b", ICalendarWriter.escape("a\\b"));
+        assertEquals("a\\;b", ICalendarWriter.escape("a;b"));
+        assertEquals("a\\,b", ICalendarWriter.escape("a,b"));
+        assertEquals("a\\nb", ICalendarWriter.escape("a\nb"));
+        assertEquals("a\\nb", ICalendarWriter.escape("a\r\nb"));
+        assertEquals("a\\nb", ICalendarWriter.escape("a\rb"));
+        assertEquals("", ICalendarWriter.escape(null));
+    }
+
+    @Test
+    void usesCrlfLineEndings() {
+        String ics = new String(render("Keynote"), StandardCharsets.UTF_8);
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+        assertFalse(ics.replace("\r\n", "").contains("\n"), "bare LF");
+        assertFalse(ics.replace("\r\n", "").contains("\r"), "bare CR");
+    }
+
+    @Test
+    void foldsAt75OctetsWithoutSplittingCodePoints() throws CharacterCodingException {
+        // 2-, 3- and 4-byte UTF-8 sequences, long enough to fold several times
+        String title = "Café ☕ été 🎉 ".repeat(12);
+        byte[] ics = render(title);
+
+        List<byte[]> lines = physicalLines(ics);
+        StringBuilder unfolded = new StringBuilder();
+        for (byte[] line : lines) {
+            assertTrue(line.length <= 75, "line of " + line.length + " octets");
+            // Each physical line must decode on its own, i.e. no sequence was cut in two
+            String text = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(line)).toString();
+            if (text.startsWith(" ")) {
+                unfolded.append(text.substring(1));
+            } else {
+                unfolded.append('\n').append(text);
+            }
+        }
+        assertTrue(unfolded.toString().contains("\nSUMMARY:" + ICalendarWriter.escape(title) + "\n"));
+        assertTrue(lines.stream().anyMatch(l -> l.length > 0 && l[0] == ' '), "title was not folded");
+    }
+
+    // ============================================================
+    //  Helpers
+    // ============================================================
+
+    private static byte[] render(String sessionTitle) {
+        ScheduleEntry entry = new ScheduleEntry(UUID.randomUUID(), "Ana", "ana@example.com", "ana",
+                UUID.randomUUID(), "Conference", "Hall A", LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 2),
+                UUID.randomUUID(), sessionTitle, null, null,
+                LocalDateTime.of(2026, 3, 1, 9, 0), LocalDateTime.of(2026, 3, 1, 10, 0));
+        return new ICalendarWriter().write(List.of(entry), STAMP);
+    }
+
+    /**
+     * Split on CRLF, keeping raw bytes
+     */
+    private static List<byte[]> physicalLines(byte[] ics) {
+        List<byte[]> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i + 1 < ics.length; i++) {
+            if (ics[i] == '\r' && ics[i + 1] == '\n') {
+                lines.add(Arrays.copyOfRange(ics, start, i));
+                start = i + 2;
+                i++;
+            }
+        }
+        assertEquals(ics.length, start, "content after the last CRLF");
+        return lines;
+    }
+}